@@ -0,0 +1,29 @@
+package com.ufcg.atg.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the JMH command line options, always reporting
+ * the allocation rate of the GC profiler next to the throughput and the
+ * average time.
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.ufcg.atg.benchmark;
+
+import com.ufcg.atg.graph.Edge;
+import com.ufcg.atg.graph.IGraph;
+import com.ufcg.atg.graph.PathStrategy;
+import com.ufcg.atg.graph.RepresentationType;
+import com.ufcg.atg.library.GraphLibrary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the operations of {@link IGraph} on the graphs of
+ * {@link GraphState}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphBenchmark {
+
+    private static final GraphLibrary<Integer> LIBRARY = new GraphLibrary<>();
+
+    /**
+     * Builds the graph edge by edge.
+     */
+    @Benchmark
+    public IGraph<Integer, ? extends Edge<Integer>> addEdge(GraphState state) {
+        return state.newGraph();
+    }
+
+    @Benchmark
+    public Set<? extends Edge<Integer>> getAllEdges(GraphState state) {
+        return state.graph.getAllEdges();
+    }
+
+    @Benchmark
+    public String BFS(GraphState state) {
+        return state.graph.BFS(state.source);
+    }
+
+    @Benchmark
+    public String DFS(GraphState state) {
+        return state.graph.DFS(state.source);
+    }
+
+    @Benchmark
+    public boolean connected(GraphState state) {
+        return state.graph.connected();
+    }
+
+    @Benchmark
+    public String shortestPath(GraphState state) {
+        return state.graph.shortestPath(state.source, state.target);
+    }
+
+    @Benchmark
+    public String bidirectionalShortestPath(GraphState state) {
+        return LIBRARY.shortestPath(state.graph, state.source, state.target, PathStrategy.BIDIRECTIONAL);
+    }
+
+    @Benchmark
+    public String MST(GraphState state) {
+        return state.graph.MST();
+    }
+
+    /**
+     * Streams the adjacency list representation, as the matrix one is
+     * quadratic in the number of vertexes.
+     */
+    @Benchmark
+    public void graphRepresentation(GraphState state, Blackhole blackhole) throws IOException {
+        state.graph.graphRepresentation(RepresentationType.ADJACENCY_LIST, new BlackholeWriter(blackhole));
+    }
+
+    /**
+     * Writer that consumes what is written, so the representation is never
+     * kept in memory.
+     */
+    private static class BlackholeWriter extends Writer {
+
+        private final Blackhole blackhole;
+
+        private BlackholeWriter(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            blackhole.consume(buffer);
+        }
+
+        @Override
+        public Writer append(CharSequence sequence) {
+            blackhole.consume(sequence);
+            return this;
+        }
+
+        @Override
+        public Writer append(char c) {
+            blackhole.consume(c);
+            return this;
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+
+    }
+
+}
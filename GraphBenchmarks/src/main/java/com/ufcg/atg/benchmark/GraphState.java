@@ -0,0 +1,142 @@
+package com.ufcg.atg.benchmark;
+
+import com.ufcg.atg.generator.BarabasiAlbertGenerator;
+import com.ufcg.atg.generator.ErdosRenyiGenerator;
+import com.ufcg.atg.generator.GraphGenerator;
+import com.ufcg.atg.generator.GridGenerator;
+import com.ufcg.atg.generator.PathGenerator;
+import com.ufcg.atg.generator.RMatGenerator;
+import com.ufcg.atg.generator.StarGenerator;
+import com.ufcg.atg.graph.Edge;
+import com.ufcg.atg.graph.Graph;
+import com.ufcg.atg.graph.IGraph;
+import com.ufcg.atg.graph.WeightedGraph;
+import com.ufcg.atg.io.EdgeList;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Generated graph shared by the benchmarks of a trial. Its size, shape and
+ * type are set by the parameters of the run, as in
+ * {@code -p vertexNumber=100000 -p shape=GRID -p type=WeightedGraph}.
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+
+    /**
+     * Number of vertexes of the graph.
+     */
+    @Param({"1000", "100000"})
+    public int vertexNumber;
+
+    /**
+     * Mean degree of the vertexes of the {@code RANDOM}, {@code PREFERENTIAL}
+     * and {@code RMAT} graphs.
+     */
+    @Param({"8"})
+    public int meanDegree;
+
+    /**
+     * Shape of the graph: {@code RANDOM}, {@code PREFERENTIAL},
+     * {@code RMAT}, {@code GRID}, {@code PATH} or {@code STAR}, made by the
+     * generators of {@link com.ufcg.atg.generator}.
+     */
+    @Param({"RANDOM", "PREFERENTIAL", "RMAT", "GRID", "PATH", "STAR"})
+    public String shape;
+
+    /**
+     * Type of the graph: {@code Graph} or {@code WeightedGraph}.
+     */
+    @Param({"Graph", "WeightedGraph"})
+    public String type;
+
+    /**
+     * Seed of the generated edges and weights.
+     */
+    @Param({"42"})
+    public long seed;
+
+    int[] origins;
+
+    int[] targets;
+
+    float[] weights;
+
+    IGraph<Integer, ? extends Edge<Integer>> graph;
+
+    int source;
+
+    int target;
+
+    /**
+     * Generates the edges and builds the graph.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        generateEdges();
+        graph = newGraph();
+        source = origins[0];
+        target = targets[targets.length - 1];
+    }
+
+    /**
+     * Builds a new graph with the generated edges.
+     *
+     * @return Graph with the generated edges.
+     */
+    IGraph<Integer, ? extends Edge<Integer>> newGraph() {
+        if ("WeightedGraph".equals(type)) {
+            WeightedGraph<Integer> weightedGraph = new WeightedGraph<>();
+            for (int i = 0; i < origins.length; i++) {
+                weightedGraph.addEdge(origins[i], targets[i], weights[i]);
+            }
+            return weightedGraph;
+        }
+        Graph<Integer> unweightedGraph = new Graph<>();
+        for (int i = 0; i < origins.length; i++) {
+            unweightedGraph.addEdge(origins[i], targets[i]);
+        }
+        return unweightedGraph;
+    }
+
+    /**
+     * Generates the edges of the shape of the graph.
+     */
+    private void generateEdges() {
+        EdgeList edges = newGenerator().toEdgeList(true);
+        origins = edges.getOrigins();
+        targets = edges.getTargets();
+        weights = edges.getWeights();
+    }
+
+    /**
+     * Creates the generator of the shape of the graph.
+     *
+     * @return Generator of the graph.
+     */
+    private GraphGenerator newGenerator() {
+        long edgeNumber = (long) vertexNumber * meanDegree / 2;
+        switch (shape) {
+            case "RANDOM":
+                return new ErdosRenyiGenerator(vertexNumber, edgeNumber, seed);
+            case "PREFERENTIAL":
+                return new BarabasiAlbertGenerator(vertexNumber, Math.max(1, meanDegree / 2), seed);
+            case "RMAT":
+                int scale = 32 - Integer.numberOfLeadingZeros(vertexNumber - 1);
+                return new RMatGenerator(scale, edgeNumber, seed);
+            case "GRID":
+                int side = (int) Math.ceil(Math.sqrt(vertexNumber));
+                return new GridGenerator(side, side, seed);
+            case "PATH":
+                return new PathGenerator(vertexNumber, seed);
+            case "STAR":
+                return new StarGenerator(vertexNumber, seed);
+            default:
+                throw new IllegalArgumentException("Unknown graph shape: " + shape + ".");
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.ufcg.atg.benchmark;
+
+import com.ufcg.atg.graph.Edge;
+import com.ufcg.atg.graph.IGraph;
+import com.ufcg.atg.library.GraphLibrary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link GraphLibrary#readGraph(String)} and
+ * {@link GraphLibrary#readWeightedGraph(String)} on files with the edges of
+ * {@link GraphState}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadGraphBenchmark {
+
+    private final GraphLibrary<Integer> graphLibrary = new GraphLibrary<>();
+
+    private Path path;
+
+    /**
+     * Writes the edges of the graph to a file in the format read by the
+     * library.
+     */
+    @Setup(Level.Trial)
+    public void writeFile(GraphState state) throws IOException {
+        path = Files.createTempFile("graph", ".txt");
+        boolean weighted = "WeightedGraph".equals(state.type);
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write(Integer.toString(state.vertexNumber));
+            writer.newLine();
+            for (int i = 0; i < state.origins.length; i++) {
+                writer.write(state.origins[i] + " " + state.targets[i]);
+                if (weighted) writer.write(" " + state.weights[i]);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Deletes the file.
+     */
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public IGraph<Integer, ? extends Edge<Integer>> readGraph(GraphState state) {
+        return "WeightedGraph".equals(state.type) ? graphLibrary.readWeightedGraph(path.toString())
+                : graphLibrary.readGraph(path.toString());
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.ufcg.atg.algorithm;
+
+import com.ufcg.atg.graph.IIndexedGraph;
+import com.ufcg.atg.util.IndexedHeap;
+import com.ufcg.atg.util.SearchWorkspace;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * A* shortest path algorithm over an {@link IIndexedGraph} with non-negative
+ * weights. As Dijkstra's algorithm, the vertexes are kept in an
+ * {@link IndexedHeap}, but keyed by their distance to the source plus a
+ * lower bound of their distance to the target, so the vertexes towards the
+ * target are settled first.
+ *
+ * The lower bound of each vertex is computed once, when the vertex is first
+ * reached, and kept in the {@link SearchWorkspace} of the thread with the
+ * distances, so a search allocates nothing. If the bounds aren't
+ * consistent, a settled vertex is queued again when a shorter distance is
+ * found, so the path is still the shortest as long as the bounds are never
+ * greater than the real distances.
+ */
+public final class AStar {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private AStar() {}
+
+    /**
+     * Finds the shortest path from the specified source to the specified
+     * target. Only the distances of the vertexes of the path are final.
+     *
+     * @param graph Graph to be walked.
+     * @param source Index of the vertex that starts the path.
+     * @param target Index of the vertex that ends the path.
+     * @param lowerBound Function that returns, for an index, a lower bound of
+     *                   its distance to the target.
+     * @param distances Array, sized to the vertex number, that receives the
+     *                  distance of each vertex to the source.
+     * @param predecessors Array, sized to the vertex number, that receives the
+     *                     predecessor of each vertex, or -1 if there is none.
+     * @return Number of settled vertexes.
+     */
+    public static int search(IIndexedGraph<?> graph, int source, int target, IntToDoubleFunction lowerBound,
+                             float[] distances, int[] predecessors) {
+        SearchWorkspace workspace = SearchWorkspace.forThread(graph.getVertexNumber());
+        int settled = search(graph, source, target, lowerBound, workspace);
+        workspace.copyTo(distances, predecessors);
+        return settled;
+    }
+
+    /**
+     * Finds the shortest path from the specified source to the specified
+     * target, as {@link #search(IIndexedGraph, int, int, IntToDoubleFunction,
+     * float[], int[])}, keeping the distances, predecessors and lower bounds
+     * in the workspace, so only the reached vertexes are written.
+     *
+     * @param graph Graph to be walked.
+     * @param source Index of the vertex that starts the path.
+     * @param target Index of the vertex that ends the path.
+     * @param lowerBound Function that returns, for an index, a lower bound of
+     *                   its distance to the target.
+     * @param workspace Workspace just obtained by
+     *                  {@link SearchWorkspace#forThread(int)}.
+     * @return Number of settled vertexes.
+     */
+    public static int search(IIndexedGraph<?> graph, int source, int target, IntToDoubleFunction lowerBound,
+                             SearchWorkspace workspace) {
+        IndexedHeap heap = workspace.getHeap();
+        workspace.reach(source, 0f, -1);
+        heap.insertOrDecrease(source, 0f);
+        int settled = 0;
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            settled++;
+            if (current == target) break;
+            float distance = workspace.getDistance(current);
+            int degree = graph.getDegree(current);
+            for (int i = 0; i < degree; i++) {
+                int adjacent = graph.getAdjacentIndex(current, i);
+                float newDistance = distance + graph.getWeight(current, i);
+                if (workspace.getDistance(adjacent) > newDistance) {
+                    workspace.reach(adjacent, newDistance, current);
+                    heap.insertOrDecrease(adjacent, newDistance
+                            + Math.max(0f, workspace.getBound(adjacent, lowerBound)));
+                }
+            }
+        }
+        return settled;
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.ufcg.atg.algorithm;
+
+import com.ufcg.atg.graph.IIndexedGraph;
+
+import java.util.Arrays;
+
+/**
+ * Queue-based Bellman-Ford shortest path algorithm (SPFA) over an
+ * {@link IIndexedGraph}, whose weights may be negative. Only the states
+ * whose distance decreased are queued, in a circular deque with the Small
+ * Label First (SLF) and Large Label Last (LLL) heuristics: a state with a
+ * distance less than the one of the front goes to the front, and the front
+ * goes to the back while its distance is greater than the mean distance of
+ * the queue.
+ *
+ * As the graphs are undirected, an edge is never walked back right after
+ * it's walked, or any negative edge would be a negative cycle by itself.
+ * Whether an edge may be walked depends on the edge that reached its origin,
+ * so the states of the search are the arcs, each one labelled with the
+ * shortest walk that ends by it, and a vertex takes the shortest walk of the
+ * arcs that reach it. The walks may then pass by a vertex more than once,
+ * and the negative cycles found are the closed walks of negative weight that
+ * never turn back along an edge.
+ */
+public final class BellmanFord {
+
+    private final IIndexedGraph<?> graph;
+
+    private final int source;
+
+    private final int[] offsets;
+
+    private final int[] arcOrigins;
+
+    private final float[] arcDistances;
+
+    private final int[] arcPredecessors;
+
+    private final float[] distances;
+
+    private final int[] lastArcs;
+
+    private final int cycleArc;
+
+    /**
+     * Searches the shortest walks from the specified source.
+     *
+     * @param graph Graph to be walked.
+     * @param source Index of the vertex that starts the walks.
+     */
+    private BellmanFord(IIndexedGraph<?> graph, int source) {
+        this.graph = graph;
+        this.source = source;
+        int vertexNumber = graph.getVertexNumber();
+        offsets = new int[vertexNumber + 1];
+        for (int index = 0; index < vertexNumber; index++) {
+            offsets[index + 1] = offsets[index] + graph.getDegree(index);
+        }
+        int arcNumber = offsets[vertexNumber];
+        arcOrigins = new int[arcNumber];
+        for (int index = 0; index < vertexNumber; index++) {
+            Arrays.fill(arcOrigins, offsets[index], offsets[index + 1], index);
+        }
+        arcDistances = new float[arcNumber];
+        arcPredecessors = new int[arcNumber];
+        Arrays.fill(arcDistances, Float.POSITIVE_INFINITY);
+        Arrays.fill(arcPredecessors, -1);
+        cycleArc = relaxArcs();
+
+        distances = new float[vertexNumber];
+        lastArcs = new int[vertexNumber];
+        Arrays.fill(distances, Float.POSITIVE_INFINITY);
+        Arrays.fill(lastArcs, -1);
+        distances[source] = 0f;
+        for (int index = 0; index < vertexNumber; index++) {
+            for (int arc = offsets[index]; arc < offsets[index + 1]; arc++) {
+                int target = graph.getAdjacentIndex(index, arc - offsets[index]);
+                if (target != source && arcDistances[arc] < distances[target]) {
+                    distances[target] = arcDistances[arc];
+                    lastArcs[target] = arc;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the shortest walks from the specified source, or a negative
+     * cycle reachable from it.
+     *
+     * @param graph Graph to be walked.
+     * @param source Index of the vertex that starts the walks.
+     * @return Shortest walks from the source.
+     */
+    public static BellmanFord search(IIndexedGraph<?> graph, int source) {
+        return new BellmanFord(graph, source);
+    }
+
+    /**
+     * Relaxes the arcs from those of the source until no walk decreases.
+     *
+     * @return Arc of a negative cycle, whose arcs are given by the
+     * predecessors, or -1 if there is no negative cycle.
+     */
+    private int relaxArcs() {
+        int arcNumber = arcOrigins.length;
+        int[] lengths = new int[arcNumber];
+        boolean[] queued = new boolean[arcNumber];
+        int[] queue = new int[arcNumber];
+        int head = 0, size = 0;
+        double distanceSum = 0;
+        for (int arc = offsets[source]; arc < offsets[source + 1]; arc++) {
+            arcDistances[arc] = graph.getWeight(source, arc - offsets[source]);
+            lengths[arc] = 1;
+            queued[arc] = true;
+            queue[size++] = arc;
+            distanceSum += arcDistances[arc];
+        }
+        while (size > 0) {
+            double meanDistance = distanceSum / size;
+            for (int moved = 0; moved < size && arcDistances[queue[head]] > meanDistance; moved++) {
+                queue[(head + size) % arcNumber] = queue[head];
+                head = (head + 1) % arcNumber;
+            }
+            int current = queue[head];
+            head = (head + 1) % arcNumber;
+            size--;
+            queued[current] = false;
+            distanceSum -= arcDistances[current];
+
+            int origin = arcOrigins[current], position = current - offsets[origin];
+            int vertex = graph.getAdjacentIndex(origin, position);
+            float weight = graph.getWeight(origin, position);
+            int degree = graph.getDegree(vertex);
+            for (int i = 0; i < degree; i++) {
+                float nextWeight = graph.getWeight(vertex, i);
+                if (graph.getAdjacentIndex(vertex, i) == origin && nextWeight == weight) continue;
+                int next = offsets[vertex] + i;
+                float newDistance = arcDistances[current] + nextWeight;
+                if (newDistance >= arcDistances[next]) continue;
+                if (queued[next]) distanceSum += newDistance - arcDistances[next];
+                arcDistances[next] = newDistance;
+                arcPredecessors[next] = current;
+                lengths[next] = lengths[current] + 1;
+                if (lengths[next] > arcNumber) {
+                    int cycleArc = findCycleArc(next);
+                    if (cycleArc != -1) return cycleArc;
+                }
+                if (!queued[next]) {
+                    queued[next] = true;
+                    distanceSum += newDistance;
+                    if (size > 0 && newDistance < arcDistances[queue[head]]) {
+                        head = (head - 1 + arcNumber) % arcNumber;
+                        queue[head] = next;
+                    } else {
+                        queue[(head + size) % arcNumber] = next;
+                    }
+                    size++;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Walks back by the predecessors as many times as there are arcs, which
+     * can only end on a cycle.
+     *
+     * @param start Arc where the walk starts.
+     * @return Arc of a cycle, or -1 if the walk reaches the source.
+     */
+    private int findCycleArc(int start) {
+        int current = start;
+        for (int i = 0; i < arcPredecessors.length; i++) {
+            current = arcPredecessors[current];
+            if (current == -1) return -1;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the distance of the specified vertex to the source, which is
+     * zero (0) for the source itself.
+     *
+     * @param index Index of the vertex.
+     * @return Distance of the vertex, or infinity if it wasn't reached.
+     */
+    public float getDistance(int index) {
+        return distances[index];
+    }
+
+    /**
+     * Returns the vertex that comes before the specified one in the shortest
+     * walk from the source.
+     *
+     * @param index Index of the vertex.
+     * @return Index of the predecessor, or -1 if there is none.
+     */
+    public int getPredecessor(int index) {
+        return lastArcs[index] == -1 ? -1 : arcOrigins[lastArcs[index]];
+    }
+
+    /**
+     * Returns the shortest walk from the source to the specified vertex.
+     *
+     * @param index Index of the vertex that ends the walk.
+     * @return Indexes of the walk, or an empty array if it wasn't reached.
+     */
+    public int[] getPath(int index) {
+        if (index == source) return new int[] {source};
+        if (lastArcs[index] == -1) return new int[0];
+        int length = 1;
+        for (int arc = lastArcs[index]; arc != -1; arc = arcPredecessors[arc]) {
+            length++;
+        }
+        int[] path = new int[length];
+        path[--length] = index;
+        for (int arc = lastArcs[index]; arc != -1; arc = arcPredecessors[arc]) {
+            path[--length] = arcOrigins[arc];
+        }
+        return path;
+    }
+
+    /**
+     * Returns the negative cycle reachable from the source, if there is one.
+     *
+     * @return Indexes of the cycle, in the order its arcs are walked,
+     * starting and ending at the same index, or {@code null} if there is no
+     * negative cycle.
+     */
+    public int[] getNegativeCycle() {
+        if (cycleArc == -1) return null;
+        int length = 1;
+        for (int arc = arcPredecessors[cycleArc]; arc != cycleArc; arc = arcPredecessors[arc]) {
+            length++;
+        }
+        int[] cycle = new int[length + 1];
+        int origin = arcOrigins[cycleArc];
+        cycle[length] = graph.getAdjacentIndex(origin, cycleArc - offsets[origin]);
+        for (int i = length - 1, arc = cycleArc; i >= 0; i--) {
+            cycle[i] = arcOrigins[arc];
+            arc = arcPredecessors[arc];
+        }
+        return cycle;
+    }
+
+}
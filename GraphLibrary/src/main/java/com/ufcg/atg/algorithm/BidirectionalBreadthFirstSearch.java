@@ -0,0 +1,124 @@
+package com.ufcg.atg.algorithm;
+
+import com.ufcg.atg.graph.IIndexedGraph;
+import com.ufcg.atg.util.SearchWorkspace;
+
+/**
+ * Bidirectional Breadth-first Search (BFS) over an {@link IIndexedGraph},
+ * which finds the path with the fewest arcs between two vertexes. A BFS from
+ * the source and a BFS from the target are run a whole level at a time,
+ * always growing the side with the smaller frontier, until a vertex is
+ * reached by both. As the graphs are undirected, both searches walk the same
+ * arcs. Each side runs on one of the {@link SearchWorkspace}s of the thread,
+ * whose distances hold the levels, so a search allocates nothing.
+ */
+public final class BidirectionalBreadthFirstSearch {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BidirectionalBreadthFirstSearch() {}
+
+    /**
+     * Finds the path with the fewest arcs between the specified source and
+     * target. Only the levels and predecessors of the vertexes of the path
+     * are final.
+     *
+     * @param graph Graph to be walked.
+     * @param source Index of the vertex that starts the path.
+     * @param target Index of the vertex that ends the path.
+     * @param forward Workspace just obtained by
+     *                {@link SearchWorkspace#forThread(int)}, that receives,
+     *                as its distance, the level of each vertex in the BFS
+     *                from the source, and its predecessor on the way from
+     *                the source.
+     * @param backward Workspace just obtained by
+     *                 {@link SearchWorkspace#backwardForThread(int)}, that
+     *                 receives, as its distance, the level of each vertex in
+     *                 the BFS from the target, and its successor on the way
+     *                 to the target.
+     * @return Index of the vertex where the searches met, whose levels add up
+     * to the number of arcs of the path, or -1 if there isn't a path.
+     */
+    public static int search(IIndexedGraph<?> graph, int source, int target,
+                             SearchWorkspace forward, SearchWorkspace backward) {
+        forward.reach(source, 0f, -1);
+        backward.reach(target, 0f, -1);
+        if (source == target) return source;
+
+        int[] forwardQueue = forward.getQueue();
+        int[] backwardQueue = backward.getQueue();
+        int forwardHead = 0, forwardTail = 1, backwardHead = 0, backwardTail = 1;
+        forwardQueue[0] = source;
+        backwardQueue[0] = target;
+        while (forwardHead < forwardTail && backwardHead < backwardTail) {
+            int meeting;
+            if (forwardTail - forwardHead <= backwardTail - backwardHead) {
+                int newTail = expandLevel(graph, forwardQueue, forwardHead, forwardTail, forward);
+                meeting = findMeeting(forwardQueue, forwardTail, newTail, backward);
+                forwardHead = forwardTail;
+                forwardTail = newTail;
+            } else {
+                int newTail = expandLevel(graph, backwardQueue, backwardHead, backwardTail, backward);
+                meeting = findMeeting(backwardQueue, backwardTail, newTail, forward);
+                backwardHead = backwardTail;
+                backwardTail = newTail;
+            }
+            if (meeting != -1) return meeting;
+        }
+        return -1;
+    }
+
+    /**
+     * Visits the vertexes adjacent to a level of one of the searches that
+     * weren't yet visited by it, queueing them as its next level.
+     *
+     * @param graph Graph to be walked.
+     * @param queue Vertexes visited by the search, in the order they were
+     *              visited.
+     * @param head Position of the queue where the level starts.
+     * @param tail Position of the queue where the level ends.
+     * @param workspace Level and predecessor of each vertex in the search.
+     * @return Position of the queue where the next level ends.
+     */
+    private static int expandLevel(IIndexedGraph<?> graph, int[] queue, int head, int tail,
+                                   SearchWorkspace workspace) {
+        int newTail = tail;
+        for (int i = head; i < tail; i++) {
+            int current = queue[i];
+            float level = workspace.getDistance(current) + 1;
+            int degree = graph.getDegree(current);
+            for (int j = 0; j < degree; j++) {
+                int adjacent = graph.getAdjacentIndex(current, j);
+                if (!workspace.isReached(adjacent)) {
+                    workspace.reach(adjacent, level, current);
+                    queue[newTail++] = adjacent;
+                }
+            }
+        }
+        return newTail;
+    }
+
+    /**
+     * Returns the vertex of a new level that was already visited by the other
+     * search with the least level, which is the middle of a shortest path.
+     *
+     * @param queue Vertexes visited by the search that grew.
+     * @param head Position of the queue where the new level starts.
+     * @param tail Position of the queue where the new level ends.
+     * @param other Level of each vertex in the other search.
+     * @return Index of the vertex, or -1 if no vertex of the new level was
+     * visited by the other search.
+     */
+    private static int findMeeting(int[] queue, int head, int tail, SearchWorkspace other) {
+        int meeting = -1;
+        for (int i = head; i < tail; i++) {
+            int v = queue[i];
+            if (other.isReached(v) && (meeting == -1 || other.getDistance(v) < other.getDistance(meeting))) {
+                meeting = v;
+            }
+        }
+        return meeting;
+    }
+
+}
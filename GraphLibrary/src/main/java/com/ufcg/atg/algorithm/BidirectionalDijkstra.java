@@ -0,0 +1,88 @@
+package com.ufcg.atg.algorithm;
+
+import com.ufcg.atg.graph.IIndexedGraph;
+import com.ufcg.atg.util.IndexedHeap;
+import com.ufcg.atg.util.SearchWorkspace;
+
+/**
+ * Bidirectional Dijkstra's shortest path algorithm over an
+ * {@link IIndexedGraph} with non-negative weights. A forward search from the
+ * source and a backward search from the target are run alternately, each
+ * settling the vertex of its side with the least distance, and the shortest
+ * path found through a vertex reached by both is kept. As the graphs are
+ * undirected, both searches walk the same arcs.
+ *
+ * The search stops when the least distances of both sides add up to no less
+ * than the shortest path found, since any other path would be at least as
+ * long. On sparse graphs, the two searches meet after settling far fewer
+ * vertexes than a single search from the source. Each side runs on one of
+ * the {@link SearchWorkspace}s of the thread, so a search allocates nothing.
+ */
+public final class BidirectionalDijkstra {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BidirectionalDijkstra() {}
+
+    /**
+     * Finds the shortest path between the specified source and target. Only
+     * the distances and predecessors of the vertexes of the path are final.
+     *
+     * @param graph Graph to be walked.
+     * @param source Index of the vertex that starts the path.
+     * @param target Index of the vertex that ends the path.
+     * @param forward Workspace just obtained by
+     *                {@link SearchWorkspace#forThread(int)}, that receives
+     *                the distance of each vertex to the source and its
+     *                predecessor on the way from the source.
+     * @param backward Workspace just obtained by
+     *                 {@link SearchWorkspace#backwardForThread(int)}, that
+     *                 receives the distance of each vertex to the target and
+     *                 its successor on the way to the target.
+     * @return Index of the vertex where the searches met, whose distances add
+     * up to the length of the path, or -1 if there isn't a path.
+     */
+    public static int search(IIndexedGraph<?> graph, int source, int target,
+                             SearchWorkspace forward, SearchWorkspace backward) {
+        forward.reach(source, 0f, -1);
+        backward.reach(target, 0f, -1);
+        if (source == target) return source;
+
+        IndexedHeap forwardHeap = forward.getHeap();
+        IndexedHeap backwardHeap = backward.getHeap();
+        forwardHeap.insertOrDecrease(source, 0f);
+        backwardHeap.insertOrDecrease(target, 0f);
+        float shortestDistance = Float.POSITIVE_INFINITY;
+        int meeting = -1;
+        while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+            float forwardMin = forwardHeap.getKey(forwardHeap.peek());
+            float backwardMin = backwardHeap.getKey(backwardHeap.peek());
+            if (forwardMin + backwardMin >= shortestDistance) break;
+
+            boolean isForward = forwardMin <= backwardMin;
+            IndexedHeap heap = isForward ? forwardHeap : backwardHeap;
+            SearchWorkspace workspace = isForward ? forward : backward;
+            SearchWorkspace other = isForward ? backward : forward;
+
+            int current = heap.poll();
+            float distance = workspace.getDistance(current);
+            int degree = graph.getDegree(current);
+            for (int i = 0; i < degree; i++) {
+                int adjacent = graph.getAdjacentIndex(current, i);
+                float newDistance = distance + graph.getWeight(current, i);
+                if (workspace.getDistance(adjacent) > newDistance) {
+                    workspace.reach(adjacent, newDistance, current);
+                    heap.insertOrDecrease(adjacent, newDistance);
+                }
+                float pathDistance = workspace.getDistance(adjacent) + other.getDistance(adjacent);
+                if (pathDistance < shortestDistance) {
+                    shortestDistance = pathDistance;
+                    meeting = adjacent;
+                }
+            }
+        }
+        return meeting;
+    }
+
+}
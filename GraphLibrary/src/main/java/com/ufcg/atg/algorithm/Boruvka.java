@@ -0,0 +1,253 @@
+package com.ufcg.atg.algorithm;
+
+import com.ufcg.atg.graph.IIndexedGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Borůvka's minimum spanning forest algorithm over an undirected
+ * {@link IIndexedGraph}, whose rounds run on a {@link ForkJoinPool}.
+ *
+ * In each round every component selects its lightest outgoing arc, through a
+ * compare-and-set on a per-component slot, and the components are contracted
+ * by hooking each one to the component across its selected arc and jumping
+ * pointers until every vertex is labeled with its root. The arcs are
+ * compared in the same order of {@link Kruskal}, which is total, so both
+ * algorithms find the same forest, and no edges have to be sorted.
+ */
+public final class Boruvka {
+
+    private static final int TASK_SIZE = 2048;
+
+    private static final long NONE = -1L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Boruvka() {}
+
+    /**
+     * Returns the arcs of the minimum spanning forest of the graph, computed
+     * on the common {@link ForkJoinPool}.
+     *
+     * @param graph Graph to have its minimum spanning forest returned.
+     * @return Arcs of the minimum spanning forest, encoded and ordered as in
+     * {@link Kruskal#spanningForest(IIndexedGraph)}.
+     */
+    public static <V extends Comparable<V>> long[] spanningForest(IIndexedGraph<V> graph) {
+        return spanningForest(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the arcs of the minimum spanning forest of the graph. Unlike
+     * {@link Kruskal}, an arc may go from the greater vertex of its edge to
+     * the lesser one.
+     *
+     * @param graph Graph to have its minimum spanning forest returned.
+     * @param pool Pool where the rounds run.
+     * @return Arcs of the minimum spanning forest, encoded and ordered as in
+     * {@link Kruskal#spanningForest(IIndexedGraph)}.
+     */
+    public static <V extends Comparable<V>> long[] spanningForest(IIndexedGraph<V> graph,
+                                                                  ForkJoinPool pool) {
+        int vertexNumber = graph.getVertexNumber();
+        int[] order = graph.getOrderedIndexes();
+        int[] ranks = new int[vertexNumber];
+        for (int rank = 0; rank < vertexNumber; rank++) {
+            ranks[order[rank]] = rank;
+        }
+        ArcOrder arcOrder = new ArcOrder(graph, ranks);
+
+        int[] labels = new int[vertexNumber];
+        int[] hooks = new int[vertexNumber];
+        long[] chosen = new long[vertexNumber];
+        AtomicLongArray lightest = new AtomicLongArray(vertexNumber);
+        forEach(pool, vertexNumber, v -> labels[v] = v);
+
+        long[] forest = new long[Math.max(vertexNumber - 1, 0)];
+        int forestSize = 0;
+        while (forestSize < forest.length) {
+            forEach(pool, vertexNumber, v -> lightest.set(v, NONE));
+            forEach(pool, vertexNumber, v -> {
+                long arc = lightestOutgoingArc(graph, arcOrder, labels, v);
+                if (arc != NONE) selectIfLighter(arcOrder, lightest, labels[v], arc);
+            });
+            forEach(pool, vertexNumber, c -> {
+                chosen[c] = NONE;
+                long arc = labels[c] == c ? lightest.get(c) : NONE;
+                if (arc == NONE) {
+                    hooks[c] = labels[c];
+                    return;
+                }
+                int other = labels[graph.getAdjacentIndex((int) (arc >>> 32), (int) arc)];
+                long otherArc = lightest.get(other);
+                boolean mutual = otherArc != NONE && arcOrder.compare(arc, otherArc) == 0;
+                if (!mutual || c < other) chosen[c] = arc;
+                hooks[c] = mutual && c < other ? c : other;
+            });
+
+            int chosenNumber = 0;
+            for (int c = 0; c < vertexNumber; c++) {
+                if (chosen[c] != NONE) forest[forestSize + chosenNumber++] = chosen[c];
+            }
+            if (chosenNumber == 0) break;
+            forestSize += chosenNumber;
+
+            forEach(pool, vertexNumber, c -> {
+                if (labels[c] == c) labels[c] = hooks[c];
+            });
+            forEach(pool, vertexNumber, v -> {
+                int label = labels[v];
+                while (labels[label] != label) {
+                    label = labels[label];
+                }
+                labels[v] = label;
+            });
+        }
+
+        Long[] sortedForest = new Long[forestSize];
+        for (int i = 0; i < forestSize; i++) {
+            sortedForest[i] = forest[i];
+        }
+        Arrays.sort(sortedForest, arcOrder::compare);
+        long[] result = new long[forestSize];
+        for (int i = 0; i < forestSize; i++) {
+            result[i] = sortedForest[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the lightest arc of the specified vertex whose target is in
+     * another component.
+     *
+     * @param graph Graph of the vertex.
+     * @param arcOrder Order of the arcs.
+     * @param labels Component of each vertex.
+     * @param origin Index of the vertex.
+     * @return The lightest arc, or {@link #NONE} if there is none.
+     */
+    private static long lightestOutgoingArc(IIndexedGraph<?> graph, ArcOrder arcOrder,
+                                            int[] labels, int origin) {
+        long lightestArc = NONE;
+        int degree = graph.getDegree(origin);
+        for (int position = 0; position < degree; position++) {
+            if (labels[graph.getAdjacentIndex(origin, position)] == labels[origin]) continue;
+            long arc = ((long) origin << 32) | position;
+            if (lightestArc == NONE || arcOrder.compare(arc, lightestArc) < 0) {
+                lightestArc = arc;
+            }
+        }
+        return lightestArc;
+    }
+
+    /**
+     * Places the arc in the slot of the component, if the slot is empty or
+     * holds a heavier arc.
+     *
+     * @param arcOrder Order of the arcs.
+     * @param lightest Lightest arc selected by each component.
+     * @param component Component of the arc's origin.
+     * @param arc Arc to be selected.
+     */
+    private static void selectIfLighter(ArcOrder arcOrder, AtomicLongArray lightest,
+                                        int component, long arc) {
+        long current;
+        do {
+            current = lightest.get(component);
+            if (current != NONE && arcOrder.compare(current, arc) <= 0) return;
+        } while (!lightest.compareAndSet(component, current, arc));
+    }
+
+    /**
+     * Runs the action for every int from zero (0) to {@code size - 1} on the
+     * pool, and waits for all of them.
+     *
+     * @param pool Pool where the action runs.
+     * @param size Number of ints.
+     * @param action Action to be run.
+     */
+    private static void forEach(ForkJoinPool pool, int size, IntConsumer action) {
+        pool.invoke(new ForEach(action, 0, size));
+    }
+
+    /**
+     * Total order of the arcs of a graph: by weight, then by the lesser and
+     * by the greater rank of their vertexes. The two arcs of an edge are
+     * equal.
+     */
+    private static final class ArcOrder {
+
+        private final IIndexedGraph<?> graph;
+
+        private final int[] ranks;
+
+        ArcOrder(IIndexedGraph<?> graph, int[] ranks) {
+            this.graph = graph;
+            this.ranks = ranks;
+        }
+
+        /**
+         * Compares two arcs, encoded as (origin, position).
+         *
+         * @param arc1 One of the arcs.
+         * @param arc2 The other arc.
+         * @return A negative int, zero (0) or a positive int as the first arc
+         * is lighter, equal or heavier than the second one.
+         */
+        int compare(long arc1, long arc2) {
+            int origin1 = (int) (arc1 >>> 32), position1 = (int) arc1;
+            int origin2 = (int) (arc2 >>> 32), position2 = (int) arc2;
+            int comparison = Float.compare(graph.getWeight(origin1, position1),
+                    graph.getWeight(origin2, position2));
+            if (comparison != 0) return comparison;
+            int originRank1 = ranks[origin1], targetRank1 = ranks[graph.getAdjacentIndex(origin1, position1)];
+            int originRank2 = ranks[origin2], targetRank2 = ranks[graph.getAdjacentIndex(origin2, position2)];
+            comparison = Integer.compare(Math.min(originRank1, targetRank1),
+                    Math.min(originRank2, targetRank2));
+            if (comparison != 0) return comparison;
+            return Integer.compare(Math.max(originRank1, targetRank1),
+                    Math.max(originRank2, targetRank2));
+        }
+
+    }
+
+    /**
+     * Runs an action for a range of ints, splitting it in halves while it's
+     * greater than {@link #TASK_SIZE}.
+     */
+    private static final class ForEach extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IntConsumer action;
+
+        private final int from;
+
+        private final int to;
+
+        ForEach(IntConsumer action, int from, int to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ForEach(action, from, middle), new ForEach(action, middle, to));
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.ufcg.atg.algorithm;
+
+import com.ufcg.atg.graph.IIndexedGraph;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first Search (BFS) over an {@link IIndexedGraph}.
+ */
+public final class BreadthFirstSearch {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BreadthFirstSearch() {}
+
+    /**
+     * Walks by the graph in BFS starting from the specified root. Vertexes
+     * that weren't reached keep level and predecessor as -1, and the root
+     * has level 0 (zero) and predecessor -1.
+     *
+     * @param graph Graph to be walked.
+     * @param root Index of the root vertex.
+     * @param levels Array, sized to the vertex number, that receives the
+     *               level of each vertex.
+     * @param predecessors Array, sized to the vertex number, that receives the
+     *                     predecessor of each vertex.
+     * @return Number of visited vertexes.
+     */
+    public static int walk(IIndexedGraph<?> graph, int root, int[] levels, int[] predecessors) {
+        return walk(graph, root, levels, predecessors, new int[graph.getVertexNumber()]);
+    }
+
+    /**
+     * Walks by the graph in BFS starting from the specified root, as
+     * {@link #walk(IIndexedGraph, int, int[], int[])}, also keeping the order
+     * in which the vertexes were visited.
+     *
+     * @param graph Graph to be walked.
+     * @param root Index of the root vertex.
+     * @param levels Array, sized to the vertex number, that receives the
+     *               level of each vertex.
+     * @param predecessors Array, sized to the vertex number, that receives the
+     *                     predecessor of each vertex.
+     * @param queue Array, sized to the vertex number, that receives the
+     *              visited vertexes in the order they were visited.
+     * @return Number of visited vertexes.
+     */
+    public static int walk(IIndexedGraph<?> graph, int root, int[] levels, int[] predecessors,
+                           int[] queue) {
+        Arrays.fill(levels, -1);
+        Arrays.fill(predecessors, -1);
+        int head = 0, tail = 0;
+        levels[root] = 0;
+        queue[tail++] = root;
+        while (head < tail) {
+            int current = queue[head++];
+            int degree = graph.getDegree(current);
+            for (int i = 0; i < degree; i++) {
+                int adjacent = graph.getAdjacentIndex(current, i);
+                if (levels[adjacent] == -1) {
+                    levels[adjacent] = levels[current] + 1;
+                    predecessors[adjacent] = current;
+                    queue[tail++] = adjacent;
+                }
+            }
+        }
+        return tail;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.ufcg.atg.algorithm;
+
+import com.ufcg.atg.graph.IIndexedGraph;
+
+import java.util.Arrays;
+
+/**
+ * Depth-first Search (DFS) over an {@link IIndexedGraph}. The walk uses an
+ * explicit stack, so its depth isn't limited by the thread stack size.
+ */
+public final class DepthFirstSearch {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DepthFirstSearch() {}
+
+    /**
+     * Walks by the graph in DFS starting from the specified root. The visit
+     * order is the same of the recursive version: the next arc of a vertex is
+     * only followed after the whole subtree of the previous one was walked.
+     * Vertexes that weren't reached keep level and predecessor as -1, and the
+     * root has level 0 (zero) and predecessor -1.
+     *
+     * @param graph Graph to be walked.
+     * @param root Index of the root vertex.
+     * @param levels Array, sized to the vertex number, that receives the
+     *               level of each vertex.
+     * @param predecessors Array, sized to the vertex number, that receives the
+     *                     predecessor of each vertex.
+     * @return Number of visited vertexes.
+     */
+    public static int walk(IIndexedGraph<?> graph, int root, int[] levels, int[] predecessors) {
+        return walk(graph, root, levels, predecessors, new int[graph.getVertexNumber()]);
+    }
+
+    /**
+     * Walks by the graph in DFS starting from the specified root, as
+     * {@link #walk(IIndexedGraph, int, int[], int[])}, also keeping the order
+     * in which the vertexes were visited.
+     *
+     * @param graph Graph to be walked.
+     * @param root Index of the root vertex.
+     * @param levels Array, sized to the vertex number, that receives the
+     *               level of each vertex.
+     * @param predecessors Array, sized to the vertex number, that receives the
+     *                     predecessor of each vertex.
+     * @param order Array, sized to the vertex number, that receives the
+     *              visited vertexes in the order they were visited.
+     * @return Number of visited vertexes.
+     */
+    public static int walk(IIndexedGraph<?> graph, int root, int[] levels, int[] predecessors,
+                           int[] order) {
+        Arrays.fill(levels, -1);
+        Arrays.fill(predecessors, -1);
+        int vertexNumber = graph.getVertexNumber();
+        int[] stack = new int[vertexNumber];
+        int[] positions = new int[vertexNumber];
+        int top = 0, visited = 1;
+        levels[root] = 0;
+        order[0] = root;
+        stack[top] = root;
+        positions[top] = 0;
+        while (top >= 0) {
+            int current = stack[top];
+            if (positions[top] < graph.getDegree(current)) {
+                int adjacent = graph.getAdjacentIndex(current, positions[top]++);
+                if (levels[adjacent] == -1) {
+                    levels[adjacent] = levels[current] + 1;
+                    predecessors[adjacent] = current;
+                    stack[++top] = adjacent;
+                    positions[top] = 0;
+                    order[visited++] = adjacent;
+                }
+            } else {
+                top--;
+            }
+        }
+        return visited;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.ufcg.atg.algorithm;
+
+import com.ufcg.atg.graph.IIndexedGraph;
+import com.ufcg.atg.util.IndexedHeap;
+import com.ufcg.atg.util.SearchWorkspace;
+
+/**
+ * Dijkstra's shortest path algorithm over an {@link IIndexedGraph} with
+ * non-negative weights. The vertexes to be settled are kept in an
+ * {@link IndexedHeap}, whose keys are decreased in place when a shorter
+ * distance is found. The arrays of the search are the
+ * {@link SearchWorkspace} of the thread, so a search allocates nothing.
+ */
+public final class Dijkstra {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Dijkstra() {}
+
+    /**
+     * Finds the shortest paths from the specified source. The search stops as
+     * soon as the target is settled, so only the distances of the vertexes
+     * settled until then are final.
+     *
+     * @param graph Graph to be walked.
+     * @param source Index of the vertex that starts the paths.
+     * @param target Index of the vertex that ends the search, or -1 to
+     *               settle every reachable vertex.
+     * @param distances Array, sized to the vertex number, that receives the
+     *                  distance of each vertex to the source.
+     * @param predecessors Array, sized to the vertex number, that receives the
+     *                     predecessor of each vertex, or -1 if there is none.
+     */
+    public static void search(IIndexedGraph<?> graph, int source, int target,
+                              float[] distances, int[] predecessors) {
+        SearchWorkspace workspace = SearchWorkspace.forThread(graph.getVertexNumber());
+        search(graph, source, target, workspace);
+        workspace.copyTo(distances, predecessors);
+    }
+
+    /**
+     * Finds the shortest paths from the specified source, as
+     * {@link #search(IIndexedGraph, int, int, float[], int[])}, keeping the
+     * distances and predecessors in the workspace, so only the reached
+     * vertexes are written.
+     *
+     * @param graph Graph to be walked.
+     * @param source Index of the vertex that starts the paths.
+     * @param target Index of the vertex that ends the search, or -1 to
+     *               settle every reachable vertex.
+     * @param workspace Workspace just obtained by
+     *                  {@link SearchWorkspace#forThread(int)}.
+     */
+    public static void search(IIndexedGraph<?> graph, int source, int target, SearchWorkspace workspace) {
+        IndexedHeap heap = workspace.getHeap();
+        workspace.reach(source, 0f, -1);
+        heap.insertOrDecrease(source, 0f);
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            if (current == target) break;
+            float distance = workspace.getDistance(current);
+            int degree = graph.getDegree(current);
+            for (int i = 0; i < degree; i++) {
+                int adjacent = graph.getAdjacentIndex(current, i);
+                float newDistance = distance + graph.getWeight(current, i);
+                if (workspace.getDistance(adjacent) > newDistance) {
+                    workspace.reach(adjacent, newDistance, current);
+                    heap.insertOrDecrease(adjacent, newDistance);
+                }
+            }
+        }
+    }
+
+}
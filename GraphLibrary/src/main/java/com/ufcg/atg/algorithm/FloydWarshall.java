@@ -0,0 +1,232 @@
+package com.ufcg.atg.algorithm;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Blocked Floyd-Warshall all-pairs shortest path algorithm over a distance
+ * matrix with non-negative weights, run on a {@link ForkJoinPool}.
+ *
+ * The matrix is split in square tiles of {@link #BLOCK_SIZE} rows and
+ * columns, and each tile is copied to a small array while it's updated, so
+ * the updates stay in the cache. For each diagonal tile, the tile itself is
+ * updated first, then the tiles of its row and column, in parallel, and at
+ * last all other tiles, in parallel by row of tiles. As the tiles are only
+ * read and written by copy, the matrix may be held in memory or mapped from
+ * a file, in a {@link FloatBuffer} for each row of tiles.
+ */
+public final class FloydWarshall {
+
+    /**
+     * Number of rows and columns of a tile.
+     */
+    public static final int BLOCK_SIZE = 64;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FloydWarshall() {}
+
+    /**
+     * Replaces the weights of the matrix by the distances between its
+     * vertexes, on the common {@link ForkJoinPool}.
+     *
+     * @param matrix Row-major square matrix with the weight of the lightest
+     *               arc between each pair of vertexes, infinity if there is
+     *               none, and zero (0) on the diagonal.
+     * @param size Number of rows of the matrix.
+     */
+    public static void solve(float[] matrix, int size) {
+        FloatBuffer[] blockRows = new FloatBuffer[blockNumber(size)];
+        for (int block = 0; block < blockRows.length; block++) {
+            int offset = block * BLOCK_SIZE * size;
+            blockRows[block] = FloatBuffer.wrap(matrix, offset, blockLength(block, size) * size).slice();
+        }
+        solve(blockRows, size, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Replaces the weights of the matrix by the distances between its
+     * vertexes.
+     *
+     * @param blockRows Row-major square matrix as in
+     *                  {@link #solve(float[], int)}, split in a buffer for
+     *                  each {@link #BLOCK_SIZE} rows.
+     * @param size Number of rows of the matrix.
+     * @param pool Pool where the tiles are updated.
+     */
+    public static void solve(FloatBuffer[] blockRows, int size, ForkJoinPool pool) {
+        int blocks = blockNumber(size);
+        for (int pivot = 0; pivot < blocks; pivot++) {
+            int pivotLength = blockLength(pivot, size);
+            float[] diagonal = readTile(blockRows, size, pivot, pivot);
+            update(diagonal, diagonal, diagonal, pivotLength, pivotLength, pivotLength);
+            writeTile(blockRows, size, pivot, pivot, diagonal);
+
+            float[][] pivotRow = new float[blocks][];
+            float[][] pivotColumn = new float[blocks][];
+            final int currentPivot = pivot;
+            pool.invoke(new TileAction(0, 2 * blocks, tile -> {
+                int block = tile >> 1;
+                if (block == currentPivot) return;
+                int blockLength = blockLength(block, size);
+                if ((tile & 1) == 0) {
+                    float[] rowTile = readTile(blockRows, size, currentPivot, block);
+                    update(rowTile, diagonal, rowTile, pivotLength, blockLength, pivotLength);
+                    writeTile(blockRows, size, currentPivot, block, rowTile);
+                    pivotRow[block] = rowTile;
+                } else {
+                    float[] columnTile = readTile(blockRows, size, block, currentPivot);
+                    update(columnTile, columnTile, diagonal, blockLength, pivotLength, pivotLength);
+                    writeTile(blockRows, size, block, currentPivot, columnTile);
+                    pivotColumn[block] = columnTile;
+                }
+            }));
+
+            pool.invoke(new TileAction(0, blocks, row -> {
+                if (row == currentPivot) return;
+                int rowLength = blockLength(row, size);
+                for (int column = 0; column < blocks; column++) {
+                    if (column == currentPivot) continue;
+                    float[] tile = readTile(blockRows, size, row, column);
+                    update(tile, pivotColumn[row], pivotRow[column], rowLength, blockLength(column, size),
+                            pivotLength);
+                    writeTile(blockRows, size, row, column, tile);
+                }
+            }));
+        }
+    }
+
+    /**
+     * Returns the number of rows of tiles of a matrix.
+     *
+     * @param size Number of rows of the matrix.
+     * @return Number of rows of tiles.
+     */
+    public static int blockNumber(int size) {
+        return (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    /**
+     * Returns the number of rows of a row of tiles, which is less than
+     * {@link #BLOCK_SIZE} only for the last one.
+     *
+     * @param block Position of the row of tiles.
+     * @param size Number of rows of the matrix.
+     * @return Number of rows of the row of tiles.
+     */
+    public static int blockLength(int block, int size) {
+        return Math.min(BLOCK_SIZE, size - block * BLOCK_SIZE);
+    }
+
+    /**
+     * Shortens the distances of the target tile by the paths through the
+     * vertexes shared by the left and right tiles, in the order of the
+     * Floyd-Warshall algorithm, so the tiles may be the same.
+     *
+     * @param target Tile to be updated.
+     * @param left Tile with the distances from the rows of the target.
+     * @param right Tile with the distances to the columns of the target.
+     * @param rows Number of rows of the target.
+     * @param columns Number of columns of the target.
+     * @param depth Number of vertexes shared by the left and right tiles.
+     */
+    private static void update(float[] target, float[] left, float[] right, int rows, int columns, int depth) {
+        for (int k = 0; k < depth; k++) {
+            int rightRow = k * columns;
+            for (int i = 0; i < rows; i++) {
+                float viaK = left[i * depth + k];
+                if (viaK == Float.POSITIVE_INFINITY) continue;
+                int targetRow = i * columns;
+                for (int j = 0; j < columns; j++) {
+                    float distance = viaK + right[rightRow + j];
+                    if (distance < target[targetRow + j]) target[targetRow + j] = distance;
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a tile of the matrix to a new array.
+     *
+     * @param blockRows Rows of tiles of the matrix.
+     * @param size Number of rows of the matrix.
+     * @param row Row of the tile.
+     * @param column Column of the tile.
+     * @return Row-major copy of the tile.
+     */
+    private static float[] readTile(FloatBuffer[] blockRows, int size, int row, int column) {
+        int rows = blockLength(row, size), columns = blockLength(column, size);
+        float[] tile = new float[rows * columns];
+        FloatBuffer buffer = blockRows[row];
+        for (int i = 0; i < rows; i++) {
+            int start = i * size + column * BLOCK_SIZE;
+            for (int j = 0; j < columns; j++) {
+                tile[i * columns + j] = buffer.get(start + j);
+            }
+        }
+        return tile;
+    }
+
+    /**
+     * Copies a tile back to the matrix.
+     *
+     * @param blockRows Rows of tiles of the matrix.
+     * @param size Number of rows of the matrix.
+     * @param row Row of the tile.
+     * @param column Column of the tile.
+     * @param tile Row-major tile.
+     */
+    private static void writeTile(FloatBuffer[] blockRows, int size, int row, int column, float[] tile) {
+        int rows = blockLength(row, size), columns = blockLength(column, size);
+        FloatBuffer buffer = blockRows[row];
+        for (int i = 0; i < rows; i++) {
+            int start = i * size + column * BLOCK_SIZE;
+            for (int j = 0; j < columns; j++) {
+                buffer.put(start + j, tile[i * columns + j]);
+            }
+        }
+    }
+
+    /**
+     * Task that runs an action for each position of a range, splitting the
+     * range in halves until single positions.
+     */
+    private static final class TileAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private final IntConsumer action;
+
+        /**
+         * Constructs a {@link TileAction}.
+         *
+         * @param from First position of the range.
+         * @param to Position after the last of the range.
+         * @param action Action to be run for each position.
+         */
+        TileAction(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) action.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileAction(from, middle, action), new TileAction(middle, to, action));
+        }
+
+    }
+
+}
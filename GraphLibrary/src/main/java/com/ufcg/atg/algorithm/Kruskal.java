@@ -0,0 +1,112 @@
+package com.ufcg.atg.algorithm;
+
+import com.ufcg.atg.graph.DisjointSet;
+import com.ufcg.atg.graph.IIndexedGraph;
+
+import java.util.Arrays;
+
+/**
+ * Kruskal's minimum spanning forest algorithm over an {@link IIndexedGraph}.
+ *
+ * The edges are considered in the same order defined by
+ * {@link com.ufcg.atg.graph.WeightedEdge#compareTo}: by weight, then by
+ * origin vertex and then by target vertex. Each undirected edge is considered
+ * once, from its lesser vertex to its greater one.
+ */
+public final class Kruskal {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Kruskal() {}
+
+    /**
+     * Returns the arcs of the minimum spanning forest of the graph, in the
+     * order they were chosen. Each arc is encoded as a long whose upper 32
+     * bits are the index of its origin vertex and whose lower 32 bits are its
+     * position among the origin vertex's arcs.
+     *
+     * @param graph Graph to have its minimum spanning forest returned.
+     * @return Arcs of the minimum spanning forest.
+     */
+    public static <V extends Comparable<V>> long[] spanningForest(IIndexedGraph<V> graph) {
+        int vertexNumber = graph.getVertexNumber();
+        int[] order = graph.getOrderedIndexes();
+        int[] ranks = new int[vertexNumber];
+        for (int rank = 0; rank < vertexNumber; rank++) {
+            ranks[order[rank]] = rank;
+        }
+        long[] arcs = sortedArcs(graph, order, ranks);
+
+        DisjointSet components = new DisjointSet(vertexNumber);
+        long[] forest = new long[Math.max(vertexNumber - 1, 0)];
+        int forestSize = 0;
+        for (int i = 0; i < arcs.length && forestSize < forest.length; i++) {
+            long arc = arcs[i];
+            int origin = (int) (arc >>> 32), position = (int) arc;
+            if (components.union(origin, graph.getAdjacentIndex(origin, position))) {
+                forest[forestSize++] = arc;
+            }
+        }
+        return Arrays.copyOf(forest, forestSize);
+    }
+
+    /**
+     * Returns the arcs that go from a lesser vertex to a greater one, sorted
+     * by weight, origin vertex and target vertex.
+     *
+     * @param graph Graph to have its arcs sorted.
+     * @param order Indexes sorted by vertex.
+     * @param ranks Position of each index in {@code order}.
+     * @return Sorted arcs, encoded as in {@link #spanningForest}.
+     */
+    private static long[] sortedArcs(IIndexedGraph<?> graph, int[] order, int[] ranks) {
+        int arcNumber = 0;
+        for (int origin = 0; origin < order.length; origin++) {
+            arcNumber += graph.getDegree(origin);
+        }
+        long[] arcs = new long[arcNumber / 2 + 1];
+        long[] keys = new long[arcs.length];
+        int size = 0;
+        for (int origin : order) {
+            int degree = graph.getDegree(origin);
+            long[] byTarget = new long[degree];
+            int candidates = 0;
+            for (int position = 0; position < degree; position++) {
+                int targetRank = ranks[graph.getAdjacentIndex(origin, position)];
+                if (targetRank > ranks[origin]) {
+                    byTarget[candidates++] = ((long) targetRank << 32) | position;
+                }
+            }
+            Arrays.sort(byTarget, 0, candidates);
+            for (int i = 0; i < candidates; i++) {
+                if (size == arcs.length) {
+                    arcs = Arrays.copyOf(arcs, size * 2);
+                    keys = Arrays.copyOf(keys, size * 2);
+                }
+                int position = (int) byTarget[i];
+                arcs[size] = ((long) origin << 32) | position;
+                keys[size] = ((long) sortableBits(graph.getWeight(origin, position)) << 32) | size;
+                size++;
+            }
+        }
+        Arrays.sort(keys, 0, size);
+        long[] sortedArcs = new long[size];
+        for (int i = 0; i < size; i++) {
+            sortedArcs[i] = arcs[(int) keys[i]];
+        }
+        return sortedArcs;
+    }
+
+    /**
+     * Returns an int whose signed order is the same of {@link Float#compare}.
+     *
+     * @param f Float to be converted.
+     * @return Sortable representation of the float.
+     */
+    private static int sortableBits(float f) {
+        int bits = Float.floatToIntBits(f);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+}
@@ -0,0 +1,362 @@
+package com.ufcg.atg.algorithm;
+
+import com.ufcg.atg.graph.IIndexedGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Level-synchronous, direction-optimizing Breadth-first Search (BFS) over an
+ * undirected {@link IIndexedGraph}, run on a {@link ForkJoinPool}.
+ *
+ * Each level is expanded either top-down, where the frontier vertexes claim
+ * their unvisited neighbors in an atomic bitset, or bottom-up, where every
+ * unvisited vertex looks for a neighbor in the frontier. The walk switches to
+ * bottom-up when the arcs of the frontier outnumber a fraction of the arcs
+ * not explored yet, and back to top-down when the frontier shrinks.
+ *
+ * The levels are the same of {@link BreadthFirstSearch}. As the order in
+ * which a level is expanded depends on the threads, the predecessor of a
+ * vertex is chosen afterwards as its neighbor with the lesser index among the
+ * ones on the previous level, so the result doesn't depend on the number of
+ * threads nor on the direction of each level.
+ */
+public final class ParallelBreadthFirstSearch {
+
+    private static final int TOP_DOWN_TO_BOTTOM_UP_FACTOR = 14;
+
+    private static final int BOTTOM_UP_TO_TOP_DOWN_FACTOR = 24;
+
+    private static final int TASK_SIZE = 2048;
+
+    private static final int[] NO_VERTEXES = new int[0];
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ParallelBreadthFirstSearch() {}
+
+    /**
+     * Walks by the graph in BFS starting from the specified root, on the
+     * common {@link ForkJoinPool}.
+     *
+     * @param graph Undirected graph to be walked.
+     * @param root Index of the root vertex.
+     * @param levels Array, sized to the vertex number, that receives the
+     *               level of each vertex.
+     * @param predecessors Array, sized to the vertex number, that receives the
+     *                     predecessor of each vertex.
+     * @return Number of visited vertexes.
+     */
+    public static int walk(IIndexedGraph<?> graph, int root, int[] levels, int[] predecessors) {
+        return walk(graph, root, levels, predecessors, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Walks by the graph in BFS starting from the specified root. Vertexes
+     * that weren't reached keep level and predecessor as -1, and the root
+     * has level 0 (zero) and predecessor -1.
+     *
+     * @param graph Undirected graph to be walked.
+     * @param root Index of the root vertex.
+     * @param levels Array, sized to the vertex number, that receives the
+     *               level of each vertex.
+     * @param predecessors Array, sized to the vertex number, that receives the
+     *                     predecessor of each vertex.
+     * @param pool Pool where the levels are expanded.
+     * @return Number of visited vertexes.
+     */
+    public static int walk(IIndexedGraph<?> graph, int root, int[] levels, int[] predecessors,
+                           ForkJoinPool pool) {
+        int vertexNumber = graph.getVertexNumber();
+        Arrays.fill(levels, -1);
+        Arrays.fill(predecessors, -1);
+        AtomicLongArray visited = new AtomicLongArray((vertexNumber + 63) >>> 6);
+        long unexploredArcs = 0;
+        for (int i = 0; i < vertexNumber; i++) {
+            unexploredArcs += graph.getDegree(i);
+        }
+
+        levels[root] = 0;
+        mark(visited, root);
+        int[] frontier = {root};
+        int visitedNumber = 1, level = 0;
+        boolean bottomUp = false;
+        while (frontier.length > 0) {
+            long frontierArcs = arcsOf(graph, frontier);
+            unexploredArcs -= frontierArcs;
+            if (!bottomUp && frontierArcs > unexploredArcs / TOP_DOWN_TO_BOTTOM_UP_FACTOR) {
+                bottomUp = true;
+            } else if (bottomUp && frontier.length < vertexNumber / BOTTOM_UP_TO_TOP_DOWN_FACTOR) {
+                bottomUp = false;
+            }
+            Step step = bottomUp
+                    ? new BottomUpStep(graph, levels, visited, level, 0, vertexNumber)
+                    : new TopDownStep(graph, levels, visited, level, frontier, 0, frontier.length);
+            frontier = pool.invoke(step);
+            visitedNumber += frontier.length;
+            level++;
+        }
+
+        pool.invoke(new PredecessorStep(graph, levels, predecessors, 0, vertexNumber));
+        return visitedNumber;
+    }
+
+    /**
+     * Returns the number of arcs of the specified vertexes.
+     *
+     * @param graph Graph of the vertexes.
+     * @param vertexes Indexes of the vertexes.
+     * @return Sum of the degrees of the vertexes.
+     */
+    private static long arcsOf(IIndexedGraph<?> graph, int[] vertexes) {
+        long arcs = 0;
+        for (int vertex : vertexes) {
+            arcs += graph.getDegree(vertex);
+        }
+        return arcs;
+    }
+
+    /**
+     * Sets the bit of the specified index, if it isn't set yet.
+     *
+     * @param bits Bitset to be changed.
+     * @param index Index of the bit.
+     * @return {@code true} if the bit was set by this call, {@code false} if
+     * it was already set.
+     */
+    private static boolean mark(AtomicLongArray bits, int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) return false;
+        } while (!bits.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    /**
+     * Returns if the bit of the specified index is set.
+     *
+     * @param bits Bitset to be read.
+     * @param index Index of the bit.
+     * @return {@code true} if it is, {@code false} otherwise.
+     */
+    private static boolean isMarked(AtomicLongArray bits, int index) {
+        return (bits.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Task over a range of ints that returns the vertexes it found. Ranges
+     * greater than {@link #TASK_SIZE} are split in halves, aligned to the
+     * words of the bitset, and their results are concatenated.
+     */
+    private abstract static class Step extends RecursiveTask<int[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final int from;
+
+        protected final int to;
+
+        /**
+         * Constructs a {@link Step}.
+         *
+         * @param from First int of the range (inclusive).
+         * @param to Last int of the range (exclusive).
+         */
+        Step(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= TASK_SIZE) return visit();
+            int middle = ((from + to) >>> 1) & ~63;
+            if (middle <= from) middle = (from + to) >>> 1;
+            Step left = split(from, middle);
+            left.fork();
+            int[] right = split(middle, to).compute();
+            int[] found = left.join();
+            if (right.length == 0) return found;
+            if (found.length == 0) return right;
+            int[] merged = Arrays.copyOf(found, found.length + right.length);
+            System.arraycopy(right, 0, merged, found.length, right.length);
+            return merged;
+        }
+
+        /**
+         * Creates the task of a part of the range.
+         *
+         * @param from First int of the part (inclusive).
+         * @param to Last int of the part (exclusive).
+         * @return Task of the part.
+         */
+        protected abstract Step split(int from, int to);
+
+        /**
+         * Visits the whole range in the current thread.
+         *
+         * @return Vertexes found.
+         */
+        protected abstract int[] visit();
+
+    }
+
+    /**
+     * Expands a range of the frontier by claiming the unvisited neighbors of
+     * its vertexes.
+     */
+    private static final class TopDownStep extends Step {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IIndexedGraph<?> graph;
+
+        private final int[] levels;
+
+        private final AtomicLongArray visited;
+
+        private final int level;
+
+        private final int[] frontier;
+
+        TopDownStep(IIndexedGraph<?> graph, int[] levels, AtomicLongArray visited, int level,
+                    int[] frontier, int from, int to) {
+            super(from, to);
+            this.graph = graph;
+            this.levels = levels;
+            this.visited = visited;
+            this.level = level;
+            this.frontier = frontier;
+        }
+
+        @Override
+        protected Step split(int from, int to) {
+            return new TopDownStep(graph, levels, visited, level, frontier, from, to);
+        }
+
+        @Override
+        protected int[] visit() {
+            int[] found = new int[16];
+            int foundNumber = 0;
+            for (int i = from; i < to; i++) {
+                int current = frontier[i];
+                int degree = graph.getDegree(current);
+                for (int position = 0; position < degree; position++) {
+                    int adjacent = graph.getAdjacentIndex(current, position);
+                    if (!isMarked(visited, adjacent) && mark(visited, adjacent)) {
+                        levels[adjacent] = level + 1;
+                        if (foundNumber == found.length) found = Arrays.copyOf(found, foundNumber * 2);
+                        found[foundNumber++] = adjacent;
+                    }
+                }
+            }
+            return foundNumber == 0 ? NO_VERTEXES : Arrays.copyOf(found, foundNumber);
+        }
+
+    }
+
+    /**
+     * Looks, for each unvisited vertex of a range of indexes, for a neighbor
+     * in the frontier.
+     */
+    private static final class BottomUpStep extends Step {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IIndexedGraph<?> graph;
+
+        private final int[] levels;
+
+        private final AtomicLongArray visited;
+
+        private final int level;
+
+        BottomUpStep(IIndexedGraph<?> graph, int[] levels, AtomicLongArray visited, int level,
+                     int from, int to) {
+            super(from, to);
+            this.graph = graph;
+            this.levels = levels;
+            this.visited = visited;
+            this.level = level;
+        }
+
+        @Override
+        protected Step split(int from, int to) {
+            return new BottomUpStep(graph, levels, visited, level, from, to);
+        }
+
+        @Override
+        protected int[] visit() {
+            int[] found = new int[16];
+            int foundNumber = 0;
+            for (int current = from; current < to; current++) {
+                if (isMarked(visited, current)) continue;
+                int degree = graph.getDegree(current);
+                for (int position = 0; position < degree; position++) {
+                    if (levels[graph.getAdjacentIndex(current, position)] == level) {
+                        mark(visited, current);
+                        levels[current] = level + 1;
+                        if (foundNumber == found.length) found = Arrays.copyOf(found, foundNumber * 2);
+                        found[foundNumber++] = current;
+                        break;
+                    }
+                }
+            }
+            return foundNumber == 0 ? NO_VERTEXES : Arrays.copyOf(found, foundNumber);
+        }
+
+    }
+
+    /**
+     * Sets the predecessor of each visited vertex of a range of indexes as
+     * its neighbor with the lesser index on the previous level.
+     */
+    private static final class PredecessorStep extends Step {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IIndexedGraph<?> graph;
+
+        private final int[] levels;
+
+        private final int[] predecessors;
+
+        PredecessorStep(IIndexedGraph<?> graph, int[] levels, int[] predecessors, int from, int to) {
+            super(from, to);
+            this.graph = graph;
+            this.levels = levels;
+            this.predecessors = predecessors;
+        }
+
+        @Override
+        protected Step split(int from, int to) {
+            return new PredecessorStep(graph, levels, predecessors, from, to);
+        }
+
+        @Override
+        protected int[] visit() {
+            for (int current = from; current < to; current++) {
+                if (levels[current] <= 0) continue;
+                int predecessor = -1;
+                int degree = graph.getDegree(current);
+                for (int position = 0; position < degree; position++) {
+                    int adjacent = graph.getAdjacentIndex(current, position);
+                    if (levels[adjacent] == levels[current] - 1 &&
+                            (predecessor == -1 || adjacent < predecessor)) {
+                        predecessor = adjacent;
+                    }
+                }
+                predecessors[current] = predecessor;
+            }
+            return NO_VERTEXES;
+        }
+
+    }
+
+}
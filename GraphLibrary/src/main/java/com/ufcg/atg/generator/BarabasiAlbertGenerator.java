@@ -0,0 +1,64 @@
+package com.ufcg.atg.generator;
+
+/**
+ * Generator of Barabási–Albert graphs, where each vertex after the first,
+ * in order, attaches to the vertexes already on the graph with probability
+ * proportional to their degrees. The edges of the second vertex all attach
+ * to the first one, and no edge is a loop.
+ *
+ * The edges are kept, as in the Batagelj–Brandes algorithm, as a list of
+ * endpoints, where the origin of the edge {@code e} is at {@code 2e} and its
+ * target is a copy of an endpoint of the earlier vertexes. Instead of
+ * storing the list, the copied endpoint is generated again whenever it's a
+ * target, so each edge is found from the seed alone, in a few steps on
+ * average, and the edges can be generated in parallel.
+ */
+public class BarabasiAlbertGenerator extends GraphGenerator {
+
+    private final int edgesPerVertex;
+
+    /**
+     * Constructs a {@link BarabasiAlbertGenerator}.
+     *
+     * @param vertexNumber Number of vertexes of the graph.
+     * @param edgesPerVertex Number of edges added with each vertex.
+     * @param seed Seed of the edges and weights.
+     * @throws IllegalArgumentException If the number of vertexes or the
+     * number of edges per vertex isn't positive.
+     */
+    public BarabasiAlbertGenerator(int vertexNumber, int edgesPerVertex, long seed) {
+        super(vertexNumber, seed);
+        if (edgesPerVertex <= 0) {
+            throw new IllegalArgumentException("The number of edges per vertex must be positive.");
+        }
+        this.edgesPerVertex = edgesPerVertex;
+    }
+
+    @Override
+    public long getEdgeNumber() {
+        return (long) (getVertexNumber() - 1) * edgesPerVertex;
+    }
+
+    @Override
+    protected long generateEdge(long edge) {
+        long position = 2 * edge + 1;
+        while ((position & 1) == 1) {
+            long copiedEdge = position >>> 1;
+            long earlierEdges = copiedEdge - copiedEdge % edgesPerVertex;
+            if (earlierEdges == 0) return edge(origin(edge), 0);
+            position = uniform(random(0, copiedEdge), 2 * earlierEdges);
+        }
+        return edge(origin(edge), origin(position >>> 1));
+    }
+
+    /**
+     * Returns the index of the origin of the specified edge.
+     *
+     * @param edge Position of the edge.
+     * @return Index of the origin.
+     */
+    private int origin(long edge) {
+        return (int) (edge / edgesPerVertex) + 1;
+    }
+
+}
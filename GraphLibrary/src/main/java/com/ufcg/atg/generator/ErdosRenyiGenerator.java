@@ -0,0 +1,81 @@
+package com.ufcg.atg.generator;
+
+/**
+ * Generator of Erdős–Rényi graphs G(n, m), whose m edges are drawn uniformly
+ * from the pairs of distinct vertexes, without loops or repeated edges.
+ *
+ * The pairs are ranked from zero (0) and the edge of each position is the
+ * pair ranked by a random permutation of the position, a Feistel network
+ * keyed by the seed and walked until it falls among the ranks. Distinct
+ * positions give distinct pairs, so the edges still come from the seed and
+ * their positions alone.
+ */
+public class ErdosRenyiGenerator extends GraphGenerator {
+
+    private static final int ROUND_NUMBER = 6;
+
+    private final long edgeNumber;
+
+    private final long pairNumber;
+
+    private final int halfBits;
+
+    private final long halfMask;
+
+    /**
+     * Constructs an {@link ErdosRenyiGenerator}.
+     *
+     * @param vertexNumber Number of vertexes of the graph.
+     * @param edgeNumber Number of edges to be drawn.
+     * @param seed Seed of the edges and weights.
+     * @throws IllegalArgumentException If the number of vertexes isn't
+     * positive, or the number of edges is negative or greater than the
+     * number of pairs of distinct vertexes.
+     */
+    public ErdosRenyiGenerator(int vertexNumber, long edgeNumber, long seed) {
+        super(vertexNumber, seed);
+        pairNumber = (long) vertexNumber * (vertexNumber - 1) / 2;
+        if (edgeNumber < 0 || edgeNumber > pairNumber) {
+            throw new IllegalArgumentException("The number of edges must be from zero (0) to "
+                    + pairNumber + ".");
+        }
+        this.edgeNumber = edgeNumber;
+        halfBits = Math.max(1, (64 - Long.numberOfLeadingZeros(pairNumber) + 1) / 2);
+        halfMask = (1L << halfBits) - 1;
+    }
+
+    @Override
+    public long getEdgeNumber() {
+        return edgeNumber;
+    }
+
+    @Override
+    protected long generateEdge(long edge) {
+        long rank = edge;
+        do {
+            rank = permute(rank);
+        } while (rank >= pairNumber);
+        int origin = (int) ((1 + Math.sqrt(1 + 8.0 * rank)) / 2);
+        while ((long) origin * (origin - 1) / 2 > rank) origin--;
+        while ((long) (origin + 1) * origin / 2 <= rank) origin++;
+        return edge(origin, (int) (rank - (long) origin * (origin - 1) / 2));
+    }
+
+    /**
+     * Permutes a rank among the ranks of {@code 2 * halfBits} bits, with a
+     * Feistel network whose rounds are drawn from the seed.
+     *
+     * @param rank Rank to be permuted.
+     * @return Permuted rank.
+     */
+    private long permute(long rank) {
+        long left = rank >>> halfBits, right = rank & halfMask;
+        for (int round = 0; round < ROUND_NUMBER; round++) {
+            long next = left ^ (random(round, right) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+}
@@ -0,0 +1,389 @@
+package com.ufcg.atg.generator;
+
+import com.ufcg.atg.graph.BaseIntGraph;
+import com.ufcg.atg.graph.IntGraph;
+import com.ufcg.atg.graph.IntWeightedGraph;
+import com.ufcg.atg.io.EdgeList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Represents a skeletal implementation of a generator of synthetic graphs,
+ * whose vertexes are numbered from one (1) to the number of vertexes, as in
+ * the graph files.
+ *
+ * Each edge is a pure function of the seed and of its position, so the edges
+ * can be generated in any order, by any number of threads, always giving the
+ * same graph. The edges are generated in blocks, which are written to a file
+ * in order as soon as they are formatted, so a file never has to be held in
+ * memory. Unless the generator says otherwise, generated graphs may have
+ * loops and repeated edges, which are added only once to the graphs.
+ *
+ * The weights, when asked for, are integers from one (1) to the maximum
+ * weight, drawn for each edge.
+ */
+public abstract class GraphGenerator {
+
+    /**
+     * Default maximum weight of the edges.
+     */
+    public static final int DEFAULT_MAX_WEIGHT = 100;
+
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    private static final int MAX_LINE_SIZE = 36;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final long WEIGHT_STREAM = -1;
+
+    private final int vertexNumber;
+
+    private final long seed;
+
+    private int maxWeight;
+
+    /**
+     * Constructs a {@link GraphGenerator}.
+     *
+     * @param vertexNumber Number of vertexes of the graph.
+     * @param seed Seed of the edges and weights.
+     * @throws IllegalArgumentException If the number of vertexes isn't
+     * positive.
+     */
+    protected GraphGenerator(int vertexNumber, long seed) {
+        if (vertexNumber <= 0) {
+            throw new IllegalArgumentException("The number of vertexes must be positive.");
+        }
+        this.vertexNumber = vertexNumber;
+        this.seed = seed;
+        maxWeight = DEFAULT_MAX_WEIGHT;
+    }
+
+    /**
+     * Returns the number of vertexes of the graph.
+     *
+     * @return Number of vertexes.
+     */
+    public int getVertexNumber() {
+        return vertexNumber;
+    }
+
+    /**
+     * Returns the number of edges generated, counting the loops and the
+     * repeated edges.
+     *
+     * @return Number of edges.
+     */
+    public abstract long getEdgeNumber();
+
+    /**
+     * Returns the seed of the edges and weights.
+     *
+     * @return Seed of the generator.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the maximum weight of the edges.
+     *
+     * @param maxWeight Maximum weight, which must be positive.
+     * @throws IllegalArgumentException If the weight isn't positive.
+     * @return This generator.
+     */
+    public GraphGenerator setMaxWeight(int maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("The maximum weight must be positive.");
+        }
+        this.maxWeight = maxWeight;
+        return this;
+    }
+
+    /**
+     * Generates the edge of the specified position.
+     *
+     * @param edge Position of the edge.
+     * @return Indexes, from zero (0), of the origin and of the target of the
+     * edge, packed as {@code (origin << 32) | target}.
+     */
+    protected abstract long generateEdge(long edge);
+
+    /**
+     * Returns the weight of the edge of the specified position.
+     *
+     * @param edge Position of the edge.
+     * @return Weight of the edge.
+     */
+    public int generateWeight(long edge) {
+        return 1 + uniform(random(WEIGHT_STREAM, edge), maxWeight);
+    }
+
+    /**
+     * Generates all edges, in parallel, as a list.
+     *
+     * @param weighted If the weights should be generated.
+     * @throws IllegalArgumentException If there are too many edges for a
+     * list.
+     * @return List of the edges.
+     */
+    public EdgeList toEdgeList(boolean weighted) {
+        long edgeNumber = getEdgeNumber();
+        if (edgeNumber > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("There are too many edges to be kept in memory.");
+        }
+        int size = (int) edgeNumber;
+        int[] origins = new int[size], targets = new int[size];
+        float[] weights = weighted ? new float[size] : null;
+        IntStream.range(0, (size + BLOCK_SIZE - 1) / BLOCK_SIZE).parallel().forEach(block -> {
+            int last = (int) Math.min(size, (long) (block + 1) * BLOCK_SIZE);
+            for (int i = block * BLOCK_SIZE; i < last; i++) {
+                long edge = generateEdge(i);
+                origins[i] = (int) (edge >>> 32) + 1;
+                targets[i] = (int) edge + 1;
+                if (weights != null) weights[i] = generateWeight(i);
+            }
+        });
+        return new EdgeList(origins, targets, weights, size);
+    }
+
+    /**
+     * Generates the graph, with all its vertexes, even those without edges.
+     *
+     * @return Generated graph.
+     */
+    public IntGraph toGraph() {
+        IntGraph graph = new IntGraph();
+        addVertexes(graph);
+        EdgeList edges = toEdgeList(false);
+        graph.addEdges(edges.getOrigins(), edges.getTargets(), edges.size());
+        return graph;
+    }
+
+    /**
+     * Generates the weighted graph, with all its vertexes, even those without
+     * edges.
+     *
+     * @return Generated graph.
+     */
+    public IntWeightedGraph toWeightedGraph() {
+        IntWeightedGraph graph = new IntWeightedGraph();
+        addVertexes(graph);
+        EdgeList edges = toEdgeList(true);
+        graph.addEdges(edges.getOrigins(), edges.getTargets(), edges.getWeights(), edges.size());
+        return graph;
+    }
+
+    /**
+     * Adds the vertexes in their natural order.
+     *
+     * @param graph Graph to receive the vertexes.
+     */
+    private void addVertexes(BaseIntGraph<?> graph) {
+        for (int v = 1; v <= vertexNumber; v++) {
+            graph.addVertex(v);
+        }
+    }
+
+    /**
+     * Writes the edges to a file in the format read by the library, on the
+     * common {@link ForkJoinPool}.
+     *
+     * @param path File path.
+     * @param weighted If the weights should be written.
+     * @throws IOException If there is an error writing the file.
+     * @throws IllegalArgumentException If there are more edges than the
+     * format can count.
+     */
+    public void writeEdgeList(Path path, boolean weighted) throws IOException {
+        writeEdgeList(path, weighted, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Writes the edges to a file in the format read by the library. The
+     * blocks of edges are formatted in parallel, with at most twice the
+     * parallelism of the pool waiting to be written.
+     *
+     * @param path File path.
+     * @param weighted If the weights should be written.
+     * @param pool Pool where the blocks are formatted.
+     * @throws IOException If there is an error writing the file.
+     * @throws IllegalArgumentException If there are more edges than the
+     * format can count.
+     */
+    public void writeEdgeList(Path path, boolean weighted, ForkJoinPool pool) throws IOException {
+        long edgeNumber = getEdgeNumber();
+        if (edgeNumber > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The file format can't count more than "
+                    + Integer.MAX_VALUE + " edges.");
+        }
+        long blockNumber = (edgeNumber + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int window = 2 * pool.getParallelism();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(channel, ByteBuffer.wrap((edgeNumber + "\n").getBytes(StandardCharsets.US_ASCII)));
+            Deque<ForkJoinTask<ByteBuffer>> pending = new ArrayDeque<>();
+            for (long block = 0; block < blockNumber; block++) {
+                long first = block * BLOCK_SIZE, last = Math.min(edgeNumber, first + BLOCK_SIZE);
+                pending.add(pool.submit(() -> format(first, last, weighted)));
+                if (pending.size() >= window) write(channel, pending.poll().join());
+            }
+            while (!pending.isEmpty()) {
+                write(channel, pending.poll().join());
+            }
+        }
+    }
+
+    /**
+     * Formats a block of edges, one per line.
+     *
+     * @param first Position of the first edge of the block.
+     * @param last Position after the last edge of the block.
+     * @param weighted If the weights should be formatted.
+     * @return Formatted block.
+     */
+    private ByteBuffer format(long first, long last, boolean weighted) {
+        byte[] buffer = new byte[(int) (last - first) * MAX_LINE_SIZE];
+        int length = 0;
+        for (long i = first; i < last; i++) {
+            long edge = generateEdge(i);
+            length = formatInt(buffer, length, (int) (edge >>> 32) + 1);
+            buffer[length++] = ' ';
+            length = formatInt(buffer, length, (int) edge + 1);
+            if (weighted) {
+                buffer[length++] = ' ';
+                length = formatInt(buffer, length, generateWeight(i));
+            }
+            buffer[length++] = '\n';
+        }
+        return ByteBuffer.wrap(buffer, 0, length);
+    }
+
+    /**
+     * Formats a non-negative int in decimal.
+     *
+     * @param buffer Where the int is formatted.
+     * @param position Where the int starts.
+     * @param value Int to be formatted.
+     * @return Position after the int.
+     */
+    private static int formatInt(byte[] buffer, int position, int value) {
+        int end = position + digitNumber(value);
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the number of decimal digits of a non-negative int.
+     *
+     * @param value Int to have its digits counted.
+     * @return Number of digits.
+     */
+    private static int digitNumber(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Writes a whole buffer to the channel.
+     *
+     * @param channel Channel to be written.
+     * @param buffer Buffer to be written.
+     * @throws IOException If there is an error writing the channel.
+     */
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns a random long, which is a pure function of the seed, of the
+     * stream and of the index.
+     *
+     * @param stream Stream of random numbers, so different uses of the same
+     *               index draw different numbers.
+     * @param index Index in the stream.
+     * @return Random long.
+     */
+    protected long random(long stream, long index) {
+        return mix(mix(seed + stream * GOLDEN_GAMMA) + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Returns a random int from zero (0), inclusive, to the bound,
+     * exclusive.
+     *
+     * @param random Random long to be scaled.
+     * @param bound Bound of the int.
+     * @return Random int.
+     */
+    protected static int uniform(long random, int bound) {
+        return (int) (((random >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Returns a random long from zero (0), inclusive, to the bound,
+     * exclusive.
+     *
+     * @param random Random long to be scaled.
+     * @param bound Bound of the long.
+     * @return Random long.
+     */
+    protected static long uniform(long random, long bound) {
+        return (random >>> 1) % bound;
+    }
+
+    /**
+     * Returns a random double from zero (0), inclusive, to one (1),
+     * exclusive.
+     *
+     * @param random Random long to be scaled.
+     * @return Random double.
+     */
+    protected static double unit(long random) {
+        return (random >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Mixes the bits of a long, as the SplitMix64 generator does.
+     *
+     * @param z Long to be mixed.
+     * @return Mixed long.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Packs the indexes of the endpoints of an edge.
+     *
+     * @param origin Index of the origin.
+     * @param target Index of the target.
+     * @return Packed edge.
+     */
+    protected static long edge(int origin, int target) {
+        return ((long) origin << 32) | (target & 0xFFFFFFFFL);
+    }
+
+}
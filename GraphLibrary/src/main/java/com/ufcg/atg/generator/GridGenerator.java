@@ -0,0 +1,64 @@
+package com.ufcg.atg.generator;
+
+/**
+ * Generator of two dimensional grids, like road networks, where each vertex
+ * is joined to its neighbors on the left, on the right, above and below.
+ * The vertexes are numbered row by row.
+ */
+public class GridGenerator extends GraphGenerator {
+
+    private final int columns;
+
+    private final long horizontalEdges;
+
+    /**
+     * Constructs a {@link GridGenerator}.
+     *
+     * @param rows Number of rows of the grid.
+     * @param columns Number of columns of the grid.
+     * @param seed Seed of the weights.
+     * @throws IllegalArgumentException If the numbers of rows or columns
+     * aren't positive, or if the grid has too many vertexes.
+     */
+    public GridGenerator(int rows, int columns, long seed) {
+        super(vertexNumber(rows, columns), seed);
+        this.columns = columns;
+        horizontalEdges = (long) rows * (columns - 1);
+    }
+
+    /**
+     * Returns the number of vertexes of a grid.
+     *
+     * @param rows Number of rows of the grid.
+     * @param columns Number of columns of the grid.
+     * @throws IllegalArgumentException If the numbers of rows or columns
+     * aren't positive, or if the grid has too many vertexes.
+     * @return Number of vertexes.
+     */
+    private static int vertexNumber(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("The numbers of rows and columns must be positive.");
+        }
+        if ((long) rows * columns > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("The grid has too many vertexes.");
+        }
+        return rows * columns;
+    }
+
+    @Override
+    public long getEdgeNumber() {
+        return horizontalEdges + getVertexNumber() - columns;
+    }
+
+    @Override
+    protected long generateEdge(long edge) {
+        if (edge < horizontalEdges) {
+            int row = (int) (edge / (columns - 1)), column = (int) (edge % (columns - 1));
+            int v = row * columns + column;
+            return edge(v, v + 1);
+        }
+        int v = (int) (edge - horizontalEdges);
+        return edge(v, v + columns);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.ufcg.atg.generator;
+
+/**
+ * Generator of paths, where each vertex is joined to the next one, which
+ * are the graphs of greatest diameter.
+ */
+public class PathGenerator extends GraphGenerator {
+
+    /**
+     * Constructs a {@link PathGenerator}.
+     *
+     * @param vertexNumber Number of vertexes of the path.
+     * @param seed Seed of the weights.
+     * @throws IllegalArgumentException If the number of vertexes isn't
+     * positive.
+     */
+    public PathGenerator(int vertexNumber, long seed) {
+        super(vertexNumber, seed);
+    }
+
+    @Override
+    public long getEdgeNumber() {
+        return getVertexNumber() - 1;
+    }
+
+    @Override
+    protected long generateEdge(long edge) {
+        return edge((int) edge, (int) edge + 1);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.ufcg.atg.generator;
+
+/**
+ * Generator of R-MAT graphs, a recursive Kronecker model, whose edges are
+ * placed by descending the quadrants of the adjacency matrix, one bit of the
+ * endpoints at a time, with the probabilities {@code a}, {@code b},
+ * {@code c} and {@code 1 - a - b - c}.
+ */
+public class RMatGenerator extends GraphGenerator {
+
+    /**
+     * Probabilities of the quadrants used by the Graph500 benchmark.
+     */
+    public static final double DEFAULT_A = 0.57, DEFAULT_B = 0.19, DEFAULT_C = 0.19;
+
+    private final int scale;
+
+    private final long edgeNumber;
+
+    private final double a;
+
+    private final double ab;
+
+    private final double abc;
+
+    /**
+     * Constructs a {@link RMatGenerator} with the probabilities of the
+     * Graph500 benchmark.
+     *
+     * @param scale Logarithm, in base two (2), of the number of vertexes.
+     * @param edgeNumber Number of edges to be drawn.
+     * @param seed Seed of the edges and weights.
+     * @throws IllegalArgumentException If the scale isn't from one (1) to
+     * thirty (30), or the number of edges is negative.
+     */
+    public RMatGenerator(int scale, long edgeNumber, long seed) {
+        this(scale, edgeNumber, DEFAULT_A, DEFAULT_B, DEFAULT_C, seed);
+    }
+
+    /**
+     * Constructs a {@link RMatGenerator}.
+     *
+     * @param scale Logarithm, in base two (2), of the number of vertexes.
+     * @param edgeNumber Number of edges to be drawn.
+     * @param a Probability of the upper left quadrant.
+     * @param b Probability of the upper right quadrant.
+     * @param c Probability of the lower left quadrant.
+     * @param seed Seed of the edges and weights.
+     * @throws IllegalArgumentException If the scale isn't from one (1) to
+     * thirty (30), the number of edges is negative, or the probabilities
+     * aren't valid.
+     */
+    public RMatGenerator(int scale, long edgeNumber, double a, double b, double c, long seed) {
+        super(1 << checkScale(scale), seed);
+        if (edgeNumber < 0) {
+            throw new IllegalArgumentException("The number of edges can't be negative.");
+        }
+        if (a < 0 || b < 0 || c < 0 || a + b + c > 1) {
+            throw new IllegalArgumentException("The probabilities must be non-negative and sum at most one.");
+        }
+        this.scale = scale;
+        this.edgeNumber = edgeNumber;
+        this.a = a;
+        ab = a + b;
+        abc = a + b + c;
+    }
+
+    /**
+     * Checks the scale of the graph.
+     *
+     * @param scale Logarithm, in base two (2), of the number of vertexes.
+     * @throws IllegalArgumentException If the scale isn't from one (1) to
+     * thirty (30).
+     * @return The scale.
+     */
+    private static int checkScale(int scale) {
+        if (scale < 1 || scale > 30) {
+            throw new IllegalArgumentException("The scale must be from 1 to 30.");
+        }
+        return scale;
+    }
+
+    @Override
+    public long getEdgeNumber() {
+        return edgeNumber;
+    }
+
+    @Override
+    protected long generateEdge(long edge) {
+        int origin = 0, target = 0;
+        for (int level = 0; level < scale; level++) {
+            double u = unit(random(level, edge));
+            origin <<= 1;
+            target <<= 1;
+            if (u >= abc) {
+                origin |= 1;
+                target |= 1;
+            } else if (u >= ab) {
+                origin |= 1;
+            } else if (u >= a) {
+                target |= 1;
+            }
+        }
+        return edge(origin, target);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.ufcg.atg.generator;
+
+/**
+ * Generator of stars, where the first vertex is joined to all others, which
+ * are the graphs of greatest degree.
+ */
+public class StarGenerator extends GraphGenerator {
+
+    /**
+     * Constructs a {@link StarGenerator}.
+     *
+     * @param vertexNumber Number of vertexes of the star.
+     * @param seed Seed of the weights.
+     * @throws IllegalArgumentException If the number of vertexes isn't
+     * positive.
+     */
+    public StarGenerator(int vertexNumber, long seed) {
+        super(vertexNumber, seed);
+    }
+
+    @Override
+    public long getEdgeNumber() {
+        return getVertexNumber() - 1;
+    }
+
+    @Override
+    protected long generateEdge(long edge) {
+        return edge(0, (int) edge + 1);
+    }
+
+}
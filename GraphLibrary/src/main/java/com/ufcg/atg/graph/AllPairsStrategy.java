@@ -0,0 +1,19 @@
+package com.ufcg.atg.graph;
+
+/**
+ * Represents all algorithms that may find the distances between all pairs of
+ * vertexes of a graph.
+ * <ul>
+ *     <li>{@link #FLOYD_WARSHALL}: the blocked Floyd-Warshall algorithm over
+ *     the whole distance matrix, for dense graphs with non-negative
+ *     weights;</li>
+ *     <li>{@link #PER_SOURCE}: a search from each vertex, in parallel, for
+ *     sparse graphs. Each one is Dijkstra's algorithm or, if there are
+ *     negative weights, the Bellman-Ford algorithm. Johnson's reweighting
+ *     doesn't apply, as no potential makes both arcs of a negative
+ *     undirected edge non-negative.</li>
+ * </ul>
+ */
+public enum AllPairsStrategy {
+    FLOYD_WARSHALL, PER_SOURCE
+}
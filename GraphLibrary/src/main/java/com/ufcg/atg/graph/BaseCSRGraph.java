@@ -0,0 +1,248 @@
+package com.ufcg.atg.graph;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Represents a skeletal implementation of an immutable graph stored in the
+ * Compressed Sparse Row (CSR) format, based on the interfaces defined by
+ * {@link IGraph} and {@link IIndexedGraph}.
+ *
+ * The vertexes are indexed by their natural order. The arcs of the vertex of
+ * index {@code i} are stored, sorted by target, from {@code offsets[i]}
+ * (inclusive) to {@code offsets[i + 1]} (exclusive) of {@code targets} and,
+ * if the graph is weighted, of {@code weights}.
+ *
+ * @param <V> Type of the vertex.
+ * @param <E> Type of the edge.
+ */
+public abstract class BaseCSRGraph<V extends Comparable<V>, E extends Edge<V>>
+        extends BaseIndexedGraph<V, E> {
+
+    protected final V[] vertexes;
+
+    protected final Map<V, Integer> indexes;
+
+    protected final int[] offsets;
+
+    protected final int[] targets;
+
+    protected final float[] weights;
+
+    private final boolean negativeWeighted;
+
+    private final DegreeStatistics degreeStatistics;
+
+    /**
+     * Constructs a {@link BaseCSRGraph} with the vertexes and edges of the
+     * specified graph.
+     *
+     * @param graph Graph to be copied.
+     * @param weighted If the weights of the edges should be kept. If not, all
+     *                 arcs will have weight one (1).
+     */
+    protected BaseCSRGraph(IGraph<V, ? extends Edge<V>> graph, boolean weighted) {
+        this(graph.getAllVertexes(), graph::getEdgesOfVertex, weighted);
+    }
+
+    /**
+     * Constructs a {@link BaseCSRGraph} with the specified vertexes and the
+     * edges of each one. The edges of a vertex must not change while the
+     * graph is constructed, and their targets must be among the vertexes.
+     *
+     * @param graphVertexes Vertexes of the graph.
+     * @param edgesOfVertex Edges of each vertex.
+     * @param weighted If the weights of the edges should be kept. If not, all
+     *                 arcs will have weight one (1).
+     */
+    protected BaseCSRGraph(Collection<V> graphVertexes,
+                           Function<V, ? extends Collection<? extends Edge<V>>> edgesOfVertex,
+                           boolean weighted) {
+        this(graphVertexes, edgesOfVertex, weighted, null);
+    }
+
+    /**
+     * Constructs a {@link BaseCSRGraph} with the specified vertexes and the
+     * edges of each one, as the graph they're copied from already tracks if
+     * any edge has a negative weight. The edges of a vertex must not change
+     * while the graph is constructed, and their targets must be among the
+     * vertexes.
+     *
+     * @param graphVertexes Vertexes of the graph.
+     * @param edgesOfVertex Edges of each vertex.
+     * @param weighted If the weights of the edges should be kept. If not, all
+     *                 arcs will have weight one (1).
+     * @param negativeWeighted If any of the edges has a negative weight, or
+     *                         {@code null} if the weights must be checked.
+     */
+    @SuppressWarnings("unchecked")
+    protected BaseCSRGraph(Collection<V> graphVertexes,
+                           Function<V, ? extends Collection<? extends Edge<V>>> edgesOfVertex,
+                           boolean weighted, Boolean negativeWeighted) {
+        List<V> orderedVertexes = new ArrayList<>(graphVertexes);
+        Collections.sort(orderedVertexes);
+        int vertexNumber = orderedVertexes.size();
+        vertexes = (V[]) orderedVertexes.toArray(new Comparable<?>[vertexNumber]);
+        indexes = new HashMap<>();
+        for (int i = 0; i < vertexNumber; i++) {
+            indexes.put(vertexes[i], i);
+        }
+
+        offsets = new int[vertexNumber + 1];
+        for (int i = 0; i < vertexNumber; i++) {
+            offsets[i + 1] = offsets[i] + edgesOfVertex.apply(vertexes[i]).size();
+        }
+        targets = new int[offsets[vertexNumber]];
+        weights = weighted ? new float[offsets[vertexNumber]] : null;
+        for (int i = 0; i < vertexNumber; i++) {
+            fillRow(i, edgesOfVertex.apply(vertexes[i]));
+        }
+        this.negativeWeighted = negativeWeighted == null ? super.containsNegativeWeightedEdge()
+                : weighted && negativeWeighted;
+        degreeStatistics = new DegreeStatistics(this);
+    }
+
+    /**
+     * Fills the arcs of a vertex, sorted by target.
+     *
+     * @param index Index of the vertex.
+     * @param edges Edges of the vertex.
+     */
+    private void fillRow(int index, Collection<? extends Edge<V>> edges) {
+        long[] row = new long[edges.size()];
+        float[] rowWeights = new float[edges.size()];
+        int position = 0;
+        for (Edge<V> e : edges) {
+            row[position] = ((long) indexes.get(e.getTargetVertex()) << 32) | position;
+            rowWeights[position] = e instanceof WeightedEdge ? ((WeightedEdge<V>) e).getWeight() : 1f;
+            position++;
+        }
+        Arrays.sort(row);
+        for (int i = 0; i < row.length; i++) {
+            targets[offsets[index] + i] = (int) (row[i] >>> 32);
+            if (weights != null) {
+                weights[offsets[index] + i] = rowWeights[(int) row[i]];
+            }
+        }
+    }
+
+    /**
+     * Throws an exception, as the graph is immutable.
+     *
+     * @param v Vertex that wouldn't be added.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public void addVertex(V v) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    /**
+     * Throws an exception, as the graph is immutable.
+     *
+     * @param v1 Vertex that wouldn't be the edge origin.
+     * @param v2 Vertex that wouldn't be the edge target.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public E addEdge(V v1, V v2) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    @Override
+    public int indexOf(V v) {
+        Integer index = indexes.get(v);
+        return index == null ? -1 : index;
+    }
+
+    @Override
+    public V getVertex(int index) {
+        return vertexes[index];
+    }
+
+    @Override
+    public int getDegree(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    @Override
+    public int getAdjacentIndex(int index, int position) {
+        return targets[offsets[index] + position];
+    }
+
+    @Override
+    public float getWeight(int index, int position) {
+        return weights == null ? 1f : weights[offsets[index] + position];
+    }
+
+    @Override
+    public int[] getOrderedIndexes() {
+        int[] order = new int[vertexes.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    @Override
+    public Set<V> getAllVertexes() {
+        return Collections.unmodifiableSet(indexes.keySet());
+    }
+
+    @Override
+    public boolean containsEdge(Edge<V> e) {
+        int origin = indexOf(e.getOriginVertex());
+        int target = indexOf(e.getTargetVertex());
+        if (origin == -1 || target == -1) return false;
+        int arc = Arrays.binarySearch(targets, offsets[origin], offsets[origin + 1], target);
+        if (arc < 0) return false;
+        while (arc > offsets[origin] && targets[arc - 1] == target) arc--;
+        for (; arc < offsets[origin + 1] && targets[arc] == target; arc++) {
+            if (createEdge(vertexes[origin], vertexes[target],
+                    weights == null ? 1f : weights[arc]).equals(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getVertexNumber() {
+        return vertexes.length;
+    }
+
+    @Override
+    public int getEdgeNumber() {
+        return targets.length;
+    }
+
+    @Override
+    protected DegreeStatistics getDegreeStatistics() {
+        return degreeStatistics;
+    }
+
+    @Override
+    protected boolean containsNegativeWeightedEdge() {
+        return negativeWeighted;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BaseCSRGraph<?, ?> that = (BaseCSRGraph<?, ?>) o;
+        return Arrays.equals(vertexes, that.vertexes) &&
+                Arrays.equals(offsets, that.offsets) &&
+                Arrays.equals(targets, that.targets) &&
+                Arrays.equals(weights, that.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(vertexes);
+        result = 31 * result + Arrays.hashCode(targets);
+        result = 31 * result + Arrays.hashCode(weights);
+        return result;
+    }
+
+}
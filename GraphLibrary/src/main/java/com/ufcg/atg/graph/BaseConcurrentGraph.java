@@ -0,0 +1,211 @@
+package com.ufcg.atg.graph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents a skeletal implementation of a thread-safe graph, based on the
+ * interface defined by {@link IGraph}, to which many threads may add vertexes
+ * and edges while others read it.
+ *
+ * The edges of each vertex are kept in a concurrent set of a
+ * {@link ConcurrentHashMap}, so writers only contend when they touch the same
+ * bin or set, and reads never lock. The iterators are weakly consistent: they
+ * never throw {@link java.util.ConcurrentModificationException}, and may or
+ * may not see what is added while they walk.
+ *
+ * The algorithms run on an indexed copy, taken from a frozen list of the
+ * vertexes and of the edges of each one, which is reused until a writer
+ * changes the graph. An undirected edge is added as two arcs, so a copy taken
+ * between them has only one of its directions.
+ *
+ * @param <V> Type of the vertex.
+ * @param <E> Type of the edge.
+ */
+public abstract class BaseConcurrentGraph<V extends Comparable<V>, E extends Edge<V>>
+        extends BaseGraph<V, E> {
+
+    private final LongAdder arcNumber;
+
+    private final LongAdder modificationNumber;
+
+    private volatile IndexedCopy<V, E> indexedCopy;
+
+    /**
+     * Constructs a {@link BaseConcurrentGraph}.
+     */
+    public BaseConcurrentGraph() {
+        super(new ConcurrentHashMap<>());
+        arcNumber = new LongAdder();
+        modificationNumber = new LongAdder();
+    }
+
+    @Override
+    protected void addIfAbsent(V v) {
+        if (!vertexes.containsKey(v) && vertexes.putIfAbsent(v, ConcurrentHashMap.newKeySet()) == null) {
+            invalidateIndexedGraph();
+        }
+    }
+
+    @Override
+    protected boolean addArc(V origin, E e) {
+        if (!vertexes.get(origin).add(e)) return false;
+        arcNumber.increment();
+        invalidateIndexedGraph();
+        return true;
+    }
+
+    /**
+     * Adds the specified edges one arc at a time, through the same atomic
+     * steps of the edges added one by one, so the readers never see a
+     * partially updated map.
+     *
+     * @param v1s Origin vertex of each edge.
+     * @param v2s Target vertex of each edge.
+     * @param weights Weight of each edge, or {@code null} if the edges have
+     *                weight one (1).
+     * @param size Number of edges, taken from the start of the arrays.
+     * @return Number of edges added, as the edges already on the graph are
+     * skipped.
+     */
+    @Override
+    protected int addEdges(V[] v1s, V[] v2s, float[] weights, int size) {
+        int addedNumber = 0;
+        for (int i = 0; i < size; i++) {
+            float weight = weights == null ? 1f : weights[i];
+            addIfAbsent(v1s[i]);
+            addIfAbsent(v2s[i]);
+            if (addArc(v1s[i], createEdge(v1s[i], v2s[i], weight))) addedNumber++;
+            addArc(v2s[i], createEdge(v2s[i], v1s[i], weight));
+        }
+        return addedNumber;
+    }
+
+    /**
+     * Returns an indexed copy of the graph. The copy is reused while no
+     * vertex or edge is added, and taken again on the first call after a
+     * change.
+     *
+     * @return Indexed copy of the graph.
+     */
+    @Override
+    public BaseIndexedGraph<V, E> getIndexedGraph() {
+        long modification = modificationNumber.sum();
+        IndexedCopy<V, E> copy = indexedCopy;
+        if (copy == null || copy.modification != modification) {
+            copy = new IndexedCopy<>(modification, createIndexedGraph());
+            indexedCopy = copy;
+        }
+        return copy.graph;
+    }
+
+    /**
+     * Counts a change of the graph, so the current indexed copy is no longer
+     * reused. Must be called after the change is made.
+     */
+    @Override
+    protected void invalidateIndexedGraph() {
+        modificationNumber.increment();
+    }
+
+    @Override
+    protected BaseIndexedGraph<V, E> createIndexedGraph() {
+        List<V> frozenVertexes = new ArrayList<>(vertexes.keySet());
+        Map<V, List<E>> frozenEdges = new HashMap<>();
+        for (V v : frozenVertexes) {
+            frozenEdges.put(v, new ArrayList<>());
+        }
+        for (V v : frozenVertexes) {
+            List<E> edges = frozenEdges.get(v);
+            for (E e : vertexes.get(v)) {
+                if (frozenEdges.containsKey(e.getTargetVertex())) edges.add(e);
+            }
+        }
+        return createIndexedGraph(frozenVertexes, frozenEdges);
+    }
+
+    /**
+     * Creates an indexed copy of the specified vertexes and edges.
+     *
+     * @param frozenVertexes Vertexes of the copy.
+     * @param frozenEdges Edges of each vertex, whose targets are among the
+     *                    vertexes.
+     * @return Indexed copy of the graph.
+     */
+    protected abstract BaseIndexedGraph<V, E> createIndexedGraph(List<V> frozenVertexes,
+                                                                 Map<V, List<E>> frozenEdges);
+
+    @Override
+    public int getEdgeNumber() {
+        return arcNumber.intValue();
+    }
+
+    @Override
+    public float getMeanEdge() {
+        int vertexNumber = getVertexNumber();
+        return vertexNumber > 0 ? arcNumber.floatValue() / vertexNumber : 0;
+    }
+
+    /**
+     * Returns the minimum degree of the vertexes, counted on the indexed
+     * copy of the graph.
+     *
+     * @return Minimum degree.
+     */
+    @Override
+    public int getMinDegree() {
+        return getIndexedGraph().getMinDegree();
+    }
+
+    /**
+     * Returns the maximum degree of the vertexes, counted on the indexed
+     * copy of the graph.
+     *
+     * @return Maximum degree.
+     */
+    @Override
+    public int getMaxDegree() {
+        return getIndexedGraph().getMaxDegree();
+    }
+
+    /**
+     * Returns the degree histogram of the vertexes, counted on the indexed
+     * copy of the graph.
+     *
+     * @return Degree histogram.
+     */
+    @Override
+    public int[] getDegreeHistogram() {
+        return getIndexedGraph().getDegreeHistogram();
+    }
+
+    /**
+     * Indexed copy of the graph and the number of changes it has seen.
+     *
+     * @param <V> Type of the vertex.
+     * @param <E> Type of the edge.
+     */
+    private static class IndexedCopy<V extends Comparable<V>, E extends Edge<V>> {
+
+        private final long modification;
+
+        private final BaseIndexedGraph<V, E> graph;
+
+        /**
+         * Constructs an {@link IndexedCopy}.
+         *
+         * @param modification Number of changes counted before the copy.
+         * @param graph Indexed copy of the graph.
+         */
+        private IndexedCopy(long modification, BaseIndexedGraph<V, E> graph) {
+            this.modification = modification;
+            this.graph = graph;
+        }
+
+    }
+
+}
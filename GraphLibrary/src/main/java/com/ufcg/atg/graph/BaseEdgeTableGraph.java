@@ -0,0 +1,276 @@
+package com.ufcg.atg.graph;
+
+import java.util.*;
+
+/**
+ * Represents a skeletal implementation of a graph that stores each undirected
+ * edge only once, based on the interfaces defined by {@link IGraph} and
+ * {@link IIndexedGraph}.
+ *
+ * The edges are kept in a table of origin indexes, target indexes and, if the
+ * graph is weighted, weights. The adjacency of each vertex holds the ids of
+ * its edges, which are read from either endpoint, so an edge costs a single
+ * table entry instead of two edge objects. The arcs seen through
+ * {@link IIndexedGraph} and {@link IGraph} are still one per direction, as in
+ * {@link Graph} and {@link WeightedGraph}.
+ *
+ * @param <V> Type of the vertex.
+ * @param <E> Type of the edge.
+ */
+public abstract class BaseEdgeTableGraph<V extends Comparable<V>, E extends Edge<V>>
+        extends BaseIndexedGraph<V, E> {
+
+    private static final int[] NO_EDGES = new int[0];
+
+    protected final List<V> vertexes;
+
+    protected final Map<V, Integer> indexes;
+
+    protected int[][] incidences;
+
+    protected int[] degrees;
+
+    protected int[] origins;
+
+    protected int[] targets;
+
+    protected float[] weights;
+
+    protected int undirectedEdgeNumber;
+
+    protected final DegreeStatistics degreeStatistics;
+
+    private boolean negativeWeighted;
+
+    /**
+     * Constructs a {@link BaseEdgeTableGraph}.
+     *
+     * @param weighted If the weights of the edges should be stored. If not,
+     *                 all edges will have weight one (1).
+     */
+    protected BaseEdgeTableGraph(boolean weighted) {
+        vertexes = new ArrayList<>();
+        indexes = new HashMap<>();
+        incidences = new int[16][];
+        degrees = new int[16];
+        origins = new int[16];
+        targets = new int[16];
+        weights = weighted ? new float[16] : null;
+        degreeStatistics = new DegreeStatistics();
+    }
+
+    @Override
+    public void addVertex(V v) {
+        addIfAbsent(v);
+    }
+
+    /**
+     * Adds a vertex if isn't already on the graph.
+     *
+     * @param v Vertex to be added.
+     * @return Index of the vertex.
+     */
+    protected int addIfAbsent(V v) {
+        Integer index = indexes.get(v);
+        if (index != null) return index;
+        index = vertexes.size();
+        if (index == incidences.length) {
+            incidences = Arrays.copyOf(incidences, index * 2);
+            degrees = Arrays.copyOf(degrees, index * 2);
+        }
+        incidences[index] = NO_EDGES;
+        vertexes.add(v);
+        indexes.put(v, index);
+        degreeStatistics.addVertex();
+        countModification();
+        return index;
+    }
+
+    /**
+     * Adds a edge between {@code v1} and {@code v2} to the edge table.
+     * Nothing is done if an equal edge is already on the graph.
+     *
+     * @param v1 Vertex to be the edge origin.
+     * @param v2 Vertex to be the edge target.
+     * @param weight Weight of the edge.
+     * @return The edge between {@code v1} and {@code v2}.
+     */
+    protected E addTableEdge(V v1, V v2, float weight) {
+        int index1 = addIfAbsent(v1), index2 = addIfAbsent(v2);
+        if (findEdge(index1, index2, weight) != -1) return createEdge(v1, v2, weight);
+        int id = undirectedEdgeNumber++;
+        if (id == origins.length) {
+            origins = Arrays.copyOf(origins, id * 2);
+            targets = Arrays.copyOf(targets, id * 2);
+            if (weights != null) weights = Arrays.copyOf(weights, id * 2);
+        }
+        origins[id] = index1;
+        targets[id] = index2;
+        if (weights != null) {
+            weights[id] = weight;
+            if (weight < 0) negativeWeighted = true;
+        }
+        addIncidence(index1, id);
+        if (index1 != index2) addIncidence(index2, id);
+        countModification();
+        return createEdge(v1, v2, weight);
+    }
+
+    /**
+     * Returns the id of the edge between the specified indexes with the
+     * specified weight. Only the edges of the index with the lesser degree
+     * are scanned.
+     *
+     * @param index1 Index of one of the vertexes.
+     * @param index2 Index of the other vertex.
+     * @param weight Weight of the edge.
+     * @return Id of the edge, or -1 if there is none.
+     */
+    protected int findEdge(int index1, int index2, float weight) {
+        int index = degrees[index1] <= degrees[index2] ? index1 : index2;
+        int other = index == index1 ? index2 : index1;
+        for (int position = 0; position < degrees[index]; position++) {
+            int id = incidences[index][position];
+            if (opposite(id, index) == other &&
+                    (weights == null || Float.compare(weights[id], weight) == 0)) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Appends an edge id to the adjacency of a vertex.
+     *
+     * @param index Index of the vertex.
+     * @param id Id of the edge.
+     */
+    private void addIncidence(int index, int id) {
+        int degree = degrees[index];
+        if (degree == incidences[index].length) {
+            incidences[index] = Arrays.copyOf(incidences[index], Math.max(4, degree * 2));
+        }
+        incidences[index][degree] = id;
+        degrees[index]++;
+        degreeStatistics.increaseDegree(degree, 1);
+    }
+
+    /**
+     * Returns the endpoint of an edge opposite to the specified one.
+     *
+     * @param id Id of the edge.
+     * @param index Index of one of the edge's endpoints.
+     * @return Index of the other endpoint.
+     */
+    private int opposite(int id, int index) {
+        return origins[id] == index ? targets[id] : origins[id];
+    }
+
+    @Override
+    public int indexOf(V v) {
+        Integer index = indexes.get(v);
+        return index == null ? -1 : index;
+    }
+
+    @Override
+    public V getVertex(int index) {
+        return vertexes.get(index);
+    }
+
+    @Override
+    public int getDegree(int index) {
+        return degrees[index];
+    }
+
+    @Override
+    public int getAdjacentIndex(int index, int position) {
+        return opposite(incidences[index][position], index);
+    }
+
+    @Override
+    public float getWeight(int index, int position) {
+        return weights == null ? 1f : weights[incidences[index][position]];
+    }
+
+    @Override
+    public int getVertexNumber() {
+        return vertexes.size();
+    }
+
+    @Override
+    public int getEdgeNumber() {
+        return degreeStatistics.getArcNumber();
+    }
+
+    @Override
+    protected DegreeStatistics getDegreeStatistics() {
+        return degreeStatistics;
+    }
+
+    @Override
+    protected boolean containsNegativeWeightedEdge() {
+        return negativeWeighted;
+    }
+
+    /**
+     * Returns the number of undirected edges, each one counted once.
+     *
+     * @return Number of undirected edges.
+     */
+    public int getUndirectedEdgeNumber() {
+        return undirectedEdgeNumber;
+    }
+
+    /**
+     * Returns all undirected edges, each one once, from the vertex it was
+     * added from to the other one.
+     *
+     * @return Undirected edges of the graph.
+     */
+    public Set<E> getUndirectedEdges() {
+        Set<E> edges = new HashSet<>(undirectedEdgeNumber * 4 / 3 + 1);
+        for (int id = 0; id < undirectedEdgeNumber; id++) {
+            edges.add(createEdge(vertexes.get(origins[id]), vertexes.get(targets[id]),
+                    weights == null ? 1f : weights[id]));
+        }
+        return edges;
+    }
+
+    @Override
+    public Set<E> getAllEdges() {
+        Set<E> edges = new HashSet<>(getEdgeNumber() * 4 / 3 + 1);
+        for (int id = 0; id < undirectedEdgeNumber; id++) {
+            V origin = vertexes.get(origins[id]), target = vertexes.get(targets[id]);
+            float weight = weights == null ? 1f : weights[id];
+            edges.add(createEdge(origin, target, weight));
+            edges.add(createEdge(target, origin, weight));
+        }
+        return edges;
+    }
+
+    @Override
+    public boolean containsEdge(Edge<V> e) {
+        int origin = indexOf(e.getOriginVertex());
+        int target = indexOf(e.getTargetVertex());
+        if (origin == -1 || target == -1) return false;
+        float weight = e instanceof WeightedEdge ? ((WeightedEdge<V>) e).getWeight() : 1f;
+        int id = findEdge(origin, target, weight);
+        return id != -1 && createEdge(e.getOriginVertex(), e.getTargetVertex(),
+                weights == null ? 1f : weights[id]).equals(e);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BaseEdgeTableGraph<?, ?> that = (BaseEdgeTableGraph<?, ?>) o;
+        return indexes.keySet().equals(that.indexes.keySet()) &&
+                getAllEdges().equals(that.getAllEdges());
+    }
+
+    @Override
+    public int hashCode() {
+        return getAllEdges().hashCode();
+    }
+
+}
@@ -1,13 +1,9 @@
 package com.ufcg.atg.graph;
 
-import com.ufcg.atg.util.Utils;
-
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.ufcg.atg.util.Utils.LINE_SEPARATOR;
-import static com.ufcg.atg.util.Utils.STRING_EMPTY;
-
 /**
  * Represents a skeletal implementation of a graph, based on the interface
  * defined by {@link IGraph}.
@@ -21,11 +17,26 @@ public abstract class BaseGraph<V extends Comparable<V>, E extends Edge<V>> impl
 
     protected Map<V, Set<E>> vertexes;
 
+    protected final DegreeStatistics degreeStatistics;
+
+    private BaseIndexedGraph<V, E> indexedGraph;
+
     /**
      * Constructs a {@link BaseGraph}.
      */
     public BaseGraph() {
-        vertexes = new HashMap<>();
+        this(new HashMap<>());
+    }
+
+    /**
+     * Constructs a {@link BaseGraph} whose vertexes and edges are kept in the
+     * specified map.
+     *
+     * @param vertexes Empty map to keep the edges of each vertex.
+     */
+    protected BaseGraph(Map<V, Set<E>> vertexes) {
+        this.vertexes = vertexes;
+        degreeStatistics = new DegreeStatistics();
     }
 
     @Override
@@ -41,19 +52,148 @@ public abstract class BaseGraph<V extends Comparable<V>, E extends Edge<V>> impl
     protected void addIfAbsent(V v) {
         if (!vertexes.containsKey(v)) {
             vertexes.put(v, new HashSet<>());
+            degreeStatistics.addVertex();
+            invalidateIndexedGraph();
+        }
+    }
+
+    /**
+     * Adds an arc to the edges of its origin vertex, which must already be
+     * on the graph, keeping the counters of the graph up to date.
+     *
+     * @param origin Origin vertex of the arc.
+     * @param e Edge that represents the arc.
+     * @return {@code true} if the arc was added, {@code false} if it was
+     * already on the graph.
+     */
+    protected boolean addArc(V origin, E e) {
+        Set<E> edges = vertexes.get(origin);
+        if (!edges.add(e)) return false;
+        degreeStatistics.increaseDegree(edges.size() - 1, 1);
+        invalidateIndexedGraph();
+        return true;
+    }
+
+    /**
+     * Adds the specified edges at once, each one as two arcs, as the
+     * {@code addEdge} of the graph does for each one. Unlike the edges added
+     * one by one, the vertex map of an empty graph is presized, the indexed
+     * view is discarded once and, if there are at least as many edges as
+     * vertexes, the degree counters are recounted once at the end, instead of
+     * once per arc.
+     *
+     * @param v1s Origin vertex of each edge.
+     * @param v2s Target vertex of each edge.
+     * @param weights Weight of each edge, or {@code null} if the edges have
+     *                weight one (1).
+     * @param size Number of edges, taken from the start of the arrays.
+     * @return Number of edges added, as the edges already on the graph, in
+     * the same direction, are skipped.
+     */
+    protected int addEdges(V[] v1s, V[] v2s, float[] weights, int size) {
+        if (vertexes.isEmpty()) {
+            vertexes = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        }
+        boolean recount = size >= vertexes.size();
+        int addedNumber = 0;
+        for (int i = 0; i < size; i++) {
+            float weight = weights == null ? 1f : weights[i];
+            if (addArc(v1s[i], createEdge(v1s[i], v2s[i], weight), recount)) addedNumber++;
+            addArc(v2s[i], createEdge(v2s[i], v1s[i], weight), recount);
+        }
+        if (recount) {
+            degreeStatistics.clear();
+            for (Set<E> edges : vertexes.values()) {
+                degreeStatistics.addVertex();
+                if (!edges.isEmpty()) degreeStatistics.increaseDegree(0, edges.size());
+            }
+        }
+        invalidateIndexedGraph();
+        return addedNumber;
+    }
+
+    /**
+     * Adds an arc of a bulk insertion, adding its origin if it isn't already
+     * on the graph.
+     *
+     * @param origin Origin vertex of the arc.
+     * @param e Edge that represents the arc.
+     * @param recount If the degree counters will be recounted after the
+     *                insertion, so they aren't updated now.
+     * @return {@code true} if the arc was added, {@code false} if it was
+     * already on the graph.
+     */
+    private boolean addArc(V origin, E e, boolean recount) {
+        Set<E> edges = vertexes.get(origin);
+        if (edges == null) {
+            edges = new HashSet<>();
+            vertexes.put(origin, edges);
+            if (!recount) degreeStatistics.addVertex();
         }
+        if (!edges.add(e)) return false;
+        if (!recount) degreeStatistics.increaseDegree(edges.size() - 1, 1);
+        return true;
     }
 
+    /**
+     * Creates the edge that represents an arc.
+     *
+     * @param origin Origin vertex of the arc.
+     * @param target Target vertex of the arc.
+     * @param weight Weight of the arc, discarded if the graph is unweighted.
+     * @return Edge that represents the arc.
+     */
+    protected abstract E createEdge(V origin, V target, float weight);
+
     @Override
     public Set<V> getAllVertexes() {
         return vertexes.keySet();
     }
 
+    /**
+     * Returns all arcs of the graph, as an unmodifiable view of the edges of
+     * each vertex. No arc is copied or hashed again: the size is the arc
+     * counter and {@code contains} looks only at the edges of the origin.
+     *
+     * @return All arcs of the graph.
+     */
     @Override
     public Set<E> getAllEdges() {
-        return vertexes.values().stream()
-                .flatMap(Set::stream)
-                .collect(Collectors.toSet());
+        return new AbstractSet<E>() {
+            @Override
+            public Iterator<E> iterator() {
+                return vertexes.values().stream().flatMap(Set::stream).iterator();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public boolean contains(Object o) {
+                return o instanceof Edge && containsEdge((Edge<V>) o);
+            }
+
+            @Override
+            public int size() {
+                return getEdgeNumber();
+            }
+        };
+    }
+
+    /**
+     * Returns all undirected edges, each one once, from its lesser vertex to
+     * the greater one. Only the arcs that leave the lesser vertex are walked,
+     * so half of the arcs are hashed.
+     *
+     * @return Undirected edges of the graph.
+     */
+    public Set<E> getUndirectedEdges() {
+        Set<E> edges = new HashSet<>(getEdgeNumber() * 2 / 3 + 1);
+        for (Map.Entry<V, Set<E>> entry : vertexes.entrySet()) {
+            V origin = entry.getKey();
+            for (E e : entry.getValue()) {
+                if (origin.compareTo(e.getTargetVertex()) <= 0) edges.add(e);
+            }
+        }
+        return edges;
     }
 
     @Override
@@ -86,430 +226,275 @@ public abstract class BaseGraph<V extends Comparable<V>, E extends Edge<V>> impl
 
     @Override
     public int getEdgeNumber() {
-        return getAllEdges().size();
+        return degreeStatistics.getArcNumber();
     }
 
     @Override
     public float getMeanEdge() {
-        return getVertexNumber() > 0 ? ((getEdgeNumber()) / getVertexNumber()) : 0;
+        return degreeStatistics.getMeanDegree();
     }
 
     @Override
-    public String graphRepresentation(RepresentationType representationType) {
-        if (representationType == RepresentationType.ADJACENCY_MATRIX) {
-            return adjacencyMatrixRepresentation();
-        } else if (representationType == RepresentationType.ADJACENCY_LIST) {
-            return adjacencyListRepresentation();
-        } else {
-            return Utils.STRING_EMPTY;
-        }
+    public int getMinDegree() {
+        return degreeStatistics.getMinDegree();
     }
 
-    /**
-     * Returns the adjacency matrix representation.
-     */
-    private String adjacencyMatrixRepresentation() {
-        List<V> orderedVertexes = getOrderedVertexesList();
-        float adjacencyMatrix[][] = setUpAdjacencyMatrix(orderedVertexes);
-        return getAdjacencyMatrixString(orderedVertexes, adjacencyMatrix);
+    @Override
+    public int getMaxDegree() {
+        return degreeStatistics.getMaxDegree();
     }
 
-    /**
-     * Sets up a adjacency matrix based on the specified ordered vertexes.
-     *
-     * @param orderedVertexes Ordered vertexes that will have its connections
-     *                        represented in the matrix.
-     * @return Adjacency matrix with all connections between specified vertexes.
-     */
-    private float[][] setUpAdjacencyMatrix(List<V> orderedVertexes) {
-        int vertexesNumber = getVertexNumber();
-        float adjacencyMatrix[][] = new float[vertexesNumber][vertexesNumber];
-        for(int i = 0; i < vertexesNumber; i++) {
-            V currentVertex = orderedVertexes.get(i);
-            Set<E> connectedEdges = vertexes.get(currentVertex);
-            for (E edge : connectedEdges) {
-                V targetVertex = edge.getTargetVertex();
-                adjacencyMatrix[i][orderedVertexes.indexOf(targetVertex)] = getEdgeWeight(edge);
-            }
-        }
-        return adjacencyMatrix;
+    @Override
+    public int[] getDegreeHistogram() {
+        return degreeStatistics.getHistogram();
     }
 
-    /**
-     * Returns the string representation of specified adjacency matrix.
-     *
-     * @param orderedVertexes Ordered vertexes that are in the matrix.
-     * @param adjacencyMatrix Adjacency matrix to have its string representation
-     *                        returned.
-     * @return The string representation of specified adjacency matrix.
-     */
-    private String getAdjacencyMatrixString(List<V> orderedVertexes, float adjacencyMatrix[][]) {
-        int vertexesNumber = getVertexNumber();
-        StringBuilder matrixSB = new StringBuilder("  ");
-
-        for (int i = 0; i < vertexesNumber; i++) {
-            matrixSB.append(orderedVertexes.get(i));
-            boolean shouldAddSpace = vertexesNumber - i > 1;
-            if (shouldAddSpace) matrixSB.append(" ");
-        }
-        matrixSB.append(LINE_SEPARATOR);
-        for(int i = 0; i < vertexesNumber; i++) {
-            StringBuilder line = new StringBuilder(orderedVertexes.get(i) + " ");
-            for(int j = 0; j < vertexesNumber; j++) {
-                line.append(Utils.floatToString(adjacencyMatrix[i][j]));
-                boolean shouldAddSpace = vertexesNumber - j > 1;
-                if (shouldAddSpace) line.append(" ");
-            }
-            matrixSB.append(line).append(LINE_SEPARATOR);
-        }
-        return matrixSB.toString();
+    @Override
+    public String graphRepresentation(RepresentationType representationType) {
+        return getIndexedGraph().graphRepresentation(representationType);
     }
 
-    /**
-     * Returns the adjacency list representation.
-     */
-    private String adjacencyListRepresentation() {
-        List<V> orderedVertexes = getOrderedVertexesList();
-        StringBuilder list = new StringBuilder();
-
-        for (V v: orderedVertexes) {
-            String neighbors = vertexes.get(v).stream()
-                    .sorted(Comparator.comparing(Edge::getTargetVertex))
-                    .map(this::mapOperatorListRepresentation)
-                    .reduce((s1, s2) -> s1 + " " + s2).orElse(STRING_EMPTY);
-            list.append(v).append(" - ").append(neighbors).append(LINE_SEPARATOR);
-        }
-        return list.toString();
+    @Override
+    public void graphRepresentation(RepresentationType representationType, Appendable out)
+            throws IOException {
+        getIndexedGraph().graphRepresentation(representationType, out);
     }
 
-    /**
-     * Maps a edge to a string representation in adjacency list.
-     *
-     * @param e Edge to have its string representation returned.
-     * @return Edge string representation.
-     */
-    protected abstract String mapOperatorListRepresentation(E e);
+    @Override
+    public String BFS(V v) {
+        return getIndexedGraph().BFS(v);
+    }
 
-    /**
-     * Returns a ordered list with all vertexes.
-     */
-    private List<V> getOrderedVertexesList() {
-        List<V> orderedVertexes = new ArrayList<>(getAllVertexes());
-        Collections.sort(orderedVertexes);
-        return orderedVertexes;
+    @Override
+    public WalkResult<V> BFSResult(V v) {
+        return getIndexedGraph().BFSResult(v);
     }
 
     /**
-     * Returns the weight of the specified edge based on the subtype of
-     * {@link BaseGraph}.
+     * Returns a tree representation based on the Breadth-first Search (BFS)
+     * algorithm starting from the vertex specified, expanding each level of
+     * the search in parallel.
      *
-     * @param e Edge to have its weight returned.
-     * @return Weight of the specified edge.
+     * @param v The vertex to be the root of the returned tree.
+     * @return BFS of the graph.
      */
-    protected abstract float getEdgeWeight(E e);
-
-    @Override
-    public String BFS(V v) {
-    	Queue<V> queue = new LinkedList<>();
-        Set<V> visited = new HashSet<>();
-        Map<V, V> predecessors = new HashMap<>();
-    	Map<V, Integer> level = new HashMap<>();
-    	setUpWalkByGraph(v, visited, predecessors, level);
-    	queue.add(v);
-        BFSWalkByGraph(queue, visited, predecessors, level);
-        return setUpWalkByGraphString(visited, predecessors, level);
+    public String parallelBFS(V v) {
+        return getIndexedGraph().parallelBFS(v);
     }
 
     /**
-     * Walks by the graph in BFS.
+     * Returns the result of the Breadth-first Search (BFS) starting from the
+     * vertex specified, expanding each level of the search in parallel.
      *
-     * @param queue {@link Queue} of vertexes to be visited.
-     * @param visited {@link Set} of visited vertexes.
-     * @param predecessors {@link Map} that store the vertexes and their predecessors.
-     * @param level {@link Map} that store the vertexes and their level.
+     * @param v The vertex to be the root of the walk.
+     * @return Levels and predecessors of the BFS.
      */
-    private void BFSWalkByGraph(Queue<V> queue, Set<V> visited, Map<V, V> predecessors, Map<V, Integer> level) {
-        while(!queue.isEmpty()){
-            V currentVertex = queue.poll();
-            for(V adjacentVertex : getAdjacentVertexes(currentVertex)){
-                if(!visited.contains(adjacentVertex)){
-                    visited.add(adjacentVertex);
-                    predecessors.put(adjacentVertex, currentVertex);
-                    level.put(adjacentVertex, level.get(currentVertex) + 1);
-                    queue.add(adjacentVertex);
-                }
-            }
-        }
+    public WalkResult<V> parallelBFSResult(V v) {
+        return getIndexedGraph().parallelBFSResult(v);
     }
 
     @Override
     public String DFS(V v) {
-        Set<V> visited = new HashSet<>();
-        Map<V, V> predecessors = new HashMap<>();
-        Map<V, Integer> level = new HashMap<>();
-        setUpWalkByGraph(v, visited, predecessors, level);
-        DFSWalkByGraph(v, visited, predecessors, level);
-        return setUpWalkByGraphString(visited, predecessors, level);
+        return getIndexedGraph().DFS(v);
     }
 
-    /**
-     * Walks by the graph in DFS.
-     *
-     * @param currentVertex Current vertex to be process.
-     * @param visited List of visited vertexes.
-     * @param predecessors {@link Map} that store the vertexes and their predecessor.
-     * @param level {@link Map} that store the vertexes and their level.
-     */
-    private void DFSWalkByGraph(V currentVertex, Set<V> visited, Map<V, V> predecessors, Map<V, Integer> level){
-        visited.add(currentVertex);
-        for(V adjacentVertex : getAdjacentVertexes(currentVertex)){
-            if(!visited.contains(adjacentVertex)){
-                predecessors.put(adjacentVertex, currentVertex);
-                level.put(adjacentVertex, level.get(currentVertex) + 1);
-                DFSWalkByGraph(adjacentVertex, visited, predecessors, level);
-            }
-        }
+    @Override
+    public WalkResult<V> DFSResult(V v) {
+        return getIndexedGraph().DFSResult(v);
     }
 
-    /**
-     * Sets up the result string of the BFS algorithm.
-     *
-     * @param visited {@link Set} that store the vertexes and their status.
-     * @param predecessors {@link Map} that store the vertexes and their predecessors.
-     * @param level {@link Map} that store the vertexes and their level.
-     */
-    protected String setUpWalkByGraphString(Set<V> visited, Map<V,V> predecessors, Map<V,Integer> level) {
-        StringBuilder walkByGraphString = new StringBuilder();
-        List<V> visitedVertexes = new ArrayList<>(visited);
-
-        for(V vertex : visitedVertexes) {
-            V predecessor = predecessors.get(vertex);
-            walkByGraphString.append(vertex.toString()).append(" - ")
-                    .append(level.get(vertex).toString()).append(" ")
-                    .append(predecessor != null ? predecessor.toString() : "-")
-                    .append(LINE_SEPARATOR);
-        }
-
-        return walkByGraphString.toString();
+    @Override
+    public boolean connected() {
+        return getIndexedGraph().connected();
     }
 
     /**
-     * Sets up the configurations to walk by the graph.
-     *
-     * Actions:
-     * - Sets the root as a visited vertex;
-     * - Sets the predecessor of the root to null;
-     * - Sets the root level as 0.
+     * Returns the number of connected components of the graph.
      *
-     * @param root Vertex root of the graph.
-     * @param visited {@link Set} that store the visited vertexes.
-     * @param predecessors {@link Map} that store the vertexes and their predecessor.
-     * @param level {@link Map} that store the vertexes and their level.
+     * @return Number of connected components.
      */
-    protected void setUpWalkByGraph(V root, Set<V> visited, Map<V, V> predecessors, Map<V, Integer> level) {
-        visited.add(root);
-        predecessors.put(root, null);
-        level.put(root, 0);
+    public int getComponentNumber() {
+        return getIndexedGraph().getComponentNumber();
     }
 
     @Override
-    public boolean connected() {
-        if (getAllVertexes().isEmpty()) return true;
-        Set<V> visited = new HashSet<>();
-        Map<V, V> predecessors = new HashMap<>();
-        Map<V, Integer> level = new HashMap<>();
-        V v = vertexes.keySet().iterator().next();
-        setUpWalkByGraph(v, visited, predecessors, level);
-        DFSWalkByGraph(v, visited, predecessors, level);
-        return visited.equals(vertexes.keySet());
+    public String shortestPath(V v1, V v2) {
+        if (v1.equals(v2)) return v1.toString();
+        return getIndexedGraph().shortestPath(v1, v2);
     }
 
     @Override
-    public String shortestPath(V v1, V v2) {
-        if (v1.equals(v2)) return v1.toString();
-        if (containsNegativeWeightedEdge()) {
-            throw new RuntimeException("The shortest path cannot be found in a" +
-                    " graph with negative circle.");
-        }
-        Map<V, Float> distances = new HashMap<>();
-        Map<V, V> predecessors = new HashMap<>();
-        setUpShortestPath(v1, distances, predecessors);
-        Queue<V> priorityQueue = new PriorityQueue<>((o1, o2) ->
-                Float.compare(distances.get(o1), distances.get(o2)));
-        priorityQueue.addAll(getAllVertexes());
-
-        while (!priorityQueue.isEmpty()) {
-            V current = priorityQueue.poll();
-            if (current.equals(v2)) break;
-            for (E e: getEdgesOfVertex(current)) {
-                V adjacent = e.getTargetVertex();
-                relax(current, adjacent, e, distances, predecessors);
-            }
-        }
+    public PathResult<V> shortestPathResult(V v1, V v2) {
+        return getIndexedGraph().shortestPathResult(v1, v2);
+    }
 
-        return setUpShortestPathString(v1, v2, predecessors);
+    @Override
+    public ShortestPathTree<V> shortestPathTree(V source) {
+        return getIndexedGraph().shortestPathTree(source);
     }
 
     /**
-     * Returns if the current graph contains negative weighted edges. This base
-     * class, as a representation of a unweighted graph, trivially, do not contains.
-     * However, classes that extends {@link BaseGraph}, may do.
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the specified search. All searches find paths of
+     * the same total weight.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param strategy Search to be used.
+     * @return Shortest path between {@code v1} e {@code v2}.
      */
-    protected boolean containsNegativeWeightedEdge() {
-        return false;
+    public String shortestPath(V v1, V v2, PathStrategy strategy) {
+        if (v1.equals(v2)) return v1.toString();
+        return getIndexedGraph().shortestPath(v1, v2, strategy);
     }
 
     /**
-     * Sets up the configuration to run the shortest path algorithm.
+     * Returns the shortest path between the specified vertexes, found by the
+     * specified search, as {@link #shortestPath(Comparable, Comparable,
+     * PathStrategy)}.
      *
-     * Actions:
-     * - Sets distances to the path start of all vertexes as +Infinity;
-     * - Sets predecessors of all vertexes to {@code null};
-     * - Sets the distance of the path start to 0 (zero).
-     *
-     * @param pathStart Vertex that starts the path.
-     * @param distances {@link Map} that links a vertex to its distance to origin
-     *                             of the shortest path.
-     * @param predecessors {@link Map} that links a vertex to its predecessors.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param strategy Search to be used.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
      */
-    protected void setUpShortestPath(V pathStart, Map<V, Float> distances, Map<V, V> predecessors) {
-        for (V v: getAllVertexes()) {
-            distances.put(v, Float.POSITIVE_INFINITY);
-            predecessors.put(v, null);
-        }
-        distances.replace(pathStart, 0f);
+    public PathResult<V> shortestPathResult(V v1, V v2, PathStrategy strategy) {
+        return getIndexedGraph().shortestPathResult(v1, v2, strategy);
     }
 
     /**
-     * Sets up the shortest path between {@code pathStart} and {@code pathEnd}
-     * string representation.
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the A* search guided by the specified heuristic.
      *
-     * @param pathStart Vertex that starts the path.
-     * @param pathEnd Vertex that ends the path.
-     * @param predecessors {@link Map} that links a vertex to its predecessor.
-     * @return Shortest path string representation.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param heuristic Lower bound of the weight of the path between two
+     *                  vertexes.
+     * @return Shortest path between {@code v1} e {@code v2}.
      */
-    protected String setUpShortestPathString(V pathStart, V pathEnd, Map<V, V> predecessors) {
-        StringBuilder shortestPath = new StringBuilder(pathEnd.toString());
-        V predecessor = predecessors.get(pathEnd);
-        V lastAddedPredecessor = predecessor;
-        while(predecessor != null) {
-            StringBuilder currentSB = new StringBuilder(predecessor.toString());
-            shortestPath = currentSB.append(" ").append(shortestPath);
-            lastAddedPredecessor = predecessor;
-            predecessor = predecessors.get(predecessor);
-        }
-        if (lastAddedPredecessor == null || !lastAddedPredecessor.equals(pathStart)) {
-            throw new RuntimeException("There isn't a path between " + pathStart
-                    + " and " + pathEnd);
-        }
-        return shortestPath.toString();
+    public String shortestPath(V v1, V v2, Heuristic<V> heuristic) {
+        if (v1.equals(v2)) return v1.toString();
+        return getIndexedGraph().shortestPath(v1, v2, heuristic);
     }
 
     /**
-     * Relaxes the edge between vertexes {@code originVertex} and
-     * {@code targetVertex}. Only if the distance between
-     * {@code originVertex} and {@code targetVertex} is lesser than the
-     * distance already leaded to {@code targetVertex}.
+     * Returns the shortest path between the specified vertexes, found by the
+     * A* search, as {@link #shortestPath(Comparable, Comparable, Heuristic)}.
      *
-     * @param originVertex Origin vertex of the edge.
-     * @param targetVertex Target vertex of the edge.
-     * @param e Edge from {@code originVertex} to {@code targetVertex}.
-     * @param distances {@link Map} that links a vertex to its distance to origin
-     *                             of the shortest path.
-     * @param predecessors {@link Map} that links a vertex to its predecessor.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param heuristic Lower bound of the weight of the path between two
+     *                  vertexes.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
      */
-    protected void relax(V originVertex, V targetVertex, E e, Map<V, Float> distances,
-                         Map<V, V> predecessors) {
-        Float targetVertexDistance = distances.get(targetVertex),
-                originVertexDistance = distances.get(originVertex),
-                edgeWeight = getEdgeWeight(e);
-        if (targetVertexDistance > (originVertexDistance + edgeWeight)) {
-            predecessors.put(targetVertex, originVertex);
-            distances.replace(targetVertex, distances.get(originVertex) + edgeWeight);
-        }
+    public PathResult<V> shortestPathResult(V v1, V v2, Heuristic<V> heuristic) {
+        return getIndexedGraph().shortestPathResult(v1, v2, heuristic);
     }
 
     /**
-     * Determines whether the vertex is already grouped to a subset, using recursion,
-     * and if so verifies in the sub set of this vertex until finding
-     * a vertex of the non-associated subset.
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the ALT algorithm with the specified landmarks.
      *
-     * @param subEdges subset of the vertexes of the graph with its associations.
-     * @param vertex vertex to be checked in the subset
-     * @return associated vertex
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param landmarks Landmarks computed for the current indexed view.
+     * @throws RuntimeException If the landmarks weren't computed for the
+     * current indexed view, as the graph changed since they were.
+     * @return Shortest path between {@code v1} e {@code v2}.
      */
-    private V find(Map<V,V> subEdges, V vertex) {
-        if(subEdges.get(vertex) == null) {
-            return vertex;
-        }
-        return this.find(subEdges, subEdges.get(vertex));
+    public String shortestPath(V v1, V v2, Landmarks<V> landmarks) {
+        if (v1.equals(v2)) return v1.toString();
+        return getIndexedGraph().shortestPath(v1, v2, landmarks);
     }
 
     /**
-     * Combines two vertexes, creating a subset, which is the relationship between those vertices.
+     * Returns the shortest path between the specified vertexes, found by the
+     * ALT algorithm, as {@link #shortestPath(Comparable, Comparable,
+     * Landmarks)}.
      *
-     * @param subEdges subset of the vertexes of the graph with its associations.
-     * @param originVertex The origin vertex of the edge.
-     * @param targetVertex The target vertex of the edge.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param landmarks Landmarks computed for the current indexed view.
+     * @throws RuntimeException If the landmarks weren't computed for the
+     * current indexed view, as the graph changed since they were.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
      */
-    private void union(Map<V,V> subEdges, V originVertex, V targetVertex) {
-        V originVertexPut = this.find(subEdges, originVertex);
-        V targetVertexPut = this.find(subEdges, targetVertex);
-        subEdges.put(originVertexPut, targetVertexPut);
+    public PathResult<V> shortestPathResult(V v1, V v2, Landmarks<V> landmarks) {
+        return getIndexedGraph().shortestPathResult(v1, v2, landmarks);
     }
 
     /**
-     * Gets list of MST's edges.
+     * Returns an indexed view of the graph, on which the algorithms that need
+     * positional access to the vertexes and arcs are run. The view is built
+     * on the first call after the graph changes and reused until the next
+     * change.
      *
-     * @param subEdges subset of the vertexes of the graph with its associations.
-     * @return List of MST's edges.
+     * @return Indexed view of the graph.
      */
-    public List<E> getEdgesMST(Map<V,V> subEdges) {
-        List<E> edgesMst = new ArrayList<>();
-        List<E> listEdges = new ArrayList<>(this.getAllEdges());
-        Collections.sort(listEdges);
-        for(int i=0; i < listEdges.size(); i++) {
-            E egdeOperation = listEdges.get(i);
-            V originVertex = this.find(subEdges, egdeOperation.getOriginVertex());
-            V targetVertex = this.find(subEdges, egdeOperation.getTargetVertex());
-            if(!originVertex.equals(targetVertex)) {
-                edgesMst.add(egdeOperation);
-                this.union(subEdges, originVertex, targetVertex);
-            }
+    public BaseIndexedGraph<V, E> getIndexedGraph() {
+        if (indexedGraph == null) {
+            indexedGraph = createIndexedGraph();
         }
-        return edgesMst;
+        return indexedGraph;
     }
 
     /**
-     * Generates the string representing minimal spanning tree.
+     * Creates an indexed copy of the current vertexes and edges of the graph.
      *
-     * @param edgesMst List of MST's edges.
-     * @return minimal spanning tree(MST) in string representation.
+     * @return Indexed copy of the graph.
      */
-    private String MSTRepresentation(List<E> edgesMst) {
-        StringBuilder representation = new StringBuilder();
-        for(int i=0; i < edgesMst.size(); i++) {
-            representation.append(edgesMst.get(i).toString()).append(LINE_SEPARATOR);
-        }
-        return representation.toString();
+    protected abstract BaseIndexedGraph<V, E> createIndexedGraph();
+
+    /**
+     * Discards the cached indexed view of the graph. Must be called whenever
+     * a vertex or an edge is added.
+     */
+    protected void invalidateIndexedGraph() {
+        indexedGraph = null;
     }
 
     /**
-     * Identifies the minimal spanning tree (MST) of the graph.
-     *
-     * @return Minimal spanning tree (MST) in string representation
+     * Returns if the current graph contains negative weighted edges. This base
+     * class, as a representation of a unweighted graph, trivially, do not contains.
+     * However, classes that extends {@link BaseGraph}, may do.
      */
+    protected boolean containsNegativeWeightedEdge() {
+        return false;
+    }
+
     @Override
     public String MST() {
-        Iterator<V> vertexIterator = this.getAllVertexes().iterator();
-        Map<V,V> subEdges = new HashMap<>();
-        while(vertexIterator.hasNext()) {
-            subEdges.put(vertexIterator.next(), null);
-        }
-        List<E> edgesMst =  getEdgesMST(subEdges);
+        return getIndexedGraph().MST();
+    }
+
+    /**
+     * Identifies the minimal spanning tree (MST) of the graph with the
+     * specified algorithm. All algorithms return the same tree.
+     *
+     * @param strategy Algorithm to be used.
+     * @return Minimal spanning tree (MST) in string representation.
+     */
+    public String MST(MSTStrategy strategy) {
+        return getIndexedGraph().MST(strategy);
+    }
 
-        return this.MSTRepresentation(edgesMst);
+    @Override
+    public MSTResult<V, E> MSTResult() {
+        return getIndexedGraph().MSTResult();
+    }
+
+    /**
+     * Identifies the minimal spanning tree (MST) of the graph with the
+     * specified algorithm, as {@link #MST(MSTStrategy)}.
+     *
+     * @param strategy Algorithm to be used.
+     * @return Edges and total weight of the minimal spanning tree (MST).
+     */
+    public MSTResult<V, E> MSTResult(MSTStrategy strategy) {
+        return getIndexedGraph().MSTResult(strategy);
     }
 
     @Override
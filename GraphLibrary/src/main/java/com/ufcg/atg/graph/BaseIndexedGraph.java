@@ -0,0 +1,780 @@
+package com.ufcg.atg.graph;
+
+import com.ufcg.atg.algorithm.AStar;
+import com.ufcg.atg.algorithm.BellmanFord;
+import com.ufcg.atg.algorithm.BidirectionalBreadthFirstSearch;
+import com.ufcg.atg.algorithm.BidirectionalDijkstra;
+import com.ufcg.atg.algorithm.Boruvka;
+import com.ufcg.atg.algorithm.BreadthFirstSearch;
+import com.ufcg.atg.algorithm.DepthFirstSearch;
+import com.ufcg.atg.algorithm.Dijkstra;
+import com.ufcg.atg.algorithm.Kruskal;
+import com.ufcg.atg.algorithm.ParallelBreadthFirstSearch;
+import com.ufcg.atg.util.SearchWorkspace;
+import com.ufcg.atg.util.Utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.IntUnaryOperator;
+
+import static com.ufcg.atg.util.Utils.LINE_SEPARATOR;
+
+/**
+ * Represents a skeletal implementation of a graph, based on the interface
+ * defined by {@link IGraph}, whose vertexes and arcs are stored by index, as
+ * defined by {@link IIndexedGraph}. All algorithms walk by the indexes, so
+ * the boxed vertexes and edges are only created to be returned.
+ *
+ * @param <V> Type of the vertex.
+ * @param <E> Type of the edge.
+ */
+public abstract class BaseIndexedGraph<V extends Comparable<V>, E extends Edge<V>>
+        implements IGraph<V, E>, IIndexedGraph<V> {
+
+    private long modificationNumber;
+
+    /**
+     * Creates the edge that represents an arc.
+     *
+     * @param origin Origin vertex of the arc.
+     * @param target Target vertex of the arc.
+     * @param weight Weight of the arc.
+     * @return Edge that represents the arc.
+     */
+    protected abstract E createEdge(V origin, V target, float weight);
+
+    /**
+     * Maps an arc to a string representation in adjacency list.
+     *
+     * @param index Index of the origin vertex of the arc.
+     * @param position Position of the arc among the origin vertex's arcs.
+     * @return Arc string representation.
+     */
+    protected abstract String mapOperatorListRepresentation(int index, int position);
+
+    /**
+     * Returns the number of changes made to the graph, so what is computed
+     * from it can tell if the graph changed since.
+     *
+     * @return Number of changes of the graph.
+     */
+    public long getModificationNumber() {
+        return modificationNumber;
+    }
+
+    /**
+     * Counts a change made to the graph.
+     */
+    protected void countModification() {
+        modificationNumber++;
+    }
+
+    /**
+     * Returns a fingerprint of the vertexes, arcs and weights of the graph,
+     * which doesn't depend on the indexes, so equal graphs have the same
+     * fingerprint, whatever their representation. The vertexes are taken by
+     * their hash codes, in their natural order, and the arcs of each vertex
+     * by the hash codes of their targets and by their weights, in any order.
+     *
+     * @param order Indexes sorted by the natural order of their vertexes, as
+     *              returned by {@link #getOrderedIndexes()}.
+     * @return Fingerprint of the graph.
+     */
+    long getFingerprint(int[] order) {
+        long fingerprint = mix(order.length);
+        for (int index : order) {
+            long row = 0;
+            int degree = getDegree(index);
+            for (int position = 0; position < degree; position++) {
+                row += mix(((long) getVertex(getAdjacentIndex(index, position)).hashCode() << 32)
+                        | (Float.floatToIntBits(getWeight(index, position)) & 0xFFFFFFFFL));
+            }
+            fingerprint = mix(mix(fingerprint + getVertex(index).hashCode()) + row);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Mixes the bits of a long, as the SplitMix64 generator does.
+     *
+     * @param z Long to be mixed.
+     * @return Mixed long.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the positions of the arcs of a vertex sorted by their targets.
+     *
+     * @param index Index of the vertex.
+     * @param ranks Position of each index in the sorted indexes.
+     * @return Sorted positions.
+     */
+    private int[] getOrderedPositions(int index, int[] ranks) {
+        int degree = getDegree(index);
+        long[] byTarget = new long[degree];
+        for (int position = 0; position < degree; position++) {
+            byTarget[position] = ((long) ranks[getAdjacentIndex(index, position)] << 32) | position;
+        }
+        Arrays.sort(byTarget);
+        int[] positions = new int[degree];
+        for (int i = 0; i < degree; i++) {
+            positions[i] = (int) byTarget[i];
+        }
+        return positions;
+    }
+
+    @Override
+    public Set<V> getAllVertexes() {
+        return new AbstractSet<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new Iterator<V>() {
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < getVertexNumber();
+                    }
+
+                    @Override
+                    public V next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        return getVertex(index++);
+                    }
+                };
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public boolean contains(Object o) {
+                return o instanceof Comparable && containsVertex((V) o);
+            }
+
+            @Override
+            public int size() {
+                return getVertexNumber();
+            }
+        };
+    }
+
+    @Override
+    public Set<E> getAllEdges() {
+        Set<E> edges = new HashSet<>();
+        for (int i = 0; i < getVertexNumber(); i++) {
+            addEdgesOfVertex(i, edges);
+        }
+        return edges;
+    }
+
+    @Override
+    public Set<E> getEdgesOfVertex(V v) {
+        int index = indexOf(v);
+        if (index == -1) return null;
+        Set<E> edges = new HashSet<>();
+        addEdgesOfVertex(index, edges);
+        return edges;
+    }
+
+    /**
+     * Adds the edges of the vertex of the specified index to a set.
+     *
+     * @param index Index of the vertex.
+     * @param edges Set to receive the edges.
+     */
+    private void addEdgesOfVertex(int index, Set<E> edges) {
+        V origin = getVertex(index);
+        for (int position = 0; position < getDegree(index); position++) {
+            edges.add(createEdge(origin, getVertex(getAdjacentIndex(index, position)),
+                    getWeight(index, position)));
+        }
+    }
+
+    @Override
+    public Set<V> getAdjacentVertexes(V v) {
+        int index = indexOf(v);
+        if (index == -1) return null;
+        Set<V> adjacentVertexes = new HashSet<>();
+        for (int position = 0; position < getDegree(index); position++) {
+            adjacentVertexes.add(getVertex(getAdjacentIndex(index, position)));
+        }
+        return adjacentVertexes;
+    }
+
+    @Override
+    public boolean containsVertex(V v) {
+        return indexOf(v) != -1;
+    }
+
+    @Override
+    public boolean containsEdge(Edge<V> e) {
+        int origin = indexOf(e.getOriginVertex());
+        int target = indexOf(e.getTargetVertex());
+        if (origin == -1 || target == -1) return false;
+        for (int position = 0; position < getDegree(origin); position++) {
+            if (getAdjacentIndex(origin, position) == target && createEdge(getVertex(origin),
+                    getVertex(target), getWeight(origin, position)).equals(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getEdgeNumber() {
+        return getDegreeStatistics().getArcNumber();
+    }
+
+    @Override
+    public float getMeanEdge() {
+        return getDegreeStatistics().getMeanDegree();
+    }
+
+    @Override
+    public int getMinDegree() {
+        return getDegreeStatistics().getMinDegree();
+    }
+
+    @Override
+    public int getMaxDegree() {
+        return getDegreeStatistics().getMaxDegree();
+    }
+
+    @Override
+    public int[] getDegreeHistogram() {
+        return getDegreeStatistics().getHistogram();
+    }
+
+    /**
+     * Returns the degree counters of the graph. This implementation counts
+     * the degrees of all vertexes on each call; graphs that keep the
+     * counters up to date should return them instead.
+     *
+     * @return Degree counters of the graph.
+     */
+    protected DegreeStatistics getDegreeStatistics() {
+        return new DegreeStatistics(this);
+    }
+
+    @Override
+    public String graphRepresentation(RepresentationType representationType) {
+        StringBuilder representation = new StringBuilder();
+        try {
+            graphRepresentation(representationType, representation);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return representation.toString();
+    }
+
+    @Override
+    public void graphRepresentation(RepresentationType representationType, Appendable out)
+            throws IOException {
+        if (representationType == RepresentationType.ADJACENCY_MATRIX) {
+            appendAdjacencyMatrix(out);
+        } else if (representationType == RepresentationType.ADJACENCY_LIST) {
+            appendAdjacencyList(out);
+        }
+    }
+
+    /**
+     * Appends the adjacency matrix representation, one row at a time. A
+     * single row is kept in memory, and only the cells filled by the arcs of
+     * a vertex are cleared before the next row.
+     *
+     * @param out Where the representation is appended.
+     * @throws IOException If the representation cannot be appended.
+     */
+    private void appendAdjacencyMatrix(Appendable out) throws IOException {
+        int vertexNumber = getVertexNumber();
+        int[] order = getOrderedIndexes();
+        out.append("  ");
+        for (int i = 0; i < vertexNumber; i++) {
+            out.append(getVertex(order[i]).toString());
+            if (vertexNumber - i > 1) out.append(' ');
+        }
+        out.append(LINE_SEPARATOR);
+        float[] row = new float[vertexNumber];
+        for (int index : order) {
+            int degree = getDegree(index);
+            for (int position = 0; position < degree; position++) {
+                row[getAdjacentIndex(index, position)] = getWeight(index, position);
+            }
+            out.append(getVertex(index).toString()).append(' ');
+            for (int j = 0; j < vertexNumber; j++) {
+                out.append(Utils.floatToString(row[order[j]]));
+                if (vertexNumber - j > 1) out.append(' ');
+            }
+            out.append(LINE_SEPARATOR);
+            for (int position = 0; position < degree; position++) {
+                row[getAdjacentIndex(index, position)] = 0f;
+            }
+        }
+    }
+
+    /**
+     * Appends the adjacency list representation, one vertex at a time.
+     *
+     * @param out Where the representation is appended.
+     * @throws IOException If the representation cannot be appended.
+     */
+    private void appendAdjacencyList(Appendable out) throws IOException {
+        int[] order = getOrderedIndexes();
+        int[] ranks = new int[order.length];
+        for (int rank = 0; rank < order.length; rank++) {
+            ranks[order[rank]] = rank;
+        }
+        for (int index : order) {
+            out.append(getVertex(index).toString()).append(" - ");
+            int[] positions = getOrderedPositions(index, ranks);
+            for (int i = 0; i < positions.length; i++) {
+                out.append(mapOperatorListRepresentation(index, positions[i]));
+                if (i < positions.length - 1) out.append(' ');
+            }
+            out.append(LINE_SEPARATOR);
+        }
+    }
+
+    @Override
+    public String BFS(V v) {
+        return BFSResult(v).toString();
+    }
+
+    @Override
+    public WalkResult<V> BFSResult(V v) {
+        int[] levels = new int[getVertexNumber()];
+        int[] predecessors = new int[getVertexNumber()];
+        int root = indexOf(v);
+        int visitedNumber = BreadthFirstSearch.walk(this, root, levels, predecessors);
+        return new WalkResult<>(this, root, levels, predecessors, visitedNumber);
+    }
+
+    /**
+     * Returns a tree representation based on the Breadth-first Search (BFS)
+     * algorithm starting from the vertex specified, expanding each level of
+     * the search in parallel. The levels are the same of {@link #BFS(Comparable)},
+     * and the predecessor of each vertex is its lesser neighbor on the
+     * previous level.
+     *
+     * @param v The vertex to be the root of the returned tree.
+     * @return BFS of the graph.
+     */
+    public String parallelBFS(V v) {
+        return parallelBFSResult(v).toString();
+    }
+
+    /**
+     * Returns the result of the Breadth-first Search (BFS) starting from the
+     * vertex specified, expanding each level of the search in parallel, as
+     * {@link #parallelBFS(Comparable)}.
+     *
+     * @param v The vertex to be the root of the walk.
+     * @return Levels and predecessors of the BFS.
+     */
+    public WalkResult<V> parallelBFSResult(V v) {
+        int[] levels = new int[getVertexNumber()];
+        int[] predecessors = new int[getVertexNumber()];
+        int root = indexOf(v);
+        int visitedNumber = ParallelBreadthFirstSearch.walk(this, root, levels, predecessors);
+        return new WalkResult<>(this, root, levels, predecessors, visitedNumber);
+    }
+
+    @Override
+    public String DFS(V v) {
+        return DFSResult(v).toString();
+    }
+
+    @Override
+    public WalkResult<V> DFSResult(V v) {
+        int[] levels = new int[getVertexNumber()];
+        int[] predecessors = new int[getVertexNumber()];
+        int root = indexOf(v);
+        int visitedNumber = DepthFirstSearch.walk(this, root, levels, predecessors);
+        return new WalkResult<>(this, root, levels, predecessors, visitedNumber);
+    }
+
+    @Override
+    public boolean connected() {
+        return getComponentNumber() <= 1;
+    }
+
+    /**
+     * Returns the number of connected components of the graph. The arcs are
+     * joined in a {@link DisjointSet}, which stops as soon as a single
+     * component is left.
+     *
+     * @return Number of connected components.
+     */
+    public int getComponentNumber() {
+        return new DisjointSet(this).getSetNumber();
+    }
+
+    @Override
+    public String shortestPath(V v1, V v2) {
+        return shortestPath(v1, v2, PathStrategy.UNIDIRECTIONAL);
+    }
+
+    /**
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the specified search. All searches find paths of
+     * the same total weight.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param strategy Search to be used.
+     * @throws NegativeCycleException If there is a negative cycle reachable
+     * from {@code v1}.
+     * @return Shortest path between {@code v1} e {@code v2}.
+     */
+    public String shortestPath(V v1, V v2, PathStrategy strategy) {
+        if (v1.equals(v2)) return v1.toString();
+        PathResult<V> path = shortestPathResult(v1, v2, strategy);
+        if (path.isEmpty()) {
+            throw new RuntimeException("There isn't a path between " + v1
+                    + " and " + v2);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by
+     * Dijkstra's algorithm if all weights are non-negative, or by the
+     * Bellman-Ford algorithm otherwise.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @throws NegativeCycleException If there is a negative cycle reachable
+     * from {@code v1}.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    @Override
+    public PathResult<V> shortestPathResult(V v1, V v2) {
+        return shortestPathResult(v1, v2, PathStrategy.UNIDIRECTIONAL);
+    }
+
+    /**
+     * Returns the shortest paths from the specified vertex to all vertexes,
+     * found by Dijkstra's algorithm or, if there are negative weights, by
+     * the Bellman-Ford algorithm.
+     *
+     * @param source Origin vertex of the paths.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @throws NegativeCycleException If there is a negative cycle reachable
+     * from {@code source}.
+     * @return Distances and predecessors of all vertexes.
+     */
+    @Override
+    public ShortestPathTree<V> shortestPathTree(V source) {
+        int root = indexOf(source);
+        if (root == -1) {
+            throw new RuntimeException("The graph doesn't contains the specified vertex.");
+        }
+        if (containsNegativeWeightedEdge()) {
+            return new ShortestPathTree<>(this, root, searchWithNegativeWeights(root));
+        }
+        SearchWorkspace workspace = SearchWorkspace.forThread(getVertexNumber());
+        Dijkstra.search(this, root, -1, workspace);
+        return new ShortestPathTree<>(this, root, workspace);
+    }
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by the
+     * specified search, as {@link #shortestPath(Comparable, Comparable,
+     * PathStrategy)}.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param strategy Search to be used.
+     * @throws NegativeCycleException If there is a negative cycle reachable
+     * from {@code v1}.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    public PathResult<V> shortestPathResult(V v1, V v2, PathStrategy strategy) {
+        int pathStart = indexOf(v1), pathEnd = indexOf(v2);
+        if (pathStart == -1 || pathEnd == -1) {
+            return new PathResult<>(this, new int[0], Float.POSITIVE_INFINITY);
+        }
+        if (strategy == PathStrategy.BIDIRECTIONAL && !containsNegativeWeightedEdge()) {
+            return searchPathBidirectionally(pathStart, pathEnd);
+        }
+        return searchPath(pathStart, pathEnd);
+    }
+
+    /**
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the A* search guided by the specified heuristic.
+     * Graphs with negative weights are searched by the Bellman-Ford
+     * algorithm, as there is no useful lower bound for them.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param heuristic Lower bound of the weight of the path between two
+     *                  vertexes.
+     * @throws NegativeCycleException If there is a negative cycle reachable
+     * from {@code v1}.
+     * @return Shortest path between {@code v1} e {@code v2}.
+     */
+    public String shortestPath(V v1, V v2, Heuristic<V> heuristic) {
+        if (v1.equals(v2)) return v1.toString();
+        PathResult<V> path = shortestPathResult(v1, v2, heuristic);
+        if (path.isEmpty()) {
+            throw new RuntimeException("There isn't a path between " + v1
+                    + " and " + v2);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by the
+     * A* search, as {@link #shortestPath(Comparable, Comparable, Heuristic)}.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param heuristic Lower bound of the weight of the path between two
+     *                  vertexes.
+     * @throws NegativeCycleException If there is a negative cycle reachable
+     * from {@code v1}.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    public PathResult<V> shortestPathResult(V v1, V v2, Heuristic<V> heuristic) {
+        int pathStart = indexOf(v1), pathEnd = indexOf(v2);
+        if (pathStart == -1 || pathEnd == -1) {
+            return new PathResult<>(this, new int[0], Float.POSITIVE_INFINITY);
+        }
+        if (containsNegativeWeightedEdge()) return searchPath(pathStart, pathEnd);
+        SearchWorkspace workspace = SearchWorkspace.forThread(getVertexNumber());
+        AStar.search(this, pathStart, pathEnd, index -> heuristic.estimate(getVertex(index), v2), workspace);
+        return pathOf(pathStart, pathEnd, workspace.getDistance(pathEnd), workspace::getPredecessor);
+    }
+
+    /**
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the ALT algorithm: the A* search guided by the
+     * lower bounds given by the specified landmarks.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param landmarks Landmarks computed for this graph.
+     * @throws RuntimeException If the landmarks weren't computed for this
+     * graph as it is.
+     * @return Shortest path between {@code v1} e {@code v2}.
+     */
+    public String shortestPath(V v1, V v2, Landmarks<V> landmarks) {
+        if (v1.equals(v2)) return v1.toString();
+        PathResult<V> path = shortestPathResult(v1, v2, landmarks);
+        if (path.isEmpty()) {
+            throw new RuntimeException("There isn't a path between " + v1
+                    + " and " + v2);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by the
+     * ALT algorithm, as {@link #shortestPath(Comparable, Comparable,
+     * Landmarks)}.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param landmarks Landmarks computed for this graph.
+     * @throws RuntimeException If the landmarks weren't computed for this
+     * graph as it is.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    public PathResult<V> shortestPathResult(V v1, V v2, Landmarks<V> landmarks) {
+        if (!landmarks.isComputedFor(this)) {
+            throw new RuntimeException("The landmarks weren't computed for the current graph.");
+        }
+        int pathStart = indexOf(v1), pathEnd = indexOf(v2);
+        if (pathStart == -1 || pathEnd == -1) {
+            return new PathResult<>(this, new int[0], Float.POSITIVE_INFINITY);
+        }
+        SearchWorkspace workspace = SearchWorkspace.forThread(getVertexNumber());
+        AStar.search(this, pathStart, pathEnd, index -> landmarks.lowerBound(index, pathEnd), workspace);
+        return pathOf(pathStart, pathEnd, workspace.getDistance(pathEnd), workspace::getPredecessor);
+    }
+
+    /**
+     * Returns the indexes of the vertexes in the shortest path between the
+     * specified indexes.
+     *
+     * @param pathStart Index of the vertex that starts the path.
+     * @param pathEnd Index of the vertex that ends the path.
+     * @return Indexes of the path, or an empty array if there isn't a path.
+     */
+    protected int[] shortestPathIndexes(int pathStart, int pathEnd) {
+        return searchPath(pathStart, pathEnd).indexes;
+    }
+
+    /**
+     * Searches the shortest path between the specified indexes with
+     * Dijkstra's algorithm, or with the Bellman-Ford algorithm if there are
+     * negative weights.
+     *
+     * @param pathStart Index of the vertex that starts the path.
+     * @param pathEnd Index of the vertex that ends the path.
+     * @throws NegativeCycleException If there is a negative cycle reachable
+     * from the start.
+     * @return Shortest path, which is empty if there isn't a path.
+     */
+    private PathResult<V> searchPath(int pathStart, int pathEnd) {
+        if (containsNegativeWeightedEdge()) {
+            BellmanFord search = searchWithNegativeWeights(pathStart);
+            return new PathResult<>(this, search.getPath(pathEnd), search.getDistance(pathEnd));
+        }
+        SearchWorkspace workspace = SearchWorkspace.forThread(getVertexNumber());
+        Dijkstra.search(this, pathStart, pathEnd, workspace);
+        return pathOf(pathStart, pathEnd, workspace.getDistance(pathEnd), workspace::getPredecessor);
+    }
+
+    /**
+     * Returns the path to the specified index given by the predecessors of a
+     * search from the start.
+     *
+     * @param pathStart Index of the vertex that starts the path.
+     * @param pathEnd Index of the vertex that ends the path.
+     * @param distance Distance of the end to the start.
+     * @param predecessors Predecessor of each vertex.
+     * @return Path to the end, which is empty if it wasn't reached.
+     */
+    private PathResult<V> pathOf(int pathStart, int pathEnd, float distance, IntUnaryOperator predecessors) {
+        if (pathStart != pathEnd && predecessors.applyAsInt(pathEnd) == -1) {
+            return new PathResult<>(this, new int[0], Float.POSITIVE_INFINITY);
+        }
+        int pathLength = 0;
+        for (int i = pathEnd; i != -1; i = predecessors.applyAsInt(i)) {
+            pathLength++;
+        }
+        int[] path = new int[pathLength];
+        for (int i = pathEnd; i != -1; i = predecessors.applyAsInt(i)) {
+            path[--pathLength] = i;
+        }
+        return new PathResult<>(this, path, distance);
+    }
+
+    /**
+     * Finds the shortest paths from the specified source with the
+     * Bellman-Ford algorithm.
+     *
+     * @param source Index of the vertex that starts the paths.
+     * @throws NegativeCycleException If there is a negative cycle reachable
+     * from the source.
+     * @return Shortest paths from the source.
+     */
+    BellmanFord searchWithNegativeWeights(int source) {
+        BellmanFord search = BellmanFord.search(this, source);
+        int[] negativeCycle = search.getNegativeCycle();
+        if (negativeCycle != null) {
+            List<V> cycle = new ArrayList<>();
+            for (int index : negativeCycle) {
+                cycle.add(getVertex(index));
+            }
+            throw new NegativeCycleException(cycle);
+        }
+        return search;
+    }
+
+    /**
+     * Searches the shortest path between the specified indexes from both
+     * ends, with the bidirectional Dijkstra's algorithm if the graph is
+     * weighted, or with the bidirectional BFS otherwise. The weights must be
+     * non-negative.
+     *
+     * @param pathStart Index of the vertex that starts the path.
+     * @param pathEnd Index of the vertex that ends the path.
+     * @return Shortest path, which is empty if there isn't a path.
+     */
+    private PathResult<V> searchPathBidirectionally(int pathStart, int pathEnd) {
+        SearchWorkspace forward = SearchWorkspace.forThread(getVertexNumber());
+        SearchWorkspace backward = SearchWorkspace.backwardForThread(getVertexNumber());
+        int meeting = isWeighted()
+                ? BidirectionalDijkstra.search(this, pathStart, pathEnd, forward, backward)
+                : BidirectionalBreadthFirstSearch.search(this, pathStart, pathEnd, forward, backward);
+        if (meeting == -1) {
+            return new PathResult<>(this, new int[0], Float.POSITIVE_INFINITY);
+        }
+        float totalWeight = forward.getDistance(meeting) + backward.getDistance(meeting);
+        int forwardLength = 0, backwardLength = 0;
+        for (int i = meeting; i != -1; i = forward.getPredecessor(i)) {
+            forwardLength++;
+        }
+        for (int i = backward.getPredecessor(meeting); i != -1; i = backward.getPredecessor(i)) {
+            backwardLength++;
+        }
+        int[] path = new int[forwardLength + backwardLength];
+        int position = forwardLength;
+        for (int i = meeting; i != -1; i = forward.getPredecessor(i)) {
+            path[--position] = i;
+        }
+        position = forwardLength;
+        for (int i = backward.getPredecessor(meeting); i != -1; i = backward.getPredecessor(i)) {
+            path[position++] = i;
+        }
+        return new PathResult<>(this, path, totalWeight);
+    }
+
+    /**
+     * Returns if the arcs of the graph have their own weights. If not, all
+     * arcs have weight one (1).
+     *
+     * @return {@code true} if the graph is weighted, {@code false} otherwise.
+     */
+    protected boolean isWeighted() {
+        return this instanceof IWeightedGraph;
+    }
+
+    /**
+     * Returns if the current graph contains negative weighted arcs.
+     */
+    protected boolean containsNegativeWeightedEdge() {
+        for (int i = 0; i < getVertexNumber(); i++) {
+            for (int position = 0; position < getDegree(i); position++) {
+                if (getWeight(i, position) < 0) return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String MST() {
+        return MSTResult().toString();
+    }
+
+    /**
+     * Identifies the minimal spanning tree (MST) of the graph with the
+     * specified algorithm. All algorithms return the same tree.
+     *
+     * @param strategy Algorithm to be used.
+     * @return Minimal spanning tree (MST) in string representation.
+     */
+    public String MST(MSTStrategy strategy) {
+        return MSTResult(strategy).toString();
+    }
+
+    @Override
+    public MSTResult<V, E> MSTResult() {
+        return MSTResult(MSTStrategy.KRUSKAL);
+    }
+
+    /**
+     * Identifies the minimal spanning tree (MST) of the graph with the
+     * specified algorithm, as {@link #MST(MSTStrategy)}.
+     *
+     * @param strategy Algorithm to be used.
+     * @return Edges and total weight of the minimal spanning tree (MST).
+     */
+    public MSTResult<V, E> MSTResult(MSTStrategy strategy) {
+        long[] forest = strategy == MSTStrategy.BORUVKA
+                ? Boruvka.spanningForest(this) : Kruskal.spanningForest(this);
+        return new MSTResult<>(this, forest);
+    }
+
+}
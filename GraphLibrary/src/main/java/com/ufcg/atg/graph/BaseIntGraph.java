@@ -0,0 +1,389 @@
+package com.ufcg.atg.graph;
+
+import com.ufcg.atg.algorithm.BreadthFirstSearch;
+import com.ufcg.atg.algorithm.DepthFirstSearch;
+import com.ufcg.atg.util.IntIndexMap;
+
+import java.util.Arrays;
+
+/**
+ * Represents a skeletal implementation of a graph whose vertexes are
+ * primitive ints, based on the interfaces defined by {@link IGraph} and
+ * {@link IIndexedGraph}.
+ *
+ * The vertexes are indexed in the order they were added, through an
+ * {@link IntIndexMap}, and the arcs of each index are kept in a growable int
+ * array, so neither vertexes nor edges are boxed to be stored. Besides the
+ * {@link IGraph} methods, it offers int versions of the insertions and of the
+ * walks by the graph.
+ *
+ * @param <E> Type of the edge.
+ */
+public abstract class BaseIntGraph<E extends Edge<Integer>> extends BaseIndexedGraph<Integer, E> {
+
+    private static final int[] NO_ARCS = new int[0];
+
+    private static final float[] NO_WEIGHTS = new float[0];
+
+    protected final IntIndexMap indexes;
+
+    protected int[] vertexes;
+
+    protected int vertexNumber;
+
+    protected int[][] adjacency;
+
+    protected float[][] weights;
+
+    protected int[] degrees;
+
+    protected final DegreeStatistics degreeStatistics;
+
+    private boolean negativeWeighted;
+
+    /**
+     * Constructs a {@link BaseIntGraph}.
+     *
+     * @param weighted If the weights of the arcs should be stored. If not, all
+     *                 arcs will have weight one (1).
+     */
+    protected BaseIntGraph(boolean weighted) {
+        indexes = new IntIndexMap();
+        vertexes = new int[16];
+        adjacency = new int[16][];
+        weights = weighted ? new float[16][] : null;
+        degrees = new int[16];
+        degreeStatistics = new DegreeStatistics();
+    }
+
+    /**
+     * Adds a vertex to the graph, if it isn't already on the graph.
+     *
+     * @param v Vertex to be added.
+     */
+    public void addVertex(int v) {
+        addIfAbsent(v);
+    }
+
+    @Override
+    public void addVertex(Integer v) {
+        addIfAbsent(v);
+    }
+
+    /**
+     * Adds a vertex if isn't already on the graph.
+     *
+     * @param v Vertex to be added.
+     * @return Index of the vertex.
+     */
+    protected int addIfAbsent(int v) {
+        int index = indexes.get(v);
+        if (index != -1) return index;
+        if (vertexNumber == vertexes.length) {
+            int capacity = vertexNumber * 2;
+            vertexes = Arrays.copyOf(vertexes, capacity);
+            adjacency = Arrays.copyOf(adjacency, capacity);
+            degrees = Arrays.copyOf(degrees, capacity);
+            if (weights != null) weights = Arrays.copyOf(weights, capacity);
+        }
+        index = vertexNumber++;
+        vertexes[index] = v;
+        adjacency[index] = NO_ARCS;
+        if (weights != null) weights[index] = NO_WEIGHTS;
+        indexes.put(v, index);
+        degreeStatistics.addVertex();
+        countModification();
+        return index;
+    }
+
+    /**
+     * Adds a edge between {@code v1} and {@code v2}, represented by an arc in
+     * each direction. Nothing is done if an equal edge is already on the
+     * graph.
+     *
+     * @param v1 Vertex to be the edge origin.
+     * @param v2 Vertex to be the edge target.
+     * @param weight Weight of the edge.
+     */
+    protected void addArcs(int v1, int v2, float weight) {
+        int index1 = addIfAbsent(v1), index2 = addIfAbsent(v2);
+        if (containsArc(index1, index2, weight)) return;
+        addArc(index1, index2, weight);
+        if (index1 != index2) addArc(index2, index1, weight);
+    }
+
+    /**
+     * Adds the specified edges, as {@link #addArcs(int, int, float)} does for
+     * each one, but growing the arcs of each index at most once for the whole
+     * batch.
+     *
+     * @param v1s Origin vertex of each edge.
+     * @param v2s Target vertex of each edge.
+     * @param edgeWeights Weight of each edge, or {@code null} if all edges
+     *                    have weight one (1).
+     * @param size Number of edges, taken from the start of the arrays.
+     * @return Number of edges added, as the edges already on the graph are
+     * skipped.
+     */
+    protected int addArcs(int[] v1s, int[] v2s, float[] edgeWeights, int size) {
+        int[] origins = new int[size], targets = new int[size];
+        for (int i = 0; i < size; i++) {
+            origins[i] = addIfAbsent(v1s[i]);
+            targets[i] = addIfAbsent(v2s[i]);
+        }
+        int[] newArcs = new int[vertexNumber];
+        for (int i = 0; i < size; i++) {
+            newArcs[origins[i]]++;
+            if (origins[i] != targets[i]) newArcs[targets[i]]++;
+        }
+        for (int index = 0; index < vertexNumber; index++) {
+            int capacity = degrees[index] + newArcs[index];
+            if (capacity > adjacency[index].length) {
+                adjacency[index] = Arrays.copyOf(adjacency[index], capacity);
+                if (weights != null) weights[index] = Arrays.copyOf(weights[index], capacity);
+            }
+        }
+        int addedNumber = 0;
+        for (int i = 0; i < size; i++) {
+            float weight = edgeWeights == null ? 1f : edgeWeights[i];
+            if (containsArc(origins[i], targets[i], weight)) continue;
+            addArc(origins[i], targets[i], weight);
+            if (origins[i] != targets[i]) addArc(targets[i], origins[i], weight);
+            addedNumber++;
+        }
+        return addedNumber;
+    }
+
+    /**
+     * Returns if there is an edge between the specified vertexes with the
+     * specified weight.
+     *
+     * @param v1 One of the vertexes.
+     * @param v2 The other vertex.
+     * @param weight Weight of the edge.
+     * @return {@code true} if there is, {@code false} otherwise.
+     */
+    protected boolean containsArcs(int v1, int v2, float weight) {
+        int index1 = indexes.get(v1), index2 = indexes.get(v2);
+        return index1 != -1 && index2 != -1 && containsArc(index1, index2, weight);
+    }
+
+    /**
+     * Returns if there is an arc, in any direction, between the specified
+     * indexes with the specified weight. Only the arcs of the index with the
+     * lesser degree are scanned.
+     *
+     * @param index1 Index of one of the vertexes.
+     * @param index2 Index of the other vertex.
+     * @param weight Weight of the arc.
+     * @return {@code true} if there is, {@code false} otherwise.
+     */
+    protected boolean containsArc(int index1, int index2, float weight) {
+        int origin = degrees[index1] <= degrees[index2] ? index1 : index2;
+        int target = origin == index1 ? index2 : index1;
+        int[] row = adjacency[origin];
+        for (int position = 0; position < degrees[origin]; position++) {
+            if (row[position] == target &&
+                    (weights == null || Float.compare(weights[origin][position], weight) == 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends an arc to the arcs of the origin index.
+     *
+     * @param origin Index of the origin vertex.
+     * @param target Index of the target vertex.
+     * @param weight Weight of the arc.
+     */
+    private void addArc(int origin, int target, float weight) {
+        int degree = degrees[origin];
+        if (degree == adjacency[origin].length) {
+            int capacity = Math.max(4, degree * 2);
+            adjacency[origin] = Arrays.copyOf(adjacency[origin], capacity);
+            if (weights != null) weights[origin] = Arrays.copyOf(weights[origin], capacity);
+        }
+        adjacency[origin][degree] = target;
+        if (weights != null) weights[origin][degree] = weight;
+        if (weights != null && weight < 0) negativeWeighted = true;
+        degreeStatistics.increaseDegree(degrees[origin]++, 1);
+        countModification();
+    }
+
+    /**
+     * Returns the index of the specified vertex.
+     *
+     * @param v Vertex to have its index returned.
+     * @return Index of the vertex, or -1 if the graph doesn't contains it.
+     */
+    public int indexOf(int v) {
+        return indexes.get(v);
+    }
+
+    @Override
+    public int indexOf(Integer v) {
+        return v == null ? -1 : indexes.get(v);
+    }
+
+    @Override
+    public Integer getVertex(int index) {
+        return vertexes[index];
+    }
+
+    @Override
+    public int getDegree(int index) {
+        return degrees[index];
+    }
+
+    @Override
+    public int getAdjacentIndex(int index, int position) {
+        return adjacency[index][position];
+    }
+
+    @Override
+    public float getWeight(int index, int position) {
+        return weights == null ? 1f : weights[index][position];
+    }
+
+    @Override
+    public int getVertexNumber() {
+        return vertexNumber;
+    }
+
+    @Override
+    public int getEdgeNumber() {
+        return degreeStatistics.getArcNumber();
+    }
+
+    @Override
+    protected DegreeStatistics getDegreeStatistics() {
+        return degreeStatistics;
+    }
+
+    @Override
+    protected boolean containsNegativeWeightedEdge() {
+        return negativeWeighted;
+    }
+
+    /**
+     * Returns if the graph contains the specified vertex.
+     *
+     * @param v Vertex that will have its existence in the graph verified.
+     * @return {@code true} if contains, {@code false} otherwise.
+     */
+    public boolean containsVertex(int v) {
+        return indexes.get(v) != -1;
+    }
+
+    /**
+     * Returns all adjacent vertexes of the specified vertex.
+     *
+     * @param v Vertex to have all its adjacent vertexes returned.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Specified vertex's adjacent vertexes.
+     */
+    public int[] getNeighbors(int v) {
+        int index = requireIndex(v);
+        int[] neighbors = new int[degrees[index]];
+        for (int position = 0; position < neighbors.length; position++) {
+            neighbors[position] = vertexes[adjacency[index][position]];
+        }
+        return neighbors;
+    }
+
+    /**
+     * Returns the vertexes reached by a Breadth-first Search (BFS) starting
+     * from the specified vertex, in the order they were visited.
+     *
+     * @param v The vertex to be the root of the search.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Visited vertexes.
+     */
+    public int[] BFSOrder(int v) {
+        int root = requireIndex(v);
+        int[] order = new int[vertexNumber];
+        int visited = BreadthFirstSearch.walk(this, root, new int[vertexNumber],
+                new int[vertexNumber], order);
+        return toVertexes(order, visited);
+    }
+
+    /**
+     * Returns the vertexes reached by a Depth-first Search (DFS) starting
+     * from the specified vertex, in the order they were visited.
+     *
+     * @param v The vertex to be the root of the search.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Visited vertexes.
+     */
+    public int[] DFSOrder(int v) {
+        int root = requireIndex(v);
+        int[] order = new int[vertexNumber];
+        int visited = DepthFirstSearch.walk(this, root, new int[vertexNumber],
+                new int[vertexNumber], order);
+        return toVertexes(order, visited);
+    }
+
+    /**
+     * Returns the vertexes of the shortest path between the specified
+     * vertexes.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @throws RuntimeException If the graph doesn't contains both vertexes.
+     * @throws NegativeCycleException If there is a negative cycle reachable
+     * from {@code v1}.
+     * @return Vertexes of the path, or an empty array if there isn't a path.
+     */
+    public int[] shortestPathVertexes(int v1, int v2) {
+        int pathStart = requireIndex(v1), pathEnd = requireIndex(v2);
+        int[] path = shortestPathIndexes(pathStart, pathEnd);
+        return toVertexes(path, path.length);
+    }
+
+    /**
+     * Returns the index of the specified vertex.
+     *
+     * @param v Vertex to have its index returned.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Index of the vertex.
+     */
+    private int requireIndex(int v) {
+        int index = indexes.get(v);
+        if (index == -1) {
+            throw new RuntimeException("The graph doesn't contains the specified vertex.");
+        }
+        return index;
+    }
+
+    /**
+     * Maps the first indexes of the specified array to their vertexes.
+     *
+     * @param indexesToMap Indexes to be mapped.
+     * @param length Number of indexes to be mapped.
+     * @return Vertexes of the indexes.
+     */
+    private int[] toVertexes(int[] indexesToMap, int length) {
+        int[] mapped = new int[length];
+        for (int i = 0; i < length; i++) {
+            mapped[i] = vertexes[indexesToMap[i]];
+        }
+        return mapped;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BaseIntGraph<?> that = (BaseIntGraph<?>) o;
+        return getAllVertexes().equals(that.getAllVertexes()) &&
+                getAllEdges().equals(that.getAllEdges());
+    }
+
+    @Override
+    public int hashCode() {
+        return getAllEdges().hashCode();
+    }
+
+}
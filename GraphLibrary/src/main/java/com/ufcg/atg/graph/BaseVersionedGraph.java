@@ -0,0 +1,412 @@
+package com.ufcg.atg.graph;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Represents a skeletal implementation of a multiversion graph, based on the
+ * interface defined by {@link IGraph}, which may be read while it's written.
+ *
+ * The graph is an immutable base, stored in the Compressed Sparse Row (CSR)
+ * format, plus a log of the vertexes and edges added after it. Writers only
+ * append to the log. Readers take a {@link GraphVersion} by
+ * {@link #snapshot()}, which shares the base and the log arrays and indexes
+ * only the arcs of the log, so it's never affected by later writes. All the
+ * reading methods of the graph run on its latest version.
+ *
+ * When the log grows past the compaction threshold, or half of the edges of
+ * the base, it's merged into a new base on the common {@link ForkJoinPool}.
+ * The versions already taken keep the old base.
+ *
+ * @param <V> Type of the vertex.
+ * @param <E> Type of the edge.
+ */
+public abstract class BaseVersionedGraph<V extends Comparable<V>, E extends Edge<V>>
+        implements IGraph<V, E> {
+
+    /**
+     * Default minimum number of logged edges to start a compaction.
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1 << 14;
+
+    private final int compactionThreshold;
+
+    private final boolean weighted;
+
+    private final Object compactionLock;
+
+    private final AtomicBoolean compacting;
+
+    private BaseCSRGraph<V, E> base;
+
+    private V[] vertexLog;
+
+    private int loggedVertexNumber;
+
+    private final Set<V> loggedVertexes;
+
+    private V[] origins;
+
+    private V[] targets;
+
+    private float[] weights;
+
+    private int loggedEdgeNumber;
+
+    private final Set<E> loggedArcs;
+
+    private volatile GraphVersion<V, E> latestVersion;
+
+    /**
+     * Constructs a {@link BaseVersionedGraph}.
+     *
+     * @param compactionThreshold Minimum number of logged edges to start a
+     *                            compaction.
+     * @param weighted If the weights of the edges should be kept.
+     * @throws IllegalArgumentException If the threshold isn't positive.
+     */
+    protected BaseVersionedGraph(int compactionThreshold, boolean weighted) {
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("The compaction threshold must be positive.");
+        }
+        this.compactionThreshold = compactionThreshold;
+        this.weighted = weighted;
+        compactionLock = new Object();
+        compacting = new AtomicBoolean();
+        base = createBase(new HashSet<>(), v -> null);
+        vertexLog = newVertexArray(16);
+        loggedVertexes = new HashSet<>();
+        origins = newVertexArray(16);
+        targets = newVertexArray(16);
+        weights = weighted ? new float[16] : null;
+        loggedArcs = new HashSet<>();
+    }
+
+    /**
+     * Creates a base with the specified vertexes and the edges of each one.
+     *
+     * @param baseVertexes Vertexes of the base.
+     * @param edgesOfVertex Edges of each vertex.
+     * @return Base of the graph.
+     */
+    protected abstract BaseCSRGraph<V, E> createBase(Collection<V> baseVertexes,
+                                                     Function<V, ? extends Collection<? extends Edge<V>>> edgesOfVertex);
+
+    /**
+     * Creates an array of vertexes.
+     *
+     * @param length Length of the array.
+     * @param <V> Type of the vertex.
+     * @return Array of vertexes.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V extends Comparable<V>> V[] newVertexArray(int length) {
+        return (V[]) new Comparable<?>[length];
+    }
+
+    /**
+     * Returns the latest version of the graph. It's reused until the graph
+     * changes, and it never changes, even if the graph is compacted.
+     *
+     * @return Immutable version of the graph.
+     */
+    public GraphVersion<V, E> snapshot() {
+        GraphVersion<V, E> version = latestVersion;
+        BaseCSRGraph<V, E> currentBase;
+        V[] currentVertexLog, currentOrigins, currentTargets;
+        float[] currentWeights;
+        int vertexNumber, edgeNumber;
+        synchronized (this) {
+            if (version != null && version.base == base
+                    && version.loggedVertexNumber == loggedVertexNumber
+                    && version.loggedEdgeNumber == loggedEdgeNumber) {
+                return version;
+            }
+            currentBase = base;
+            currentVertexLog = vertexLog;
+            vertexNumber = loggedVertexNumber;
+            currentOrigins = origins;
+            currentTargets = targets;
+            currentWeights = weights;
+            edgeNumber = loggedEdgeNumber;
+        }
+        version = new GraphVersion<>(currentBase, currentVertexLog, vertexNumber,
+                currentOrigins, currentTargets, currentWeights, edgeNumber);
+        latestVersion = version;
+        return version;
+    }
+
+    @Override
+    public void addVertex(V v) {
+        synchronized (this) {
+            logIfAbsent(v);
+        }
+    }
+
+    /**
+     * Adds an edge to the log, if the graph doesn't already contain it.
+     *
+     * @param v1 Vertex to be the edge origin.
+     * @param v2 Vertex to be the edge target.
+     * @param weight The weight of the edge.
+     * @return Edge between the vertexes.
+     */
+    protected E logEdge(V v1, V v2, float weight) {
+        E edge = base.createEdge(v1, v2, weight);
+        boolean compact;
+        synchronized (this) {
+            logIfAbsent(v1);
+            logIfAbsent(v2);
+            if (loggedArcs.contains(edge) || base.containsEdge(edge)) return edge;
+            if (loggedEdgeNumber == origins.length) {
+                origins = Arrays.copyOf(origins, origins.length * 2);
+                targets = Arrays.copyOf(targets, targets.length * 2);
+                if (weighted) weights = Arrays.copyOf(weights, weights.length * 2);
+            }
+            origins[loggedEdgeNumber] = v1;
+            targets[loggedEdgeNumber] = v2;
+            if (weighted) weights[loggedEdgeNumber] = weight;
+            loggedEdgeNumber++;
+            loggedArcs.add(edge);
+            loggedArcs.add(base.createEdge(v2, v1, weight));
+            compact = loggedEdgeNumber >= Math.max(compactionThreshold, base.getEdgeNumber() / 2);
+        }
+        if (compact && compacting.compareAndSet(false, true)) {
+            ForkJoinPool.commonPool().execute(() -> {
+                try {
+                    compact();
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        }
+        return edge;
+    }
+
+    /**
+     * Adds a vertex to the log, if the graph doesn't already contain it.
+     * Must be called while holding the lock of the graph.
+     *
+     * @param v Vertex to be added.
+     */
+    private void logIfAbsent(V v) {
+        if (base.indexOf(v) != -1 || !loggedVertexes.add(v)) return;
+        if (loggedVertexNumber == vertexLog.length) {
+            vertexLog = Arrays.copyOf(vertexLog, vertexLog.length * 2);
+        }
+        vertexLog[loggedVertexNumber++] = v;
+    }
+
+    /**
+     * Merges the log, as in the latest version, into a new base. The
+     * writers are only blocked to swap the base and to drop the merged part
+     * of the log, which is copied to new arrays, as the versions already
+     * taken may still read the old ones.
+     */
+    public void compact() {
+        synchronized (compactionLock) {
+            GraphVersion<V, E> version = snapshot();
+            if (version.loggedVertexNumber == 0 && version.loggedEdgeNumber == 0) return;
+            BaseCSRGraph<V, E> compacted = createBase(version.getAllVertexes(), version::getEdgesOfVertex);
+            synchronized (this) {
+                for (int i = 0; i < version.loggedVertexNumber; i++) {
+                    loggedVertexes.remove(vertexLog[i]);
+                }
+                int vertexNumber = loggedVertexNumber - version.loggedVertexNumber;
+                V[] newVertexLog = newVertexArray(Math.max(16, vertexLog.length));
+                System.arraycopy(vertexLog, version.loggedVertexNumber, newVertexLog, 0, vertexNumber);
+
+                for (int i = 0; i < version.loggedEdgeNumber; i++) {
+                    float weight = weighted ? weights[i] : 1f;
+                    loggedArcs.remove(base.createEdge(origins[i], targets[i], weight));
+                    loggedArcs.remove(base.createEdge(targets[i], origins[i], weight));
+                }
+                int edgeNumber = loggedEdgeNumber - version.loggedEdgeNumber;
+                V[] newOrigins = newVertexArray(origins.length);
+                V[] newTargets = newVertexArray(targets.length);
+                System.arraycopy(origins, version.loggedEdgeNumber, newOrigins, 0, edgeNumber);
+                System.arraycopy(targets, version.loggedEdgeNumber, newTargets, 0, edgeNumber);
+                if (weighted) {
+                    float[] newWeights = new float[weights.length];
+                    System.arraycopy(weights, version.loggedEdgeNumber, newWeights, 0, edgeNumber);
+                    weights = newWeights;
+                }
+
+                base = compacted;
+                vertexLog = newVertexLog;
+                loggedVertexNumber = vertexNumber;
+                origins = newOrigins;
+                targets = newTargets;
+                loggedEdgeNumber = edgeNumber;
+                latestVersion = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of edges logged after the base, which are yet to
+     * be compacted.
+     *
+     * @return Number of logged edges.
+     */
+    public synchronized int getLoggedEdgeNumber() {
+        return loggedEdgeNumber;
+    }
+
+    @Override
+    public Set<V> getAllVertexes() {
+        return snapshot().getAllVertexes();
+    }
+
+    @Override
+    public Set<E> getAllEdges() {
+        return snapshot().getAllEdges();
+    }
+
+    @Override
+    public Set<E> getEdgesOfVertex(V v) {
+        return snapshot().getEdgesOfVertex(v);
+    }
+
+    @Override
+    public Set<V> getAdjacentVertexes(V v) {
+        return snapshot().getAdjacentVertexes(v);
+    }
+
+    @Override
+    public boolean containsVertex(V v) {
+        return snapshot().containsVertex(v);
+    }
+
+    @Override
+    public boolean containsEdge(Edge<V> e) {
+        return snapshot().containsEdge(e);
+    }
+
+    @Override
+    public int getVertexNumber() {
+        return snapshot().getVertexNumber();
+    }
+
+    @Override
+    public int getEdgeNumber() {
+        return snapshot().getEdgeNumber();
+    }
+
+    @Override
+    public float getMeanEdge() {
+        return snapshot().getMeanEdge();
+    }
+
+    @Override
+    public int getMinDegree() {
+        return snapshot().getMinDegree();
+    }
+
+    @Override
+    public int getMaxDegree() {
+        return snapshot().getMaxDegree();
+    }
+
+    @Override
+    public int[] getDegreeHistogram() {
+        return snapshot().getDegreeHistogram();
+    }
+
+    @Override
+    public String graphRepresentation(RepresentationType representationType) {
+        return snapshot().graphRepresentation(representationType);
+    }
+
+    @Override
+    public void graphRepresentation(RepresentationType representationType, Appendable out)
+            throws IOException {
+        snapshot().graphRepresentation(representationType, out);
+    }
+
+    @Override
+    public String BFS(V v) {
+        return snapshot().BFS(v);
+    }
+
+    @Override
+    public WalkResult<V> BFSResult(V v) {
+        return snapshot().BFSResult(v);
+    }
+
+    @Override
+    public String DFS(V v) {
+        return snapshot().DFS(v);
+    }
+
+    @Override
+    public WalkResult<V> DFSResult(V v) {
+        return snapshot().DFSResult(v);
+    }
+
+    @Override
+    public boolean connected() {
+        return snapshot().connected();
+    }
+
+    @Override
+    public String shortestPath(V v1, V v2) {
+        return snapshot().shortestPath(v1, v2);
+    }
+
+    @Override
+    public PathResult<V> shortestPathResult(V v1, V v2) {
+        return snapshot().shortestPathResult(v1, v2);
+    }
+
+    @Override
+    public ShortestPathTree<V> shortestPathTree(V source) {
+        return snapshot().shortestPathTree(source);
+    }
+
+    /**
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the A* search guided by the specified heuristic.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param heuristic Lower bound of the weight of the path between two
+     *                  vertexes.
+     * @return Shortest path between {@code v1} e {@code v2}.
+     */
+    public String shortestPath(V v1, V v2, Heuristic<V> heuristic) {
+        return snapshot().shortestPath(v1, v2, heuristic);
+    }
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by the
+     * A* search, as {@link #shortestPath(Comparable, Comparable, Heuristic)}.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param heuristic Lower bound of the weight of the path between two
+     *                  vertexes.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    public PathResult<V> shortestPathResult(V v1, V v2, Heuristic<V> heuristic) {
+        return snapshot().shortestPathResult(v1, v2, heuristic);
+    }
+
+    @Override
+    public String MST() {
+        return snapshot().MST();
+    }
+
+    @Override
+    public MSTResult<V, E> MSTResult() {
+        return snapshot().MSTResult();
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.ufcg.atg.graph;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Represents an immutable implementation of a undirected and unweighted graph
+ * stored in the Compressed Sparse Row (CSR) format, based on the interface
+ * defined by {@link IGraph}.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class CSRGraph<V extends Comparable<V>> extends BaseCSRGraph<V, Edge<V>>
+        implements IGraph<V, Edge<V>> {
+
+    /**
+     * Constructs a {@link CSRGraph} with the vertexes and edges of the
+     * specified graph. If the specified graph is weighted, the weights are
+     * discarded.
+     *
+     * @param graph Graph to be copied.
+     */
+    public CSRGraph(IGraph<V, ? extends Edge<V>> graph) {
+        super(graph, false);
+    }
+
+    /**
+     * Constructs a {@link CSRGraph} with the specified vertexes and the edges
+     * of each one.
+     *
+     * @param graphVertexes Vertexes of the graph.
+     * @param edgesOfVertex Edges of each vertex.
+     */
+    CSRGraph(Collection<V> graphVertexes, Function<V, ? extends Collection<? extends Edge<V>>> edgesOfVertex) {
+        super(graphVertexes, edgesOfVertex, false);
+    }
+
+    @Override
+    protected Edge<V> createEdge(V origin, V target, float weight) {
+        return new Edge<>(origin, target);
+    }
+
+    @Override
+    protected String mapOperatorListRepresentation(int index, int position) {
+        return getVertex(getAdjacentIndex(index, position)).toString();
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.ufcg.atg.graph;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a thread-safe implementation of a undirected and unweighted
+ * graph, based on the interface defined by {@link IGraph}, to which many
+ * threads may add vertexes and edges at once.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class ConcurrentGraph<V extends Comparable<V>> extends BaseConcurrentGraph<V, Edge<V>>
+        implements IGraph<V, Edge<V>> {
+
+    /**
+     * Constructs a {@link ConcurrentGraph}.
+     */
+    public ConcurrentGraph() {
+        super();
+    }
+
+    @Override
+    public Edge<V> addEdge(V v1, V v2) {
+        addIfAbsent(v1);
+        addIfAbsent(v2);
+        Edge<V> edgeToReturn = new Edge<>(v1, v2),
+                reverseEdge = new Edge<>(v2, v1);
+        addArc(v1, edgeToReturn);
+        addArc(v2, reverseEdge);
+        return edgeToReturn;
+    }
+
+    @Override
+    protected Edge<V> createEdge(V origin, V target, float weight) {
+        return new Edge<>(origin, target);
+    }
+
+    @Override
+    protected BaseIndexedGraph<V, Edge<V>> createIndexedGraph(List<V> frozenVertexes,
+                                                              Map<V, List<Edge<V>>> frozenEdges) {
+        return new CSRGraph<>(frozenVertexes, frozenEdges::get);
+    }
+
+}
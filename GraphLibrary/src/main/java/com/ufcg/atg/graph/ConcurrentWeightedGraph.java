@@ -0,0 +1,66 @@
+package com.ufcg.atg.graph;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a thread-safe implementation of a undirected and weighted graph,
+ * based on the interface defined by {@link IWeightedGraph}, to which many
+ * threads may add vertexes and edges at once.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class ConcurrentWeightedGraph<V extends Comparable<V>> extends BaseConcurrentGraph<V, WeightedEdge<V>>
+        implements IWeightedGraph<V, WeightedEdge<V>> {
+
+    private volatile boolean negativeWeighted;
+
+    /**
+     * Constructs a {@link ConcurrentWeightedGraph}.
+     */
+    public ConcurrentWeightedGraph() {
+        super();
+    }
+
+    @Override
+    public WeightedEdge<V> addEdge(V v1, V v2) {
+        return addEdge(v1, v2, WeightedGraph.EDGE_DEFAULT_WEIGHT);
+    }
+
+    @Override
+    public WeightedEdge<V> addEdge(V v1, V v2, float weight) {
+        addIfAbsent(v1);
+        addIfAbsent(v2);
+        WeightedEdge<V> edgeToReturn = new WeightedEdge<>(v1, v2, weight),
+                reverseEdge = new WeightedEdge<>(v2, v1, weight);
+        if (weight < 0) negativeWeighted = true;
+        addArc(v1, edgeToReturn);
+        addArc(v2, reverseEdge);
+        return edgeToReturn;
+    }
+
+    @Override
+    protected int addEdges(V[] v1s, V[] v2s, float[] weights, int size) {
+        for (int i = 0; weights != null && i < size && !negativeWeighted; i++) {
+            if (weights[i] < 0) negativeWeighted = true;
+        }
+        return super.addEdges(v1s, v2s, weights, size);
+    }
+
+    @Override
+    protected WeightedEdge<V> createEdge(V origin, V target, float weight) {
+        return new WeightedEdge<>(origin, target, weight);
+    }
+
+    @Override
+    protected BaseIndexedGraph<V, WeightedEdge<V>> createIndexedGraph(
+            List<V> frozenVertexes, Map<V, List<WeightedEdge<V>>> frozenEdges) {
+        return new WeightedCSRGraph<>(frozenVertexes, frozenEdges::get, negativeWeighted);
+    }
+
+    @Override
+    protected boolean containsNegativeWeightedEdge() {
+        return negativeWeighted;
+    }
+
+}
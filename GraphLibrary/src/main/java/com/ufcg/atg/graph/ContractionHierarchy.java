@@ -0,0 +1,796 @@
+package com.ufcg.atg.graph;
+
+import com.ufcg.atg.util.IndexedHeap;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Contraction hierarchy of a graph, an index that answers shortest path
+ * queries by settling only a few hundred vertexes, whatever the size of the
+ * graph.
+ *
+ * The vertexes are contracted one by one, from the least to the most
+ * important: a contracted vertex leaves the graph, and a shortcut is added
+ * between two of its neighbors whenever the path through it is the only
+ * shortest one, which is checked by a bounded witness search. The vertexes
+ * are ordered by their edge difference, the number of shortcuts their
+ * contraction adds minus their degree, plus the number of their contracted
+ * neighbors and their level in the hierarchy, so the contraction is spread
+ * over the graph. The order is found in rounds: every vertex whose priority
+ * is less than the ones of all its neighbors is contracted in the same round,
+ * and their witness searches and the new priorities of their neighbors are
+ * computed in parallel.
+ *
+ * Each vertex keeps only its arcs to the vertexes contracted after it, in the
+ * Compressed Sparse Row (CSR) format, so a query is a bidirectional
+ * Dijkstra's search that only goes upward in the hierarchy from both ends,
+ * and doesn't expand the vertexes reached by a longer path than the one
+ * through a vertex above them. The shortcuts of the path found are then
+ * unpacked into the arcs of the graph. Each thread reuses its own search
+ * arrays, so a query costs only the vertexes it touches.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class ContractionHierarchy<V extends Comparable<V>> {
+
+    private static final int CONTRACTION_SETTLE_LIMIT = 500;
+
+    private static final int SIMULATION_SETTLE_LIMIT = 50;
+
+    private final BaseIndexedGraph<V, ?> graph;
+
+    private final int[] ranks;
+
+    private final int[] offsets;
+
+    private final int[] targets;
+
+    private final float[] weights;
+
+    private final int[] middles;
+
+    private final int shortcutNumber;
+
+    private final ThreadLocal<QueryWorkspace> workspaces;
+
+    private final long modificationNumber;
+
+    /**
+     * Constructs the {@link ContractionHierarchy} of the specified graph.
+     *
+     * @param graph Indexed graph to be contracted.
+     * @throws RuntimeException If the graph contains negative weighted edges.
+     */
+    public ContractionHierarchy(BaseIndexedGraph<V, ?> graph) {
+        if (graph.containsNegativeWeightedEdge()) {
+            throw new RuntimeException("The contraction hierarchy cannot be computed in a graph" +
+                    " with negative weighted edges.");
+        }
+        this.graph = graph;
+        modificationNumber = graph.getModificationNumber();
+        Contraction contraction = new Contraction(graph);
+        contraction.contractAll();
+        ranks = contraction.ranks;
+        shortcutNumber = contraction.shortcutNumber;
+        int vertexNumber = graph.getVertexNumber();
+        offsets = new int[vertexNumber + 1];
+        for (int index = 0; index < vertexNumber; index++) {
+            offsets[index + 1] = offsets[index] + contraction.upwardTargets[index].length;
+        }
+        targets = new int[offsets[vertexNumber]];
+        weights = new float[targets.length];
+        middles = new int[targets.length];
+        for (int index = 0; index < vertexNumber; index++) {
+            System.arraycopy(contraction.upwardTargets[index], 0, targets, offsets[index],
+                    contraction.upwardTargets[index].length);
+            System.arraycopy(contraction.upwardWeights[index], 0, weights, offsets[index],
+                    contraction.upwardWeights[index].length);
+            System.arraycopy(contraction.upwardMiddles[index], 0, middles, offsets[index],
+                    contraction.upwardMiddles[index].length);
+        }
+        workspaces = ThreadLocal.withInitial(() -> new QueryWorkspace(vertexNumber));
+    }
+
+    /**
+     * Returns the indexed graph of the hierarchy.
+     *
+     * @return Indexed graph of the hierarchy.
+     */
+    public BaseIndexedGraph<V, ?> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Returns if the hierarchy was computed for the specified graph as it
+     * is now, with no change made to it since.
+     *
+     * @param graph Graph to be checked.
+     * @return {@code true} if it was, {@code false} otherwise.
+     */
+    public boolean isComputedFor(BaseIndexedGraph<?, ?> graph) {
+        return this.graph == graph && modificationNumber == graph.getModificationNumber();
+    }
+
+    /**
+     * Returns the number of shortcuts added by the contraction.
+     *
+     * @return Number of shortcuts.
+     */
+    public int getShortcutNumber() {
+        return shortcutNumber;
+    }
+
+    /**
+     * Returns the position of the specified vertex in the contraction order,
+     * where the least important vertex is the first.
+     *
+     * @param v Vertex to have its rank returned.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Rank of the vertex.
+     */
+    public int getRank(V v) {
+        int index = graph.indexOf(v);
+        if (index == -1) {
+            throw new RuntimeException("The graph doesn't contains the specified vertex.");
+        }
+        return ranks[index];
+    }
+
+    /**
+     * Returns a representation of the shortest path between the specified
+     * vertexes, as {@link IGraph#shortestPath(Comparable, Comparable)}.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @return Shortest path between {@code v1} e {@code v2}.
+     */
+    public String shortestPath(V v1, V v2) {
+        if (v1.equals(v2)) return v1.toString();
+        PathResult<V> path = shortestPathResult(v1, v2);
+        if (path.isEmpty()) {
+            throw new RuntimeException("There isn't a path between " + v1
+                    + " and " + v2);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by the
+     * upward search from both of them.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    public PathResult<V> shortestPathResult(V v1, V v2) {
+        int pathStart = graph.indexOf(v1), pathEnd = graph.indexOf(v2);
+        if (pathStart == -1 || pathEnd == -1) {
+            return new PathResult<>(graph, new int[0], Float.POSITIVE_INFINITY);
+        }
+        QueryWorkspace workspace = workspaces.get();
+        workspace.reset();
+        workspace.visit(pathStart, true, 0f, -1, -1);
+        workspace.visit(pathEnd, false, 0f, -1, -1);
+        float shortestDistance = Float.POSITIVE_INFINITY;
+        int meeting = -1;
+        boolean forward = true;
+        while (true) {
+            boolean forwardDone = isDone(workspace.forwardHeap, shortestDistance);
+            boolean backwardDone = isDone(workspace.backwardHeap, shortestDistance);
+            if (forwardDone && backwardDone) break;
+            if (forwardDone || backwardDone) forward = backwardDone;
+
+            IndexedHeap heap = forward ? workspace.forwardHeap : workspace.backwardHeap;
+            float[] distances = forward ? workspace.forwardDistances : workspace.backwardDistances;
+            float[] otherDistances = forward ? workspace.backwardDistances : workspace.forwardDistances;
+            int current = heap.poll();
+            float distance = distances[current];
+            if (distance + otherDistances[current] < shortestDistance) {
+                shortestDistance = distance + otherDistances[current];
+                meeting = current;
+            }
+            if (!isStalled(current, distances)) {
+                for (int arc = offsets[current]; arc < offsets[current + 1]; arc++) {
+                    float newDistance = distance + weights[arc];
+                    if (newDistance < distances[targets[arc]]) {
+                        workspace.visit(targets[arc], forward, newDistance, current, arc);
+                    }
+                }
+            }
+            forward = !forward;
+        }
+        if (meeting == -1) {
+            return new PathResult<>(graph, new int[0], Float.POSITIVE_INFINITY);
+        }
+        return new PathResult<>(graph, unpackPath(workspace, pathStart, pathEnd, meeting), shortestDistance);
+    }
+
+    /**
+     * Returns if the distance of a vertex is surely not the shortest, as one
+     * of the vertexes contracted after it, already reached by the same side
+     * of the search, leads to it by a shorter path. Such a vertex, stalled,
+     * isn't expanded, since the upward search could never fix its distance.
+     *
+     * @param index Index of the vertex.
+     * @param distances Distances of the side of the search.
+     * @return {@code true} if it's stalled, {@code false} otherwise.
+     */
+    private boolean isStalled(int index, float[] distances) {
+        for (int arc = offsets[index]; arc < offsets[index + 1]; arc++) {
+            if (distances[targets[arc]] + weights[arc] < distances[index]) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns if one side of the search is over, as no vertex left on its
+     * heap can lead to a shorter path.
+     *
+     * @param heap Heap of the side.
+     * @param shortestDistance Length of the shortest path found.
+     * @return {@code true} if the side is over, {@code false} otherwise.
+     */
+    private static boolean isDone(IndexedHeap heap, float shortestDistance) {
+        return heap.isEmpty() || heap.getKey(heap.peek()) >= shortestDistance;
+    }
+
+    /**
+     * Returns the indexes of the path found by the search, with all its
+     * shortcuts unpacked.
+     *
+     * @param workspace Workspace of the search.
+     * @param pathStart Index of the vertex that starts the path.
+     * @param pathEnd Index of the vertex that ends the path.
+     * @param meeting Index where both sides of the search met.
+     * @return Indexes of the path.
+     */
+    private int[] unpackPath(QueryWorkspace workspace, int pathStart, int pathEnd, int meeting) {
+        int upwardLength = 0;
+        for (int i = meeting; i != pathStart; i = workspace.forwardPredecessors[i]) {
+            upwardLength++;
+        }
+        int[] upward = new int[upwardLength];
+        for (int i = meeting; i != pathStart; i = workspace.forwardPredecessors[i]) {
+            upward[--upwardLength] = i;
+        }
+        IntList path = new IntList(), stack = new IntList();
+        path.add(pathStart);
+        for (int i : upward) {
+            unpackArc(workspace.forwardPredecessors[i], i, middles[workspace.forwardArcs[i]], path, stack);
+        }
+        for (int i = meeting; i != pathEnd; i = workspace.backwardPredecessors[i]) {
+            unpackArc(i, workspace.backwardPredecessors[i], middles[workspace.backwardArcs[i]], path, stack);
+        }
+        return path.toArray();
+    }
+
+    /**
+     * Appends the indexes of an arc of the hierarchy, unpacked into arcs of
+     * the graph, to the path. The origin of the arc is already on the path.
+     * A shortcut is replaced by its arcs to and from the vertex it skips,
+     * which are found among the upward arcs of that vertex, as it was
+     * contracted before both ends.
+     *
+     * @param origin Index of the origin of the arc.
+     * @param target Index of the target of the arc.
+     * @param middle Index of the vertex skipped by the arc, or -1 if it's an
+     *               arc of the graph.
+     * @param path Path to receive the indexes.
+     * @param stack Empty stack of the arcs yet to be unpacked.
+     */
+    private void unpackArc(int origin, int target, int middle, IntList path, IntList stack) {
+        stack.add(origin);
+        stack.add(target);
+        stack.add(middle);
+        while (stack.size > 0) {
+            int arcMiddle = stack.pop(), arcTarget = stack.pop(), arcOrigin = stack.pop();
+            if (arcMiddle == -1) {
+                path.add(arcTarget);
+                continue;
+            }
+            stack.add(arcMiddle);
+            stack.add(arcTarget);
+            stack.add(middleOf(arcMiddle, arcTarget));
+            stack.add(arcOrigin);
+            stack.add(arcMiddle);
+            stack.add(middleOf(arcMiddle, arcOrigin));
+        }
+    }
+
+    /**
+     * Returns the vertex skipped by the upward arc between the specified
+     * indexes.
+     *
+     * @param lower Index of the vertex contracted first.
+     * @param upper Index of the vertex contracted later.
+     * @return Index of the skipped vertex, or -1 if it's an arc of the graph.
+     */
+    private int middleOf(int lower, int upper) {
+        for (int arc = offsets[lower]; arc < offsets[lower + 1]; arc++) {
+            if (targets[arc] == upper) return middles[arc];
+        }
+        throw new IllegalStateException("The hierarchy doesn't contains the arc to be unpacked.");
+    }
+
+    /**
+     * Arrays of the query search of a thread, which are cleared by only
+     * resetting the vertexes touched by the last query.
+     */
+    private static final class QueryWorkspace {
+
+        final float[] forwardDistances;
+
+        final float[] backwardDistances;
+
+        final int[] forwardPredecessors;
+
+        final int[] backwardPredecessors;
+
+        final int[] forwardArcs;
+
+        final int[] backwardArcs;
+
+        final IndexedHeap forwardHeap;
+
+        final IndexedHeap backwardHeap;
+
+        final int[] touched;
+
+        int touchedNumber;
+
+        /**
+         * Constructs a {@link QueryWorkspace}.
+         *
+         * @param vertexNumber Number of vertexes of the graph.
+         */
+        QueryWorkspace(int vertexNumber) {
+            forwardDistances = new float[vertexNumber];
+            backwardDistances = new float[vertexNumber];
+            Arrays.fill(forwardDistances, Float.POSITIVE_INFINITY);
+            Arrays.fill(backwardDistances, Float.POSITIVE_INFINITY);
+            forwardPredecessors = new int[vertexNumber];
+            backwardPredecessors = new int[vertexNumber];
+            forwardArcs = new int[vertexNumber];
+            backwardArcs = new int[vertexNumber];
+            forwardHeap = new IndexedHeap(vertexNumber);
+            backwardHeap = new IndexedHeap(vertexNumber);
+            touched = new int[vertexNumber];
+        }
+
+        /**
+         * Sets the distance of a vertex on one side of the search and queues
+         * it.
+         *
+         * @param index Index of the vertex.
+         * @param forward If it's the side of the origin.
+         * @param distance Distance of the vertex.
+         * @param predecessor Index from where the vertex was reached.
+         * @param arc Arc by which the vertex was reached.
+         */
+        void visit(int index, boolean forward, float distance, int predecessor, int arc) {
+            if (forwardDistances[index] == Float.POSITIVE_INFINITY
+                    && backwardDistances[index] == Float.POSITIVE_INFINITY) {
+                touched[touchedNumber++] = index;
+            }
+            if (forward) {
+                forwardDistances[index] = distance;
+                forwardPredecessors[index] = predecessor;
+                forwardArcs[index] = arc;
+                forwardHeap.insertOrDecrease(index, distance);
+            } else {
+                backwardDistances[index] = distance;
+                backwardPredecessors[index] = predecessor;
+                backwardArcs[index] = arc;
+                backwardHeap.insertOrDecrease(index, distance);
+            }
+        }
+
+        /**
+         * Clears what the last query left.
+         */
+        void reset() {
+            for (int i = 0; i < touchedNumber; i++) {
+                forwardDistances[touched[i]] = Float.POSITIVE_INFINITY;
+                backwardDistances[touched[i]] = Float.POSITIVE_INFINITY;
+            }
+            touchedNumber = 0;
+            forwardHeap.clear();
+            backwardHeap.clear();
+        }
+
+    }
+
+    /**
+     * Growable list of primitive ints.
+     */
+    private static final class IntList {
+
+        int[] elements = new int[16];
+
+        int size;
+
+        void add(int element) {
+            if (size == elements.length) elements = Arrays.copyOf(elements, size * 2);
+            elements[size++] = element;
+        }
+
+        int pop() {
+            return elements[--size];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(elements, size);
+        }
+
+    }
+
+    /**
+     * State of the contraction of a graph, whose remaining vertexes keep
+     * their edges, shortcuts included, in growable arrays.
+     */
+    private static final class Contraction {
+
+        final int vertexNumber;
+
+        final int[][] adjacentIndexes;
+
+        final float[][] adjacentWeights;
+
+        final int[][] adjacentMiddles;
+
+        final int[] degrees;
+
+        final boolean[] contracted;
+
+        final int[] contractedNeighbors;
+
+        final int[] levels;
+
+        final int[] priorities;
+
+        final int[] ranks;
+
+        final int[][] upwardTargets;
+
+        final float[][] upwardWeights;
+
+        final int[][] upwardMiddles;
+
+        final ThreadLocal<WitnessSearch> witnessSearches;
+
+        int shortcutNumber;
+
+        /**
+         * Constructs a {@link Contraction} with the edges of the graph,
+         * keeping only the lightest edge between two vertexes and no loops.
+         *
+         * @param graph Graph to be contracted.
+         */
+        Contraction(IIndexedGraph<?> graph) {
+            vertexNumber = graph.getVertexNumber();
+            adjacentIndexes = new int[vertexNumber][];
+            adjacentWeights = new float[vertexNumber][];
+            adjacentMiddles = new int[vertexNumber][];
+            degrees = new int[vertexNumber];
+            contracted = new boolean[vertexNumber];
+            contractedNeighbors = new int[vertexNumber];
+            levels = new int[vertexNumber];
+            priorities = new int[vertexNumber];
+            ranks = new int[vertexNumber];
+            upwardTargets = new int[vertexNumber][];
+            upwardWeights = new float[vertexNumber][];
+            upwardMiddles = new int[vertexNumber][];
+            witnessSearches = ThreadLocal.withInitial(() -> new WitnessSearch(vertexNumber));
+            IntStream.range(0, vertexNumber).parallel().forEach(index -> {
+                int degree = graph.getDegree(index);
+                long[] arcs = new long[degree];
+                for (int position = 0; position < degree; position++) {
+                    arcs[position] = ((long) graph.getAdjacentIndex(index, position) << 32)
+                            | Float.floatToIntBits(graph.getWeight(index, position) + 0f);
+                }
+                Arrays.sort(arcs);
+                int[] row = new int[degree];
+                float[] rowWeights = new float[degree];
+                int rowDegree = 0;
+                for (long arc : arcs) {
+                    int adjacent = (int) (arc >>> 32);
+                    if (adjacent == index || rowDegree > 0 && row[rowDegree - 1] == adjacent) continue;
+                    row[rowDegree] = adjacent;
+                    rowWeights[rowDegree++] = Float.intBitsToFloat((int) arc);
+                }
+                int[] rowMiddles = new int[degree];
+                Arrays.fill(rowMiddles, -1);
+                adjacentIndexes[index] = row;
+                adjacentWeights[index] = rowWeights;
+                adjacentMiddles[index] = rowMiddles;
+                degrees[index] = rowDegree;
+            });
+        }
+
+        /**
+         * Contracts all vertexes, in rounds of vertexes with no neighbors in
+         * the same round.
+         */
+        void contractAll() {
+            IntStream.range(0, vertexNumber).parallel().forEach(v -> priorities[v] = priorityOf(v));
+            int[] remaining = IntStream.range(0, vertexNumber).toArray();
+            int nextRank = 0;
+            while (remaining.length > 0) {
+                int[] round = IntStream.of(remaining).parallel().filter(this::isLocalMinimum).toArray();
+                for (int v : round) {
+                    contracted[v] = true;
+                }
+                long[][] shortcuts = new long[round.length][];
+                float[][] shortcutWeights = new float[round.length][];
+                IntStream.range(0, round.length).parallel().forEach(i -> {
+                    ShortcutList list = new ShortcutList();
+                    findShortcuts(round[i], list, CONTRACTION_SETTLE_LIMIT);
+                    shortcuts[i] = Arrays.copyOf(list.edges, list.size);
+                    shortcutWeights[i] = Arrays.copyOf(list.weights, list.size);
+                });
+
+                boolean[] affected = new boolean[vertexNumber];
+                for (int i = 0; i < round.length; i++) {
+                    int v = round[i];
+                    ranks[v] = nextRank++;
+                    upwardTargets[v] = Arrays.copyOf(adjacentIndexes[v], degrees[v]);
+                    upwardWeights[v] = Arrays.copyOf(adjacentWeights[v], degrees[v]);
+                    upwardMiddles[v] = Arrays.copyOf(adjacentMiddles[v], degrees[v]);
+                    for (int position = 0; position < degrees[v]; position++) {
+                        int neighbor = adjacentIndexes[v][position];
+                        contractedNeighbors[neighbor]++;
+                        levels[neighbor] = Math.max(levels[neighbor], levels[v] + 1);
+                        affected[neighbor] = true;
+                    }
+                    for (int s = 0; s < shortcuts[i].length; s++) {
+                        int origin = (int) (shortcuts[i][s] >>> 32), target = (int) shortcuts[i][s];
+                        addOrDecrease(origin, target, shortcutWeights[i][s], v);
+                        addOrDecrease(target, origin, shortcutWeights[i][s], v);
+                    }
+                }
+                int[] neighbors = IntStream.range(0, vertexNumber).filter(v -> affected[v]).toArray();
+                IntStream.of(neighbors).parallel().forEach(this::removeContractedNeighbors);
+                IntStream.of(neighbors).parallel().forEach(v -> priorities[v] = priorityOf(v));
+                remaining = IntStream.of(remaining).filter(v -> !contracted[v]).toArray();
+            }
+        }
+
+        /**
+         * Returns if the priority of the vertex is less than the ones of all
+         * its neighbors, the ties broken by index.
+         *
+         * @param v Index of the vertex.
+         * @return {@code true} if it is, {@code false} otherwise.
+         */
+        boolean isLocalMinimum(int v) {
+            for (int position = 0; position < degrees[v]; position++) {
+                int neighbor = adjacentIndexes[v][position];
+                if (priorities[neighbor] < priorities[v]
+                        || priorities[neighbor] == priorities[v] && neighbor < v) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the priority of a vertex to be contracted: twice its edge
+         * difference, estimated by lighter witness searches, plus its number
+         * of contracted neighbors and its level, one more than the greatest
+         * level of its contracted neighbors. The lesser, the sooner it's
+         * contracted.
+         *
+         * @param v Index of the vertex.
+         * @return Priority of the vertex.
+         */
+        int priorityOf(int v) {
+            return 2 * (findShortcuts(v, null, SIMULATION_SETTLE_LIMIT) - degrees[v])
+                    + contractedNeighbors[v] + levels[v];
+        }
+
+        /**
+         * Finds the shortcuts needed to contract a vertex: one between each
+         * pair of its neighbors with no path, not through the vertex, as
+         * short as the one through it. The search for such a path, the
+         * witness, is bounded, so a shortcut may be added even if there is a
+         * witness, which never makes the paths longer.
+         *
+         * @param v Index of the vertex.
+         * @param shortcuts List to receive the shortcuts, or {@code null} if
+         *                  they should only be counted.
+         * @param settleLimit Number of vertexes each witness search settles
+         *                    at most.
+         * @return Number of shortcuts.
+         */
+        int findShortcuts(int v, ShortcutList shortcuts, int settleLimit) {
+            int degree = degrees[v];
+            int[] neighbors = adjacentIndexes[v];
+            float[] neighborWeights = adjacentWeights[v];
+            float maxWeight = 0;
+            for (int position = 0; position < degree; position++) {
+                maxWeight = Math.max(maxWeight, neighborWeights[position]);
+            }
+            WitnessSearch search = witnessSearches.get();
+            int shortcutNumber = 0;
+            for (int i = 0; i < degree - 1; i++) {
+                search.run(this, v, i, neighborWeights[i] + maxWeight, settleLimit);
+                for (int j = i + 1; j < degree; j++) {
+                    float viaDistance = neighborWeights[i] + neighborWeights[j];
+                    if (search.distances[neighbors[j]] > viaDistance) {
+                        shortcutNumber++;
+                        if (shortcuts != null) shortcuts.add(neighbors[i], neighbors[j], viaDistance);
+                    }
+                }
+                search.reset();
+            }
+            return shortcutNumber;
+        }
+
+        /**
+         * Adds an edge from the origin to the target, or decreases the weight
+         * of the edge between them if it's heavier.
+         *
+         * @param origin Index of the origin.
+         * @param target Index of the target.
+         * @param weight Weight of the edge.
+         * @param middle Index of the vertex skipped by the edge.
+         */
+        void addOrDecrease(int origin, int target, float weight, int middle) {
+            int degree = degrees[origin];
+            int[] row = adjacentIndexes[origin];
+            for (int position = 0; position < degree; position++) {
+                if (row[position] == target) {
+                    if (weight < adjacentWeights[origin][position]) {
+                        adjacentWeights[origin][position] = weight;
+                        adjacentMiddles[origin][position] = middle;
+                    }
+                    return;
+                }
+            }
+            if (degree == row.length) {
+                int capacity = Math.max(4, degree * 2);
+                adjacentIndexes[origin] = Arrays.copyOf(row, capacity);
+                adjacentWeights[origin] = Arrays.copyOf(adjacentWeights[origin], capacity);
+                adjacentMiddles[origin] = Arrays.copyOf(adjacentMiddles[origin], capacity);
+            }
+            adjacentIndexes[origin][degree] = target;
+            adjacentWeights[origin][degree] = weight;
+            adjacentMiddles[origin][degree] = middle;
+            degrees[origin]++;
+            if (origin < target) shortcutNumber++;
+        }
+
+        /**
+         * Removes the contracted vertexes from the edges of a vertex.
+         *
+         * @param v Index of the vertex.
+         */
+        void removeContractedNeighbors(int v) {
+            int kept = 0;
+            for (int position = 0; position < degrees[v]; position++) {
+                if (contracted[adjacentIndexes[v][position]]) continue;
+                adjacentIndexes[v][kept] = adjacentIndexes[v][position];
+                adjacentWeights[v][kept] = adjacentWeights[v][position];
+                adjacentMiddles[v][kept++] = adjacentMiddles[v][position];
+            }
+            degrees[v] = kept;
+        }
+
+    }
+
+    /**
+     * Bounded Dijkstra's search of a witness, over the vertexes not yet
+     * contracted, whose arrays are kept by each thread.
+     */
+    private static final class WitnessSearch {
+
+        final float[] distances;
+
+        final IndexedHeap heap;
+
+        final boolean[] targets;
+
+        final int[] touched;
+
+        int touchedNumber;
+
+        /**
+         * Constructs a {@link WitnessSearch}.
+         *
+         * @param vertexNumber Number of vertexes of the graph.
+         */
+        WitnessSearch(int vertexNumber) {
+            distances = new float[vertexNumber];
+            Arrays.fill(distances, Float.POSITIVE_INFINITY);
+            heap = new IndexedHeap(vertexNumber);
+            targets = new boolean[vertexNumber];
+            touched = new int[vertexNumber];
+        }
+
+        /**
+         * Searches from a neighbor of the vertex being contracted, avoiding
+         * the vertex, until the neighbors after it are settled, the distances
+         * exceed the limit or the settle limit is reached.
+         *
+         * @param contraction State of the contraction.
+         * @param ignored Index of the vertex being contracted.
+         * @param position Position of the neighbor where the search starts.
+         * @param limit Greatest distance of interest.
+         * @param settleLimit Number of vertexes settled at most.
+         */
+        void run(Contraction contraction, int ignored, int position, float limit, int settleLimit) {
+            int[] neighbors = contraction.adjacentIndexes[ignored];
+            int degree = contraction.degrees[ignored];
+            for (int i = position + 1; i < degree; i++) {
+                targets[neighbors[i]] = true;
+            }
+            int pendingTargets = degree - position - 1;
+            int source = neighbors[position];
+            distances[source] = 0f;
+            touched[touchedNumber++] = source;
+            heap.insertOrDecrease(source, 0f);
+            int settled = 0;
+            while (!heap.isEmpty() && settled++ < settleLimit) {
+                int current = heap.poll();
+                float distance = distances[current];
+                if (distance > limit) break;
+                if (targets[current]) {
+                    targets[current] = false;
+                    if (--pendingTargets == 0) break;
+                }
+                int[] row = contraction.adjacentIndexes[current];
+                float[] rowWeights = contraction.adjacentWeights[current];
+                for (int arc = 0; arc < contraction.degrees[current]; arc++) {
+                    int adjacent = row[arc];
+                    if (adjacent == ignored || contraction.contracted[adjacent]) continue;
+                    float newDistance = distance + rowWeights[arc];
+                    if (newDistance < distances[adjacent]) {
+                        if (distances[adjacent] == Float.POSITIVE_INFINITY) touched[touchedNumber++] = adjacent;
+                        distances[adjacent] = newDistance;
+                        heap.insertOrDecrease(adjacent, newDistance);
+                    }
+                }
+            }
+            for (int i = position + 1; i < degree; i++) {
+                targets[neighbors[i]] = false;
+            }
+        }
+
+        /**
+         * Clears what the last search left.
+         */
+        void reset() {
+            for (int i = 0; i < touchedNumber; i++) {
+                distances[touched[i]] = Float.POSITIVE_INFINITY;
+            }
+            touchedNumber = 0;
+            heap.clear();
+        }
+
+    }
+
+    /**
+     * Growable list of shortcuts, each one with its ends packed in a long.
+     */
+    private static final class ShortcutList {
+
+        long[] edges = new long[8];
+
+        float[] weights = new float[8];
+
+        int size;
+
+        void add(int origin, int target, float weight) {
+            if (size == edges.length) {
+                edges = Arrays.copyOf(edges, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            edges[size] = ((long) origin << 32) | target;
+            weights[size++] = weight;
+        }
+
+    }
+
+}
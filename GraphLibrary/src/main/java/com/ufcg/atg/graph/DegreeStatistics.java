@@ -0,0 +1,143 @@
+package com.ufcg.atg.graph;
+
+import java.util.Arrays;
+
+/**
+ * Counters of the vertexes, arcs and degrees of a graph, kept up to date as
+ * vertexes are added and degrees increase, so none of them has to walk by
+ * the graph to be answered.
+ *
+ * The degrees are kept in a histogram, where the position {@code d} holds the
+ * number of vertexes of degree {@code d}. As degrees never decrease, the
+ * minimum and maximum degrees are updated in constant time.
+ */
+public class DegreeStatistics {
+
+    private int[] histogram;
+
+    private int vertexNumber;
+
+    private int arcNumber;
+
+    private int minDegree;
+
+    private int maxDegree;
+
+    /**
+     * Constructs an empty {@link DegreeStatistics}.
+     */
+    public DegreeStatistics() {
+        histogram = new int[4];
+    }
+
+    /**
+     * Constructs a {@link DegreeStatistics} with the degrees of the vertexes
+     * of the specified graph.
+     *
+     * @param graph Graph to have its degrees counted.
+     */
+    public DegreeStatistics(IIndexedGraph<?> graph) {
+        this();
+        for (int index = 0; index < graph.getVertexNumber(); index++) {
+            int degree = graph.getDegree(index);
+            addVertex();
+            if (degree > 0) increaseDegree(0, degree);
+        }
+    }
+
+    /**
+     * Forgets all counted vertexes and arcs, so they can be counted again.
+     */
+    public void clear() {
+        Arrays.fill(histogram, 0);
+        vertexNumber = 0;
+        arcNumber = 0;
+        minDegree = 0;
+        maxDegree = 0;
+    }
+
+    /**
+     * Counts a new vertex, of degree zero (0).
+     */
+    public void addVertex() {
+        histogram[0]++;
+        vertexNumber++;
+        minDegree = 0;
+    }
+
+    /**
+     * Counts new arcs of a vertex.
+     *
+     * @param degree Degree of the vertex before the arcs.
+     * @param arcs Number of new arcs.
+     */
+    public void increaseDegree(int degree, int arcs) {
+        int newDegree = degree + arcs;
+        if (newDegree >= histogram.length) {
+            histogram = Arrays.copyOf(histogram, Math.max(newDegree + 1, histogram.length * 2));
+        }
+        histogram[degree]--;
+        histogram[newDegree]++;
+        arcNumber += arcs;
+        if (newDegree > maxDegree) maxDegree = newDegree;
+        if (degree == minDegree && histogram[degree] == 0) {
+            while (histogram[minDegree] == 0) minDegree++;
+        }
+    }
+
+    /**
+     * Returns the number of counted vertexes.
+     *
+     * @return Number of vertexes.
+     */
+    public int getVertexNumber() {
+        return vertexNumber;
+    }
+
+    /**
+     * Returns the number of counted arcs, which is the sum of all degrees.
+     *
+     * @return Number of arcs.
+     */
+    public int getArcNumber() {
+        return arcNumber;
+    }
+
+    /**
+     * Returns the mean degree of the vertexes.
+     *
+     * @return Mean degree, or zero (0) if there are no vertexes.
+     */
+    public float getMeanDegree() {
+        return vertexNumber > 0 ? (float) arcNumber / vertexNumber : 0;
+    }
+
+    /**
+     * Returns the minimum degree of the vertexes.
+     *
+     * @return Minimum degree, or zero (0) if there are no vertexes.
+     */
+    public int getMinDegree() {
+        return minDegree;
+    }
+
+    /**
+     * Returns the maximum degree of the vertexes.
+     *
+     * @return Maximum degree, or zero (0) if there are no vertexes.
+     */
+    public int getMaxDegree() {
+        return maxDegree;
+    }
+
+    /**
+     * Returns the degree histogram, where the position {@code d} holds the
+     * number of vertexes of degree {@code d}, up to the maximum degree.
+     *
+     * @return Degree histogram.
+     */
+    public int[] getHistogram() {
+        return Arrays.copyOf(histogram, vertexNumber > 0 ? maxDegree + 1 : 0);
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.ufcg.atg.graph;
+
+import java.util.Arrays;
+
+/**
+ * Disjoint-set (union-find) structure over the ints from zero (0) to
+ * {@code size() - 1}. Sets are joined by rank and the paths walked by
+ * {@link #find(int)} are halved, so any sequence of operations runs in
+ * nearly constant amortized time per operation.
+ *
+ * Elements may be added after the construction, which allows the
+ * connectivity of a graph to be kept while its vertexes and edges arrive.
+ */
+public class DisjointSet {
+
+    private int[] parents;
+
+    private byte[] ranks;
+
+    private int size;
+
+    private int setNumber;
+
+    /**
+     * Constructs a {@link DisjointSet} where each element is in its own set.
+     *
+     * @param size Number of elements.
+     */
+    public DisjointSet(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The number of elements cannot be negative.");
+        }
+        parents = new int[Math.max(size, 1)];
+        ranks = new byte[parents.length];
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+        }
+        this.size = size;
+        setNumber = size;
+    }
+
+    /**
+     * Constructs a {@link DisjointSet} where the elements are the indexes of
+     * the vertexes of the specified graph, joined by its arcs.
+     *
+     * @param graph Graph to have its connected components grouped.
+     */
+    public DisjointSet(IIndexedGraph<?> graph) {
+        this(graph.getVertexNumber());
+        for (int origin = 0; origin < size && setNumber > 1; origin++) {
+            int degree = graph.getDegree(origin);
+            for (int position = 0; position < degree; position++) {
+                union(origin, graph.getAdjacentIndex(origin, position));
+            }
+        }
+    }
+
+    /**
+     * Adds a new element in its own set.
+     *
+     * @return The added element.
+     */
+    public int add() {
+        if (size == parents.length) {
+            parents = Arrays.copyOf(parents, size * 2);
+            ranks = Arrays.copyOf(ranks, size * 2);
+        }
+        parents[size] = size;
+        setNumber++;
+        return size++;
+    }
+
+    /**
+     * Returns the representative of the set that contains the specified
+     * element.
+     *
+     * @param element Element to have its set found.
+     * @return Representative of the set.
+     */
+    public int find(int element) {
+        checkElement(element);
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+        return element;
+    }
+
+    /**
+     * Joins the sets that contain the specified elements.
+     *
+     * @param element1 Element of one of the sets.
+     * @param element2 Element of the other set.
+     * @return {@code true} if the elements were in different sets,
+     * {@code false} otherwise.
+     */
+    public boolean union(int element1, int element2) {
+        int root1 = find(element1), root2 = find(element2);
+        if (root1 == root2) return false;
+        if (ranks[root1] < ranks[root2]) {
+            parents[root1] = root2;
+        } else if (ranks[root1] > ranks[root2]) {
+            parents[root2] = root1;
+        } else {
+            parents[root2] = root1;
+            ranks[root1]++;
+        }
+        setNumber--;
+        return true;
+    }
+
+    /**
+     * Returns if the specified elements are in the same set.
+     *
+     * @param element1 One of the elements.
+     * @param element2 The other element.
+     * @return {@code true} if they are, {@code false} otherwise.
+     */
+    public boolean connected(int element1, int element2) {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return Number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of disjoint sets.
+     *
+     * @return Number of sets.
+     */
+    public int getSetNumber() {
+        return setNumber;
+    }
+
+    /**
+     * Verifies if the specified element belongs to the structure.
+     *
+     * @param element Element to be verified.
+     * @throws IndexOutOfBoundsException If it doesn't.
+     */
+    private void checkElement(int element) {
+        if (element < 0 || element >= size) {
+            throw new IndexOutOfBoundsException("The element " + element
+                    + " doesn't belong to the disjoint set.");
+        }
+    }
+
+}
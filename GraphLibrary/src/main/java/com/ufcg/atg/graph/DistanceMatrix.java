@@ -0,0 +1,422 @@
+package com.ufcg.atg.graph;
+
+import com.ufcg.atg.algorithm.BellmanFord;
+import com.ufcg.atg.algorithm.Dijkstra;
+import com.ufcg.atg.algorithm.FloydWarshall;
+import com.ufcg.atg.util.SearchWorkspace;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Distances between all pairs of vertexes of a graph, found by one of the
+ * {@link AllPairsStrategy} algorithms.
+ *
+ * The distances are kept in a single float array, a row for each vertex,
+ * with the rows and columns in the natural order of the vertexes instead of
+ * by index, so the matrix of a graph may be written to a file and read back
+ * for an equal graph, which must match the fingerprint of the vertexes, arcs
+ * and weights kept in the file. As the matrix of a graph of many vertexes
+ * doesn't fit in memory, {@link #write(BaseIndexedGraph, AllPairsStrategy,
+ * Path)} writes the matrix to the file as it's found: by rows of a few
+ * sources at a time, or by the Floyd-Warshall algorithm over the file mapped
+ * in memory.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class DistanceMatrix<V extends Comparable<V>> {
+
+    private static final int MAGIC = 0x41544744;
+
+    private static final int VERSION = 2;
+
+    private static final int HEADER_SIZE = 4 * Integer.BYTES + Long.BYTES;
+
+    private static final int ROWS_PER_WRITE = 64;
+
+    private final BaseIndexedGraph<V, ?> graph;
+
+    private final int[] order;
+
+    private final int[] positions;
+
+    private final float[] distances;
+
+    /**
+     * Constructs the {@link DistanceMatrix} of the specified graph.
+     *
+     * @param graph Indexed graph to have its distances found.
+     * @param strategy Algorithm that finds the distances.
+     * @throws RuntimeException If the graph is too large for its distances
+     * to be held in memory, or if it contains negative weighted edges and
+     * the strategy is {@link AllPairsStrategy#FLOYD_WARSHALL}.
+     * @throws NegativeCycleException If the graph contains a negative cycle.
+     */
+    public DistanceMatrix(BaseIndexedGraph<V, ?> graph, AllPairsStrategy strategy) {
+        int vertexNumber = graph.getVertexNumber();
+        if ((long) vertexNumber * vertexNumber > Integer.MAX_VALUE - 8) {
+            throw new RuntimeException("The graph is too large to hold its distances in memory.");
+        }
+        this.graph = graph;
+        order = graph.getOrderedIndexes();
+        positions = positionsOf(order);
+        distances = new float[vertexNumber * vertexNumber];
+        if (strategy == AllPairsStrategy.FLOYD_WARSHALL) {
+            requireNonNegativeWeights(graph);
+            IntStream.range(0, vertexNumber).parallel().forEach(position ->
+                    fillWeights(graph, order, positions, position, distances, position * vertexNumber));
+            FloydWarshall.solve(distances, vertexNumber);
+        } else {
+            IntStream.range(0, vertexNumber).parallel().forEach(position ->
+                    search(graph, order, positions, position, distances, position * vertexNumber));
+        }
+    }
+
+    /**
+     * Constructs a {@link DistanceMatrix} with the specified distances.
+     *
+     * @param graph Indexed graph of the distances.
+     * @param order Indexes in the order of the rows.
+     * @param distances Distances in the natural order of the vertexes.
+     */
+    private DistanceMatrix(BaseIndexedGraph<V, ?> graph, int[] order, float[] distances) {
+        this.graph = graph;
+        this.order = order;
+        this.positions = positionsOf(order);
+        this.distances = distances;
+    }
+
+    /**
+     * Returns the indexed graph of the distances.
+     *
+     * @return Indexed graph of the distances.
+     */
+    public BaseIndexedGraph<V, ?> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Returns the number of vertexes, that is, of rows of the matrix.
+     *
+     * @return Number of vertexes.
+     */
+    public int getVertexNumber() {
+        return order.length;
+    }
+
+    /**
+     * Returns the vertex of the specified row, or column, of the matrix.
+     *
+     * @param position Position of the vertex in the natural order.
+     * @return Vertex of the row.
+     */
+    public V getVertex(int position) {
+        return graph.getVertex(order[position]);
+    }
+
+    /**
+     * Returns the distance between the specified vertexes.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @throws RuntimeException If the graph doesn't contains the vertexes.
+     * @return Distance between the vertexes, or infinity if there isn't a
+     * path.
+     */
+    public float getDistance(V v1, V v2) {
+        return distances[positionOf(v1) * order.length + positionOf(v2)];
+    }
+
+    /**
+     * Returns the distances from the specified vertex to all vertexes, in
+     * their natural order.
+     *
+     * @param v Origin vertex of the paths.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Copy of the row of the vertex.
+     */
+    public float[] getDistances(V v) {
+        int start = positionOf(v) * order.length;
+        return Arrays.copyOfRange(distances, start, start + order.length);
+    }
+
+    /**
+     * Writes the distances to the specified file, from where they can be
+     * read back by {@link #read(Path, BaseIndexedGraph)}.
+     *
+     * @param path File path.
+     * @throws IOException If there is an error writing the file.
+     */
+    public void write(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeHeader(channel, graph, order);
+            byte[] buffer = new byte[order.length * Float.BYTES];
+            for (int row = 0; row < order.length; row++) {
+                ByteBuffer.wrap(buffer).asFloatBuffer().put(distances, row * order.length, order.length);
+                writeFully(channel, ByteBuffer.wrap(buffer));
+            }
+        }
+    }
+
+    /**
+     * Finds the distances between all pairs of vertexes of the graph and
+     * writes them to the specified file, in the format of
+     * {@link #write(Path)}, without holding the whole matrix in memory. The
+     * searches from each vertex are run a few rows at a time, and the
+     * Floyd-Warshall algorithm runs over the file mapped in memory.
+     *
+     * @param graph Indexed graph to have its distances found.
+     * @param strategy Algorithm that finds the distances.
+     * @param path File path.
+     * @throws IOException If there is an error writing the file.
+     * @throws RuntimeException If the graph contains negative weighted edges
+     * and the strategy is {@link AllPairsStrategy#FLOYD_WARSHALL}.
+     * @throws NegativeCycleException If the graph contains a negative cycle.
+     */
+    public static <V extends Comparable<V>> void write(BaseIndexedGraph<V, ?> graph, AllPairsStrategy strategy,
+                                                      Path path) throws IOException {
+        if (strategy == AllPairsStrategy.FLOYD_WARSHALL) requireNonNegativeWeights(graph);
+        int vertexNumber = graph.getVertexNumber();
+        int[] order = graph.getOrderedIndexes();
+        int[] positions = positionsOf(order);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeHeader(channel, graph, order);
+            if (strategy == AllPairsStrategy.FLOYD_WARSHALL) {
+                MappedByteBuffer[] mapped = new MappedByteBuffer[FloydWarshall.blockNumber(vertexNumber)];
+                FloatBuffer[] blockRows = new FloatBuffer[mapped.length];
+                for (int block = 0; block < mapped.length; block++) {
+                    long rowSize = (long) vertexNumber * Float.BYTES;
+                    mapped[block] = channel.map(FileChannel.MapMode.READ_WRITE,
+                            HEADER_SIZE + block * FloydWarshall.BLOCK_SIZE * rowSize,
+                            FloydWarshall.blockLength(block, vertexNumber) * rowSize);
+                    blockRows[block] = mapped[block].asFloatBuffer();
+                }
+                IntStream.range(0, mapped.length).parallel().forEach(block -> {
+                    float[] row = new float[vertexNumber];
+                    FloatBuffer buffer = blockRows[block].duplicate();
+                    int first = block * FloydWarshall.BLOCK_SIZE;
+                    for (int position = first; position < first + FloydWarshall.blockLength(block, vertexNumber);
+                         position++) {
+                        fillWeights(graph, order, positions, position, row, 0);
+                        buffer.put(row);
+                    }
+                });
+                FloydWarshall.solve(blockRows, vertexNumber, ForkJoinPool.commonPool());
+                for (MappedByteBuffer buffer : mapped) {
+                    buffer.force();
+                }
+            } else {
+                float[] rows = new float[Math.min(ROWS_PER_WRITE, vertexNumber) * vertexNumber];
+                byte[] buffer = new byte[vertexNumber * Float.BYTES];
+                for (int first = 0; first < vertexNumber; first += ROWS_PER_WRITE) {
+                    int from = first, rowNumber = Math.min(ROWS_PER_WRITE, vertexNumber - first);
+                    IntStream.range(0, rowNumber).parallel().forEach(row ->
+                            search(graph, order, positions, from + row, rows, row * vertexNumber));
+                    for (int row = 0; row < rowNumber; row++) {
+                        ByteBuffer.wrap(buffer).asFloatBuffer().put(rows, row * vertexNumber, vertexNumber);
+                        writeFully(channel, ByteBuffer.wrap(buffer));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the distances written by {@link #write(Path)} or
+     * {@link #write(BaseIndexedGraph, AllPairsStrategy, Path)} for a graph
+     * equal to the specified one.
+     *
+     * @param path File path.
+     * @param graph Indexed graph of the distances.
+     * @throws IOException If there is an error reading the file, or if it
+     * doesn't hold the distances of a graph with the same vertexes, arcs and
+     * weights.
+     * @return Read distances.
+     */
+    public static <V extends Comparable<V>> DistanceMatrix<V> read(Path path, BaseIndexedGraph<V, ?> graph)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.wrap(new byte[HEADER_SIZE]);
+            readFully(channel, header);
+            header = ByteBuffer.wrap(header.array());
+            if (header.getInt() != MAGIC) {
+                throw new IOException("The file doesn't contains a distance matrix.");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("The distance matrix version " + version + " isn't supported.");
+            }
+            if (header.getInt() != graph.getVertexNumber() || header.getInt() != graph.getEdgeNumber()) {
+                throw new IOException("The distance matrix wasn't computed for the specified graph.");
+            }
+            int[] order = graph.getOrderedIndexes();
+            if (header.getLong() != graph.getFingerprint(order)) {
+                throw new IOException("The distance matrix wasn't computed for the specified graph.");
+            }
+            int vertexNumber = graph.getVertexNumber();
+            if ((long) vertexNumber * vertexNumber > Integer.MAX_VALUE - 8) {
+                throw new IOException("The graph is too large to hold its distances in memory.");
+            }
+            float[] distances = new float[vertexNumber * vertexNumber];
+            byte[] buffer = new byte[vertexNumber * Float.BYTES];
+            for (int row = 0; row < vertexNumber; row++) {
+                readFully(channel, ByteBuffer.wrap(buffer));
+                ByteBuffer.wrap(buffer).asFloatBuffer().get(distances, row * vertexNumber, vertexNumber);
+            }
+            return new DistanceMatrix<>(graph, order, distances);
+        }
+    }
+
+    /**
+     * Returns the position of the specified vertex in the natural order.
+     *
+     * @param v Vertex to have its position returned.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Position of the vertex.
+     */
+    private int positionOf(V v) {
+        int index = graph.indexOf(v);
+        if (index == -1) {
+            throw new RuntimeException("The graph doesn't contains the specified vertex.");
+        }
+        return positions[index];
+    }
+
+    /**
+     * Fills a row with the weights of the lightest arcs from its vertex,
+     * infinity where there is none and zero (0) at the vertex itself, as the
+     * Floyd-Warshall algorithm starts.
+     *
+     * @param graph Graph of the arcs.
+     * @param order Indexes in the order of the rows.
+     * @param positions Row of each index.
+     * @param position Row to be filled.
+     * @param row Array that receives the row.
+     * @param offset Position of the row in the array.
+     */
+    private static void fillWeights(IIndexedGraph<?> graph, int[] order, int[] positions, int position,
+                                    float[] row, int offset) {
+        Arrays.fill(row, offset, offset + order.length, Float.POSITIVE_INFINITY);
+        row[offset + position] = 0f;
+        int index = order[position];
+        int degree = graph.getDegree(index);
+        for (int i = 0; i < degree; i++) {
+            int column = offset + positions[graph.getAdjacentIndex(index, i)];
+            row[column] = Math.min(row[column], graph.getWeight(index, i));
+        }
+    }
+
+    /**
+     * Fills a row with the distances from its vertex, found by Dijkstra's
+     * algorithm or, if there are negative weights, by the Bellman-Ford
+     * algorithm.
+     *
+     * @param graph Graph to be searched.
+     * @param order Indexes in the order of the rows.
+     * @param positions Row of each index.
+     * @param position Row to be filled.
+     * @param row Array that receives the row.
+     * @param offset Position of the row in the array.
+     * @throws NegativeCycleException If there is a negative cycle reachable
+     * from the vertex.
+     */
+    private static <V extends Comparable<V>> void search(BaseIndexedGraph<V, ?> graph, int[] order, int[] positions,
+                                                         int position, float[] row, int offset) {
+        int source = order[position];
+        if (graph.containsNegativeWeightedEdge()) {
+            BellmanFord search = graph.searchWithNegativeWeights(source);
+            for (int index = 0; index < order.length; index++) {
+                row[offset + positions[index]] = search.getDistance(index);
+            }
+        } else {
+            SearchWorkspace workspace = SearchWorkspace.forThread(order.length);
+            Dijkstra.search(graph, source, -1, workspace);
+            for (int index = 0; index < order.length; index++) {
+                row[offset + positions[index]] = workspace.getDistance(index);
+            }
+        }
+    }
+
+    /**
+     * Checks that the graph doesn't contains negative weighted edges.
+     *
+     * @param graph Graph to be checked.
+     * @throws RuntimeException If it contains.
+     */
+    private static void requireNonNegativeWeights(BaseIndexedGraph<?, ?> graph) {
+        if (graph.containsNegativeWeightedEdge()) {
+            throw new RuntimeException("The Floyd-Warshall algorithm cannot be used in a graph" +
+                    " with negative weighted edges.");
+        }
+    }
+
+    /**
+     * Writes the header of the matrix of the graph.
+     *
+     * @param channel Channel of the file.
+     * @param graph Graph of the matrix.
+     * @param order Indexes sorted by the natural order of their vertexes.
+     * @throws IOException If there is an error writing the file.
+     */
+    private static void writeHeader(FileChannel channel, BaseIndexedGraph<?, ?> graph, int[] order)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, graph.getVertexNumber())
+                .putInt(12, graph.getEdgeNumber()).putLong(16, graph.getFingerprint(order));
+        writeFully(channel, header);
+    }
+
+    /**
+     * Writes all remaining bytes of the buffer to the channel.
+     *
+     * @param channel Channel of the file.
+     * @param buffer Buffer to be written.
+     * @throws IOException If there is an error writing the file.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Fills the remaining bytes of the buffer from the channel.
+     *
+     * @param channel Channel of the file.
+     * @param buffer Buffer to be filled.
+     * @throws IOException If there is an error reading the file, or if it
+     * ends first.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                throw new IOException("The distance matrix file ended unexpectedly.");
+            }
+        }
+    }
+
+    /**
+     * Returns the position of each index in the specified order.
+     *
+     * @param order Indexes in order.
+     * @return Position of each index.
+     */
+    private static int[] positionsOf(int[] order) {
+        int[] positions = new int[order.length];
+        for (int position = 0; position < order.length; position++) {
+            positions[order[position]] = position;
+        }
+        return positions;
+    }
+
+}
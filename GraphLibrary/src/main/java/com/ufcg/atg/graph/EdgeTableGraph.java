@@ -0,0 +1,35 @@
+package com.ufcg.atg.graph;
+
+/**
+ * Represents a implementation of a undirected and unweighted graph that
+ * stores each edge only once, based on the interface defined by
+ * {@link IGraph}.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class EdgeTableGraph<V extends Comparable<V>> extends BaseEdgeTableGraph<V, Edge<V>>
+        implements IGraph<V, Edge<V>> {
+
+    /**
+     * Constructs a {@link EdgeTableGraph}.
+     */
+    public EdgeTableGraph() {
+        super(false);
+    }
+
+    @Override
+    public Edge<V> addEdge(V v1, V v2) {
+        return addTableEdge(v1, v2, 1f);
+    }
+
+    @Override
+    protected Edge<V> createEdge(V origin, V target, float weight) {
+        return new Edge<>(origin, target);
+    }
+
+    @Override
+    protected String mapOperatorListRepresentation(int index, int position) {
+        return getVertex(getAdjacentIndex(index, position)).toString();
+    }
+
+}
@@ -10,8 +10,6 @@ package com.ufcg.atg.graph;
  */
 public class Graph<V extends Comparable<V>> extends BaseGraph<V, Edge<V>> implements IGraph<V, Edge<V>> {
 
-    private static final int EDGE_WEIGHT = 1;
-
     /**
      * Constructs a {@link Graph}.
      */
@@ -25,19 +23,33 @@ public class Graph<V extends Comparable<V>> extends BaseGraph<V, Edge<V>> implem
         addIfAbsent(v2);
         Edge<V> edgeToReturn = new Edge<>(v1, v2),
                 reverseEdge = new Edge<>(v2, v1);
-        vertexes.get(v1).add(edgeToReturn);
-        vertexes.get(v2).add(reverseEdge);
+        addArc(v1, edgeToReturn);
+        addArc(v2, reverseEdge);
         return edgeToReturn;
     }
 
+    /**
+     * Adds the specified edges at once, as {@link #addEdge(Comparable,
+     * Comparable)} does for each one.
+     *
+     * @param v1s Origin vertex of each edge.
+     * @param v2s Target vertex of each edge.
+     * @param size Number of edges, taken from the start of the arrays.
+     * @return Number of edges added, as the edges already on the graph are
+     * skipped.
+     */
+    public int addEdges(V[] v1s, V[] v2s, int size) {
+        return addEdges(v1s, v2s, null, size);
+    }
+
     @Override
-    protected float getEdgeWeight(Edge<V> e) {
-        return EDGE_WEIGHT;
+    protected Edge<V> createEdge(V origin, V target, float weight) {
+        return new Edge<>(origin, target);
     }
 
     @Override
-    protected String mapOperatorListRepresentation(Edge<V> e) {
-        return e.getTargetVertex().toString();
+    protected BaseIndexedGraph<V, Edge<V>> createIndexedGraph() {
+        return new CSRGraph<>(this);
     }
 
 }
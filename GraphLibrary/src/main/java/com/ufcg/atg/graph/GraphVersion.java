@@ -0,0 +1,224 @@
+package com.ufcg.atg.graph;
+
+import com.ufcg.atg.util.Utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents an immutable version of a {@link BaseVersionedGraph}, made of
+ * its compacted base and of the prefix of its delta log written when the
+ * version was taken, based on the interfaces defined by {@link IGraph} and
+ * {@link IIndexedGraph}.
+ *
+ * The base is shared, never copied. The vertexes added after the base are
+ * indexed after the vertexes of the base, and the arcs of the delta follow
+ * the arcs of the base of their origin, so the version costs only the size
+ * of the delta to be built.
+ *
+ * @param <V> Type of the vertex.
+ * @param <E> Type of the edge.
+ */
+public class GraphVersion<V extends Comparable<V>, E extends Edge<V>> extends BaseIndexedGraph<V, E> {
+
+    final BaseCSRGraph<V, E> base;
+
+    private final V[] addedVertexes;
+
+    private final Map<V, Integer> addedIndexes;
+
+    private final int vertexNumber;
+
+    private final int[] deltaOffsets;
+
+    private final int[] deltaTargets;
+
+    private final float[] deltaWeights;
+
+    private final boolean negativeWeighted;
+
+    final int loggedVertexNumber;
+
+    final int loggedEdgeNumber;
+
+    private DegreeStatistics degreeStatistics;
+
+    /**
+     * Constructs a {@link GraphVersion}. The specified arrays are only read
+     * up to the logged numbers, so the writer may keep appending to them.
+     *
+     * @param base Compacted base of the graph.
+     * @param vertexLog Vertexes added after the base.
+     * @param loggedVertexNumber Number of vertexes of the log in the version.
+     * @param origins Origins of the edges added after the base.
+     * @param targets Targets of the edges added after the base.
+     * @param weights Weights of the edges added after the base, or
+     *                {@code null} if the graph is unweighted.
+     * @param loggedEdgeNumber Number of edges of the log in the version.
+     */
+    GraphVersion(BaseCSRGraph<V, E> base, V[] vertexLog, int loggedVertexNumber,
+                 V[] origins, V[] targets, float[] weights, int loggedEdgeNumber) {
+        this.base = base;
+        this.loggedVertexNumber = loggedVertexNumber;
+        this.loggedEdgeNumber = loggedEdgeNumber;
+        addedVertexes = vertexLog;
+        addedIndexes = new HashMap<>();
+        int baseVertexNumber = base.getVertexNumber();
+        for (int i = 0; i < loggedVertexNumber; i++) {
+            addedIndexes.put(vertexLog[i], baseVertexNumber + i);
+        }
+        vertexNumber = baseVertexNumber + loggedVertexNumber;
+
+        int[] origin = new int[loggedEdgeNumber], target = new int[loggedEdgeNumber];
+        deltaOffsets = new int[vertexNumber + 1];
+        for (int i = 0; i < loggedEdgeNumber; i++) {
+            origin[i] = indexOf(origins[i]);
+            target[i] = indexOf(targets[i]);
+            deltaOffsets[origin[i] + 1]++;
+            if (origin[i] != target[i]) deltaOffsets[target[i] + 1]++;
+        }
+        for (int i = 0; i < vertexNumber; i++) {
+            deltaOffsets[i + 1] += deltaOffsets[i];
+        }
+        deltaTargets = new int[deltaOffsets[vertexNumber]];
+        deltaWeights = weights == null ? null : new float[deltaTargets.length];
+        int[] filled = new int[vertexNumber];
+        boolean negative = base.containsNegativeWeightedEdge();
+        for (int i = 0; i < loggedEdgeNumber; i++) {
+            float weight = weights == null ? 1f : weights[i];
+            addDeltaArc(origin[i], target[i], weight, filled);
+            if (origin[i] != target[i]) addDeltaArc(target[i], origin[i], weight, filled);
+            negative |= weight < 0;
+        }
+        negativeWeighted = negative;
+    }
+
+    /**
+     * Adds an arc after the arcs of the delta already filled for its origin.
+     *
+     * @param origin Index of the origin of the arc.
+     * @param target Index of the target of the arc.
+     * @param weight Weight of the arc.
+     * @param filled Number of arcs of the delta filled for each index.
+     */
+    private void addDeltaArc(int origin, int target, float weight, int[] filled) {
+        int arc = deltaOffsets[origin] + filled[origin]++;
+        deltaTargets[arc] = target;
+        if (deltaWeights != null) deltaWeights[arc] = weight;
+    }
+
+    /**
+     * Throws an exception, as the version is immutable.
+     *
+     * @param v Vertex that wouldn't be added.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public void addVertex(V v) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    /**
+     * Throws an exception, as the version is immutable.
+     *
+     * @param v1 Vertex that wouldn't be the edge origin.
+     * @param v2 Vertex that wouldn't be the edge target.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public E addEdge(V v1, V v2) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    @Override
+    protected E createEdge(V origin, V target, float weight) {
+        return base.createEdge(origin, target, weight);
+    }
+
+    @Override
+    protected String mapOperatorListRepresentation(int index, int position) {
+        String target = getVertex(getAdjacentIndex(index, position)).toString();
+        if (deltaWeights == null) return target;
+        return target + "(" + Utils.floatToString(getWeight(index, position)) + ")";
+    }
+
+    @Override
+    public int indexOf(V v) {
+        int index = base.indexOf(v);
+        if (index != -1) return index;
+        Integer addedIndex = addedIndexes.get(v);
+        return addedIndex == null ? -1 : addedIndex;
+    }
+
+    @Override
+    public V getVertex(int index) {
+        int baseVertexNumber = base.getVertexNumber();
+        return index < baseVertexNumber ? base.getVertex(index) : addedVertexes[index - baseVertexNumber];
+    }
+
+    @Override
+    public int getDegree(int index) {
+        int baseDegree = index < base.getVertexNumber() ? base.getDegree(index) : 0;
+        return baseDegree + deltaOffsets[index + 1] - deltaOffsets[index];
+    }
+
+    @Override
+    public int getAdjacentIndex(int index, int position) {
+        int baseDegree = index < base.getVertexNumber() ? base.getDegree(index) : 0;
+        if (position < baseDegree) return base.getAdjacentIndex(index, position);
+        return deltaTargets[deltaOffsets[index] + position - baseDegree];
+    }
+
+    @Override
+    public float getWeight(int index, int position) {
+        int baseDegree = index < base.getVertexNumber() ? base.getDegree(index) : 0;
+        if (position < baseDegree) return base.getWeight(index, position);
+        return deltaWeights == null ? 1f : deltaWeights[deltaOffsets[index] + position - baseDegree];
+    }
+
+    @Override
+    public int getVertexNumber() {
+        return vertexNumber;
+    }
+
+    @Override
+    public int getEdgeNumber() {
+        return base.getEdgeNumber() + deltaTargets.length;
+    }
+
+    /**
+     * Returns the degree counters of the version, counted on the first call.
+     *
+     * @return Degree counters of the version.
+     */
+    @Override
+    protected DegreeStatistics getDegreeStatistics() {
+        if (degreeStatistics == null) degreeStatistics = new DegreeStatistics(this);
+        return degreeStatistics;
+    }
+
+    @Override
+    protected boolean isWeighted() {
+        return base.isWeighted();
+    }
+
+    @Override
+    protected boolean containsNegativeWeightedEdge() {
+        return negativeWeighted;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GraphVersion<?, ?> that = (GraphVersion<?, ?>) o;
+        return getAllVertexes().equals(that.getAllVertexes()) &&
+                getAllEdges().equals(that.getAllEdges());
+    }
+
+    @Override
+    public int hashCode() {
+        return getAllEdges().hashCode();
+    }
+
+}
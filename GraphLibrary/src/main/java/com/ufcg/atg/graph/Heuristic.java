@@ -0,0 +1,77 @@
+package com.ufcg.atg.graph;
+
+/**
+ * Estimate of the weight of the shortest path between two vertexes, which
+ * guides the A* search towards the target. The search finds the shortest
+ * path as long as the estimate is admissible, that is, never greater than
+ * the weight of the shortest path.
+ *
+ * @param <V> Type of the vertex.
+ */
+@FunctionalInterface
+public interface Heuristic<V extends Comparable<V>> {
+
+    /**
+     * Mean radius of the Earth, in kilometers.
+     */
+    double EARTH_RADIUS = 6371.0088;
+
+    /**
+     * Returns a lower bound of the weight of the shortest path between the
+     * specified vertexes.
+     *
+     * @param v Vertex where the path starts.
+     * @param target Vertex where the path ends.
+     * @return Lower bound of the weight of the path.
+     */
+    float estimate(V v, V target);
+
+    /**
+     * Returns the heuristic that estimates nothing, with which the A* search
+     * settles the same vertexes of Dijkstra's algorithm.
+     *
+     * @return Heuristic that always estimates zero (0).
+     */
+    static <V extends Comparable<V>> Heuristic<V> none() {
+        return (v, target) -> 0f;
+    }
+
+    /**
+     * Returns the heuristic of the Euclidean distance between the vertexes,
+     * which is admissible if no edge weighs less than the distance between
+     * its vertexes. Vertexes without coordinates are estimated as zero (0).
+     *
+     * @param coordinates Planar coordinates of the vertexes.
+     * @return Euclidean heuristic.
+     */
+    static <V extends Comparable<V>> Heuristic<V> euclidean(VertexCoordinates<V> coordinates) {
+        return (v, target) -> (float) coordinates.euclideanDistance(v, target);
+    }
+
+    /**
+     * Returns the heuristic of the great-circle distance, in kilometers,
+     * between vertexes placed by longitude and latitude, which is admissible
+     * if no edge weighs less than the distance between its vertexes. Vertexes
+     * without coordinates are estimated as zero (0).
+     *
+     * @param coordinates Geographic coordinates of the vertexes, in degrees.
+     * @return Haversine heuristic.
+     */
+    static <V extends Comparable<V>> Heuristic<V> haversine(VertexCoordinates<V> coordinates) {
+        return haversine(coordinates, EARTH_RADIUS);
+    }
+
+    /**
+     * Returns the heuristic of the great-circle distance between vertexes
+     * placed by longitude and latitude on a sphere of the specified radius,
+     * as {@link #haversine(VertexCoordinates)}.
+     *
+     * @param coordinates Geographic coordinates of the vertexes, in degrees.
+     * @param radius Radius of the sphere, in the unit of the weights.
+     * @return Haversine heuristic.
+     */
+    static <V extends Comparable<V>> Heuristic<V> haversine(VertexCoordinates<V> coordinates, double radius) {
+        return (v, target) -> (float) coordinates.haversineDistance(v, target, radius);
+    }
+
+}
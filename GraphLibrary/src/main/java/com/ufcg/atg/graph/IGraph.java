@@ -1,5 +1,6 @@
 package com.ufcg.atg.graph;
 
+import java.io.IOException;
 import java.util.Set;
 
 /**
@@ -98,6 +99,29 @@ public interface IGraph<V extends Comparable<V>, E extends Edge<V>> {
      */
     float getMeanEdge();
 
+    /**
+     * Returns the minimum degree among the vertexes of the graph.
+     *
+     * @return Minimum degree, or zero (0) if the graph has no vertexes.
+     */
+    int getMinDegree();
+
+    /**
+     * Returns the maximum degree among the vertexes of the graph.
+     *
+     * @return Maximum degree, or zero (0) if the graph has no vertexes.
+     */
+    int getMaxDegree();
+
+    /**
+     * Returns the degree histogram of the graph, where the position {@code d}
+     * holds the number of vertexes of degree {@code d}, up to the maximum
+     * degree.
+     *
+     * @return Degree histogram of the graph.
+     */
+    int[] getDegreeHistogram();
+
     /**
      * Returns the graph representation based on the {@link RepresentationType}
      * specified.
@@ -108,6 +132,18 @@ public interface IGraph<V extends Comparable<V>, E extends Edge<V>> {
      */
     String graphRepresentation(RepresentationType representationType);
 
+    /**
+     * Appends the graph representation based on the
+     * {@link RepresentationType} specified, one line at a time, so the whole
+     * representation is never held in memory.
+     *
+     * @param representationType Type of the representation to be appended.
+     * @param out Where the representation is appended.
+     * @throws IOException If the representation cannot be appended.
+     */
+    void graphRepresentation(RepresentationType representationType, Appendable out)
+            throws IOException;
+
     /**
      * Returns a tree representation based on the Breadth-first Search (BFS)
      * algorithm starting from the vertex specified.
@@ -117,6 +153,16 @@ public interface IGraph<V extends Comparable<V>, E extends Edge<V>> {
      */
     String BFS(V v);
 
+    /**
+     * Returns the result of the Breadth-first Search (BFS) algorithm starting
+     * from the vertex specified, whose string representation is the one
+     * returned by {@link #BFS(Comparable)}.
+     *
+     * @param v The vertex to be the root of the walk.
+     * @return Levels and predecessors of the BFS.
+     */
+    WalkResult<V> BFSResult(V v);
+
     /**
      * Returns a tree representation based on the Depth-first Search (DFS)
      * algorithm starting from the vertex specified.
@@ -126,6 +172,16 @@ public interface IGraph<V extends Comparable<V>, E extends Edge<V>> {
      */
     String DFS(V v);
 
+    /**
+     * Returns the result of the Depth-first Search (DFS) algorithm starting
+     * from the vertex specified, whose string representation is the one
+     * returned by {@link #DFS(Comparable)}.
+     *
+     * @param v The vertex to be the root of the walk.
+     * @return Levels and predecessors of the DFS.
+     */
+    WalkResult<V> DFSResult(V v);
+
     /**
      * Returns a boolean indicating if the graph is connect or not.
      *
@@ -143,6 +199,28 @@ public interface IGraph<V extends Comparable<V>, E extends Edge<V>> {
      */
     String shortestPath(V v1, V v2);
 
+    /**
+     * Returns the shortest path between the specified vertexes, whose string
+     * representation is the one returned by
+     * {@link #shortestPath(Comparable, Comparable)}.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    PathResult<V> shortestPathResult(V v1, V v2);
+
+    /**
+     * Returns the shortest paths from the specified vertex to all vertexes,
+     * found by a single search, so the paths to many targets from the same
+     * origin cost one search.
+     *
+     * @param source Origin vertex of the paths.
+     * @return Distances and predecessors of all vertexes.
+     */
+    ShortestPathTree<V> shortestPathTree(V source);
+
     /**
      * Returns a representation of the Minimum Spanning Tree (MST) of the
      * graph.
@@ -151,4 +229,12 @@ public interface IGraph<V extends Comparable<V>, E extends Edge<V>> {
      */
     String MST();
 
+    /**
+     * Returns the Minimum Spanning Tree (MST) of the graph, whose string
+     * representation is the one returned by {@link #MST()}.
+     *
+     * @return Edges and total weight of the MST.
+     */
+    MSTResult<V, E> MSTResult();
+
 }
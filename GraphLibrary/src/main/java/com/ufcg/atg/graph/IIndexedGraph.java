@@ -0,0 +1,86 @@
+package com.ufcg.atg.graph;
+
+import java.util.Arrays;
+
+/**
+ * Defines the interface of a graph whose vertexes are addressed by dense
+ * indexes, from zero (0) to {@code getVertexNumber() - 1}. Each vertex has
+ * its arcs (edges seen from that vertex) addressed by a position, from zero
+ * (0) to {@code getDegree(index) - 1}.
+ *
+ * It is the view used by the algorithms of the library to walk by a graph
+ * over primitive arrays instead of sets of boxed edges.
+ *
+ * @param <V> Type of the vertex.
+ */
+public interface IIndexedGraph<V extends Comparable<V>> {
+
+    /**
+     * Returns the number of vertexes of the graph.
+     *
+     * @return Number of vertexes of the graph.
+     */
+    int getVertexNumber();
+
+    /**
+     * Returns the index of the specified vertex.
+     *
+     * @param v Vertex to have its index returned.
+     * @return Index of the vertex, or -1 if the graph doesn't contains it.
+     */
+    int indexOf(V v);
+
+    /**
+     * Returns the vertex of the specified index.
+     *
+     * @param index Index of the vertex.
+     * @return Vertex of the specified index.
+     */
+    V getVertex(int index);
+
+    /**
+     * Returns the number of arcs leaving the vertex of the specified index.
+     *
+     * @param index Index of the vertex.
+     * @return Degree of the vertex.
+     */
+    int getDegree(int index);
+
+    /**
+     * Returns the index of the target vertex of an arc.
+     *
+     * @param index Index of the origin vertex of the arc.
+     * @param position Position of the arc among the origin vertex's arcs.
+     * @return Index of the target vertex of the arc.
+     */
+    int getAdjacentIndex(int index, int position);
+
+    /**
+     * Returns the weight of an arc.
+     *
+     * @param index Index of the origin vertex of the arc.
+     * @param position Position of the arc among the origin vertex's arcs.
+     * @return Weight of the arc.
+     */
+    float getWeight(int index, int position);
+
+    /**
+     * Returns the indexes sorted by the natural order of their vertexes, in
+     * a new array.
+     *
+     * @return Sorted indexes.
+     */
+    default int[] getOrderedIndexes() {
+        Integer[] boxedOrder = new Integer[getVertexNumber()];
+        for (int i = 0; i < boxedOrder.length; i++) {
+            boxedOrder[i] = i;
+        }
+        Arrays.sort(boxedOrder, (i1, i2) -> getVertex(i1).compareTo(getVertex(i2)));
+        int[] order = new int[boxedOrder.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = boxedOrder[i];
+        }
+        return order;
+    }
+
+}
@@ -37,4 +37,30 @@ public interface IWeightedGraph<V extends Comparable<V>, E extends WeightedEdge<
      * @return The added weighted edge.
      */
     E addEdge(V v1, V v2, float weight);
+
+    /**
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the A* search guided by the specified heuristic.
+     * The path is the shortest as long as the heuristic is admissible.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param heuristic Lower bound of the weight of the path between two
+     *                  vertexes.
+     * @return Shortest path between {@code v1} e {@code v2}.
+     */
+    String shortestPath(V v1, V v2, Heuristic<V> heuristic);
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by the
+     * A* search, as {@link #shortestPath(Comparable, Comparable, Heuristic)}.
+     *
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param heuristic Lower bound of the weight of the path between two
+     *                  vertexes.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    PathResult<V> shortestPathResult(V v1, V v2, Heuristic<V> heuristic);
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.ufcg.atg.graph;
+
+/**
+ * Represents a implementation of a undirected and unweighted graph whose
+ * vertexes are primitive ints, based on the interface defined by
+ * {@link IGraph}.
+ */
+public class IntGraph extends BaseIntGraph<Edge<Integer>> implements IGraph<Integer, Edge<Integer>> {
+
+    /**
+     * Constructs a {@link IntGraph}.
+     */
+    public IntGraph() {
+        super(false);
+    }
+
+    /**
+     * Adds a edge to the graph. {@code v1} is going to be the edge origin and
+     * {@code v2} the edge target. As this is an undirected graph, each added
+     * edge, internally, will be represented by two arcs, one from {@code v1}
+     * to {@code v2} and another from {@code v2} to {@code v1}.
+     *
+     * @param v1 Vertex to be the edge origin.
+     * @param v2 Vertex to be the edge target.
+     */
+    public void addEdge(int v1, int v2) {
+        addArcs(v1, v2, 1f);
+    }
+
+    /**
+     * Adds the specified edges at once, as {@link #addEdge(int, int)} does
+     * for each one.
+     *
+     * @param v1s Origin vertex of each edge.
+     * @param v2s Target vertex of each edge.
+     * @param size Number of edges, taken from the start of the arrays.
+     * @return Number of edges added, as the edges already on the graph are
+     * skipped.
+     */
+    public int addEdges(int[] v1s, int[] v2s, int size) {
+        return addArcs(v1s, v2s, null, size);
+    }
+
+    /**
+     * Returns if the graph contains an edge between the specified vertexes.
+     *
+     * @param v1 Vertex to be the edge origin.
+     * @param v2 Vertex to be the edge target.
+     * @return {@code true} if contains, {@code false} otherwise.
+     */
+    public boolean containsEdge(int v1, int v2) {
+        return containsArcs(v1, v2, 1f);
+    }
+
+    @Override
+    public Edge<Integer> addEdge(Integer v1, Integer v2) {
+        addArcs(v1, v2, 1f);
+        return new Edge<>(v1, v2);
+    }
+
+    @Override
+    protected Edge<Integer> createEdge(Integer origin, Integer target, float weight) {
+        return new Edge<>(origin, target);
+    }
+
+    @Override
+    protected String mapOperatorListRepresentation(int index, int position) {
+        return getVertex(getAdjacentIndex(index, position)).toString();
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.ufcg.atg.graph;
+
+import com.ufcg.atg.util.Utils;
+
+/**
+ * Represents a implementation of a undirected and weighted graph whose
+ * vertexes are primitive ints, based on the interface defined by
+ * {@link IWeightedGraph}.
+ */
+public class IntWeightedGraph extends BaseIntGraph<WeightedEdge<Integer>>
+        implements IWeightedGraph<Integer, WeightedEdge<Integer>> {
+
+    /**
+     * Constructs a {@link IntWeightedGraph}.
+     */
+    public IntWeightedGraph() {
+        super(true);
+    }
+
+    /**
+     * Adds a weighted edge to the graph. {@code v1} is going to be the edge
+     * origin and {@code v2} the edge target. As the weight wasn't specified,
+     * it will be defined as one (1).
+     *
+     * @param v1 Vertex to be the edge origin.
+     * @param v2 Vertex to be the edge target.
+     */
+    public void addEdge(int v1, int v2) {
+        addArcs(v1, v2, WeightedGraph.EDGE_DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Adds a weighted edge to the graph. {@code v1} is going to be the edge
+     * origin and {@code v2} the edge target.
+     *
+     * @param v1 Vertex to be the edge origin.
+     * @param v2 Vertex to be the edge target.
+     * @param weight The weight of the edge.
+     */
+    public void addEdge(int v1, int v2, float weight) {
+        addArcs(v1, v2, weight);
+    }
+
+    /**
+     * Adds the specified weighted edges at once, as
+     * {@link #addEdge(int, int, float)} does for each one.
+     *
+     * @param v1s Origin vertex of each edge.
+     * @param v2s Target vertex of each edge.
+     * @param weights Weight of each edge.
+     * @param size Number of edges, taken from the start of the arrays.
+     * @return Number of edges added, as the edges already on the graph are
+     * skipped.
+     */
+    public int addEdges(int[] v1s, int[] v2s, float[] weights, int size) {
+        return addArcs(v1s, v2s, weights, size);
+    }
+
+    /**
+     * Returns if the graph contains an edge between the specified vertexes
+     * with the specified weight.
+     *
+     * @param v1 Vertex to be the edge origin.
+     * @param v2 Vertex to be the edge target.
+     * @param weight The weight of the edge.
+     * @return {@code true} if contains, {@code false} otherwise.
+     */
+    public boolean containsEdge(int v1, int v2, float weight) {
+        return containsArcs(v1, v2, weight);
+    }
+
+    @Override
+    public WeightedEdge<Integer> addEdge(Integer v1, Integer v2) {
+        return addEdge(v1, v2, WeightedGraph.EDGE_DEFAULT_WEIGHT);
+    }
+
+    @Override
+    public WeightedEdge<Integer> addEdge(Integer v1, Integer v2, float weight) {
+        addArcs(v1, v2, weight);
+        return new WeightedEdge<>(v1, v2, weight);
+    }
+
+    @Override
+    protected WeightedEdge<Integer> createEdge(Integer origin, Integer target, float weight) {
+        return new WeightedEdge<>(origin, target, weight);
+    }
+
+    @Override
+    protected String mapOperatorListRepresentation(int index, int position) {
+        return getVertex(getAdjacentIndex(index, position)).toString() + "("
+                + Utils.floatToString(getWeight(index, position)) + ")";
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.ufcg.atg.graph;
+
+/**
+ * Represents all the ways the landmarks of {@link Landmarks} may be picked.
+ * <ul>
+ *     <li>{@link #FARTHEST}: each landmark is the vertex farthest from the
+ *     landmarks already picked;</li>
+ *     <li>{@link #AVOID}: each landmark is the leaf of the largest subtree,
+ *     of a shortest path tree from a random root, whose paths the landmarks
+ *     already picked bound the worst, as proposed by Goldberg and
+ *     Werneck.</li>
+ * </ul>
+ */
+public enum LandmarkSelection {
+    FARTHEST, AVOID
+}
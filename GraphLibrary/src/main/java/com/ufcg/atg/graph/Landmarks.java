@@ -0,0 +1,458 @@
+package com.ufcg.atg.graph;
+
+import com.ufcg.atg.algorithm.Dijkstra;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed distances from a few landmark vertexes to every vertex of a
+ * graph, which give lower bounds of the distance between any two vertexes
+ * by the triangle inequality: the distance between {@code v} and {@code t}
+ * is at least {@code |d(l, t) - d(l, v)|} for any landmark {@code l}. These
+ * bounds guide the A* search of the ALT (A*, Landmarks and Triangle
+ * inequality) algorithm, which settles far fewer vertexes than Dijkstra's
+ * algorithm on repeated queries to a graph that rarely changes.
+ *
+ * The distances are kept in a single float array, with the distances of
+ * each vertex to all landmarks side by side, so a bound reads a single row.
+ * They belong to the indexed graph they were computed on, and must be
+ * computed again, or read again, when the graph changes. They may be written
+ * to a file, and read back for an equal graph, as the rows are written in
+ * the natural order of the vertexes instead of by index, with a fingerprint
+ * of the vertexes, arcs and weights that the graph must match.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class Landmarks<V extends Comparable<V>> {
+
+    /**
+     * Default number of landmarks.
+     */
+    public static final int DEFAULT_LANDMARK_NUMBER = 16;
+
+    private static final int MAGIC = 0x4154474C;
+
+    private static final int VERSION = 2;
+
+    private final BaseIndexedGraph<V, ?> graph;
+
+    private final int[] landmarks;
+
+    private final float[] distances;
+
+    private final long modificationNumber;
+
+    /**
+     * Constructs {@link Landmarks} picked by the specified selection, with a
+     * fixed seed.
+     *
+     * @param graph Indexed graph to have its landmarks picked.
+     * @param landmarkNumber Number of landmarks, which is reduced to the
+     *                       vertex number if greater.
+     * @param selection How the landmarks are picked.
+     * @throws RuntimeException If the graph contains negative weighted edges.
+     */
+    public Landmarks(BaseIndexedGraph<V, ?> graph, int landmarkNumber, LandmarkSelection selection) {
+        this(graph, landmarkNumber, selection, 0);
+    }
+
+    /**
+     * Constructs {@link Landmarks} picked by the specified selection. Each
+     * landmark depends on the distances to the landmarks picked before it,
+     * so they are computed one after the other.
+     *
+     * @param graph Indexed graph to have its landmarks picked.
+     * @param landmarkNumber Number of landmarks, which is reduced to the
+     *                       vertex number if greater.
+     * @param selection How the landmarks are picked.
+     * @param seed Seed of the random vertexes where the selection starts.
+     * @throws RuntimeException If the graph contains negative weighted edges.
+     * @throws IllegalArgumentException If the number of landmarks isn't
+     * positive.
+     */
+    public Landmarks(BaseIndexedGraph<V, ?> graph, int landmarkNumber, LandmarkSelection selection,
+                     long seed) {
+        requireNonNegativeWeights(graph);
+        if (landmarkNumber <= 0) {
+            throw new IllegalArgumentException("The number of landmarks must be positive.");
+        }
+        int vertexNumber = graph.getVertexNumber();
+        this.graph = graph;
+        modificationNumber = graph.getModificationNumber();
+        landmarks = new int[Math.min(landmarkNumber, vertexNumber)];
+        distances = new float[tableSize(vertexNumber, landmarks.length)];
+        Random random = new Random(seed);
+        float[] landmarkDistances = new float[vertexNumber];
+        int[] predecessors = new int[vertexNumber];
+        for (int l = 0; l < landmarks.length; l++) {
+            landmarks[l] = selection == LandmarkSelection.AVOID
+                    ? avoidLandmark(l, random.nextInt(vertexNumber), landmarkDistances, predecessors)
+                    : farthestLandmark(l, random.nextInt(vertexNumber), landmarkDistances, predecessors);
+            Dijkstra.search(graph, landmarks[l], -1, landmarkDistances, predecessors);
+            for (int index = 0; index < vertexNumber; index++) {
+                distances[index * landmarks.length + l] = landmarkDistances[index];
+            }
+        }
+    }
+
+    /**
+     * Constructs {@link Landmarks} of the specified vertexes, whose distances
+     * are computed in parallel.
+     *
+     * @param graph Indexed graph of the landmarks.
+     * @param landmarkVertexes Vertexes to be the landmarks.
+     * @throws RuntimeException If the graph doesn't contains one of the
+     * vertexes, or if it contains negative weighted edges.
+     */
+    public Landmarks(BaseIndexedGraph<V, ?> graph, Collection<V> landmarkVertexes) {
+        requireNonNegativeWeights(graph);
+        int vertexNumber = graph.getVertexNumber();
+        this.graph = graph;
+        modificationNumber = graph.getModificationNumber();
+        landmarks = landmarkVertexes.stream().mapToInt(v -> {
+            int index = graph.indexOf(v);
+            if (index == -1) {
+                throw new RuntimeException("The graph doesn't contains the specified vertex.");
+            }
+            return index;
+        }).toArray();
+        distances = new float[tableSize(vertexNumber, landmarks.length)];
+        IntStream.range(0, landmarks.length).parallel().forEach(l -> {
+            float[] landmarkDistances = new float[vertexNumber];
+            Dijkstra.search(graph, landmarks[l], -1, landmarkDistances, new int[vertexNumber]);
+            for (int index = 0; index < vertexNumber; index++) {
+                distances[index * landmarks.length + l] = landmarkDistances[index];
+            }
+        });
+    }
+
+    /**
+     * Constructs {@link Landmarks} from distances already computed.
+     *
+     * @param graph Indexed graph of the landmarks.
+     * @param landmarks Indexes of the landmarks.
+     * @param distances Distances of each vertex to all landmarks.
+     */
+    private Landmarks(BaseIndexedGraph<V, ?> graph, int[] landmarks, float[] distances) {
+        this.graph = graph;
+        modificationNumber = graph.getModificationNumber();
+        this.landmarks = landmarks;
+        this.distances = distances;
+    }
+
+    /**
+     * Throws an exception if the graph contains negative weighted edges, for
+     * which the triangle inequality gives no bound.
+     *
+     * @param graph Graph to be checked.
+     * @throws RuntimeException If the graph contains negative weighted edges.
+     */
+    private static void requireNonNegativeWeights(BaseIndexedGraph<?, ?> graph) {
+        if (graph.containsNegativeWeightedEdge()) {
+            throw new RuntimeException("The landmarks cannot be computed in a graph with" +
+                    " negative weighted edges.");
+        }
+    }
+
+    /**
+     * Returns the size of the distance table, which must fit in an array.
+     *
+     * @param vertexNumber Number of vertexes.
+     * @param landmarkNumber Number of landmarks.
+     * @throws IllegalArgumentException If the table doesn't fit in an array.
+     * @return Size of the table.
+     */
+    private static int tableSize(int vertexNumber, int landmarkNumber) {
+        long size = (long) vertexNumber * landmarkNumber;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("There are too many landmarks for the graph.");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Picks the vertex farthest from the landmarks already picked, that is,
+     * whose distance to the nearest of them is the greatest. The first one
+     * is the vertex farthest from the start. Vertexes unreachable from all
+     * landmarks are the farthest, so each component gets a landmark.
+     *
+     * @param picked Number of landmarks already picked.
+     * @param start Random index where the selection starts.
+     * @param workDistances Array, sized to the vertex number, to be used by
+     *                      the search.
+     * @param workPredecessors Array, sized to the vertex number, to be used
+     *                         by the search.
+     * @return Index of the landmark.
+     */
+    private int farthestLandmark(int picked, int start, float[] workDistances, int[] workPredecessors) {
+        if (picked == 0) {
+            Dijkstra.search(graph, start, -1, workDistances, workPredecessors);
+        }
+        int farthest = start;
+        float farthestDistance = -1;
+        for (int index = 0; index < graph.getVertexNumber(); index++) {
+            float nearest = picked == 0 ? workDistances[index] : nearestLandmarkDistance(index, picked);
+            if (picked == 0 && Float.isInfinite(nearest)) continue;
+            if (nearest > farthestDistance) {
+                farthest = index;
+                farthestDistance = nearest;
+            }
+        }
+        return farthest;
+    }
+
+    /**
+     * Returns the distance of a vertex to the nearest of the landmarks
+     * already picked.
+     *
+     * @param index Index of the vertex.
+     * @param picked Number of landmarks already picked.
+     * @return Distance to the nearest landmark.
+     */
+    private float nearestLandmarkDistance(int index, int picked) {
+        float nearest = Float.POSITIVE_INFINITY;
+        for (int l = 0; l < picked; l++) {
+            nearest = Math.min(nearest, distances[index * landmarks.length + l]);
+        }
+        return nearest;
+    }
+
+    /**
+     * Picks a landmark by the avoid selection. A shortest path tree is grown
+     * from the root, and each vertex weighs how much its distance to the root
+     * exceeds the bound given by the landmarks already picked. The landmark
+     * is the leaf reached from the vertex whose subtree weighs the most by
+     * always descending to the heaviest child, where the subtrees that
+     * contain a landmark weigh nothing.
+     *
+     * @param picked Number of landmarks already picked.
+     * @param root Random index of the root of the tree.
+     * @param workDistances Array, sized to the vertex number, to be used by
+     *                      the search.
+     * @param predecessors Array, sized to the vertex number, to be used by the
+     *                     search.
+     * @return Index of the landmark.
+     */
+    private int avoidLandmark(int picked, int root, float[] workDistances, int[] predecessors) {
+        int vertexNumber = graph.getVertexNumber();
+        Dijkstra.search(graph, root, -1, workDistances, predecessors);
+        int[] childNumbers = new int[vertexNumber];
+        for (int index = 0; index < vertexNumber; index++) {
+            if (predecessors[index] != -1) childNumbers[predecessors[index]]++;
+        }
+        boolean[] covered = new boolean[vertexNumber];
+        for (int l = 0; l < picked; l++) {
+            covered[landmarks[l]] = true;
+        }
+        double[] sizes = new double[vertexNumber];
+        int[] heaviestChildren = new int[vertexNumber];
+        Arrays.fill(heaviestChildren, -1);
+        int[] queue = new int[vertexNumber];
+        int head = 0, tail = 0;
+        for (int index = 0; index < vertexNumber; index++) {
+            if (childNumbers[index] == 0 && !Float.isInfinite(workDistances[index])) queue[tail++] = index;
+        }
+        int heaviest = root;
+        while (head < tail) {
+            int current = queue[head++];
+            if (covered[current]) {
+                sizes[current] = 0;
+            } else {
+                sizes[current] += workDistances[current] - lowerBound(current, root, picked);
+            }
+            if (sizes[current] > sizes[heaviest]) heaviest = current;
+            int parent = predecessors[current];
+            if (parent == -1) continue;
+            if (covered[current]) covered[parent] = true;
+            sizes[parent] += sizes[current];
+            if (heaviestChildren[parent] == -1 || sizes[current] > sizes[heaviestChildren[parent]]) {
+                heaviestChildren[parent] = current;
+            }
+            if (--childNumbers[parent] == 0) queue[tail++] = parent;
+        }
+        if (sizes[heaviest] <= 0) {
+            return farthestLandmark(picked, root, workDistances, predecessors);
+        }
+        int leaf = heaviest;
+        while (heaviestChildren[leaf] != -1) {
+            leaf = heaviestChildren[leaf];
+        }
+        return leaf;
+    }
+
+    /**
+     * Returns a lower bound of the distance between the specified indexes,
+     * given by the best of the landmarks. Zero (0) is returned if no landmark
+     * reaches any of them, and infinity if a landmark reaches only one, as
+     * then there isn't a path between them.
+     *
+     * @param index Index of one of the vertexes.
+     * @param target Index of the other vertex.
+     * @return Lower bound of the distance between the indexes.
+     */
+    public float lowerBound(int index, int target) {
+        return lowerBound(index, target, landmarks.length);
+    }
+
+    /**
+     * Returns a lower bound of the distance between the specified indexes,
+     * given by the best of the first landmarks.
+     *
+     * @param index Index of one of the vertexes.
+     * @param target Index of the other vertex.
+     * @param landmarkNumber Number of landmarks to be used.
+     * @return Lower bound of the distance between the indexes.
+     */
+    private float lowerBound(int index, int target, int landmarkNumber) {
+        int row = index * landmarks.length, targetRow = target * landmarks.length;
+        float bound = 0;
+        for (int l = 0; l < landmarkNumber; l++) {
+            float d1 = distances[row + l], d2 = distances[targetRow + l];
+            if (d1 != d2) bound = Math.max(bound, Math.abs(d1 - d2));
+        }
+        return bound;
+    }
+
+    /**
+     * Returns the indexed graph of the landmarks.
+     *
+     * @return Indexed graph of the landmarks.
+     */
+    public BaseIndexedGraph<V, ?> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Returns if the landmarks were computed for the specified graph as it
+     * is now, with no change made to it since.
+     *
+     * @param graph Graph to be checked.
+     * @return {@code true} if they were, {@code false} otherwise.
+     */
+    public boolean isComputedFor(BaseIndexedGraph<?, ?> graph) {
+        return this.graph == graph && modificationNumber == graph.getModificationNumber();
+    }
+
+    /**
+     * Returns the number of landmarks.
+     *
+     * @return Number of landmarks.
+     */
+    public int getLandmarkNumber() {
+        return landmarks.length;
+    }
+
+    /**
+     * Returns the landmark at the specified position.
+     *
+     * @param position Position of the landmark, in the order they were
+     *                 picked.
+     * @return Landmark vertex.
+     */
+    public V getLandmark(int position) {
+        return graph.getVertex(landmarks[position]);
+    }
+
+    /**
+     * Returns the distance between a landmark and a vertex.
+     *
+     * @param position Position of the landmark.
+     * @param v Vertex to have its distance returned.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Distance between the landmark and the vertex, or infinity if
+     * there isn't a path.
+     */
+    public float getDistance(int position, V v) {
+        int index = graph.indexOf(v);
+        if (index == -1) {
+            throw new RuntimeException("The graph doesn't contains the specified vertex.");
+        }
+        return distances[index * landmarks.length + position];
+    }
+
+    /**
+     * Writes the landmarks and their distances to the specified file, from
+     * where they can be read back by {@link #read(Path, BaseIndexedGraph)}.
+     *
+     * @param path File path.
+     * @throws IOException If there is an error writing the file.
+     */
+    public void write(Path path) throws IOException {
+        int[] order = graph.getOrderedIndexes();
+        int[] ranks = new int[order.length];
+        for (int rank = 0; rank < order.length; rank++) {
+            ranks[order[rank]] = rank;
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(graph.getVertexNumber());
+            out.writeInt(graph.getEdgeNumber());
+            out.writeLong(graph.getFingerprint(order));
+            out.writeInt(landmarks.length);
+            for (int landmark : landmarks) {
+                out.writeInt(ranks[landmark]);
+            }
+            for (int index : order) {
+                for (int l = 0; l < landmarks.length; l++) {
+                    out.writeFloat(distances[index * landmarks.length + l]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the landmarks written by {@link #write(Path)} for a graph equal
+     * to the specified one.
+     *
+     * @param path File path.
+     * @param graph Indexed graph of the landmarks.
+     * @throws IOException If there is an error reading the file, or if it
+     * doesn't hold landmarks of a graph with the same vertexes, arcs and
+     * weights.
+     * @return Read landmarks.
+     */
+    public static <V extends Comparable<V>> Landmarks<V> read(Path path, BaseIndexedGraph<V, ?> graph)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("The file doesn't contains landmarks.");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("The landmarks version " + version + " isn't supported.");
+            }
+            if (in.readInt() != graph.getVertexNumber() || in.readInt() != graph.getEdgeNumber()) {
+                throw new IOException("The landmarks weren't computed for the specified graph.");
+            }
+            int[] order = graph.getOrderedIndexes();
+            if (in.readLong() != graph.getFingerprint(order)) {
+                throw new IOException("The landmarks weren't computed for the specified graph.");
+            }
+            int[] landmarks = new int[in.readInt()];
+            for (int l = 0; l < landmarks.length; l++) {
+                landmarks[l] = order[in.readInt()];
+            }
+            float[] distances = new float[tableSize(order.length, landmarks.length)];
+            for (int index : order) {
+                for (int l = 0; l < landmarks.length; l++) {
+                    distances[index * landmarks.length + l] = in.readFloat();
+                }
+            }
+            return new Landmarks<>(graph, landmarks, distances);
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.ufcg.atg.graph;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import static com.ufcg.atg.util.Utils.LINE_SEPARATOR;
+
+/**
+ * Result of a minimum spanning tree (MST) search, holding the arcs of the
+ * tree, encoded as (origin index, position), and its total weight. The edges
+ * are only created when they are read, going from the lesser vertex to the
+ * greater one, and nothing is formatted until {@link #toString()} is called.
+ *
+ * @param <V> Type of the vertex.
+ * @param <E> Type of the edge.
+ */
+public class MSTResult<V extends Comparable<V>, E extends Edge<V>> {
+
+    private final BaseIndexedGraph<V, E> graph;
+
+    private final long[] arcs;
+
+    private final float totalWeight;
+
+    /**
+     * Constructs a {@link MSTResult}.
+     *
+     * @param graph Searched graph.
+     * @param arcs Arcs of the tree, encoded as (origin index, position).
+     */
+    MSTResult(BaseIndexedGraph<V, E> graph, long[] arcs) {
+        this.graph = graph;
+        this.arcs = arcs;
+        double sum = 0;
+        for (long arc : arcs) {
+            sum += graph.getWeight((int) (arc >>> 32), (int) arc);
+        }
+        totalWeight = (float) sum;
+    }
+
+    /**
+     * Returns the number of edges of the tree, which is the number of
+     * vertexes minus the number of components of the graph.
+     *
+     * @return Number of edges of the tree.
+     */
+    public int getEdgeNumber() {
+        return arcs.length;
+    }
+
+    /**
+     * Returns the edge at the specified position of the tree.
+     *
+     * @param position Position of the edge, in the order the tree was built.
+     * @return Edge from its lesser vertex to its greater one.
+     */
+    public E getEdge(int position) {
+        int index = (int) (arcs[position] >>> 32), arcPosition = (int) arcs[position];
+        V origin = graph.getVertex(index), target = graph.getVertex(graph.getAdjacentIndex(index, arcPosition));
+        if (origin.compareTo(target) > 0) {
+            V lesser = target;
+            target = origin;
+            origin = lesser;
+        }
+        return graph.createEdge(origin, target, graph.getWeight(index, arcPosition));
+    }
+
+    /**
+     * Returns the edges of the tree, in the order it was built, as a view on
+     * this result.
+     *
+     * @return Edges of the tree.
+     */
+    public List<E> getEdges() {
+        return new AbstractList<E>() {
+            @Override
+            public E get(int position) {
+                return getEdge(position);
+            }
+
+            @Override
+            public int size() {
+                return arcs.length;
+            }
+        };
+    }
+
+    /**
+     * Returns the sum of the weights of the edges of the tree.
+     *
+     * @return Total weight of the tree.
+     */
+    public float getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Returns the representation of the tree: a line for each edge, in the
+     * order the tree was built.
+     *
+     * @return Tree representation.
+     */
+    @Override
+    public String toString() {
+        StringBuilder representation = new StringBuilder();
+        for (int position = 0; position < arcs.length; position++) {
+            representation.append(getEdge(position).toString()).append(LINE_SEPARATOR);
+        }
+        return representation.toString();
+    }
+
+}
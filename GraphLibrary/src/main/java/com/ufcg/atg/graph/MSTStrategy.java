@@ -0,0 +1,9 @@
+package com.ufcg.atg.graph;
+
+/**
+ * Represents all algorithms that may find the minimal spanning tree (MST) of
+ * a graph. All of them find the same tree.
+ */
+public enum MSTStrategy {
+    KRUSKAL, BORUVKA
+}
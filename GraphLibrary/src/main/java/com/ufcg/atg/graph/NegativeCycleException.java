@@ -0,0 +1,37 @@
+package com.ufcg.atg.graph;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when a shortest path is searched in a graph with a negative cycle
+ * reachable from the origin of the path, so the path has no lower bound.
+ */
+public class NegativeCycleException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<?> cycle;
+
+    /**
+     * Constructs a {@link NegativeCycleException}.
+     *
+     * @param cycle Vertexes of the negative cycle, starting and ending at
+     *              the same vertex.
+     */
+    public NegativeCycleException(List<?> cycle) {
+        super("The shortest path cannot be found in a graph with negative circle.");
+        this.cycle = Collections.unmodifiableList(cycle);
+    }
+
+    /**
+     * Returns the vertexes of the negative cycle, in the order its edges are
+     * walked, starting and ending at the same vertex.
+     *
+     * @return Vertexes of the cycle.
+     */
+    public List<?> getCycle() {
+        return cycle;
+    }
+
+}
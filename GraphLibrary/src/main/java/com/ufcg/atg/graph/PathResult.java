@@ -0,0 +1,109 @@
+package com.ufcg.atg.graph;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Result of a shortest path search, holding the indexes of the vertexes of
+ * the path and its total weight. Nothing is formatted until
+ * {@link #toString()} is called.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class PathResult<V extends Comparable<V>> {
+
+    private final IIndexedGraph<V> graph;
+
+    final int[] indexes;
+
+    private final float totalWeight;
+
+    /**
+     * Constructs a {@link PathResult}.
+     *
+     * @param graph Searched graph.
+     * @param indexes Indexes of the vertexes of the path, or an empty array
+     *                if there isn't a path.
+     * @param totalWeight Sum of the weights of the path.
+     */
+    PathResult(IIndexedGraph<V> graph, int[] indexes, float totalWeight) {
+        this.graph = graph;
+        this.indexes = indexes;
+        this.totalWeight = totalWeight;
+    }
+
+    /**
+     * Returns if there isn't a path.
+     *
+     * @return {@code true} if there isn't, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return indexes.length == 0;
+    }
+
+    /**
+     * Returns the number of vertexes of the path, both ends included.
+     *
+     * @return Number of vertexes of the path.
+     */
+    public int size() {
+        return indexes.length;
+    }
+
+    /**
+     * Returns the vertex at the specified position of the path.
+     *
+     * @param position Position in the path, starting at the origin.
+     * @return Vertex at the position.
+     */
+    public V getVertex(int position) {
+        return graph.getVertex(indexes[position]);
+    }
+
+    /**
+     * Returns the vertexes of the path, from the origin to the target, as a
+     * view on this result.
+     *
+     * @return Vertexes of the path.
+     */
+    public List<V> getVertexes() {
+        return new AbstractList<V>() {
+            @Override
+            public V get(int position) {
+                return getVertex(position);
+            }
+
+            @Override
+            public int size() {
+                return indexes.length;
+            }
+        };
+    }
+
+    /**
+     * Returns the sum of the weights of the arcs of the path.
+     *
+     * @return Total weight, or {@link Float#POSITIVE_INFINITY} if there isn't
+     * a path.
+     */
+    public float getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Returns the representation of the path: its vertexes, from the origin
+     * to the target, separated by spaces.
+     *
+     * @return Path representation.
+     */
+    @Override
+    public String toString() {
+        StringBuilder representation = new StringBuilder();
+        for (int i = 0; i < indexes.length; i++) {
+            representation.append(graph.getVertex(indexes[i]).toString());
+            if (i < indexes.length - 1) representation.append(" ");
+        }
+        return representation.toString();
+    }
+
+}
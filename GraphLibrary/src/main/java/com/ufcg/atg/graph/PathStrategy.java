@@ -0,0 +1,19 @@
+package com.ufcg.atg.graph;
+
+/**
+ * Represents all searches that may find the shortest path between two
+ * vertexes. All of them find paths of the same total weight, though paths
+ * that tie may be chosen differently.
+ * <ul>
+ *     <li>{@link #UNIDIRECTIONAL}: a single search from the origin, by
+ *     Dijkstra's algorithm or, if there are negative weights, by the
+ *     Bellman-Ford algorithm;</li>
+ *     <li>{@link #BIDIRECTIONAL}: a search from each end of the path until
+ *     they meet, by Dijkstra's algorithm on weighted graphs and by BFS on
+ *     unweighted ones. Graphs with negative weights are searched as by
+ *     {@link #UNIDIRECTIONAL}.</li>
+ * </ul>
+ */
+public enum PathStrategy {
+    UNIDIRECTIONAL, BIDIRECTIONAL
+}
@@ -0,0 +1,198 @@
+package com.ufcg.atg.graph;
+
+import com.ufcg.atg.algorithm.BellmanFord;
+import com.ufcg.atg.util.IntIndexMap;
+import com.ufcg.atg.util.SearchWorkspace;
+
+import java.util.Arrays;
+
+/**
+ * Result of a single-source shortest path search, holding the distance and
+ * the predecessor of every reached vertex, so the path to any target is read
+ * without searching again.
+ *
+ * Only the reached vertexes are copied from the search. When they are a
+ * small part of the graph, they are kept side by side and found through a
+ * map of their indexes, so a tree costs the vertexes it reached, whatever
+ * the size of the graph. Otherwise, they are kept by index. The walks of a
+ * graph with negative weights may pass by a vertex more than once, so they
+ * are read from their {@link BellmanFord} search instead.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class ShortestPathTree<V extends Comparable<V>> {
+
+    private static final int SPARSE_FRACTION = 4;
+
+    private final IIndexedGraph<V> graph;
+
+    private final int source;
+
+    private final IntIndexMap positions;
+
+    private final float[] distances;
+
+    private final int[] predecessors;
+
+    private final BellmanFord walks;
+
+    /**
+     * Constructs a {@link ShortestPathTree} with the walks of the specified
+     * Bellman-Ford search.
+     *
+     * @param graph Searched graph.
+     * @param source Index of the origin of the paths.
+     * @param walks Shortest walks from the origin.
+     */
+    ShortestPathTree(IIndexedGraph<V> graph, int source, BellmanFord walks) {
+        this.graph = graph;
+        this.source = source;
+        positions = null;
+        distances = null;
+        predecessors = null;
+        this.walks = walks;
+    }
+
+    /**
+     * Constructs a {@link ShortestPathTree} with the vertexes reached by the
+     * search of the specified workspace.
+     *
+     * @param graph Searched graph.
+     * @param source Index of the origin of the paths.
+     * @param workspace Workspace of the search from the origin.
+     */
+    ShortestPathTree(IIndexedGraph<V> graph, int source, SearchWorkspace workspace) {
+        this.graph = graph;
+        this.source = source;
+        walks = null;
+        int reachedNumber = workspace.getReachedNumber();
+        boolean sparse = reachedNumber < graph.getVertexNumber() / SPARSE_FRACTION;
+        positions = sparse ? new IntIndexMap(reachedNumber) : null;
+        distances = new float[sparse ? reachedNumber : graph.getVertexNumber()];
+        predecessors = new int[distances.length];
+        if (!sparse) {
+            Arrays.fill(distances, Float.POSITIVE_INFINITY);
+            Arrays.fill(predecessors, -1);
+        }
+        for (int position = 0; position < reachedNumber; position++) {
+            int index = workspace.getReached(position);
+            if (sparse) positions.put(index, position);
+            distances[sparse ? position : index] = workspace.getDistance(index);
+            predecessors[sparse ? position : index] = workspace.getPredecessor(index);
+        }
+    }
+
+    /**
+     * Returns the origin of the paths.
+     *
+     * @return Origin vertex.
+     */
+    public V getSource() {
+        return graph.getVertex(source);
+    }
+
+    /**
+     * Returns if there is a path from the origin to the specified vertex.
+     *
+     * @param v Vertex to be checked.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return {@code true} if there is, {@code false} otherwise.
+     */
+    public boolean isReachable(V v) {
+        return distanceOf(indexOf(v)) != Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the weight of the shortest path from the origin to the
+     * specified vertex.
+     *
+     * @param v Target vertex of the path.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Weight of the path, or infinity if there isn't a path.
+     */
+    public float getDistance(V v) {
+        return distanceOf(indexOf(v));
+    }
+
+    /**
+     * Returns the vertex before the specified one on its shortest path from
+     * the origin.
+     *
+     * @param v Vertex to have its predecessor returned.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Predecessor of the vertex, or {@code null} if it's the origin
+     * or if there isn't a path.
+     */
+    public V getPredecessor(V v) {
+        int predecessor = predecessorOf(indexOf(v));
+        return predecessor == -1 ? null : graph.getVertex(predecessor);
+    }
+
+    /**
+     * Returns the shortest path from the origin to the specified vertex.
+     *
+     * @param v Target vertex of the path.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Shortest path to the vertex, which is empty if there isn't a
+     * path.
+     */
+    public PathResult<V> pathTo(V v) {
+        int target = indexOf(v);
+        float distance = distanceOf(target);
+        if (distance == Float.POSITIVE_INFINITY) {
+            return new PathResult<>(graph, new int[0], Float.POSITIVE_INFINITY);
+        }
+        if (walks != null) {
+            return new PathResult<>(graph, walks.getPath(target), distance);
+        }
+        int pathLength = 0;
+        for (int i = target; i != -1; i = predecessorOf(i)) {
+            pathLength++;
+        }
+        int[] path = new int[pathLength];
+        for (int i = target; i != -1; i = predecessorOf(i)) {
+            path[--pathLength] = i;
+        }
+        return new PathResult<>(graph, path, distance);
+    }
+
+    /**
+     * Returns the distance of the vertex of the specified index.
+     *
+     * @param index Index of the vertex.
+     * @return Distance of the vertex, or infinity if it wasn't reached.
+     */
+    private float distanceOf(int index) {
+        if (walks != null) return walks.getDistance(index);
+        int position = positions == null ? index : positions.get(index);
+        return position == -1 ? Float.POSITIVE_INFINITY : distances[position];
+    }
+
+    /**
+     * Returns the predecessor of the vertex of the specified index.
+     *
+     * @param index Index of the vertex.
+     * @return Index of the predecessor, or -1 if there is none.
+     */
+    private int predecessorOf(int index) {
+        if (walks != null) return walks.getPredecessor(index);
+        int position = positions == null ? index : positions.get(index);
+        return position == -1 ? -1 : predecessors[position];
+    }
+
+    /**
+     * Returns the index of the specified vertex.
+     *
+     * @param v Vertex to have its index returned.
+     * @throws RuntimeException If the graph doesn't contains the vertex.
+     * @return Index of the vertex.
+     */
+    private int indexOf(V v) {
+        int index = graph.indexOf(v);
+        if (index == -1) {
+            throw new RuntimeException("The graph doesn't contains the specified vertex.");
+        }
+        return index;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.ufcg.atg.graph;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Represents a multiversion implementation of a undirected and unweighted
+ * graph, based on the interface defined by {@link IGraph}, which may be read
+ * while it's written.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class VersionedGraph<V extends Comparable<V>> extends BaseVersionedGraph<V, Edge<V>>
+        implements IGraph<V, Edge<V>> {
+
+    /**
+     * Constructs a {@link VersionedGraph} compacted every
+     * {@link #DEFAULT_COMPACTION_THRESHOLD} edges, at least.
+     */
+    public VersionedGraph() {
+        this(DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@link VersionedGraph}.
+     *
+     * @param compactionThreshold Minimum number of logged edges to start a
+     *                            compaction.
+     */
+    public VersionedGraph(int compactionThreshold) {
+        super(compactionThreshold, false);
+    }
+
+    @Override
+    public Edge<V> addEdge(V v1, V v2) {
+        return logEdge(v1, v2, WeightedGraph.EDGE_DEFAULT_WEIGHT);
+    }
+
+    @Override
+    protected BaseCSRGraph<V, Edge<V>> createBase(Collection<V> baseVertexes,
+                                                  Function<V, ? extends Collection<? extends Edge<V>>> edgesOfVertex) {
+        return new CSRGraph<>(baseVertexes, edgesOfVertex);
+    }
+
+}
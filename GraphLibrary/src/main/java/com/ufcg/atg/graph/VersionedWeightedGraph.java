@@ -0,0 +1,50 @@
+package com.ufcg.atg.graph;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Represents a multiversion implementation of a undirected and weighted
+ * graph, based on the interface defined by {@link IWeightedGraph}, which may
+ * be read while it's written.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class VersionedWeightedGraph<V extends Comparable<V>> extends BaseVersionedGraph<V, WeightedEdge<V>>
+        implements IWeightedGraph<V, WeightedEdge<V>> {
+
+    /**
+     * Constructs a {@link VersionedWeightedGraph} compacted every
+     * {@link #DEFAULT_COMPACTION_THRESHOLD} edges, at least.
+     */
+    public VersionedWeightedGraph() {
+        this(DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@link VersionedWeightedGraph}.
+     *
+     * @param compactionThreshold Minimum number of logged edges to start a
+     *                            compaction.
+     */
+    public VersionedWeightedGraph(int compactionThreshold) {
+        super(compactionThreshold, true);
+    }
+
+    @Override
+    public WeightedEdge<V> addEdge(V v1, V v2) {
+        return addEdge(v1, v2, WeightedGraph.EDGE_DEFAULT_WEIGHT);
+    }
+
+    @Override
+    public WeightedEdge<V> addEdge(V v1, V v2, float weight) {
+        return logEdge(v1, v2, weight);
+    }
+
+    @Override
+    protected BaseCSRGraph<V, WeightedEdge<V>> createBase(
+            Collection<V> baseVertexes, Function<V, ? extends Collection<? extends Edge<V>>> edgesOfVertex) {
+        return new WeightedCSRGraph<>(baseVertexes, edgesOfVertex);
+    }
+
+}
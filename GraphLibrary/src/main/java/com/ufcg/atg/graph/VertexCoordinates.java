@@ -0,0 +1,138 @@
+package com.ufcg.atg.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Planar or geographic coordinates of the vertexes of a graph, from which the
+ * {@link Heuristic#euclidean(VertexCoordinates)} and
+ * {@link Heuristic#haversine(VertexCoordinates)} heuristics estimate the
+ * distances between vertexes. The coordinates are kept in primitive arrays,
+ * in the order the vertexes were placed.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class VertexCoordinates<V extends Comparable<V>> {
+
+    private final Map<V, Integer> positions;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    /**
+     * Constructs an empty {@link VertexCoordinates}.
+     */
+    public VertexCoordinates() {
+        positions = new HashMap<>();
+        xs = new double[16];
+        ys = new double[16];
+    }
+
+    /**
+     * Places a vertex at the specified coordinates, replacing its previous
+     * ones. For geographic coordinates, {@code x} is the longitude and
+     * {@code y} the latitude, both in degrees.
+     *
+     * @param v Vertex to be placed.
+     * @param x Abscissa, or longitude, of the vertex.
+     * @param y Ordinate, or latitude, of the vertex.
+     */
+    public void set(V v, double x, double y) {
+        Integer position = positions.get(v);
+        if (position == null) {
+            position = positions.size();
+            if (position == xs.length) {
+                xs = Arrays.copyOf(xs, position * 2);
+                ys = Arrays.copyOf(ys, position * 2);
+            }
+            positions.put(v, position);
+        }
+        xs[position] = x;
+        ys[position] = y;
+    }
+
+    /**
+     * Returns if the specified vertex was placed.
+     *
+     * @param v Vertex to be checked.
+     * @return {@code true} if it was, {@code false} otherwise.
+     */
+    public boolean contains(V v) {
+        return positions.containsKey(v);
+    }
+
+    /**
+     * Returns the abscissa, or longitude, of the specified vertex.
+     *
+     * @param v Vertex to have its abscissa returned.
+     * @throws RuntimeException If the vertex wasn't placed.
+     * @return Abscissa of the vertex.
+     */
+    public double getX(V v) {
+        return xs[requirePosition(v)];
+    }
+
+    /**
+     * Returns the ordinate, or latitude, of the specified vertex.
+     *
+     * @param v Vertex to have its ordinate returned.
+     * @throws RuntimeException If the vertex wasn't placed.
+     * @return Ordinate of the vertex.
+     */
+    public double getY(V v) {
+        return ys[requirePosition(v)];
+    }
+
+    /**
+     * Returns the Euclidean distance between the specified vertexes, or zero
+     * (0) if any of them wasn't placed.
+     *
+     * @param v1 One of the vertexes.
+     * @param v2 The other vertex.
+     * @return Euclidean distance between the vertexes.
+     */
+    public double euclideanDistance(V v1, V v2) {
+        Integer p1 = positions.get(v1), p2 = positions.get(v2);
+        if (p1 == null || p2 == null) return 0;
+        return Math.hypot(xs[p1] - xs[p2], ys[p1] - ys[p2]);
+    }
+
+    /**
+     * Returns the great-circle distance, by the haversine formula, between
+     * the specified vertexes on a sphere of the specified radius, or zero (0)
+     * if any of them wasn't placed.
+     *
+     * @param v1 One of the vertexes.
+     * @param v2 The other vertex.
+     * @param radius Radius of the sphere, in the unit of the distance.
+     * @return Great-circle distance between the vertexes.
+     */
+    public double haversineDistance(V v1, V v2, double radius) {
+        Integer p1 = positions.get(v1), p2 = positions.get(v2);
+        if (p1 == null || p2 == null) return 0;
+        double latitude1 = Math.toRadians(ys[p1]), latitude2 = Math.toRadians(ys[p2]);
+        double latitudeSine = Math.sin((latitude2 - latitude1) / 2);
+        double longitudeSine = Math.sin(Math.toRadians(xs[p2] - xs[p1]) / 2);
+        double a = latitudeSine * latitudeSine
+                + Math.cos(latitude1) * Math.cos(latitude2) * longitudeSine * longitudeSine;
+        return 2 * radius * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Returns the position of the coordinates of the specified vertex.
+     *
+     * @param v Vertex to have its position returned.
+     * @throws RuntimeException If the vertex wasn't placed.
+     * @return Position of the coordinates of the vertex.
+     */
+    private int requirePosition(V v) {
+        Integer position = positions.get(v);
+        if (position == null) {
+            throw new RuntimeException("The coordinates doesn't contains the specified vertex.");
+        }
+        return position;
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.ufcg.atg.graph;
+
+import static com.ufcg.atg.util.Utils.LINE_SEPARATOR;
+
+/**
+ * Result of a walk by the graph, as the Breadth-first Search (BFS) and the
+ * Depth-first Search (DFS), holding the level and the predecessor of each
+ * visited vertex by its index. Nothing is formatted until
+ * {@link #toString()} is called.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class WalkResult<V extends Comparable<V>> {
+
+    private final BaseIndexedGraph<V, ?> graph;
+
+    private final int root;
+
+    private final int[] levels;
+
+    private final int[] predecessors;
+
+    private final int visitedNumber;
+
+    /**
+     * Constructs a {@link WalkResult}.
+     *
+     * @param graph Walked graph.
+     * @param root Index of the root of the walk.
+     * @param levels Level of each index, or -1 if it wasn't visited.
+     * @param predecessors Predecessor of each index, or -1 if there is none.
+     * @param visitedNumber Number of visited indexes.
+     */
+    WalkResult(BaseIndexedGraph<V, ?> graph, int root, int[] levels, int[] predecessors,
+               int visitedNumber) {
+        this.graph = graph;
+        this.root = root;
+        this.levels = levels;
+        this.predecessors = predecessors;
+        this.visitedNumber = visitedNumber;
+    }
+
+    /**
+     * Returns the indexed graph whose indexes are used by this result.
+     *
+     * @return Walked graph.
+     */
+    public IIndexedGraph<V> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Returns the root of the walk.
+     *
+     * @return Root vertex.
+     */
+    public V getRoot() {
+        return graph.getVertex(root);
+    }
+
+    /**
+     * Returns the number of vertexes visited by the walk, the root included.
+     *
+     * @return Number of visited vertexes.
+     */
+    public int getVisitedNumber() {
+        return visitedNumber;
+    }
+
+    /**
+     * Returns if the specified vertex was visited by the walk.
+     *
+     * @param v Vertex to be checked.
+     * @return {@code true} if it was, {@code false} otherwise.
+     */
+    public boolean isVisited(V v) {
+        return getLevel(v) != -1;
+    }
+
+    /**
+     * Returns the level of the specified vertex, the root being at level
+     * zero (0).
+     *
+     * @param v Vertex to have its level returned.
+     * @return Level of the vertex, or -1 if it wasn't visited.
+     */
+    public int getLevel(V v) {
+        int index = graph.indexOf(v);
+        return index == -1 ? -1 : levels[index];
+    }
+
+    /**
+     * Returns the level of the vertex of the specified index. On graphs of
+     * {@link Integer} vertexes, an int argument selects this method, so the
+     * vertex must be boxed to have its own level returned.
+     *
+     * @param index Index of the vertex.
+     * @return Level of the vertex, or -1 if it wasn't visited.
+     */
+    public int getLevel(int index) {
+        return levels[index];
+    }
+
+    /**
+     * Returns the predecessor of the specified vertex in the walk.
+     *
+     * @param v Vertex to have its predecessor returned.
+     * @return Predecessor of the vertex, or {@code null} if it's the root or
+     * if it wasn't visited.
+     */
+    public V getPredecessor(V v) {
+        int index = graph.indexOf(v);
+        if (index == -1 || predecessors[index] == -1) return null;
+        return graph.getVertex(predecessors[index]);
+    }
+
+    /**
+     * Returns the index of the predecessor of the vertex of the specified
+     * index.
+     *
+     * @param index Index of the vertex.
+     * @return Index of the predecessor, or -1 if there is none.
+     */
+    public int getPredecessorIndex(int index) {
+        return predecessors[index];
+    }
+
+    /**
+     * Returns the tree representation of the walk: a line for each visited
+     * vertex, in their natural order, with its level and its predecessor.
+     *
+     * @return Walk representation.
+     */
+    @Override
+    public String toString() {
+        StringBuilder representation = new StringBuilder();
+        for (int index : graph.getOrderedIndexes()) {
+            if (levels[index] == -1) continue;
+            representation.append(graph.getVertex(index).toString()).append(" - ")
+                    .append(levels[index]).append(" ")
+                    .append(predecessors[index] != -1 ? graph.getVertex(predecessors[index]).toString() : "-")
+                    .append(LINE_SEPARATOR);
+        }
+        return representation.toString();
+    }
+
+}
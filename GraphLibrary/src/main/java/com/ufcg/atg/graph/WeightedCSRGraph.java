@@ -0,0 +1,77 @@
+package com.ufcg.atg.graph;
+
+import com.ufcg.atg.util.Utils;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Represents an immutable implementation of a undirected and weighted graph
+ * stored in the Compressed Sparse Row (CSR) format, based on the interface
+ * defined by {@link IWeightedGraph}.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class WeightedCSRGraph<V extends Comparable<V>> extends BaseCSRGraph<V, WeightedEdge<V>>
+        implements IWeightedGraph<V, WeightedEdge<V>> {
+
+    /**
+     * Constructs a {@link WeightedCSRGraph} with the vertexes and edges of the
+     * specified graph. If the specified graph is unweighted, all edges will
+     * have weight one (1).
+     *
+     * @param graph Graph to be copied.
+     */
+    public WeightedCSRGraph(IGraph<V, ? extends Edge<V>> graph) {
+        super(graph, true);
+    }
+
+    /**
+     * Constructs a {@link WeightedCSRGraph} with the specified vertexes and the edges
+     * of each one.
+     *
+     * @param graphVertexes Vertexes of the graph.
+     * @param edgesOfVertex Edges of each vertex.
+     */
+    WeightedCSRGraph(Collection<V> graphVertexes, Function<V, ? extends Collection<? extends Edge<V>>> edgesOfVertex) {
+        super(graphVertexes, edgesOfVertex, true);
+    }
+
+    /**
+     * Constructs a {@link WeightedCSRGraph} with the specified vertexes and the edges
+     * of each one, without checking the weights for negative ones.
+     *
+     * @param graphVertexes Vertexes of the graph.
+     * @param edgesOfVertex Edges of each vertex.
+     * @param negativeWeighted If any of the edges has a negative weight.
+     */
+    WeightedCSRGraph(Collection<V> graphVertexes, Function<V, ? extends Collection<? extends Edge<V>>> edgesOfVertex,
+                     boolean negativeWeighted) {
+        super(graphVertexes, edgesOfVertex, true, negativeWeighted);
+    }
+
+    /**
+     * Throws an exception, as the graph is immutable.
+     *
+     * @param v1 Vertex that wouldn't be the edge origin.
+     * @param v2 Vertex that wouldn't be the edge target.
+     * @param weight Weight that the edge wouldn't have.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public WeightedEdge<V> addEdge(V v1, V v2, float weight) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    @Override
+    protected WeightedEdge<V> createEdge(V origin, V target, float weight) {
+        return new WeightedEdge<>(origin, target, weight);
+    }
+
+    @Override
+    protected String mapOperatorListRepresentation(int index, int position) {
+        return getVertex(getAdjacentIndex(index, position)).toString() + "("
+                + Utils.floatToString(getWeight(index, position)) + ")";
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.ufcg.atg.graph;
+
+import com.ufcg.atg.util.Utils;
+
+/**
+ * Represents a implementation of a undirected and weighted graph that stores
+ * each edge only once, based on the interface defined by
+ * {@link IWeightedGraph}.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class WeightedEdgeTableGraph<V extends Comparable<V>> extends BaseEdgeTableGraph<V, WeightedEdge<V>>
+        implements IWeightedGraph<V, WeightedEdge<V>> {
+
+    /**
+     * Constructs a {@link WeightedEdgeTableGraph}.
+     */
+    public WeightedEdgeTableGraph() {
+        super(true);
+    }
+
+    @Override
+    public WeightedEdge<V> addEdge(V v1, V v2) {
+        return addEdge(v1, v2, WeightedGraph.EDGE_DEFAULT_WEIGHT);
+    }
+
+    @Override
+    public WeightedEdge<V> addEdge(V v1, V v2, float weight) {
+        return addTableEdge(v1, v2, weight);
+    }
+
+    @Override
+    protected WeightedEdge<V> createEdge(V origin, V target, float weight) {
+        return new WeightedEdge<>(origin, target, weight);
+    }
+
+    @Override
+    protected String mapOperatorListRepresentation(int index, int position) {
+        return getVertex(getAdjacentIndex(index, position)).toString() + "("
+                + Utils.floatToString(getWeight(index, position)) + ")";
+    }
+
+}
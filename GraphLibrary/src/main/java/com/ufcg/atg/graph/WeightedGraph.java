@@ -1,7 +1,5 @@
 package com.ufcg.atg.graph;
 
-import com.ufcg.atg.util.Utils;
-
 /**
  * Represents a implementation of a undirected and weighted graph, based on
  * the interface defined by {@link IGraph}.
@@ -15,6 +13,8 @@ public class WeightedGraph<V extends Comparable<V>> extends BaseGraph<V, Weighte
 
     public static final float EDGE_DEFAULT_WEIGHT = 1f;
 
+    private boolean negativeWeighted;
+
     /**
      * Constructs a {@link WeightedGraph}.
      */
@@ -33,25 +33,44 @@ public class WeightedGraph<V extends Comparable<V>> extends BaseGraph<V, Weighte
         addIfAbsent(v2);
         WeightedEdge<V> edgeToReturn = new WeightedEdge<>(v1, v2, weight),
                 reverseEdge = new WeightedEdge<>(v2, v1, weight);
-        vertexes.get(v1).add(edgeToReturn);
-        vertexes.get(v2).add(reverseEdge);
+        addArc(v1, edgeToReturn);
+        addArc(v2, reverseEdge);
+        if (weight < 0) negativeWeighted = true;
         return edgeToReturn;
     }
 
+    /**
+     * Adds the specified weighted edges at once, as
+     * {@link #addEdge(Comparable, Comparable, float)} does for each one.
+     *
+     * @param v1s Origin vertex of each edge.
+     * @param v2s Target vertex of each edge.
+     * @param weights Weight of each edge.
+     * @param size Number of edges, taken from the start of the arrays.
+     * @return Number of edges added, as the edges already on the graph are
+     * skipped.
+     */
+    @Override
+    public int addEdges(V[] v1s, V[] v2s, float[] weights, int size) {
+        for (int i = 0; weights != null && i < size && !negativeWeighted; i++) {
+            if (weights[i] < 0) negativeWeighted = true;
+        }
+        return super.addEdges(v1s, v2s, weights, size);
+    }
+
     @Override
-    protected float getEdgeWeight(WeightedEdge<V> e) {
-        return e.getWeight();
+    protected WeightedEdge<V> createEdge(V origin, V target, float weight) {
+        return new WeightedEdge<>(origin, target, weight);
     }
 
     @Override
-    protected String mapOperatorListRepresentation(WeightedEdge<V> e) {
-        return e.getTargetVertex().toString() + "(" + Utils.floatToString(getEdgeWeight(e)) + ")";
+    protected BaseIndexedGraph<V, WeightedEdge<V>> createIndexedGraph() {
+        return new WeightedCSRGraph<>(getAllVertexes(), this::getEdgesOfVertex, negativeWeighted);
     }
 
     @Override
     protected boolean containsNegativeWeightedEdge() {
-        return getAllEdges().stream()
-                .filter(e -> e.getWeight() < 0).count() > 0;
+        return negativeWeighted;
     }
 
 }
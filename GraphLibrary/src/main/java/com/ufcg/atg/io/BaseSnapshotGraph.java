@@ -0,0 +1,254 @@
+package com.ufcg.atg.io;
+
+import com.ufcg.atg.graph.BaseIndexedGraph;
+import com.ufcg.atg.graph.DegreeStatistics;
+import com.ufcg.atg.graph.Edge;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Represents a skeletal implementation of an immutable graph backed by a
+ * memory mapped {@link GraphSnapshot}, based on the interfaces defined by
+ * {@link com.ufcg.atg.graph.IGraph} and
+ * {@link com.ufcg.atg.graph.IIndexedGraph}.
+ *
+ * Each section of the snapshot is mapped on its own and read in place, so
+ * opening the graph costs the same whatever its size, and processes reading
+ * the same snapshot share its pages. The vertexes are indexed by their
+ * natural order and found by binary search on the dictionary.
+ *
+ * @param <V> Type of the vertex.
+ * @param <E> Type of the edge.
+ */
+public abstract class BaseSnapshotGraph<V extends Comparable<V>, E extends Edge<V>>
+        extends BaseIndexedGraph<V, E> {
+
+    private final Class<V> vertexType;
+
+    private final int vertexNumber;
+
+    private final IntBuffer intVertexes;
+
+    private final IntBuffer nameOffsets;
+
+    private final ByteBuffer names;
+
+    private final IntBuffer offsets;
+
+    private final IntBuffer targets;
+
+    private final FloatBuffer weights;
+
+    private DegreeStatistics degreeStatistics;
+
+    private Boolean negativeWeighted;
+
+    /**
+     * Constructs a {@link BaseSnapshotGraph} backed by the specified
+     * snapshot.
+     *
+     * @param path Path of the snapshot.
+     * @param vertexType Type of the vertexes of the snapshot.
+     * @param weighted If the weights of the snapshot should be read. If not,
+     *                 or if the snapshot has none, all arcs will have weight
+     *                 one (1).
+     * @throws IOException If there is an error reading the file, or if it
+     * isn't a valid snapshot.
+     * @throws IllegalArgumentException If the vertexes of the snapshot aren't
+     * of the specified type.
+     */
+    protected BaseSnapshotGraph(Path path, Class<V> vertexType, boolean weighted) throws IOException {
+        this.vertexType = vertexType;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < GraphSnapshot.HEADER_SIZE) {
+                throw new IOException("The file isn't a graph snapshot.");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, GraphSnapshot.HEADER_SIZE);
+            if (header.getInt() != GraphSnapshot.MAGIC) {
+                throw new IOException("The file isn't a graph snapshot.");
+            }
+            int version = header.getInt();
+            if (version != GraphSnapshot.VERSION) {
+                throw new IOException("The snapshot version " + version + " isn't supported.");
+            }
+            boolean fileWeighted = (header.getInt() & GraphSnapshot.WEIGHTED) != 0;
+            int fileVertexType = header.getInt();
+            if (vertexType != (fileVertexType == GraphSnapshot.INT_VERTEXES ? Integer.class :
+                    fileVertexType == GraphSnapshot.STRING_VERTEXES ? String.class : null)) {
+                throw new IllegalArgumentException("The snapshot vertexes aren't of type "
+                        + vertexType.getSimpleName() + ".");
+            }
+            vertexNumber = header.getInt();
+            int arcNumber = header.getInt();
+            int dictionarySize = header.getInt();
+
+            long position = GraphSnapshot.HEADER_SIZE;
+            long end = position + dictionarySize + 4L * (vertexNumber + 1) + 4L * arcNumber
+                    + (fileWeighted ? 4L * arcNumber : 0);
+            if (channel.size() < end) {
+                throw new IOException("The snapshot is truncated.");
+            }
+            ByteBuffer dictionary = map(channel, position, dictionarySize);
+            position += dictionarySize;
+            if (fileVertexType == GraphSnapshot.INT_VERTEXES) {
+                intVertexes = dictionary.asIntBuffer();
+                nameOffsets = null;
+                names = null;
+            } else {
+                intVertexes = null;
+                nameOffsets = dictionary.asIntBuffer();
+                dictionary.position(4 * (vertexNumber + 1));
+                names = dictionary.slice();
+            }
+            offsets = map(channel, position, 4L * (vertexNumber + 1)).asIntBuffer();
+            position += 4L * (vertexNumber + 1);
+            targets = map(channel, position, 4L * arcNumber).asIntBuffer();
+            position += 4L * arcNumber;
+            weights = weighted && fileWeighted ? map(channel, position, 4L * arcNumber).asFloatBuffer() : null;
+        }
+    }
+
+    /**
+     * Maps a section of the snapshot.
+     *
+     * @param channel Channel of the snapshot.
+     * @param position Start of the section.
+     * @param size Number of bytes of the section.
+     * @throws IOException If there is an error mapping the section, or if it
+     * is too large to be mapped.
+     * @return Mapped section.
+     */
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The snapshot section is too large to be mapped.");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    }
+
+    /**
+     * Throws an exception, as the graph is immutable.
+     *
+     * @param v Vertex that wouldn't be added.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public void addVertex(V v) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    /**
+     * Throws an exception, as the graph is immutable.
+     *
+     * @param v1 Vertex that wouldn't be the edge origin.
+     * @param v2 Vertex that wouldn't be the edge target.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public E addEdge(V v1, V v2) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    @Override
+    public int indexOf(V v) {
+        if (!vertexType.isInstance(v)) return -1;
+        int low = 0, high = vertexNumber - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = intVertexes != null
+                    ? Integer.compare(intVertexes.get(middle), (Integer) v)
+                    : getVertex(middle).compareTo(v);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public V getVertex(int index) {
+        if (intVertexes != null) return vertexType.cast(intVertexes.get(index));
+        int start = nameOffsets.get(index);
+        byte[] name = new byte[nameOffsets.get(index + 1) - start];
+        ByteBuffer view = names.duplicate();
+        view.position(start);
+        view.get(name);
+        return vertexType.cast(new String(name, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int getDegree(int index) {
+        return offsets.get(index + 1) - offsets.get(index);
+    }
+
+    @Override
+    public int getAdjacentIndex(int index, int position) {
+        return targets.get(offsets.get(index) + position);
+    }
+
+    @Override
+    public float getWeight(int index, int position) {
+        return weights == null ? 1f : weights.get(offsets.get(index) + position);
+    }
+
+    @Override
+    public int[] getOrderedIndexes() {
+        int[] order = new int[vertexNumber];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    @Override
+    public int getVertexNumber() {
+        return vertexNumber;
+    }
+
+    @Override
+    public int getEdgeNumber() {
+        return targets.capacity();
+    }
+
+    /**
+     * Returns the degree counters of the graph, counted on the first call.
+     *
+     * @return Degree counters of the graph.
+     */
+    @Override
+    protected DegreeStatistics getDegreeStatistics() {
+        if (degreeStatistics == null) degreeStatistics = new DegreeStatistics(this);
+        return degreeStatistics;
+    }
+
+    @Override
+    protected boolean containsNegativeWeightedEdge() {
+        if (negativeWeighted == null) negativeWeighted = super.containsNegativeWeightedEdge();
+        return negativeWeighted;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BaseSnapshotGraph<?, ?> that = (BaseSnapshotGraph<?, ?>) o;
+        return getAllVertexes().equals(that.getAllVertexes()) &&
+                getAllEdges().equals(that.getAllEdges());
+    }
+
+    @Override
+    public int hashCode() {
+        return getAllEdges().hashCode();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.ufcg.atg.io;
+
+/**
+ * Edges read from an edge list file, kept in primitive arrays so they can be
+ * inserted in bulk into a graph. The edge {@code i} goes from
+ * {@code getOrigins()[i]} to {@code getTargets()[i]}.
+ */
+public class EdgeList {
+
+    private final int[] origins;
+
+    private final int[] targets;
+
+    private final float[] weights;
+
+    private final int size;
+
+    /**
+     * Constructs an {@link EdgeList}.
+     *
+     * @param origins Origin vertex of each edge.
+     * @param targets Target vertex of each edge.
+     * @param weights Weight of each edge, or {@code null} if the edges aren't
+     *                weighted.
+     * @param size Number of edges.
+     */
+    public EdgeList(int[] origins, int[] targets, float[] weights, int size) {
+        this.origins = origins;
+        this.targets = targets;
+        this.weights = weights;
+        this.size = size;
+    }
+
+    /**
+     * Returns the origin vertex of each edge.
+     *
+     * @return Origin vertexes, of which the first {@link #size()} are used.
+     */
+    public int[] getOrigins() {
+        return origins;
+    }
+
+    /**
+     * Returns the target vertex of each edge.
+     *
+     * @return Target vertexes, of which the first {@link #size()} are used.
+     */
+    public int[] getTargets() {
+        return targets;
+    }
+
+    /**
+     * Returns the weight of each edge.
+     *
+     * @return Weights, of which the first {@link #size()} are used, or
+     * {@code null} if the edges aren't weighted.
+     */
+    public float[] getWeights() {
+        return weights;
+    }
+
+    /**
+     * Returns the number of edges.
+     *
+     * @return Number of edges.
+     */
+    public int size() {
+        return size;
+    }
+
+}
@@ -0,0 +1,466 @@
+package com.ufcg.atg.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parser of edge list files. The first line of the file holds the number of
+ * edges, and each of the following lines holds an edge, as its two vertexes
+ * and, if the edges are weighted, its weight, separated by spaces. Only the
+ * number of edges given in the first line is read, and the lines after them
+ * are ignored.
+ *
+ * The file is memory mapped and split in chunks aligned to lines, which are
+ * parsed on a {@link ForkJoinPool} straight from the mapped bytes, so no line
+ * or value becomes a {@link String}.
+ */
+public final class EdgeListParser {
+
+    /**
+     * Default number of bytes of each chunk.
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 1 << 22;
+
+    private static final long MAX_CHUNK_SIZE = 1 << 30;
+
+    private static final int SCAN_SIZE = 1 << 13;
+
+    private static final int MAX_HEADER_SIZE = 32;
+
+    private static final int MAX_EXACT_MANTISSA = 1 << 24;
+
+    private static final float[] POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private EdgeListParser() {}
+
+    /**
+     * Parses the edge list file on the common {@link ForkJoinPool}.
+     *
+     * @param path File path.
+     * @param weighted If each edge has a weight after its vertexes.
+     * @throws IOException If there is an error reading the file.
+     * @throws RuntimeException If the file is empty, has no edges or less
+     * edges than specified, or if a value is malformed.
+     * @return Edges of the file.
+     */
+    public static EdgeList parse(String path, boolean weighted) throws IOException {
+        return parse(Paths.get(path), weighted, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Parses the edge list file.
+     *
+     * @param path File path.
+     * @param weighted If each edge has a weight after its vertexes.
+     * @param pool Pool where the chunks are parsed.
+     * @param chunkSize Number of bytes of each chunk, which is extended up to
+     *                  the end of its last line.
+     * @throws IOException If there is an error reading the file.
+     * @throws RuntimeException If the file is empty, has no edges or less
+     * edges than specified, or if a value is malformed.
+     * @return Edges of the file.
+     */
+    public static EdgeList parse(Path path, boolean weighted, ForkJoinPool pool,
+                                 long chunkSize) throws IOException {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("The chunk size must be between 1 and "
+                    + MAX_CHUNK_SIZE + ".");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                throw new RuntimeException("The file is empty. Please, try with another file.");
+            }
+            long headerEnd = nextLineStart(channel, 0, fileSize);
+            int edgeNumber = parseHeader(channel, headerEnd);
+            if (edgeNumber <= 0) {
+                return new EdgeList(new int[0], new int[0], weighted ? new float[0] : null, 0);
+            }
+            Chunk[] chunks = split(channel, headerEnd, fileSize, chunkSize, weighted);
+            for (Chunk chunk : chunks) {
+                pool.execute(chunk);
+            }
+            for (Chunk chunk : chunks) {
+                chunk.join();
+            }
+            return merge(chunks, edgeNumber, weighted);
+        }
+    }
+
+    /**
+     * Returns the position after the first line break from the specified
+     * position on.
+     *
+     * @param channel Channel of the file.
+     * @param position Position where the search starts.
+     * @param fileSize Size of the file.
+     * @throws IOException If there is an error reading the file.
+     * @return Start of the next line, or the file size if there is none.
+     */
+    private static long nextLineStart(FileChannel channel, long position,
+                                      long fileSize) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(SCAN_SIZE);
+        while (position < fileSize) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') return position + i + 1;
+            }
+            position += read;
+        }
+        return fileSize;
+    }
+
+    /**
+     * Parses the first line of the file, which holds the number of edges.
+     *
+     * @param channel Channel of the file.
+     * @param headerEnd Start of the second line.
+     * @throws IOException If there is an error reading the file.
+     * @throws NumberFormatException If the line isn't an int.
+     * @return Number of edges.
+     */
+    private static int parseHeader(FileChannel channel, long headerEnd) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate((int) Math.min(headerEnd, MAX_HEADER_SIZE));
+        channel.read(header, 0);
+        int length = header.position();
+        while (length > 0 && (header.get(length - 1) == '\n' || header.get(length - 1) == '\r')) {
+            length--;
+        }
+        return Integer.parseInt(new String(header.array(), 0, length, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Splits the lines after the header in chunks, each one ending at a line
+     * break or at the end of the file.
+     *
+     * @param channel Channel of the file.
+     * @param headerEnd Start of the second line.
+     * @param fileSize Size of the file.
+     * @param chunkSize Number of bytes of each chunk.
+     * @param weighted If each edge has a weight after its vertexes.
+     * @throws IOException If there is an error reading the file.
+     * @return Chunks of the file, in order.
+     */
+    private static Chunk[] split(FileChannel channel, long headerEnd, long fileSize,
+                                 long chunkSize, boolean weighted) throws IOException {
+        int chunkNumber = (int) Math.max(1, (fileSize - headerEnd + chunkSize - 1) / chunkSize);
+        Chunk[] chunks = new Chunk[chunkNumber];
+        long start = headerEnd;
+        for (int i = 0; i < chunkNumber; i++) {
+            long end = i == chunkNumber - 1 ? fileSize :
+                    Math.max(start, nextLineStart(channel, headerEnd + (i + 1) * chunkSize, fileSize));
+            chunks[i] = new Chunk(channel, start, end, weighted);
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Joins the edges of the chunks, up to the specified number of edges.
+     *
+     * @param chunks Parsed chunks, in order.
+     * @param edgeNumber Number of edges to be joined.
+     * @param weighted If the edges are weighted.
+     * @throws IOException If a chunk couldn't be read.
+     * @throws RuntimeException If one of the joined lines is malformed, or if
+     * there are less edges than specified.
+     * @return Joined edges.
+     */
+    private static EdgeList merge(Chunk[] chunks, int edgeNumber, boolean weighted)
+            throws IOException {
+        for (Chunk chunk : chunks) {
+            if (chunk.failure != null) throw chunk.failure;
+        }
+        int size = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk.error != null && chunk.size < edgeNumber - size) throw chunk.error;
+            size += Math.min(chunk.size, edgeNumber - size);
+            if (size == edgeNumber) break;
+        }
+        if (size == 0) {
+            throw new RuntimeException("No edge found in the file. Please, try with another file.");
+        }
+        if (size < edgeNumber) {
+            throw new RuntimeException("The file has less edges than specified.");
+        }
+        int[] origins = new int[size], targets = new int[size];
+        float[] weights = weighted ? new float[size] : null;
+        int offset = 0;
+        for (Chunk chunk : chunks) {
+            int length = Math.min(chunk.size, size - offset);
+            System.arraycopy(chunk.origins, 0, origins, offset, length);
+            System.arraycopy(chunk.targets, 0, targets, offset, length);
+            if (weighted) System.arraycopy(chunk.weights, 0, weights, offset, length);
+            offset += length;
+            if (offset == size) break;
+        }
+        return new EdgeList(origins, targets, weights, size);
+    }
+
+    /**
+     * Returns the position where the value starting at the specified
+     * position ends.
+     *
+     * @param buffer Bytes of the chunk.
+     * @param from Start of the value.
+     * @param lineEnd End of the line.
+     * @return Position of the space after the value, or the end of the line.
+     */
+    private static int valueEnd(ByteBuffer buffer, int from, int lineEnd) {
+        while (from < lineEnd && buffer.get(from) != ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * Parses an int written in decimal ASCII digits, with an optional sign.
+     *
+     * @param buffer Bytes of the chunk.
+     * @param from Start of the value.
+     * @param to End of the value.
+     * @throws NumberFormatException If the value isn't an int.
+     * @return Parsed int.
+     */
+    private static int parseInt(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i++) == '-';
+        }
+        if (i == to) throw invalidValue(buffer, from, to);
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) throw invalidValue(buffer, from, to);
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) throw invalidValue(buffer, from, to);
+        }
+        if (negative) value = -value;
+        if (value > Integer.MAX_VALUE) throw invalidValue(buffer, from, to);
+        return (int) value;
+    }
+
+    /**
+     * Parses a float. Values of up to seven significant digits and ten
+     * decimal places, without exponent, are parsed straight from the digits,
+     * through a single division that rounds the same as
+     * {@link Float#parseFloat(String)}. Any other value is given to it.
+     *
+     * @param buffer Bytes of the chunk.
+     * @param from Start of the value.
+     * @param to End of the value.
+     * @throws NumberFormatException If the value isn't a float.
+     * @return Parsed float.
+     */
+    private static float parseFloat(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i++) == '-';
+        }
+        int mantissa = 0, digits = 0, decimalPlaces = 0;
+        boolean point = false;
+        for (; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b == '.' && !point) {
+                point = true;
+                continue;
+            }
+            int digit = b - '0';
+            if (digit < 0 || digit > 9) return Float.parseFloat(text(buffer, from, to));
+            mantissa = mantissa * 10 + digit;
+            digits++;
+            if (point) decimalPlaces++;
+            if (mantissa >= MAX_EXACT_MANTISSA || decimalPlaces >= POWERS_OF_TEN.length) {
+                return Float.parseFloat(text(buffer, from, to));
+            }
+        }
+        if (digits == 0) return Float.parseFloat(text(buffer, from, to));
+        float value = mantissa / POWERS_OF_TEN[decimalPlaces];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Returns an exception for a malformed value.
+     *
+     * @param buffer Bytes of the chunk.
+     * @param from Start of the value.
+     * @param to End of the value.
+     * @return Exception describing the value.
+     */
+    private static NumberFormatException invalidValue(ByteBuffer buffer, int from, int to) {
+        return new NumberFormatException("For input string: \"" + text(buffer, from, to) + "\"");
+    }
+
+    /**
+     * Decodes the specified bytes as ASCII.
+     *
+     * @param buffer Bytes of the chunk.
+     * @param from Start of the text.
+     * @param to End of the text.
+     * @return Decoded text.
+     */
+    private static String text(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = from; i < to; i++) {
+            bytes[i - from] = buffer.get(i);
+        }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Parses the lines of a range of the file, mapped on its own. It stops
+     * at the first malformed line, keeping the error, as it only matters if
+     * the line is among the edges to be read.
+     */
+    private static final class Chunk extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+
+        private final long start;
+
+        private final long end;
+
+        private final boolean weighted;
+
+        private int[] origins;
+
+        private int[] targets;
+
+        private float[] weights;
+
+        private int size;
+
+        private RuntimeException error;
+
+        private IOException failure;
+
+        Chunk(FileChannel channel, long start, long end, boolean weighted) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.weighted = weighted;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                int capacity = Math.max(16, buffer.limit() / 8);
+                origins = new int[capacity];
+                targets = new int[capacity];
+                weights = weighted ? new float[capacity] : null;
+                parseLines(buffer);
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        /**
+         * Parses each line of the chunk as an edge.
+         *
+         * @param buffer Bytes of the chunk.
+         */
+        private void parseLines(ByteBuffer buffer) {
+            int limit = buffer.limit();
+            int position = 0;
+            while (position < limit) {
+                int lineEnd = position;
+                while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                int nextLine = lineEnd + 1;
+                if (lineEnd > position && buffer.get(lineEnd - 1) == '\r') lineEnd--;
+                try {
+                    parseLine(buffer, position, lineEnd);
+                } catch (RuntimeException e) {
+                    error = e;
+                    return;
+                }
+                position = nextLine;
+            }
+        }
+
+        /**
+         * Parses a line as an edge and appends it.
+         *
+         * @param buffer Bytes of the chunk.
+         * @param from Start of the line.
+         * @param lineEnd End of the line, without its line break.
+         * @throws NumberFormatException If the line isn't an edge.
+         */
+        private void parseLine(ByteBuffer buffer, int from, int lineEnd) {
+            int to = valueEnd(buffer, from, lineEnd);
+            int origin = parseInt(buffer, from, to);
+            from = requireNextValue(buffer, to, lineEnd);
+            to = valueEnd(buffer, from, lineEnd);
+            int target = parseInt(buffer, from, to);
+            float weight = 1f;
+            if (weighted) {
+                from = requireNextValue(buffer, to, lineEnd);
+                weight = parseFloat(buffer, from, valueEnd(buffer, from, lineEnd));
+            }
+            if (size == origins.length) {
+                origins = Arrays.copyOf(origins, size * 2);
+                targets = Arrays.copyOf(targets, size * 2);
+                if (weighted) weights = Arrays.copyOf(weights, size * 2);
+            }
+            origins[size] = origin;
+            targets[size] = target;
+            if (weighted) weights[size] = weight;
+            size++;
+        }
+
+        /**
+         * Returns the start of the value after the specified one.
+         *
+         * @param buffer Bytes of the chunk.
+         * @param valueEnd End of the current value.
+         * @param lineEnd End of the line.
+         * @throws NumberFormatException If the line has no more values.
+         * @return Start of the next value.
+         */
+        private int requireNextValue(ByteBuffer buffer, int valueEnd, int lineEnd) {
+            if (valueEnd >= lineEnd) {
+                throw new NumberFormatException("The edge \"" + text(buffer, lineStart(buffer, valueEnd),
+                        lineEnd) + "\" is incomplete.");
+            }
+            return valueEnd + 1;
+        }
+
+        /**
+         * Returns the start of the line of the specified position.
+         *
+         * @param buffer Bytes of the chunk.
+         * @param position Position in the line.
+         * @return Start of the line.
+         */
+        private int lineStart(ByteBuffer buffer, int position) {
+            while (position > 0 && buffer.get(position - 1) != '\n') {
+                position--;
+            }
+            return position;
+        }
+
+    }
+
+}
@@ -0,0 +1,253 @@
+package com.ufcg.atg.io;
+
+import com.ufcg.atg.graph.BaseGraph;
+import com.ufcg.atg.graph.BaseIndexedGraph;
+import com.ufcg.atg.graph.Edge;
+import com.ufcg.atg.graph.IGraph;
+import com.ufcg.atg.graph.IIndexedGraph;
+import com.ufcg.atg.graph.IWeightedGraph;
+import com.ufcg.atg.graph.WeightedCSRGraph;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Binary snapshot of a graph, which is loaded by memory mapping the file, so
+ * its arcs are read straight from the page cache instead of being parsed and
+ * copied to the heap.
+ *
+ * The file is made of big-endian sections, each one starting at a multiple
+ * of four (4) bytes:
+ * <ul>
+ *     <li>header: magic number, version, flags, type of the vertexes,
+ *     number of vertexes, number of arcs and size of the dictionary, as
+ *     ints;</li>
+ *     <li>dictionary: the vertexes in their natural order, as ints or as the
+ *     offsets of their UTF-8 bytes followed by the bytes;</li>
+ *     <li>offsets: where the arcs of each vertex start, plus the number of
+ *     arcs, as in the Compressed Sparse Row (CSR) format;</li>
+ *     <li>targets: index of the target of each arc, sorted within each
+ *     vertex;</li>
+ *     <li>weights: weight of each arc, as floats, only if the graph is
+ *     weighted.</li>
+ * </ul>
+ */
+public final class GraphSnapshot {
+
+    static final int MAGIC = 0x41544753;
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 32;
+
+    static final int WEIGHTED = 1;
+
+    static final int INT_VERTEXES = 1;
+
+    static final int STRING_VERTEXES = 2;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GraphSnapshot() {}
+
+    /**
+     * Writes a snapshot of the graph to the specified file. The weights are
+     * kept if the graph is an {@link IWeightedGraph}.
+     *
+     * @param graph Graph to be written, whose vertexes must be integers or
+     *              strings.
+     * @param path File path.
+     * @throws IOException If there is an error writing the file.
+     * @throws IllegalArgumentException If the vertexes aren't all integers or
+     * all strings.
+     */
+    public static <V extends Comparable<V>> void write(IGraph<V, ? extends Edge<V>> graph,
+                                                       Path path) throws IOException {
+        BaseIndexedGraph<V, ?> indexed = indexedGraphOf(graph);
+        boolean weighted = graph instanceof IWeightedGraph;
+        int vertexNumber = indexed.getVertexNumber();
+        int[] order = indexed.getOrderedIndexes();
+        int[] ranks = new int[vertexNumber];
+        for (int rank = 0; rank < vertexNumber; rank++) {
+            ranks[order[rank]] = rank;
+        }
+        int vertexType = vertexType(indexed);
+        byte[][] names = vertexType == STRING_VERTEXES ? new byte[vertexNumber][] : null;
+        int dictionarySize = 4 * vertexNumber;
+        if (names != null) {
+            int byteNumber = 0;
+            for (int rank = 0; rank < vertexNumber; rank++) {
+                names[rank] = ((String) indexed.getVertex(order[rank])).getBytes(StandardCharsets.UTF_8);
+                byteNumber += names[rank].length;
+            }
+            dictionarySize = 4 * (vertexNumber + 1) + padded(byteNumber);
+        }
+        int arcNumber = 0;
+        for (int index = 0; index < vertexNumber; index++) {
+            arcNumber += indexed.getDegree(index);
+        }
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(weighted ? WEIGHTED : 0);
+            out.writeInt(vertexType);
+            out.writeInt(vertexNumber);
+            out.writeInt(arcNumber);
+            out.writeInt(dictionarySize);
+            out.writeInt(0);
+
+            if (names == null) {
+                for (int rank = 0; rank < vertexNumber; rank++) {
+                    out.writeInt((Integer) indexed.getVertex(order[rank]));
+                }
+            } else {
+                int offset = 0;
+                out.writeInt(offset);
+                for (byte[] name : names) {
+                    offset += name.length;
+                    out.writeInt(offset);
+                }
+                for (byte[] name : names) {
+                    out.write(name);
+                }
+                for (int i = offset; i < padded(offset); i++) {
+                    out.write(0);
+                }
+            }
+
+            int offset = 0;
+            out.writeInt(offset);
+            for (int index : order) {
+                offset += indexed.getDegree(index);
+                out.writeInt(offset);
+            }
+            for (int index : order) {
+                for (int position : sortedPositions(indexed, index, ranks)) {
+                    out.writeInt(ranks[indexed.getAdjacentIndex(index, position)]);
+                }
+            }
+            if (weighted) {
+                for (int index : order) {
+                    for (int position : sortedPositions(indexed, index, ranks)) {
+                        out.writeFloat(indexed.getWeight(index, position));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a snapshot as an unweighted graph. If the snapshot is weighted,
+     * the weights are ignored.
+     *
+     * @param path File path.
+     * @param vertexType Type of the vertexes of the snapshot.
+     * @throws IOException If there is an error reading the file, or if it
+     * isn't a valid snapshot.
+     * @throws IllegalArgumentException If the vertexes of the snapshot aren't
+     * of the specified type.
+     * @return Read-only graph backed by the file.
+     */
+    public static <V extends Comparable<V>> SnapshotGraph<V> readGraph(Path path, Class<V> vertexType)
+            throws IOException {
+        return new SnapshotGraph<>(path, vertexType);
+    }
+
+    /**
+     * Reads a snapshot as a weighted graph. If the snapshot is unweighted,
+     * all edges will have weight one (1).
+     *
+     * @param path File path.
+     * @param vertexType Type of the vertexes of the snapshot.
+     * @throws IOException If there is an error reading the file, or if it
+     * isn't a valid snapshot.
+     * @throws IllegalArgumentException If the vertexes of the snapshot aren't
+     * of the specified type.
+     * @return Read-only graph backed by the file.
+     */
+    public static <V extends Comparable<V>> WeightedSnapshotGraph<V> readWeightedGraph(
+            Path path, Class<V> vertexType) throws IOException {
+        return new WeightedSnapshotGraph<>(path, vertexType);
+    }
+
+    /**
+     * Returns the indexed view of the graph, copying it only if it has none.
+     *
+     * @param graph Graph to be viewed.
+     * @return Indexed view of the graph.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V extends Comparable<V>> BaseIndexedGraph<V, ?> indexedGraphOf(
+            IGraph<V, ? extends Edge<V>> graph) {
+        if (graph instanceof BaseGraph) {
+            return ((BaseGraph<V, ?>) graph).getIndexedGraph();
+        }
+        if (graph instanceof BaseIndexedGraph) {
+            return (BaseIndexedGraph<V, ?>) graph;
+        }
+        return new WeightedCSRGraph<>(graph);
+    }
+
+    /**
+     * Returns the type of the vertexes of the graph.
+     *
+     * @param graph Graph to have its vertexes checked.
+     * @throws IllegalArgumentException If the vertexes aren't all integers or
+     * all strings.
+     * @return {@link #INT_VERTEXES} or {@link #STRING_VERTEXES}.
+     */
+    private static int vertexType(IIndexedGraph<?> graph) {
+        boolean integers = true, strings = true;
+        for (int index = 0; index < graph.getVertexNumber(); index++) {
+            Object v = graph.getVertex(index);
+            integers &= v instanceof Integer;
+            strings &= v instanceof String;
+        }
+        if (!integers && !strings) {
+            throw new IllegalArgumentException("The vertexes must be integers or strings.");
+        }
+        return integers ? INT_VERTEXES : STRING_VERTEXES;
+    }
+
+    /**
+     * Returns the positions of the arcs of a vertex sorted by the rank of
+     * their targets.
+     *
+     * @param graph Graph of the vertex.
+     * @param index Index of the vertex.
+     * @param ranks Position of each index in the sorted indexes.
+     * @return Sorted positions.
+     */
+    private static int[] sortedPositions(IIndexedGraph<?> graph, int index, int[] ranks) {
+        int degree = graph.getDegree(index);
+        long[] byTarget = new long[degree];
+        for (int position = 0; position < degree; position++) {
+            byTarget[position] = ((long) ranks[graph.getAdjacentIndex(index, position)] << 32) | position;
+        }
+        Arrays.sort(byTarget);
+        int[] positions = new int[degree];
+        for (int i = 0; i < degree; i++) {
+            positions[i] = (int) byTarget[i];
+        }
+        return positions;
+    }
+
+    /**
+     * Rounds a number of bytes up to a multiple of four (4).
+     *
+     * @param byteNumber Number of bytes.
+     * @return Padded number of bytes.
+     */
+    static int padded(int byteNumber) {
+        return (byteNumber + 3) & ~3;
+    }
+
+}
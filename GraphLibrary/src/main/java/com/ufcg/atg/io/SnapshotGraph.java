@@ -0,0 +1,44 @@
+package com.ufcg.atg.io;
+
+import com.ufcg.atg.graph.Edge;
+import com.ufcg.atg.graph.IGraph;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Represents an immutable implementation of a undirected and unweighted graph
+ * backed by a memory mapped {@link GraphSnapshot}, based on the interface
+ * defined by {@link IGraph}.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class SnapshotGraph<V extends Comparable<V>> extends BaseSnapshotGraph<V, Edge<V>>
+        implements IGraph<V, Edge<V>> {
+
+    /**
+     * Constructs a {@link SnapshotGraph} backed by the specified snapshot. If
+     * the snapshot is weighted, the weights are ignored.
+     *
+     * @param path Path of the snapshot.
+     * @param vertexType Type of the vertexes of the snapshot.
+     * @throws IOException If there is an error reading the file, or if it
+     * isn't a valid snapshot.
+     * @throws IllegalArgumentException If the vertexes of the snapshot aren't
+     * of the specified type.
+     */
+    public SnapshotGraph(Path path, Class<V> vertexType) throws IOException {
+        super(path, vertexType, false);
+    }
+
+    @Override
+    protected Edge<V> createEdge(V origin, V target, float weight) {
+        return new Edge<>(origin, target);
+    }
+
+    @Override
+    protected String mapOperatorListRepresentation(int index, int position) {
+        return getVertex(getAdjacentIndex(index, position)).toString();
+    }
+
+}
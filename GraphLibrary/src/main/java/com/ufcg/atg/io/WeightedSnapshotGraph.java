@@ -0,0 +1,60 @@
+package com.ufcg.atg.io;
+
+import com.ufcg.atg.graph.IWeightedGraph;
+import com.ufcg.atg.graph.WeightedEdge;
+import com.ufcg.atg.util.Utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Represents an immutable implementation of a undirected and weighted graph
+ * backed by a memory mapped {@link GraphSnapshot}, based on the interface
+ * defined by {@link IWeightedGraph}.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class WeightedSnapshotGraph<V extends Comparable<V>> extends BaseSnapshotGraph<V, WeightedEdge<V>>
+        implements IWeightedGraph<V, WeightedEdge<V>> {
+
+    /**
+     * Constructs a {@link WeightedSnapshotGraph} backed by the specified
+     * snapshot. If the snapshot is unweighted, all edges will have weight
+     * one (1).
+     *
+     * @param path Path of the snapshot.
+     * @param vertexType Type of the vertexes of the snapshot.
+     * @throws IOException If there is an error reading the file, or if it
+     * isn't a valid snapshot.
+     * @throws IllegalArgumentException If the vertexes of the snapshot aren't
+     * of the specified type.
+     */
+    public WeightedSnapshotGraph(Path path, Class<V> vertexType) throws IOException {
+        super(path, vertexType, true);
+    }
+
+    /**
+     * Throws an exception, as the graph is immutable.
+     *
+     * @param v1 Vertex that wouldn't be the edge origin.
+     * @param v2 Vertex that wouldn't be the edge target.
+     * @param weight Weight that the edge wouldn't have.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public WeightedEdge<V> addEdge(V v1, V v2, float weight) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    @Override
+    protected WeightedEdge<V> createEdge(V origin, V target, float weight) {
+        return new WeightedEdge<>(origin, target, weight);
+    }
+
+    @Override
+    protected String mapOperatorListRepresentation(int index, int position) {
+        return getVertex(getAdjacentIndex(index, position)).toString() + "("
+                + Utils.floatToString(getWeight(index, position)) + ")";
+    }
+
+}
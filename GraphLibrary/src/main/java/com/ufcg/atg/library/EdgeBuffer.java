@@ -0,0 +1,269 @@
+package com.ufcg.atg.library;
+
+import com.ufcg.atg.graph.Edge;
+import com.ufcg.atg.graph.Graph;
+import com.ufcg.atg.graph.IGraph;
+import com.ufcg.atg.graph.IWeightedGraph;
+import com.ufcg.atg.graph.IntGraph;
+import com.ufcg.atg.graph.IntWeightedGraph;
+import com.ufcg.atg.graph.WeightedEdge;
+import com.ufcg.atg.graph.WeightedGraph;
+
+import java.util.Arrays;
+
+/**
+ * Buffer of edges to be added to a graph in batches, for graphs built from a
+ * feed of edges. The edges are kept in arrays until the batch is full or
+ * {@link #flush()} is called, when the batch is merged into the graph at once.
+ *
+ * An edge is skipped, and counted by {@link #getDuplicateNumber()}, where
+ * {@link GraphLibrary#addEdge(IGraph, Comparable, Comparable)} would reject
+ * it: if the graph already contains it or if it appears more than once in
+ * the batch, in any direction. {@link Graph}, {@link WeightedGraph} and the
+ * graphs of primitive ints receive the batch through their bulk insertion,
+ * which skips the repeated edges in the same pass that adds the others. For
+ * the other graphs, the batch is sorted through an int permutation, so the
+ * repeated edges are next to each other and skipped before the remaining
+ * ones are checked and added one by one.
+ *
+ * The vertexes are buffered as they are given, boxed if they're ints, and
+ * the graphs of primitive ints have them unboxed once per batch.
+ *
+ * @param <V> Type of the vertex.
+ */
+public class EdgeBuffer<V extends Comparable<V>> {
+
+    /**
+     * Default number of edges of each batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1 << 16;
+
+    private final IGraph<V, ? extends Edge<V>> graph;
+
+    private final boolean weighted;
+
+    private final V[] origins;
+
+    private final V[] targets;
+
+    private final float[] weights;
+
+    private final int[] order;
+
+    private final int[] mergeOrder;
+
+    private int size;
+
+    private long duplicateNumber;
+
+    /**
+     * Constructs an {@link EdgeBuffer} of {@link #DEFAULT_BATCH_SIZE} edges.
+     *
+     * @param graph Graph to receive the edges.
+     */
+    public EdgeBuffer(IGraph<V, ? extends Edge<V>> graph) {
+        this(graph, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs an {@link EdgeBuffer}.
+     *
+     * @param graph Graph to receive the edges.
+     * @param batchSize Number of edges of each batch.
+     * @throws IllegalArgumentException If the batch size isn't positive.
+     */
+    public EdgeBuffer(IGraph<V, ? extends Edge<V>> graph, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive.");
+        }
+        this.graph = graph;
+        weighted = graph instanceof IWeightedGraph;
+        origins = newVertexArray(batchSize);
+        targets = newVertexArray(batchSize);
+        weights = new float[batchSize];
+        boolean bulk = graph instanceof Graph || graph instanceof WeightedGraph
+                || graph instanceof IntGraph || graph instanceof IntWeightedGraph;
+        order = bulk ? null : new int[batchSize];
+        mergeOrder = bulk ? null : new int[batchSize];
+    }
+
+    /**
+     * Creates an array of vertexes.
+     *
+     * @param length Length of the array.
+     * @param <V> Type of the vertex.
+     * @return Array of vertexes.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V extends Comparable<V>> V[] newVertexArray(int length) {
+        return (V[]) new Comparable<?>[length];
+    }
+
+    /**
+     * Buffers an edge. If the graph is weighted, the edge will have weight
+     * one (1).
+     *
+     * @param v1 Vertex to be the edge origin.
+     * @param v2 Vertex to be the edge target.
+     */
+    public void add(V v1, V v2) {
+        add(v1, v2, WeightedGraph.EDGE_DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Buffers a weighted edge. If the graph is unweighted, the weight is
+     * discarded.
+     *
+     * @param v1 Vertex to be the edge origin.
+     * @param v2 Vertex to be the edge target.
+     * @param weight The weight of the edge.
+     */
+    public void add(V v1, V v2, float weight) {
+        origins[size] = v1;
+        targets[size] = v2;
+        weights[size] = weight;
+        if (++size == origins.length) flush();
+    }
+
+    /**
+     * Buffers the specified edge, with its weight if it's a
+     * {@link WeightedEdge}.
+     *
+     * @param e Edge to be buffered.
+     */
+    public void add(Edge<V> e) {
+        add(e.getOriginVertex(), e.getTargetVertex(), e instanceof WeightedEdge ?
+                ((WeightedEdge<V>) e).getWeight() : WeightedGraph.EDGE_DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Returns the number of buffered edges, not yet added to the graph.
+     *
+     * @return Number of buffered edges.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of edges skipped by the flushed batches, as the
+     * graph already contained them or they were repeated in their batch.
+     *
+     * @return Number of skipped edges.
+     */
+    public long getDuplicateNumber() {
+        return duplicateNumber;
+    }
+
+    /**
+     * Adds the buffered edges to the graph, skipping the repeated ones, and
+     * empties the buffer.
+     */
+    public void flush() {
+        if (size == 0) return;
+        try {
+            duplicateNumber += size - (order == null ? mergeInBulk() : mergeUnique());
+        } finally {
+            Arrays.fill(origins, 0, size, null);
+            Arrays.fill(targets, 0, size, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Sorts the positions of the buffered edges by {@link #compareEdges(int,
+     * int)} with a bottom-up merge sort over ints, which keeps the repeated
+     * edges in the order they were buffered.
+     */
+    private void sortBatch() {
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int[] from = order, to = mergeOrder;
+        for (int width = 1; width < size; width *= 2) {
+            for (int low = 0; low < size; low += 2 * width) {
+                int middle = Math.min(low + width, size), high = Math.min(low + 2 * width, size);
+                int i = low, j = middle, k = low;
+                while (i < middle && j < high) {
+                    to[k++] = compareEdges(from[j], from[i]) < 0 ? from[j++] : from[i++];
+                }
+                while (i < middle) to[k++] = from[i++];
+                while (j < high) to[k++] = from[j++];
+            }
+            int[] swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != order) System.arraycopy(from, 0, order, 0, size);
+    }
+
+    /**
+     * Compares two buffered edges regardless of their direction: by their
+     * lesser vertex, by their greater vertex and, if the graph is weighted,
+     * by their weight.
+     *
+     * @param i1 Position of one of the edges.
+     * @param i2 Position of the other edge.
+     * @return A negative int, zero (0) or a positive int as the first edge
+     * is lesser, equal or greater than the second one.
+     */
+    private int compareEdges(int i1, int i2) {
+        boolean swap1 = origins[i1].compareTo(targets[i1]) > 0;
+        boolean swap2 = origins[i2].compareTo(targets[i2]) > 0;
+        int comparison = (swap1 ? targets[i1] : origins[i1]).compareTo(swap2 ? targets[i2] : origins[i2]);
+        if (comparison != 0) return comparison;
+        comparison = (swap1 ? origins[i1] : targets[i1]).compareTo(swap2 ? origins[i2] : targets[i2]);
+        if (comparison != 0 || !weighted) return comparison;
+        return Float.compare(weights[i1], weights[i2]);
+    }
+
+    /**
+     * Adds the buffered edges through the bulk insertion of the graph.
+     *
+     * @return Number of edges added.
+     */
+    @SuppressWarnings("unchecked")
+    private int mergeInBulk() {
+        if (graph instanceof WeightedGraph) {
+            return ((WeightedGraph<V>) graph).addEdges(origins, targets, weights, size);
+        }
+        if (graph instanceof Graph) {
+            return ((Graph<V>) graph).addEdges(origins, targets, size);
+        }
+        int[] v1s = new int[size], v2s = new int[size];
+        for (int i = 0; i < size; i++) {
+            v1s[i] = (Integer) origins[i];
+            v2s[i] = (Integer) targets[i];
+        }
+        return graph instanceof IntWeightedGraph
+                ? ((IntWeightedGraph) graph).addEdges(v1s, v2s, weights, size)
+                : ((IntGraph) graph).addEdges(v1s, v2s, size);
+    }
+
+    /**
+     * Adds the buffered edges one by one, in sorted order, skipping those
+     * that are repeated in the batch or already on the graph.
+     *
+     * @return Number of edges added.
+     */
+    @SuppressWarnings("unchecked")
+    private int mergeUnique() {
+        sortBatch();
+        int addedNumber = 0;
+        for (int i = 0; i < size; i++) {
+            int position = order[i];
+            if (i > 0 && compareEdges(order[i - 1], position) == 0) continue;
+            V v1 = origins[position], v2 = targets[position];
+            if (weighted) {
+                if (graph.containsEdge(new WeightedEdge<>(v1, v2, weights[position]))) continue;
+                ((IWeightedGraph<V, ? extends WeightedEdge<V>>) graph).addEdge(v1, v2, weights[position]);
+            } else {
+                if (graph.containsEdge(new Edge<>(v1, v2))) continue;
+                graph.addEdge(v1, v2);
+            }
+            addedNumber++;
+        }
+        return addedNumber;
+    }
+
+}
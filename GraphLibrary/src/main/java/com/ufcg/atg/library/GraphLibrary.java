@@ -1,11 +1,14 @@
 package com.ufcg.atg.library;
 
 import com.ufcg.atg.graph.*;
+import com.ufcg.atg.io.EdgeList;
+import com.ufcg.atg.io.EdgeListParser;
+import com.ufcg.atg.io.GraphSnapshot;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Library to Graphs and Weighted Graphs.
@@ -14,11 +17,6 @@ import java.util.Set;
  */
 public class GraphLibrary<V extends Comparable<V>> {
 
-    private static final String EMPTY_SPACE_STRING_EDGE = " ";
-    private static final int INDEX_FIRST_VERTEX_ON_FILE = 0;
-    private static final int INDEX_SECOND_VERTEX_ON_FILE = 1;
-    private static final int INDEXES_WEIGHT_ON_FILE = 2;
-
     /**
      * Reads a graph from file.
      *
@@ -46,62 +44,122 @@ public class GraphLibrary<V extends Comparable<V>> {
     }
 
     /**
-     * Reads the path file and places the edges found in the graph.
-     * Analyse, if the graph is weighted, so places the weighted edges
-     * on {@link WeightedGraph}, else places the edges on {@link Graph}.
+     * Reads a graph from file into a {@link IntGraph}, which stores the
+     * vertexes as primitive ints.
      *
-     * @param graph Graph to have a new edges added.
-     * @param path Path from where the edges will be obtained.
+     * @param path File path.
      * @throws RuntimeException If there is an error reading the file.
+     * @return Read graph.
      */
-    private void readFile(IGraph<Integer, ? extends Edge<Integer>> graph, String path) {
-        boolean isWeightedGraph = graph instanceof IWeightedGraph;
+    public IntGraph readIntGraph(String path) {
+        IntGraph graph = new IntGraph();
+        readFile(graph, path);
+        return graph;
+    }
+
+    /**
+     * Reads a weighted graph from file into a {@link IntWeightedGraph}, which
+     * stores the vertexes as primitive ints.
+     *
+     * @param path File path.
+     * @throws RuntimeException If there is an error reading the file.
+     * @return Read graph.
+     */
+    public IntWeightedGraph readIntWeightedGraph(String path) {
+        IntWeightedGraph graph = new IntWeightedGraph();
+        readFile(graph, path);
+        return graph;
+    }
+
+    /**
+     * Writes a binary snapshot of the graph, which can be read back by
+     * {@link #readGraphSnapshot(String)} and
+     * {@link #readWeightedGraphSnapshot(String)}.
+     *
+     * @param graph Graph to be written, whose vertexes must be integers or
+     *              strings.
+     * @param path File path.
+     * @throws RuntimeException If there is an error writing the file.
+     */
+    public void writeGraphSnapshot(IGraph<V, ? extends Edge<V>> graph, String path) {
         try {
-            FileReader file = new FileReader(path);
-            BufferedReader bfFile = new BufferedReader(file);
-
-            String currentLine = bfFile.readLine();
-            Integer edgesAmount = Integer.parseInt(currentLine);
-            for (int i=0; i < edgesAmount; i++) {
-                String edge = bfFile.readLine();
-                if(isWeightedGraph) {
-                    addWeightedEdge((IWeightedGraph<Integer, WeightedEdge<Integer>>) graph, edge);
-                } else {
-                    addEdge((IGraph<Integer, Edge<Integer>>) graph, edge);
-                }
-            }
-            file.close();
+            GraphSnapshot.write(graph, Paths.get(path));
         } catch (IOException e) {
-            System.err.println("There was an error opening the file: " + e.getMessage());
             throw new RuntimeException(e);
         }
     }
 
     /**
-     * Adds edge in {@link Graph}.
+     * Reads a binary snapshot of a graph, whose edges are read straight from
+     * the memory mapped file. The returned graph is immutable.
      *
-     * @param graph Graph to have a new edge added.
-     * @param edge Edge to be added.
+     * @param path File path.
+     * @throws RuntimeException If there is an error reading the file.
+     * @return Read graph.
      */
-    private void addEdge(IGraph<Integer, Edge<Integer>> graph, String edge) {
-        String[] vertexes = edge.split(EMPTY_SPACE_STRING_EDGE);
-        Integer v1 = Integer.parseInt(vertexes[INDEX_FIRST_VERTEX_ON_FILE]);
-        Integer v2 = Integer.parseInt(vertexes[INDEX_SECOND_VERTEX_ON_FILE]);
-        graph.addEdge(v1, v2);
+    public IGraph<Integer, Edge<Integer>> readGraphSnapshot(String path) {
+        try {
+            return GraphSnapshot.readGraph(Paths.get(path), Integer.class);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     /**
-     * Adds weighted edge in {@link WeightedGraph}.
+     * Reads a binary snapshot of a weighted graph, whose edges are read
+     * straight from the memory mapped file. The returned graph is immutable.
      *
-     * @param graph Graph to have a new edge added.
-     * @param edge Edge to be added.
+     * @param path File path.
+     * @throws RuntimeException If there is an error reading the file.
+     * @return Read graph.
      */
-    private void addWeightedEdge(IWeightedGraph<Integer, WeightedEdge<Integer>> graph, String edge) {
-        String[] vertexes = edge.split(EMPTY_SPACE_STRING_EDGE);
-        Integer v1 = Integer.parseInt(vertexes[INDEX_FIRST_VERTEX_ON_FILE]);
-        Integer v2 = Integer.parseInt(vertexes[INDEX_SECOND_VERTEX_ON_FILE]);
-        Float weight = Float.parseFloat(vertexes[INDEXES_WEIGHT_ON_FILE]);
-        graph.addEdge(v1, v2, weight);
+    public IWeightedGraph<Integer, WeightedEdge<Integer>> readWeightedGraphSnapshot(String path) {
+        try {
+            return GraphSnapshot.readWeightedGraph(Paths.get(path), Integer.class);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads the path file and places the edges found in the graph.
+     * Analyse, if the graph is weighted, so places the weighted edges
+     * on {@link WeightedGraph}, else places the edges on {@link Graph}.
+     * The file is parsed by {@link EdgeListParser}, and the graph receives
+     * all the edges at once.
+     *
+     * @param graph Graph to have a new edges added.
+     * @param path Path from where the edges will be obtained.
+     * @throws RuntimeException If there is an error reading the file.
+     */
+    @SuppressWarnings("unchecked")
+    private void readFile(IGraph<Integer, ? extends Edge<Integer>> graph, String path) {
+        boolean isWeightedGraph = graph instanceof IWeightedGraph;
+        EdgeList edges;
+        try {
+            edges = EdgeListParser.parse(path, isWeightedGraph);
+        } catch (IOException e) {
+            System.err.println("There was an error opening the file: " + e.getMessage());
+            throw new RuntimeException(e);
+        }
+        int[] origins = edges.getOrigins(), targets = edges.getTargets();
+        float[] weights = edges.getWeights();
+        if (graph instanceof IntWeightedGraph) {
+            ((IntWeightedGraph) graph).addEdges(origins, targets, weights, edges.size());
+        } else if (graph instanceof IntGraph) {
+            ((IntGraph) graph).addEdges(origins, targets, edges.size());
+        } else {
+            Integer[] v1s = new Integer[edges.size()], v2s = new Integer[edges.size()];
+            for (int i = 0; i < edges.size(); i++) {
+                v1s[i] = origins[i];
+                v2s[i] = targets[i];
+            }
+            if (isWeightedGraph) {
+                ((WeightedGraph<Integer>) graph).addEdges(v1s, v2s, weights, edges.size());
+            } else {
+                ((Graph<Integer>) graph).addEdges(v1s, v2s, edges.size());
+            }
+        }
     }
 
     /**
@@ -165,6 +223,44 @@ public class GraphLibrary<V extends Comparable<V>> {
         return graph.addEdge(v1, v2, weight);
     }
 
+    /**
+     * Adds the specified edges to the graph through an {@link EdgeBuffer},
+     * in batches of {@link EdgeBuffer#DEFAULT_BATCH_SIZE} edges. If the graph
+     * is weighted, each edge has its weight if it's a {@link WeightedEdge},
+     * or weight one (1) otherwise.
+     *
+     * The edges that {@link #addEdge(IGraph, Comparable, Comparable)} would
+     * reject, as the graph already contains them or they are repeated, are
+     * skipped.
+     *
+     * @param graph Graph to have new edges added.
+     * @param edges Edges to be added.
+     * @return Number of skipped edges.
+     */
+    public long addEdges(IGraph<V, ? extends Edge<V>> graph, Iterable<? extends Edge<V>> edges) {
+        EdgeBuffer<V> buffer = new EdgeBuffer<>(graph);
+        for (Edge<V> e : edges) {
+            buffer.add(e);
+        }
+        buffer.flush();
+        return buffer.getDuplicateNumber();
+    }
+
+    /**
+     * Adds the edges of the specified stream to the graph, as
+     * {@link #addEdges(IGraph, Iterable)} does.
+     *
+     * @param graph Graph to have new edges added.
+     * @param edges Edges to be added.
+     * @return Number of skipped edges.
+     */
+    public long addEdges(IGraph<V, ? extends Edge<V>> graph, Stream<? extends Edge<V>> edges) {
+        EdgeBuffer<V> buffer = new EdgeBuffer<>(graph);
+        edges.forEachOrdered(buffer::add);
+        buffer.flush();
+        return buffer.getDuplicateNumber();
+    }
+
     /**
      * Adds the specified vertex to the specified graph.
      *
@@ -277,6 +373,37 @@ public class GraphLibrary<V extends Comparable<V>> {
         return graph.getMeanEdge();
     }
 
+    /**
+     * Returns the minimum degree among the vertexes of the graph.
+     *
+     * @param graph Graph to be obtained minimum degree.
+     * @return Minimum degree of the graph.
+     */
+    public int getMinDegree(IGraph<V, ? extends Edge<V>> graph) {
+        return graph.getMinDegree();
+    }
+
+    /**
+     * Returns the maximum degree among the vertexes of the graph.
+     *
+     * @param graph Graph to be obtained maximum degree.
+     * @return Maximum degree of the graph.
+     */
+    public int getMaxDegree(IGraph<V, ? extends Edge<V>> graph) {
+        return graph.getMaxDegree();
+    }
+
+    /**
+     * Returns the degree histogram of the graph, where the position {@code d}
+     * holds the number of vertexes of degree {@code d}.
+     *
+     * @param graph Graph to be obtained degree histogram.
+     * @return Degree histogram of the graph.
+     */
+    public int[] getDegreeHistogram(IGraph<V, ? extends Edge<V>> graph) {
+        return graph.getDegreeHistogram();
+    }
+
     /**
      * Returns the graph representation based on the {@link RepresentationType}
      * specified.
@@ -288,6 +415,24 @@ public class GraphLibrary<V extends Comparable<V>> {
         return graph.graphRepresentation(type);
     }
 
+    /**
+     * Appends the graph representation based on the
+     * {@link RepresentationType} specified, one line at a time.
+     *
+     * @param type Type of the representation to be appended.
+     * @param out Where the representation is appended.
+     * @throws RuntimeException If there is an error appending the
+     * representation.
+     */
+    public void graphRepresentation(IGraph<V, ? extends Edge<V>> graph, RepresentationType type,
+                                    Appendable out) {
+        try {
+            graph.graphRepresentation(type, out);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Returns a tree representation based on the Breadth-first Search (BFS)
      * algorithm starting from the vertex specified.
@@ -303,6 +448,44 @@ public class GraphLibrary<V extends Comparable<V>> {
         return graph.BFS(v);
     }
 
+    /**
+     * Returns the result of the Breadth-first Search (BFS) algorithm starting
+     * from the vertex specified, with the level and the predecessor of each
+     * vertex.
+     *
+     * @param graph Graph to be obtained BFS.
+     * @param v The vertex to be the root of the walk.
+     * @return Levels and predecessors of the BFS.
+     */
+    public WalkResult<V> BFSResult(IGraph<V, ? extends Edge<V>> graph, V v) {
+        if (!graph.containsVertex(v)) {
+            throw new RuntimeException("The graph doesn't contains the specified vertex.");
+        }
+        return graph.BFSResult(v);
+    }
+
+    /**
+     * Returns a tree representation based on the Breadth-first Search (BFS)
+     * algorithm starting from the vertex specified, expanding each level of
+     * the search in parallel. Graphs that can't be walked in parallel are
+     * walked by their own BFS.
+     *
+     * @param graph Graph to be obtained BFS.
+     * @param v The vertex to be the root of the returned tree.
+     * @return BFS of the graph.
+     */
+    public String parallelBFS(IGraph<V, ? extends Edge<V>> graph, V v) {
+        if (!graph.containsVertex(v)) {
+            throw new RuntimeException("The graph doesn't contains the specified vertex.");
+        }
+        if (graph instanceof BaseGraph) {
+            return ((BaseGraph<V, ?>) graph).parallelBFS(v);
+        } else if (graph instanceof BaseIndexedGraph) {
+            return ((BaseIndexedGraph<V, ?>) graph).parallelBFS(v);
+        }
+        return graph.BFS(v);
+    }
+
     /**
      * Returns a tree representation based on the Depth-first Search (DFS)
      * algorithm starting from the vertex specified.
@@ -318,6 +501,22 @@ public class GraphLibrary<V extends Comparable<V>> {
         return graph.DFS(v);
     }
 
+    /**
+     * Returns the result of the Depth-first Search (DFS) algorithm starting
+     * from the vertex specified, with the level and the predecessor of each
+     * vertex.
+     *
+     * @param graph Graph to be obtained DFS.
+     * @param v The vertex to be the root of the walk.
+     * @return Levels and predecessors of the DFS.
+     */
+    public WalkResult<V> DFSResult(IGraph<V, ? extends Edge<V>> graph, V v) {
+        if (!graph.containsVertex(v)) {
+            throw new RuntimeException("The graph doesn't contains the specified vertex.");
+        }
+        return graph.DFSResult(v);
+    }
+
     /**
      * Returns a boolean indicating if the graph is connect or not.
      *
@@ -328,6 +527,21 @@ public class GraphLibrary<V extends Comparable<V>> {
         return graph.connected();
     }
 
+    /**
+     * Returns the number of connected components of the graph.
+     *
+     * @param graph Graph to obtain the number of components.
+     * @return Number of connected components.
+     */
+    public int getComponentNumber(IGraph<V, ? extends Edge<V>> graph) {
+        if (graph instanceof BaseGraph) {
+            return ((BaseGraph<V, ?>) graph).getComponentNumber();
+        } else if (graph instanceof BaseIndexedGraph) {
+            return ((BaseIndexedGraph<V, ?>) graph).getComponentNumber();
+        }
+        return new CSRGraph<>(graph).getComponentNumber();
+    }
+
     /**
      * Returns a representation of the shortest path between the specified
      * vertexes.
@@ -344,6 +558,359 @@ public class GraphLibrary<V extends Comparable<V>> {
         return graph.shortestPath(v1, v2);
     }
 
+    /**
+     * Returns the shortest path between the specified vertexes, with its
+     * vertexes and its total weight.
+     *
+     * @param graph Graph to be obtained shortest path between v1 and v2.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    public PathResult<V> shortestPathResult(IGraph<V, ? extends Edge<V>> graph, V v1, V v2) {
+        if (!graph.containsVertex(v1) || !graph.containsVertex(v2) ) {
+            throw new RuntimeException("The graph doesn't contains both specified vertexes.");
+        }
+        return graph.shortestPathResult(v1, v2);
+    }
+
+    /**
+     * Returns the shortest paths from the specified vertex to all vertexes
+     * of the graph, found by a single search.
+     *
+     * @param graph Graph to be searched.
+     * @param source Origin vertex of the paths.
+     * @return Distances and predecessors of all vertexes.
+     */
+    public ShortestPathTree<V> shortestPathTree(IGraph<V, ? extends Edge<V>> graph, V source) {
+        if (!graph.containsVertex(source)) {
+            throw new RuntimeException("The graph doesn't contains the specified vertex.");
+        }
+        return graph.shortestPathTree(source);
+    }
+
+    /**
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the specified search. The bidirectional search
+     * meets in the middle of the path, so it walks far fewer vertexes on
+     * large sparse graphs. All searches find paths of the same total weight.
+     *
+     * @param graph Graph to be obtained shortest path between v1 and v2.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param strategy Search to be used.
+     * @return Shortest path between {@code v1} e {@code v2}.
+     */
+    public String shortestPath(IGraph<V, ? extends Edge<V>> graph, V v1, V v2, PathStrategy strategy) {
+        if (!graph.containsVertex(v1) || !graph.containsVertex(v2) ) {
+            throw new RuntimeException("The graph doesn't contains both specified vertexes.");
+        }
+        return indexedGraphOf(graph).shortestPath(v1, v2, strategy);
+    }
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by the
+     * specified search, with its vertexes and its total weight.
+     *
+     * @param graph Graph to be obtained shortest path between v1 and v2.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param strategy Search to be used.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    public PathResult<V> shortestPathResult(IGraph<V, ? extends Edge<V>> graph, V v1, V v2,
+                                            PathStrategy strategy) {
+        if (!graph.containsVertex(v1) || !graph.containsVertex(v2) ) {
+            throw new RuntimeException("The graph doesn't contains both specified vertexes.");
+        }
+        return indexedGraphOf(graph).shortestPathResult(v1, v2, strategy);
+    }
+
+    /**
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the A* search guided by the specified heuristic,
+     * such as {@link Heuristic#euclidean(VertexCoordinates)} or
+     * {@link Heuristic#haversine(VertexCoordinates)}. The path is the
+     * shortest as long as the heuristic is admissible.
+     *
+     * @param graph Graph to be obtained shortest path between v1 and v2.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param heuristic Lower bound of the weight of the path between two
+     *                  vertexes.
+     * @return Shortest path between {@code v1} e {@code v2}.
+     */
+    public String shortestPath(IWeightedGraph<V, ? extends WeightedEdge<V>> graph, V v1, V v2,
+                               Heuristic<V> heuristic) {
+        if (!graph.containsVertex(v1) || !graph.containsVertex(v2) ) {
+            throw new RuntimeException("The graph doesn't contains both specified vertexes.");
+        }
+        return graph.shortestPath(v1, v2, heuristic);
+    }
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by the
+     * A* search guided by the specified heuristic, with its vertexes and its
+     * total weight.
+     *
+     * @param graph Graph to be obtained shortest path between v1 and v2.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param heuristic Lower bound of the weight of the path between two
+     *                  vertexes.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    public PathResult<V> shortestPathResult(IWeightedGraph<V, ? extends WeightedEdge<V>> graph, V v1, V v2,
+                                            Heuristic<V> heuristic) {
+        if (!graph.containsVertex(v1) || !graph.containsVertex(v2) ) {
+            throw new RuntimeException("The graph doesn't contains both specified vertexes.");
+        }
+        return graph.shortestPathResult(v1, v2, heuristic);
+    }
+
+    /**
+     * Picks landmarks of the graph and computes their distances to every
+     * vertex, to speed up the repeated queries of
+     * {@link #shortestPath(IGraph, Comparable, Comparable, Landmarks)}. The
+     * landmarks must be computed again after the graph changes.
+     *
+     * @param graph Graph to have its landmarks computed.
+     * @param landmarkNumber Number of landmarks.
+     * @param selection How the landmarks are picked.
+     * @throws RuntimeException If the graph contains negative weighted edges.
+     * @return Landmarks of the graph.
+     */
+    public Landmarks<V> computeLandmarks(IGraph<V, ? extends Edge<V>> graph, int landmarkNumber,
+                                         LandmarkSelection selection) {
+        return new Landmarks<>(indexedGraphOf(graph), landmarkNumber, selection);
+    }
+
+    /**
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the ALT algorithm: the A* search guided by the lower
+     * bounds given by the landmarks.
+     *
+     * @param graph Graph to be obtained shortest path between v1 and v2.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param landmarks Landmarks computed for the graph.
+     * @throws RuntimeException If the landmarks weren't computed for the
+     * graph as it is.
+     * @return Shortest path between {@code v1} e {@code v2}.
+     */
+    public String shortestPath(IGraph<V, ? extends Edge<V>> graph, V v1, V v2, Landmarks<V> landmarks) {
+        if (!graph.containsVertex(v1) || !graph.containsVertex(v2) ) {
+            throw new RuntimeException("The graph doesn't contains both specified vertexes.");
+        }
+        return indexedGraphOf(graph).shortestPath(v1, v2, landmarks);
+    }
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by the
+     * ALT algorithm, with its vertexes and its total weight.
+     *
+     * @param graph Graph to be obtained shortest path between v1 and v2.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param landmarks Landmarks computed for the graph.
+     * @throws RuntimeException If the landmarks weren't computed for the
+     * graph as it is.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    public PathResult<V> shortestPathResult(IGraph<V, ? extends Edge<V>> graph, V v1, V v2,
+                                            Landmarks<V> landmarks) {
+        if (!graph.containsVertex(v1) || !graph.containsVertex(v2) ) {
+            throw new RuntimeException("The graph doesn't contains both specified vertexes.");
+        }
+        return indexedGraphOf(graph).shortestPathResult(v1, v2, landmarks);
+    }
+
+    /**
+     * Writes the landmarks to a file, which can be read back by
+     * {@link #readLandmarks(IGraph, String)} for an equal graph.
+     *
+     * @param landmarks Landmarks to be written.
+     * @param path File path.
+     * @throws RuntimeException If there is an error writing the file.
+     */
+    public void writeLandmarks(Landmarks<V> landmarks, String path) {
+        try {
+            landmarks.write(Paths.get(path));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads the landmarks of the graph from a file written by
+     * {@link #writeLandmarks(Landmarks, String)}.
+     *
+     * @param graph Graph of the landmarks.
+     * @param path File path.
+     * @throws RuntimeException If there is an error reading the file, or if
+     * it doesn't hold landmarks of a graph of the same size.
+     * @return Read landmarks.
+     */
+    public Landmarks<V> readLandmarks(IGraph<V, ? extends Edge<V>> graph, String path) {
+        try {
+            return Landmarks.read(Paths.get(path), indexedGraphOf(graph));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Contracts the graph into a hierarchy of shortcuts, which answers the
+     * queries of
+     * {@link #shortestPath(IGraph, Comparable, Comparable, ContractionHierarchy)}
+     * by settling only a few vertexes. The contraction is slow, and must be
+     * done again after the graph changes.
+     *
+     * @param graph Graph to be contracted.
+     * @throws RuntimeException If the graph contains negative weighted edges.
+     * @return Contraction hierarchy of the graph.
+     */
+    public ContractionHierarchy<V> computeContractionHierarchy(IGraph<V, ? extends Edge<V>> graph) {
+        return new ContractionHierarchy<>(indexedGraphOf(graph));
+    }
+
+    /**
+     * Returns a representation of the shortest path between the specified
+     * vertexes, found by the upward searches of the contraction hierarchy.
+     *
+     * @param graph Graph to be obtained shortest path between v1 and v2.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param hierarchy Contraction hierarchy computed for the graph.
+     * @throws RuntimeException If the hierarchy wasn't computed for the graph
+     * as it is.
+     * @return Shortest path between {@code v1} e {@code v2}.
+     */
+    public String shortestPath(IGraph<V, ? extends Edge<V>> graph, V v1, V v2,
+                               ContractionHierarchy<V> hierarchy) {
+        return hierarchyOf(graph, v1, v2, hierarchy).shortestPath(v1, v2);
+    }
+
+    /**
+     * Returns the shortest path between the specified vertexes, found by the
+     * upward searches of the contraction hierarchy, with its vertexes and its
+     * total weight.
+     *
+     * @param graph Graph to be obtained shortest path between v1 and v2.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param hierarchy Contraction hierarchy computed for the graph.
+     * @throws RuntimeException If the hierarchy wasn't computed for the graph
+     * as it is.
+     * @return Shortest path between {@code v1} e {@code v2}, which is empty
+     * if there isn't a path.
+     */
+    public PathResult<V> shortestPathResult(IGraph<V, ? extends Edge<V>> graph, V v1, V v2,
+                                            ContractionHierarchy<V> hierarchy) {
+        return hierarchyOf(graph, v1, v2, hierarchy).shortestPathResult(v1, v2);
+    }
+
+    /**
+     * Returns the distances between all pairs of vertexes of the graph, found
+     * by the specified algorithm.
+     *
+     * @param graph Graph to have its distances found.
+     * @param strategy Algorithm that finds the distances.
+     * @throws RuntimeException If the graph is too large for its distances
+     * to be held in memory, or if it contains negative weighted edges and
+     * the strategy is {@link AllPairsStrategy#FLOYD_WARSHALL}.
+     * @throws NegativeCycleException If the graph contains a negative cycle.
+     * @return Distances between all pairs of vertexes.
+     */
+    public DistanceMatrix<V> allPairsShortestPaths(IGraph<V, ? extends Edge<V>> graph, AllPairsStrategy strategy) {
+        return new DistanceMatrix<>(indexedGraphOf(graph), strategy);
+    }
+
+    /**
+     * Finds the distances between all pairs of vertexes of the graph and
+     * writes them to a file as they are found, without holding them all in
+     * memory. The file can be read by
+     * {@link #readAllPairsShortestPaths(IGraph, String)}.
+     *
+     * @param graph Graph to have its distances found.
+     * @param strategy Algorithm that finds the distances.
+     * @param path File path.
+     * @throws RuntimeException If there is an error writing the file, or if
+     * the graph contains negative weighted edges and the strategy is
+     * {@link AllPairsStrategy#FLOYD_WARSHALL}.
+     * @throws NegativeCycleException If the graph contains a negative cycle.
+     */
+    public void writeAllPairsShortestPaths(IGraph<V, ? extends Edge<V>> graph, AllPairsStrategy strategy,
+                                           String path) {
+        try {
+            DistanceMatrix.write(indexedGraphOf(graph), strategy, Paths.get(path));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads the distances between all pairs of vertexes of the graph from a
+     * file written by {@link #writeAllPairsShortestPaths(IGraph, AllPairsStrategy, String)}.
+     *
+     * @param graph Graph of the distances.
+     * @param path File path.
+     * @throws RuntimeException If there is an error reading the file, or if
+     * it doesn't hold the distances of a graph of the same size.
+     * @return Read distances.
+     */
+    public DistanceMatrix<V> readAllPairsShortestPaths(IGraph<V, ? extends Edge<V>> graph, String path) {
+        try {
+            return DistanceMatrix.read(Paths.get(path), indexedGraphOf(graph));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Checks that the graph contains both vertexes and that the hierarchy was
+     * computed for the graph as it is.
+     *
+     * @param graph Graph of the query.
+     * @param v1 Origin vertex of the path.
+     * @param v2 Target vertex of the path.
+     * @param hierarchy Contraction hierarchy of the query.
+     * @return The hierarchy.
+     */
+    private ContractionHierarchy<V> hierarchyOf(IGraph<V, ? extends Edge<V>> graph, V v1, V v2,
+                                                ContractionHierarchy<V> hierarchy) {
+        if (!graph.containsVertex(v1) || !graph.containsVertex(v2) ) {
+            throw new RuntimeException("The graph doesn't contains both specified vertexes.");
+        }
+        if (!hierarchy.isComputedFor(indexedGraphOf(graph))) {
+            throw new RuntimeException("The contraction hierarchy wasn't computed for the current graph.");
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Returns the indexed view of the graph, copying it only if it has none.
+     *
+     * @param graph Graph to be viewed.
+     * @return Indexed view of the graph.
+     */
+    private BaseIndexedGraph<V, ?> indexedGraphOf(IGraph<V, ? extends Edge<V>> graph) {
+        if (graph instanceof BaseGraph) {
+            return ((BaseGraph<V, ?>) graph).getIndexedGraph();
+        } else if (graph instanceof BaseIndexedGraph) {
+            return (BaseIndexedGraph<V, ?>) graph;
+        } else if (graph instanceof BaseVersionedGraph) {
+            return ((BaseVersionedGraph<V, ?>) graph).snapshot();
+        } else if (graph instanceof IWeightedGraph) {
+            return new WeightedCSRGraph<>(graph);
+        }
+        return new CSRGraph<>(graph);
+    }
+
     /**
      * Returns a representation of the Minimum Spanning Tree (MST) of the
      * graph.
@@ -355,4 +922,34 @@ public class GraphLibrary<V extends Comparable<V>> {
         return graph.MST();
     }
 
+    /**
+     * Returns the Minimum Spanning Tree (MST) of the graph, with its edges
+     * and its total weight.
+     *
+     * @param graph Graph to be obtained MST.
+     * @return Edges and total weight of the MST.
+     */
+    public MSTResult<V, ? extends Edge<V>> MSTResult(IGraph<V, ? extends Edge<V>> graph) {
+        return graph.MSTResult();
+    }
+
+    /**
+     * Returns the minimal spanning tree (MST) of the graph, found by the
+     * specified algorithm. All algorithms return the same tree.
+     *
+     * @param graph Graph to have its MST returned.
+     * @param strategy Algorithm to be used.
+     * @return Minimal spanning tree (MST) in string representation.
+     */
+    public String MST(IGraph<V, ? extends Edge<V>> graph, MSTStrategy strategy) {
+        if (graph instanceof BaseGraph) {
+            return ((BaseGraph<V, ?>) graph).MST(strategy);
+        } else if (graph instanceof BaseIndexedGraph) {
+            return ((BaseIndexedGraph<V, ?>) graph).MST(strategy);
+        } else if (graph instanceof IWeightedGraph) {
+            return new WeightedCSRGraph<>(graph).MST(strategy);
+        }
+        return new CSRGraph<>(graph).MST(strategy);
+    }
+
 }
\ No newline at end of file
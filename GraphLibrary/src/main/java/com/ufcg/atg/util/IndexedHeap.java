@@ -0,0 +1,203 @@
+package com.ufcg.atg.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed d-ary min-heap of the ints from zero (0) to {@code capacity - 1},
+ * each one with a float key. Knowing the position of each element in the
+ * heap allows the key of an element to be decreased in place, instead of
+ * inserting it again.
+ */
+public class IndexedHeap {
+
+    private static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+
+    private final int[] heap;
+
+    private final int[] positions;
+
+    private final float[] keys;
+
+    private int size;
+
+    /**
+     * Constructs an empty 4-ary {@link IndexedHeap}.
+     *
+     * @param capacity Number of elements that can be placed in the heap.
+     */
+    public IndexedHeap(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs an empty {@link IndexedHeap}.
+     *
+     * @param capacity Number of elements that can be placed in the heap.
+     * @param arity Number of children of each node of the heap.
+     */
+    public IndexedHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("The arity of the heap must be at least 2.");
+        }
+        this.arity = arity;
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new float[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Returns if the heap is empty.
+     *
+     * @return {@code true} if it is, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return Number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns if the specified element is in the heap.
+     *
+     * @param element Element to be verified.
+     * @return {@code true} if it is, {@code false} otherwise.
+     */
+    public boolean contains(int element) {
+        return positions[element] != -1;
+    }
+
+    /**
+     * Returns the key of the specified element.
+     *
+     * @param element Element in the heap.
+     * @return Key of the element.
+     */
+    public float getKey(int element) {
+        return keys[element];
+    }
+
+    /**
+     * Returns the element with the minimum key, without removing it.
+     *
+     * @throws NoSuchElementException If the heap is empty.
+     * @return Element with the minimum key.
+     */
+    public int peek() {
+        if (size == 0) throw new NoSuchElementException("The heap is empty.");
+        return heap[0];
+    }
+
+    /**
+     * Places the element with the specified key, if it isn't in the heap,
+     * or decreases its key, if it is and the specified key is lesser.
+     *
+     * @param element Element to be placed.
+     * @param key Key of the element.
+     * @return {@code true} if the heap changed, {@code false} otherwise.
+     */
+    public boolean insertOrDecrease(int element, float key) {
+        int position = positions[element];
+        if (position == -1) {
+            keys[element] = key;
+            siftUp(size++, element);
+            return true;
+        }
+        if (key < keys[element]) {
+            keys[element] = key;
+            siftUp(position, element);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes and returns the element with the minimum key.
+     *
+     * @throws NoSuchElementException If the heap is empty.
+     * @return Element with the minimum key.
+     */
+    public int poll() {
+        int top = peek();
+        positions[top] = -1;
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return top;
+    }
+
+    /**
+     * Removes all elements from the heap.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Moves the element up from the specified position until its parent has
+     * a lesser or equal key.
+     *
+     * @param position Position where the element starts.
+     * @param element Element to be moved.
+     */
+    private void siftUp(int position, int element) {
+        float key = keys[element];
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            if (keys[heap[parent]] <= key) break;
+            place(position, heap[parent]);
+            position = parent;
+        }
+        place(position, element);
+    }
+
+    /**
+     * Moves the element down from the specified position until all its
+     * children have greater or equal keys.
+     *
+     * @param position Position where the element starts.
+     * @param element Element to be moved.
+     */
+    private void siftDown(int position, int element) {
+        float key = keys[element];
+        while (true) {
+            int firstChild = position * arity + 1;
+            if (firstChild >= size) break;
+            int lastChild = Math.min(firstChild + arity, size);
+            int minChild = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (keys[heap[child]] < keys[heap[minChild]]) minChild = child;
+            }
+            if (keys[heap[minChild]] >= key) break;
+            place(position, heap[minChild]);
+            position = minChild;
+        }
+        place(position, element);
+    }
+
+    /**
+     * Places the element in the specified position.
+     *
+     * @param position Position of the heap.
+     * @param element Element to be placed.
+     */
+    private void place(int position, int element) {
+        heap[position] = element;
+        positions[element] = position;
+    }
+
+}
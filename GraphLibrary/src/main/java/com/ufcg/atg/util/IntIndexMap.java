@@ -0,0 +1,121 @@
+package com.ufcg.atg.util;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from int keys to non-negative int values, used to
+ * map vertexes to their indexes without boxing. Collisions are resolved by
+ * linear probing and the table doubles when it is half full.
+ */
+public class IntIndexMap {
+
+    private static final int NO_VALUE = -1;
+
+    private int[] keys;
+
+    private int[] values;
+
+    private int size;
+
+    private int mask;
+
+    /**
+     * Constructs an empty {@link IntIndexMap}.
+     */
+    public IntIndexMap() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty {@link IntIndexMap} able to hold the specified
+     * number of keys without growing.
+     *
+     * @param expectedSize Expected number of keys.
+     */
+    public IntIndexMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NO_VALUE);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the value of the specified key.
+     *
+     * @param key Key to have its value returned.
+     * @return Value of the key, or -1 if the map doesn't contains it.
+     */
+    public int get(int key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            if (values[slot] == NO_VALUE) return NO_VALUE;
+            if (keys[slot] == key) return values[slot];
+        }
+    }
+
+    /**
+     * Associates the specified value to the specified key.
+     *
+     * @param key Key to be associated.
+     * @param value Non-negative value to be associated.
+     * @throws IllegalArgumentException If the value is negative.
+     */
+    public void put(int key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("The value must be non-negative.");
+        }
+        int slot = slot(key);
+        while (values[slot] != NO_VALUE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == NO_VALUE) {
+            size++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (size * 2 > keys.length) {
+            rehash();
+        }
+    }
+
+    /**
+     * Returns the number of keys of the map.
+     *
+     * @return Number of keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the first slot to be probed for the specified key.
+     *
+     * @param key Key to be placed.
+     * @return Slot of the key.
+     */
+    private int slot(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Doubles the table, placing again all keys.
+     */
+    private void rehash() {
+        int[] oldKeys = keys, oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        Arrays.fill(values, NO_VALUE);
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == NO_VALUE) continue;
+            int slot = slot(oldKeys[i]);
+            while (values[slot] != NO_VALUE) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+}
@@ -0,0 +1,230 @@
+package com.ufcg.atg.util;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Distances, predecessors, bounds and heap of a shortest path search, reused
+ * by the searches of the same thread. Each entry is stamped with the
+ * generation of the search that wrote it, and a new search only starts a new
+ * generation, so entries of past searches read as unreached without clearing
+ * the arrays.
+ * A search that settles a few vertexes then costs only those vertexes,
+ * whatever the size of the graph.
+ *
+ * The workspace of a thread is only valid until the next search of the same
+ * thread, so the results to be kept must be copied out. Each thread has a
+ * second workspace for the backward side of the bidirectional searches.
+ */
+public class SearchWorkspace {
+
+    private static final ThreadLocal<SearchWorkspace> WORKSPACES =
+            ThreadLocal.withInitial(SearchWorkspace::new);
+
+    private static final ThreadLocal<SearchWorkspace> BACKWARD_WORKSPACES =
+            ThreadLocal.withInitial(SearchWorkspace::new);
+
+    private float[] distances = new float[0];
+
+    private int[] predecessors = new int[0];
+
+    private int[] stamps = new int[0];
+
+    private int generation;
+
+    private int[] reached = new int[0];
+
+    private int reachedNumber;
+
+    private IndexedHeap heap = new IndexedHeap(0);
+
+    private int[] queue = new int[0];
+
+    private float[] bounds = new float[0];
+
+    private int[] boundStamps = new int[0];
+
+    /**
+     * Private constructor, as the workspaces are obtained by
+     * {@link #forThread(int)}.
+     */
+    private SearchWorkspace() {}
+
+    /**
+     * Returns the workspace of the current thread, ready for a new search
+     * over a graph of the specified number of vertexes.
+     *
+     * @param vertexNumber Number of vertexes of the graph.
+     * @return Workspace of the current thread.
+     */
+    public static SearchWorkspace forThread(int vertexNumber) {
+        SearchWorkspace workspace = WORKSPACES.get();
+        workspace.reset(vertexNumber);
+        return workspace;
+    }
+
+    /**
+     * Returns the backward workspace of the current thread, ready for a new
+     * search over a graph of the specified number of vertexes. It's apart
+     * from the one returned by {@link #forThread(int)}, so both sides of a
+     * bidirectional search are kept at once.
+     *
+     * @param vertexNumber Number of vertexes of the graph.
+     * @return Backward workspace of the current thread.
+     */
+    public static SearchWorkspace backwardForThread(int vertexNumber) {
+        SearchWorkspace workspace = BACKWARD_WORKSPACES.get();
+        workspace.reset(vertexNumber);
+        return workspace;
+    }
+
+    /**
+     * Starts a new generation, growing the arrays if the graph has more
+     * vertexes than the previous ones.
+     *
+     * @param vertexNumber Number of vertexes of the graph.
+     */
+    private void reset(int vertexNumber) {
+        if (stamps.length < vertexNumber) {
+            distances = new float[vertexNumber];
+            predecessors = new int[vertexNumber];
+            stamps = new int[vertexNumber];
+            reached = new int[vertexNumber];
+            reachedNumber = 0;
+            heap = new IndexedHeap(vertexNumber);
+            generation = 1;
+            return;
+        }
+        heap.clear();
+        reachedNumber = 0;
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            Arrays.fill(boundStamps, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Returns the heap of the vertexes to be settled.
+     *
+     * @return Heap of the search.
+     */
+    public IndexedHeap getHeap() {
+        return heap;
+    }
+
+    /**
+     * Returns a queue of the vertexes to be visited, with room for all the
+     * vertexes of the graph. It isn't cleared between searches.
+     *
+     * @return Queue of the search.
+     */
+    public int[] getQueue() {
+        if (queue.length < stamps.length) queue = new int[stamps.length];
+        return queue;
+    }
+
+    /**
+     * Returns the bound of the specified vertex, given by the specified
+     * function on the first call of the current search and kept for the
+     * next ones.
+     *
+     * @param index Index of the vertex.
+     * @param bound Function that returns the bound of an index.
+     * @return Bound of the vertex.
+     */
+    public float getBound(int index, IntToDoubleFunction bound) {
+        if (boundStamps.length < stamps.length) {
+            bounds = new float[stamps.length];
+            boundStamps = new int[stamps.length];
+        }
+        if (boundStamps[index] != generation) {
+            boundStamps[index] = generation;
+            bounds[index] = (float) bound.applyAsDouble(index);
+        }
+        return bounds[index];
+    }
+
+    /**
+     * Returns if the specified vertex was reached by the current search.
+     *
+     * @param index Index of the vertex.
+     * @return {@code true} if it was, {@code false} otherwise.
+     */
+    public boolean isReached(int index) {
+        return stamps[index] == generation;
+    }
+
+    /**
+     * Returns the distance of the specified vertex to the source.
+     *
+     * @param index Index of the vertex.
+     * @return Distance of the vertex, or infinity if it wasn't reached.
+     */
+    public float getDistance(int index) {
+        return stamps[index] == generation ? distances[index] : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the predecessor of the specified vertex.
+     *
+     * @param index Index of the vertex.
+     * @return Index of the predecessor, or -1 if there is none.
+     */
+    public int getPredecessor(int index) {
+        return stamps[index] == generation ? predecessors[index] : -1;
+    }
+
+    /**
+     * Sets the distance and the predecessor of the specified vertex.
+     *
+     * @param index Index of the vertex.
+     * @param distance Distance of the vertex to the source.
+     * @param predecessor Index of the predecessor, or -1 if there is none.
+     */
+    public void reach(int index, float distance, int predecessor) {
+        if (stamps[index] != generation) reached[reachedNumber++] = index;
+        stamps[index] = generation;
+        distances[index] = distance;
+        predecessors[index] = predecessor;
+    }
+
+    /**
+     * Returns the number of vertexes reached by the current search.
+     *
+     * @return Number of reached vertexes.
+     */
+    public int getReachedNumber() {
+        return reachedNumber;
+    }
+
+    /**
+     * Returns a vertex reached by the current search, in the order they were
+     * first reached.
+     *
+     * @param position Position of the vertex, less than the number of
+     *                 reached vertexes.
+     * @return Index of the vertex.
+     */
+    public int getReached(int position) {
+        return reached[position];
+    }
+
+    /**
+     * Copies the distances and predecessors of the current search to the
+     * specified arrays.
+     *
+     * @param distances Array, sized to the vertex number, that receives the
+     *                  distance of each vertex, or infinity if it wasn't
+     *                  reached.
+     * @param predecessors Array, sized to the vertex number, that receives the
+     *                     predecessor of each vertex, or -1 if there is none.
+     */
+    public void copyTo(float[] distances, int[] predecessors) {
+        for (int index = 0; index < distances.length; index++) {
+            distances[index] = getDistance(index);
+            predecessors[index] = getPredecessor(index);
+        }
+    }
+
+}
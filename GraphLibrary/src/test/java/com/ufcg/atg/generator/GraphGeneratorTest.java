@@ -0,0 +1,145 @@
+package com.ufcg.atg.generator;
+
+import com.ufcg.atg.graph.IntGraph;
+import com.ufcg.atg.graph.IntWeightedGraph;
+import com.ufcg.atg.io.EdgeList;
+import com.ufcg.atg.library.GraphLibrary;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the class {@link GraphGenerator} and its generators.
+ */
+public class GraphGeneratorTest {
+
+    /**
+     * Tests if the same seed gives the same edges, and another seed gives
+     * other edges.
+     */
+    @Test
+    public void reproducibilityTest() {
+        GraphGenerator[] generators = {
+                new ErdosRenyiGenerator(1000, 5000, 1),
+                new BarabasiAlbertGenerator(1000, 3, 1),
+                new RMatGenerator(10, 5000, 1)
+        };
+        GraphGenerator[] sameSeed = {
+                new ErdosRenyiGenerator(1000, 5000, 1),
+                new BarabasiAlbertGenerator(1000, 3, 1),
+                new RMatGenerator(10, 5000, 1)
+        };
+        GraphGenerator[] otherSeed = {
+                new ErdosRenyiGenerator(1000, 5000, 2),
+                new BarabasiAlbertGenerator(1000, 3, 2),
+                new RMatGenerator(10, 5000, 2)
+        };
+        for (int i = 0; i < generators.length; i++) {
+            EdgeList edges = generators[i].toEdgeList(true);
+            EdgeList same = sameSeed[i].toEdgeList(true);
+            EdgeList other = otherSeed[i].toEdgeList(true);
+            assertEquals(generators[i].getEdgeNumber(), edges.size());
+            assertArrayEquals(edges.getOrigins(), same.getOrigins());
+            assertArrayEquals(edges.getTargets(), same.getTargets());
+            assertArrayEquals(edges.getWeights(), same.getWeights());
+            assertFalse(Arrays.equals(edges.getTargets(), other.getTargets()));
+            for (int j = 0; j < edges.size(); j++) {
+                assertTrue(edges.getOrigins()[j] >= 1 && edges.getOrigins()[j] <= generators[i].getVertexNumber());
+                assertTrue(edges.getTargets()[j] >= 1 && edges.getTargets()[j] <= generators[i].getVertexNumber());
+                assertTrue(edges.getWeights()[j] >= 1 && edges.getWeights()[j] <= GraphGenerator.DEFAULT_MAX_WEIGHT);
+            }
+        }
+    }
+
+    /**
+     * Tests the degrees of the generated shapes.
+     */
+    @Test
+    public void shapesTest() {
+        IntGraph grid = new GridGenerator(30, 40, 0).toGraph();
+        assertEquals(1200, grid.getVertexNumber());
+        assertEquals(2 * (30 * 39 + 29 * 40), grid.getEdgeNumber());
+        assertEquals(2, grid.getMinDegree());
+        assertEquals(4, grid.getMaxDegree());
+        assertEquals("1 2 42", grid.shortestPath(1, 42));
+
+        IntGraph path = new PathGenerator(500, 0).toGraph();
+        assertEquals(1, path.getMinDegree());
+        assertEquals(499, path.BFSResult(1).getLevel(Integer.valueOf(500)));
+
+        IntWeightedGraph star = new StarGenerator(500, 0).toWeightedGraph();
+        assertEquals(499, star.getMaxDegree());
+        assertTrue(star.connected());
+
+        IntGraph preferential = new BarabasiAlbertGenerator(5000, 2, 7).toGraph();
+        assertTrue(preferential.connected());
+        assertTrue(preferential.getMaxDegree() > 10 * preferential.getMeanEdge());
+
+        IntGraph sparse = new ErdosRenyiGenerator(1000, 10, 7).toGraph();
+        assertEquals(1000, sparse.getVertexNumber());
+        assertFalse(sparse.connected());
+    }
+
+    /**
+     * Tests if the Erdős–Rényi and Barabási–Albert edges have no loops, and
+     * if the Erdős–Rényi edges are as many as asked for, with no repeated
+     * edges.
+     */
+    @Test
+    public void simpleEdgesTest() {
+        GraphGenerator[] generators = {
+                new ErdosRenyiGenerator(1000, 5000, 1),
+                new ErdosRenyiGenerator(60, 60 * 59 / 2, 2),
+                new ErdosRenyiGenerator(2, 1, 3),
+                new BarabasiAlbertGenerator(1000, 3, 1)
+        };
+        for (GraphGenerator generator : generators) {
+            EdgeList edges = generator.toEdgeList(false);
+            Set<Long> pairs = new HashSet<>();
+            for (int i = 0; i < edges.size(); i++) {
+                int origin = edges.getOrigins()[i], target = edges.getTargets()[i];
+                assertNotEquals(origin, target);
+                pairs.add((long) Math.min(origin, target) << 32 | Math.max(origin, target));
+            }
+            if (generator instanceof ErdosRenyiGenerator) {
+                assertEquals(generator.getEdgeNumber(), pairs.size());
+                assertEquals(2 * generator.getEdgeNumber(), generator.toGraph().getEdgeNumber());
+            }
+        }
+        assertEquals(59, new ErdosRenyiGenerator(60, 60 * 59 / 2, 2).toGraph().getMinDegree());
+        assertThrows(IllegalArgumentException.class, () -> new ErdosRenyiGenerator(60, 60 * 59 / 2 + 1, 2));
+        assertEquals(0, new BarabasiAlbertGenerator(1, 3, 1).toEdgeList(false).size());
+    }
+
+    /**
+     * Tests if the written file, whatever the parallelism, is read back as
+     * the generated graph.
+     */
+    @Test
+    public void writeEdgeListTest() throws IOException {
+        Path path = Files.createTempFile("generated", ".txt");
+        Path otherPath = Files.createTempFile("generated", ".txt");
+        try {
+            GraphGenerator generator = new RMatGenerator(12, 200000, 3).setMaxWeight(20);
+            generator.writeEdgeList(path, true);
+            generator.writeEdgeList(otherPath, true, new ForkJoinPool(1));
+            assertArrayEquals(Files.readAllBytes(path), Files.readAllBytes(otherPath));
+
+            IntWeightedGraph read = new GraphLibrary<Integer>().readIntWeightedGraph(path.toString());
+            IntWeightedGraph generated = generator.toWeightedGraph();
+            assertEquals(generated.getAllEdges(), read.getAllEdges());
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(otherPath);
+        }
+    }
+
+}
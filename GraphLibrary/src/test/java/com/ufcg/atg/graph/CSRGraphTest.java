@@ -0,0 +1,151 @@
+package com.ufcg.atg.graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.ufcg.atg.util.Utils.LINE_SEPARATOR;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the classes {@link CSRGraph} and {@link WeightedCSRGraph} as
+ * implementations of {@link IGraph} and {@link IWeightedGraph}.
+ */
+public class CSRGraphTest {
+
+    private IGraph<Integer, Edge<Integer>> integerGraph;
+    private IWeightedGraph<Integer, WeightedEdge<Integer>> weightedGraph;
+    private CSRGraph<Integer> csrGraph;
+    private WeightedCSRGraph<Integer> weightedCSRGraph;
+
+    /**
+     * Tests' set up.
+     */
+    @BeforeEach
+    public void setUp() {
+        Integer i1 = 1, i2 = 2, i3 = 3, i4 = 4, i5 = 5;
+        integerGraph = new Graph<>();
+        integerGraph.addEdge(i1, i2);
+        integerGraph.addEdge(i2, i5);
+        integerGraph.addEdge(i5, i3);
+        integerGraph.addEdge(i4, i5);
+        integerGraph.addEdge(i1, i5);
+        csrGraph = new CSRGraph<>(integerGraph);
+
+        weightedGraph = new WeightedGraph<>();
+        weightedGraph.addEdge(i1, i2, 0.1f);
+        weightedGraph.addEdge(i2, i5, 0.2f);
+        weightedGraph.addEdge(i5, i3, 5f);
+        weightedGraph.addEdge(i4, i5, 2.3f);
+        weightedGraph.addEdge(i1, i5, 1f);
+        weightedCSRGraph = new WeightedCSRGraph<>(weightedGraph);
+    }
+
+    /**
+     * Tests if the CSR graph keeps the vertexes and edges of the copied graph.
+     */
+    @Test
+    public void copyTest() {
+        assertEquals(integerGraph.getAllVertexes(), csrGraph.getAllVertexes());
+        assertEquals(integerGraph.getAllEdges(), csrGraph.getAllEdges());
+        assertEquals(integerGraph.getEdgeNumber(), csrGraph.getEdgeNumber());
+        assertEquals(integerGraph.getAdjacentVertexes(5), csrGraph.getAdjacentVertexes(5));
+        assertEquals(weightedGraph.getAllEdges(), weightedCSRGraph.getAllEdges());
+        assertTrue(csrGraph.containsEdge(new Edge<>(5, 3)));
+        assertFalse(csrGraph.containsEdge(new Edge<>(3, 4)));
+        assertTrue(weightedCSRGraph.containsEdge(new WeightedEdge<>(3, 5, 5f)));
+        assertFalse(weightedCSRGraph.containsEdge(new WeightedEdge<>(3, 5, 1f)));
+    }
+
+    /**
+     * Tests if the indexes follow the natural order of the vertexes.
+     */
+    @Test
+    public void indexesTest() {
+        for (int i = 0; i < csrGraph.getVertexNumber(); i++) {
+            assertEquals(Integer.valueOf(i + 1), csrGraph.getVertex(i));
+            assertEquals(i, csrGraph.indexOf(i + 1));
+        }
+        assertEquals(-1, csrGraph.indexOf(6));
+        assertEquals(4, csrGraph.getDegree(csrGraph.indexOf(5)));
+        assertEquals(csrGraph.indexOf(2), weightedCSRGraph.getAdjacentIndex(0, 0));
+        assertEquals(0.1f, weightedCSRGraph.getWeight(0, 0));
+    }
+
+    /**
+     * Tests if the CSR graph can't be modified.
+     */
+    @Test
+    public void immutabilityTest() {
+        assertThrows(UnsupportedOperationException.class, () -> csrGraph.addVertex(6));
+        assertThrows(UnsupportedOperationException.class, () -> csrGraph.addEdge(1, 3));
+        assertThrows(UnsupportedOperationException.class, () -> weightedCSRGraph.addEdge(1, 3, 2f));
+    }
+
+    /**
+     * Tests if the representations are the same of the copied graph.
+     */
+    @Test
+    public void representationTest() {
+        for (RepresentationType type : RepresentationType.values()) {
+            assertEquals(integerGraph.graphRepresentation(type), csrGraph.graphRepresentation(type));
+            assertEquals(weightedGraph.graphRepresentation(type), weightedCSRGraph.graphRepresentation(type));
+        }
+    }
+
+    /**
+     * Tests BFS and DFS in a CSR graph.
+     */
+    @Test
+    public void walkByGraphTest() {
+        String bfsFrom1 = new StringBuilder()
+                .append("1 - 0 -").append(LINE_SEPARATOR)
+                .append("2 - 1 1").append(LINE_SEPARATOR)
+                .append("3 - 2 5").append(LINE_SEPARATOR)
+                .append("4 - 2 5").append(LINE_SEPARATOR)
+                .append("5 - 1 1").append(LINE_SEPARATOR)
+                .toString();
+        String dfsFrom1 = new StringBuilder()
+                .append("1 - 0 -").append(LINE_SEPARATOR)
+                .append("2 - 1 1").append(LINE_SEPARATOR)
+                .append("3 - 3 5").append(LINE_SEPARATOR)
+                .append("4 - 3 5").append(LINE_SEPARATOR)
+                .append("5 - 2 2").append(LINE_SEPARATOR)
+                .toString();
+
+        assertEquals(bfsFrom1, csrGraph.BFS(1));
+        assertEquals(dfsFrom1, csrGraph.DFS(1));
+        assertTrue(csrGraph.connected());
+    }
+
+    /**
+     * Tests the shortest path and the MST in CSR graphs.
+     */
+    @Test
+    public void shortestPathAndMSTTest() {
+        assertEquals("1 5 3", csrGraph.shortestPath(1, 3));
+        assertEquals("1 2 5 4", weightedCSRGraph.shortestPath(1, 4));
+        assertEquals("5", weightedCSRGraph.shortestPath(5, 5));
+        assertEquals(integerGraph.MST(), csrGraph.MST());
+        assertEquals(weightedGraph.MST(), weightedCSRGraph.MST());
+    }
+
+    /**
+     * Tests a CSR graph with disconnected vertexes.
+     */
+    @Test
+    public void disconnectedGraphTest() {
+        integerGraph.addVertex(6);
+        CSRGraph<Integer> disconnectedGraph = new CSRGraph<>(integerGraph);
+
+        assertFalse(disconnectedGraph.connected());
+        assertEquals("6 - 0 -" + LINE_SEPARATOR, disconnectedGraph.BFS(6));
+        try {
+            disconnectedGraph.shortestPath(1, 6);
+            fail("Should have thrown exception when trying to find the" +
+                    " shortest path between disconnected vertexes.");
+        } catch (Exception e) {
+            assertEquals("There isn't a path between 1 and 6", e.getMessage());
+        }
+    }
+
+}
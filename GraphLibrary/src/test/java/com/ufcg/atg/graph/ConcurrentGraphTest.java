@@ -0,0 +1,86 @@
+package com.ufcg.atg.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the classes {@link ConcurrentGraph} and
+ * {@link ConcurrentWeightedGraph} as implementations of {@link IGraph} and
+ * {@link IWeightedGraph}.
+ */
+public class ConcurrentGraphTest {
+
+    private static final int THREAD_NUMBER = 4;
+
+    /**
+     * Tests if edges added by many threads at once give the same graph of
+     * adding them by a single thread.
+     */
+    @Test
+    public void parallelAddEdgeTest() throws Exception {
+        int[][] edges = new int[20000][];
+        Random random = new Random(3);
+        for (int i = 0; i < edges.length; i++) {
+            edges[i] = new int[] {random.nextInt(3000), random.nextInt(3000), random.nextInt(40) - 5};
+        }
+        IWeightedGraph<Integer, WeightedEdge<Integer>> graph = new WeightedGraph<>();
+        for (int[] edge : edges) {
+            graph.addEdge(edge[0], edge[1], edge[2]);
+        }
+
+        ConcurrentWeightedGraph<Integer> concurrentGraph = new ConcurrentWeightedGraph<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_NUMBER);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < THREAD_NUMBER; t++) {
+                int first = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = first; i < edges.length; i += THREAD_NUMBER) {
+                        concurrentGraph.addEdge(edges[i][0], edges[i][1], edges[i][2]);
+                        if (i % 1000 == 0) concurrentGraph.BFS(edges[i][0]);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(graph.getAllVertexes(), concurrentGraph.getAllVertexes());
+        assertEquals(graph.getAllEdges(), concurrentGraph.getAllEdges());
+        assertEquals(graph.getEdgeNumber(), concurrentGraph.getEdgeNumber());
+        assertEquals(graph.getMeanEdge(), concurrentGraph.getMeanEdge());
+        assertEquals(graph.getMaxDegree(), concurrentGraph.getMaxDegree());
+        assertEquals(graph.MST(), concurrentGraph.MST());
+        assertThrows(RuntimeException.class, () -> concurrentGraph.shortestPath(0, 1));
+    }
+
+    /**
+     * Tests if the indexed copy of the graph follows the edges added after
+     * it was taken.
+     */
+    @Test
+    public void indexedCopyTest() {
+        ConcurrentGraph<String> graph = new ConcurrentGraph<>();
+        graph.addEdge("a", "b");
+        assertEquals("a b", graph.shortestPath("a", "b"));
+        assertFalse(graph.containsVertex("c"));
+        graph.addEdge("b", "c");
+        assertEquals("a b c", graph.shortestPath("a", "c"));
+        assertSame(graph.getIndexedGraph(), graph.getIndexedGraph());
+        graph.addVertex("d");
+        assertFalse(graph.connected());
+        assertEquals(0, graph.getMinDegree());
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.ufcg.atg.graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.ufcg.atg.util.Utils.LINE_SEPARATOR;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the class {@link DisjointSet}.
+ */
+public class DisjointSetTest {
+
+    private DisjointSet disjointSet;
+
+    /**
+     * Tests' set up.
+     */
+    @BeforeEach
+    public void setUp() {
+        disjointSet = new DisjointSet(6);
+    }
+
+    /**
+     * Tests the union and find of elements.
+     */
+    @Test
+    public void unionFindTest() {
+        assertEquals(6, disjointSet.getSetNumber());
+        assertTrue(disjointSet.union(0, 1));
+        assertTrue(disjointSet.union(2, 3));
+        assertTrue(disjointSet.union(1, 3));
+        assertFalse(disjointSet.union(0, 2));
+
+        assertTrue(disjointSet.connected(0, 3));
+        assertFalse(disjointSet.connected(0, 4));
+        assertEquals(disjointSet.find(2), disjointSet.find(1));
+        assertEquals(3, disjointSet.getSetNumber());
+    }
+
+    /**
+     * Tests the addition of elements after the construction, as in the
+     * connectivity of a stream of edges.
+     */
+    @Test
+    public void addElementTest() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(6 + i, disjointSet.add());
+        }
+        assertEquals(16, disjointSet.size());
+        assertEquals(16, disjointSet.getSetNumber());
+        for (int i = 1; i < 16; i++) {
+            disjointSet.union(i - 1, i);
+        }
+        assertEquals(1, disjointSet.getSetNumber());
+
+        try {
+            disjointSet.find(16);
+            fail("Should have thrown exception when finding an element that" +
+                    " doesn't belong to the disjoint set.");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("The element 16 doesn't belong to the disjoint set.", e.getMessage());
+        }
+    }
+
+    /**
+     * Tests the connected components and MST of a path graph long enough to
+     * overflow the thread stack of a recursive find.
+     */
+    @Test
+    public void longPathGraphComponentsTest() {
+        int pathLength = 200000;
+        Graph<Integer> pathGraph = new Graph<>();
+        for (int i = pathLength; i > 1; i--) {
+            pathGraph.addEdge(i, i - 1);
+        }
+        pathGraph.addVertex(pathLength + 1);
+
+        assertEquals(2, pathGraph.getComponentNumber());
+        assertFalse(pathGraph.connected());
+        assertEquals(new DisjointSet(pathGraph.getIndexedGraph()).getSetNumber(),
+                pathGraph.getComponentNumber());
+        String mst = pathGraph.MST();
+        assertTrue(mst.startsWith("[1, 2]" + LINE_SEPARATOR));
+        assertEquals(pathLength - 1, mst.split(LINE_SEPARATOR).length);
+    }
+
+}
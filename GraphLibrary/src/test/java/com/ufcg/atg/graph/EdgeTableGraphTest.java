@@ -0,0 +1,90 @@
+package com.ufcg.atg.graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the classes {@link EdgeTableGraph} and {@link WeightedEdgeTableGraph}
+ * as implementations of {@link IGraph} and {@link IWeightedGraph}.
+ */
+public class EdgeTableGraphTest {
+
+    private EdgeTableGraph<String> edgeTableGraph;
+    private WeightedEdgeTableGraph<String> weightedEdgeTableGraph;
+    private IGraph<String, Edge<String>> graph;
+    private IWeightedGraph<String, WeightedEdge<String>> weightedGraph;
+
+    /**
+     * Tests' set up.
+     */
+    @BeforeEach
+    public void setUp() {
+        edgeTableGraph = new EdgeTableGraph<>();
+        graph = new Graph<>();
+        weightedEdgeTableGraph = new WeightedEdgeTableGraph<>();
+        weightedGraph = new WeightedGraph<>();
+        String[][] edges = {{"A", "B"}, {"B", "E"}, {"E", "C"}, {"C", "D"}, {"D", "E"}, {"A", "E"}, {"D", "D"}};
+        float[] weights = {0.1f, 0.2f, 5f, 9.5f, 2.3f, 1f, 3f};
+        for (int i = 0; i < edges.length; i++) {
+            edgeTableGraph.addEdge(edges[i][0], edges[i][1]);
+            graph.addEdge(edges[i][0], edges[i][1]);
+            weightedEdgeTableGraph.addEdge(edges[i][0], edges[i][1], weights[i]);
+            weightedGraph.addEdge(edges[i][0], edges[i][1], weights[i]);
+        }
+    }
+
+    /**
+     * Tests if the edge table graphs keep the same vertexes and edges of the
+     * graphs that store both directions.
+     */
+    @Test
+    public void vertexesAndEdgesTest() {
+        assertEquals(graph.getAllVertexes(), edgeTableGraph.getAllVertexes());
+        assertEquals(graph.getAllEdges(), edgeTableGraph.getAllEdges());
+        assertEquals(graph.getEdgeNumber(), edgeTableGraph.getEdgeNumber());
+        assertEquals(7, edgeTableGraph.getUndirectedEdgeNumber());
+        assertEquals(weightedGraph.getAllEdges(), weightedEdgeTableGraph.getAllEdges());
+        assertEquals(weightedGraph.getEdgesOfVertex("E"), weightedEdgeTableGraph.getEdgesOfVertex("E"));
+        assertTrue(weightedEdgeTableGraph.getUndirectedEdges().contains(new WeightedEdge<>("E", "C", 5f)));
+        assertFalse(weightedEdgeTableGraph.getUndirectedEdges().contains(new WeightedEdge<>("C", "E", 5f)));
+        assertTrue(weightedEdgeTableGraph.containsEdge(new WeightedEdge<>("C", "E", 5f)));
+        assertFalse(weightedEdgeTableGraph.containsEdge(new WeightedEdge<>("C", "E", 4f)));
+    }
+
+    /**
+     * Tests if an edge that is already on the graph isn't added again.
+     */
+    @Test
+    public void duplicatedEdgeTest() {
+        edgeTableGraph.addEdge("B", "A");
+        edgeTableGraph.addEdge("D", "D");
+        assertEquals(7, edgeTableGraph.getUndirectedEdgeNumber());
+        assertEquals(graph.getEdgeNumber(), edgeTableGraph.getEdgeNumber());
+
+        weightedEdgeTableGraph.addEdge("B", "A", 0.1f);
+        assertEquals(7, weightedEdgeTableGraph.getUndirectedEdgeNumber());
+        weightedEdgeTableGraph.addEdge("B", "A", 0.5f);
+        assertEquals(8, weightedEdgeTableGraph.getUndirectedEdgeNumber());
+    }
+
+    /**
+     * Tests if the representations and algorithms return the same of the
+     * graphs that store both directions.
+     */
+    @Test
+    public void algorithmsTest() {
+        for (RepresentationType type : RepresentationType.values()) {
+            assertEquals(graph.graphRepresentation(type), edgeTableGraph.graphRepresentation(type));
+            assertEquals(weightedGraph.graphRepresentation(type),
+                    weightedEdgeTableGraph.graphRepresentation(type));
+        }
+        assertEquals(graph.BFS("C"), edgeTableGraph.BFS("C"));
+        assertEquals(graph.DFS("A"), edgeTableGraph.DFS("A"));
+        assertEquals(weightedGraph.shortestPath("A", "D"), weightedEdgeTableGraph.shortestPath("A", "D"));
+        assertEquals(graph.MST(), edgeTableGraph.MST());
+        assertEquals(weightedGraph.MST(), weightedEdgeTableGraph.MST());
+    }
+
+}
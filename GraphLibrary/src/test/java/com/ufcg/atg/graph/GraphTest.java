@@ -273,4 +273,97 @@ public class GraphTest {
    	    assertEquals(expectedMST, stringGraph.MST());
     }
 
+    /**
+     * Tests DFS and connectivity in a path graph long enough to overflow the
+     * thread stack of a recursive walk.
+     */
+    @Test
+    public void longPathGraphDFSTest() {
+        int pathLength = 200000;
+        IGraph<Integer, Edge<Integer>> pathGraph = new Graph<>();
+        for (int i = 1; i < pathLength; i++) {
+            pathGraph.addEdge(i, i + 1);
+        }
+
+        assertTrue(pathGraph.connected());
+        String dfs = pathGraph.DFS(1);
+        assertTrue(dfs.startsWith("1 - 0 -" + LINE_SEPARATOR + "2 - 1 1" + LINE_SEPARATOR));
+        assertTrue(dfs.endsWith(pathLength + " - " + (pathLength - 1) + " "
+                + (pathLength - 1) + LINE_SEPARATOR));
+
+        pathGraph.addVertex(pathLength + 1);
+        assertFalse(pathGraph.connected());
+    }
+
+    /**
+     * Tests if the parallel BFS finds the same levels of the BFS in a grid
+     * graph big enough to be expanded both top-down and bottom-up.
+     */
+    @Test
+    public void gridGraphParallelBFSTest() {
+        int side = 300;
+        Graph<Integer> gridGraph = new Graph<>();
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                int vertex = row * side + column;
+                if (column + 1 < side) gridGraph.addEdge(vertex, vertex + 1);
+                if (row + 1 < side) gridGraph.addEdge(vertex, vertex + side);
+            }
+        }
+
+        String[] bfs = gridGraph.BFS(0).split(LINE_SEPARATOR);
+        String[] parallelBfs = gridGraph.parallelBFS(0).split(LINE_SEPARATOR);
+        assertEquals(side * side, parallelBfs.length);
+        for (int i = 0; i < bfs.length; i++) {
+            String level = bfs[i].substring(0, bfs[i].lastIndexOf(' '));
+            assertEquals(level, parallelBfs[i].substring(0, parallelBfs[i].lastIndexOf(' ')));
+        }
+        assertEquals("1 - 1 0", parallelBfs[1]);
+        assertEquals((side + 1) + " - 2 1", parallelBfs[side + 1]);
+        assertEquals(integerGraph.BFS(1), ((Graph<Integer>) integerGraph).parallelBFS(1));
+    }
+
+    /**
+     * Tests if all arcs are returned in both directions and the undirected
+     * edges once, from their lesser vertex.
+     */
+    @Test
+    public void edgesTest() {
+        Graph<Integer> graph = (Graph<Integer>) integerGraph;
+        graph.addEdge(3, 3);
+        assertEquals(11, graph.getAllEdges().size());
+        assertEquals(graph.getIndexedGraph().getAllEdges(), graph.getAllEdges());
+        assertTrue(graph.getAllEdges().contains(new Edge<>(5, 2)));
+        assertFalse(graph.getAllEdges().contains(new Edge<>(2, 4)));
+
+        assertEquals(6, graph.getUndirectedEdges().size());
+        assertTrue(graph.getUndirectedEdges().contains(new Edge<>(2, 5)));
+        assertFalse(graph.getUndirectedEdges().contains(new Edge<>(5, 2)));
+        assertTrue(graph.getUndirectedEdges().contains(new Edge<>(3, 3)));
+    }
+
+    /**
+     * Tests if the edges added at once give the same graph and counters of
+     * the edges added one by one.
+     */
+    @Test
+    public void addEdgesTest() {
+        Integer[] v1s = {1, 2, 5, 4, 1, 2, 3}, v2s = {2, 5, 3, 5, 5, 1, 3};
+        Graph<Integer> graph = new Graph<>();
+        assertEquals(6, graph.addEdges(v1s, v2s, v1s.length));
+        integerGraph.addEdge(3, 3);
+        assertEquals(integerGraph, graph);
+        assertEquals(integerGraph.getEdgeNumber(), graph.getEdgeNumber());
+        assertEquals(integerGraph.getMinDegree(), graph.getMinDegree());
+        assertEquals(integerGraph.getMaxDegree(), graph.getMaxDegree());
+        assertArrayEquals(integerGraph.getDegreeHistogram(), graph.getDegreeHistogram());
+        assertEquals(integerGraph.BFS(1), graph.BFS(1));
+
+        assertEquals(1, graph.addEdges(new Integer[]{6, 1}, new Integer[]{1, 2}, 2));
+        integerGraph.addEdge(6, 1);
+        assertEquals(integerGraph, graph);
+        assertArrayEquals(integerGraph.getDegreeHistogram(), graph.getDegreeHistogram());
+        assertEquals(integerGraph.getMinDegree(), graph.getMinDegree());
+    }
+
 }
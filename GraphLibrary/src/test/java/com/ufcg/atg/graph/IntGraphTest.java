@@ -0,0 +1,122 @@
+package com.ufcg.atg.graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.ufcg.atg.util.Utils.LINE_SEPARATOR;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the classes {@link IntGraph} and {@link IntWeightedGraph} as
+ * implementations of {@link IGraph} and {@link IWeightedGraph}.
+ */
+public class IntGraphTest {
+
+    private IntGraph intGraph;
+    private IntWeightedGraph intWeightedGraph;
+    private IGraph<Integer, Edge<Integer>> integerGraph;
+    private IWeightedGraph<Integer, WeightedEdge<Integer>> weightedGraph;
+
+    /**
+     * Tests' set up.
+     */
+    @BeforeEach
+    public void setUp() {
+        intGraph = new IntGraph();
+        integerGraph = new Graph<>();
+        int[][] edges = {{5, 3}, {1, 2}, {2, 5}, {4, 5}, {1, 5}};
+        for (int[] edge : edges) {
+            intGraph.addEdge(edge[0], edge[1]);
+            integerGraph.addEdge(edge[0], edge[1]);
+        }
+
+        intWeightedGraph = new IntWeightedGraph();
+        weightedGraph = new WeightedGraph<>();
+        float[] weights = {5f, 0.1f, 0.2f, 2.3f, 1f};
+        for (int i = 0; i < edges.length; i++) {
+            intWeightedGraph.addEdge(edges[i][0], edges[i][1], weights[i]);
+            weightedGraph.addEdge(edges[i][0], edges[i][1], weights[i]);
+        }
+    }
+
+    /**
+     * Tests if the int graphs keep the same vertexes and edges of the boxed
+     * graphs.
+     */
+    @Test
+    public void vertexesAndEdgesTest() {
+        assertEquals(integerGraph.getAllVertexes(), intGraph.getAllVertexes());
+        assertEquals(integerGraph.getAllEdges(), intGraph.getAllEdges());
+        assertEquals(integerGraph.getEdgeNumber(), intGraph.getEdgeNumber());
+        assertEquals(integerGraph.getMeanEdge(), intGraph.getMeanEdge());
+        assertEquals(weightedGraph.getAllEdges(), intWeightedGraph.getAllEdges());
+        assertTrue(intGraph.containsVertex(4));
+        assertFalse(intGraph.containsVertex(6));
+        assertTrue(intGraph.containsEdge(new Edge<>(3, 5)));
+        assertTrue(intWeightedGraph.containsEdge(new WeightedEdge<>(5, 4, 2.3f)));
+        assertFalse(intWeightedGraph.containsEdge(new WeightedEdge<>(5, 4, 2f)));
+    }
+
+    /**
+     * Tests if an edge that is already on the graph isn't added again.
+     */
+    @Test
+    public void duplicatedEdgeTest() {
+        int edgeNumber = intGraph.getEdgeNumber();
+        intGraph.addEdge(2, 1);
+        intGraph.addEdge(1, 2);
+        assertEquals(edgeNumber, intGraph.getEdgeNumber());
+
+        intWeightedGraph.addEdge(2, 1, 0.1f);
+        assertEquals(edgeNumber, intWeightedGraph.getEdgeNumber());
+        intWeightedGraph.addEdge(2, 1, 0.5f);
+        assertEquals(edgeNumber + 2, intWeightedGraph.getEdgeNumber());
+    }
+
+    /**
+     * Tests if the representations are the same of the boxed graphs.
+     */
+    @Test
+    public void representationTest() {
+        for (RepresentationType type : RepresentationType.values()) {
+            assertEquals(integerGraph.graphRepresentation(type), intGraph.graphRepresentation(type));
+            assertEquals(weightedGraph.graphRepresentation(type), intWeightedGraph.graphRepresentation(type));
+        }
+    }
+
+    /**
+     * Tests the walks by the graph and the shortest path.
+     */
+    @Test
+    public void algorithmsTest() {
+        String bfsFrom5 = new StringBuilder()
+                .append("1 - 1 5").append(LINE_SEPARATOR)
+                .append("2 - 1 5").append(LINE_SEPARATOR)
+                .append("3 - 1 5").append(LINE_SEPARATOR)
+                .append("4 - 1 5").append(LINE_SEPARATOR)
+                .append("5 - 0 -").append(LINE_SEPARATOR)
+                .toString();
+
+        assertEquals(bfsFrom5, intGraph.BFS(5));
+        assertTrue(intGraph.connected());
+        assertEquals("1 5 3", intGraph.shortestPath(1, 3));
+        assertEquals("1 2 5 4", intWeightedGraph.shortestPath(1, 4));
+        assertEquals(integerGraph.MST(), intGraph.MST());
+        assertEquals(weightedGraph.MST(), intWeightedGraph.MST());
+    }
+
+    /**
+     * Tests the int versions of the walks by the graph.
+     */
+    @Test
+    public void intAlgorithmsTest() {
+        assertArrayEquals(new int[]{5, 3, 2, 4, 1}, intGraph.BFSOrder(5));
+        assertArrayEquals(new int[]{3, 5, 2, 1, 4}, intGraph.DFSOrder(3));
+        assertArrayEquals(new int[]{1, 2, 5, 4}, intWeightedGraph.shortestPathVertexes(1, 4));
+        assertArrayEquals(new int[]{3, 2, 4, 1}, intGraph.getNeighbors(5));
+        intGraph.addVertex(6);
+        assertArrayEquals(new int[0], intGraph.shortestPathVertexes(1, 6));
+        assertFalse(intGraph.connected());
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.ufcg.atg.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.ufcg.atg.util.Utils.LINE_SEPARATOR;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the classes {@link VersionedGraph} and {@link VersionedWeightedGraph}
+ * and their versions.
+ */
+public class VersionedGraphTest {
+
+    /**
+     * Tests if the versioned graph has the same vertexes, edges and results
+     * of a {@link WeightedGraph}, before and after being compacted.
+     */
+    @Test
+    public void compactionTest() {
+        IWeightedGraph<Integer, WeightedEdge<Integer>> graph = new WeightedGraph<>();
+        VersionedWeightedGraph<Integer> versionedGraph = new VersionedWeightedGraph<>(500);
+        Random random = new Random(11);
+        for (int i = 0; i < 3000; i++) {
+            int v1 = random.nextInt(800), v2 = random.nextInt(800), weight = random.nextInt(30);
+            graph.addEdge(v1, v2, weight);
+            versionedGraph.addEdge(v1, v2, weight);
+            if (i % 700 == 0) versionedGraph.compact();
+        }
+        versionedGraph.addVertex(1000);
+        graph.addVertex(1000);
+        assertEquals(graph.getAllVertexes(), versionedGraph.getAllVertexes());
+        assertEquals(graph.getAllEdges(), versionedGraph.getAllEdges());
+        assertEquals(graph.getEdgeNumber(), versionedGraph.getEdgeNumber());
+        assertEquals(graph.getMaxDegree(), versionedGraph.getMaxDegree());
+        assertEquals(graph.MSTResult().getTotalWeight(), versionedGraph.MSTResult().getTotalWeight(), 1e-3);
+
+        versionedGraph.compact();
+        assertEquals(0, versionedGraph.getLoggedEdgeNumber());
+        assertEquals(graph.getAllEdges(), versionedGraph.getAllEdges());
+        assertEquals(graph.graphRepresentation(RepresentationType.ADJACENCY_LIST),
+                versionedGraph.graphRepresentation(RepresentationType.ADJACENCY_LIST));
+        assertEquals(graph.shortestPathResult(3, 7).getTotalWeight(),
+                versionedGraph.shortestPathResult(3, 7).getTotalWeight());
+    }
+
+    /**
+     * Tests if a version isn't affected by the edges added after it was
+     * taken, nor by the compaction of the graph.
+     */
+    @Test
+    public void snapshotTest() {
+        VersionedGraph<String> graph = new VersionedGraph<>();
+        graph.addEdge("a", "b");
+        graph.addEdge("b", "c");
+        graph.addEdge("c", "b");
+        GraphVersion<String, Edge<String>> version = graph.snapshot();
+        assertSame(version, graph.snapshot());
+
+        graph.addEdge("c", "d");
+        graph.compact();
+        graph.addEdge("d", "a");
+        assertEquals(4, version.getEdgeNumber());
+        assertFalse(version.containsVertex("d"));
+        assertEquals("a - 0 -" + LINE_SEPARATOR + "b - 1 a" + LINE_SEPARATOR
+                + "c - 2 b" + LINE_SEPARATOR, version.BFS("a"));
+        assertThrows(UnsupportedOperationException.class, () -> version.addEdge("a", "c"));
+
+        assertEquals(8, graph.getEdgeNumber());
+        assertEquals("a d", graph.shortestPath("a", "d"));
+        assertTrue(graph.connected());
+    }
+
+    /**
+     * Tests if versions can be walked while another thread writes and
+     * compacts the graph.
+     */
+    @Test
+    public void concurrentReadTest() throws InterruptedException {
+        VersionedGraph<Integer> graph = new VersionedGraph<>(64);
+        graph.addVertex(0);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            try {
+                Random random = new Random(13);
+                for (int i = 1; i < 20000; i++) {
+                    graph.addEdge(random.nextInt(i), i);
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            GraphVersion<Integer, Edge<Integer>> version = graph.snapshot();
+            assertEquals(version.getVertexNumber(), version.BFSResult(0).getVisitedNumber());
+        }
+        writer.join();
+        assertNull(failure.get());
+        assertEquals(20000, graph.getVertexNumber());
+        assertTrue(graph.connected());
+    }
+
+}
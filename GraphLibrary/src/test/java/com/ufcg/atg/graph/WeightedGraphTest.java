@@ -4,8 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static com.ufcg.atg.util.Utils.LINE_SEPARATOR;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests the class {@link WeightedGraph} as an implementation of {@link IWeightedGraph}.
@@ -148,6 +151,37 @@ public class WeightedGraphTest {
         assertEquals(expectedPathBetween5And5, integerGraph.shortestPath(5, 5));
     }
 
+    /**
+     * Tests the shortest path when the distances of the vertexes are
+     * decreased more than once, and after the graph changes.
+     */
+    @Test
+    void shortestPathAfterDecreasesTest() {
+        IWeightedGraph<Integer, WeightedEdge<Integer>> integerGraph
+                = new WeightedGraph<>();
+        integerGraph.addEdge(1, 2, 1.2f);
+        integerGraph.addEdge(1, 3, 0.5f);
+        integerGraph.addEdge(2, 3, 0.7f);
+        integerGraph.addEdge(5, 6, 1.3f);
+        integerGraph.addEdge(6, 3, 2.1f);
+        integerGraph.addEdge(6, 1, 5.2f);
+
+        assertEquals("2 3 6 5", integerGraph.shortestPath(2, 5));
+        assertEquals("1 3 6", integerGraph.shortestPath(1, 6));
+
+        integerGraph.addEdge(2, 5, 0.5f);
+        assertEquals("2 5", integerGraph.shortestPath(2, 5));
+        assertEquals("2 5 6", integerGraph.shortestPath(2, 6));
+
+        integerGraph.addVertex(7);
+        try {
+            integerGraph.shortestPath(1, 7);
+            fail("Should have thrown exception when there isn't a path.");
+        } catch (Exception e) {
+            assertEquals("There isn't a path between 1 and 7", e.getMessage());
+        }
+    }
+
     /**
      * Tests if throws exception when trying to find the shortest path
      * in a graph with negative circle.
@@ -165,6 +199,81 @@ public class WeightedGraphTest {
         }
     }
 
+    /**
+     * Tests if the negative cycle is reported with the exception.
+     */
+    @Test
+    public void negativeCycleTest() {
+        NegativeCycleException exception = assertThrows(NegativeCycleException.class,
+                () -> integerGraph.shortestPathResult(1, 3));
+        List<?> cycle = exception.getCycle();
+        assertEquals(cycle.get(0), cycle.get(cycle.size() - 1));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4, 5)), new HashSet<>(cycle));
+    }
+
+    /**
+     * Tests the shortest path in graphs with negative edges but without
+     * negative cycles.
+     */
+    @Test
+    public void negativeEdgeShortestPathTest() {
+        IWeightedGraph<Integer, WeightedEdge<Integer>> graph = new WeightedGraph<>();
+        IntWeightedGraph intGraph = new IntWeightedGraph();
+        for (IWeightedGraph<Integer, WeightedEdge<Integer>> g : Arrays.asList(graph, intGraph)) {
+            g.addEdge(1, 2, 4f);
+            g.addEdge(1, 3, 2f);
+            g.addEdge(3, 2, -3f);
+            g.addEdge(2, 4, 1f);
+            g.addVertex(5);
+            PathResult<Integer> path = g.shortestPathResult(1, 4);
+            assertEquals(Arrays.asList(1, 3, 2, 4), path.getVertexes());
+            assertEquals(0f, path.getTotalWeight());
+            assertEquals("1 3 2 4", g.shortestPath(1, 4));
+            assertTrue(g.shortestPathResult(1, 5).isEmpty());
+        }
+        assertArrayEquals(new int[] {1, 3, 2}, intGraph.shortestPathVertexes(1, 2));
+    }
+
+    /**
+     * Tests if a negative edge is walked to reach a vertex whose shortest
+     * path ends by the edge.
+     */
+    @Test
+    public void negativeEdgeDetourTest() {
+        IWeightedGraph<Integer, WeightedEdge<Integer>> graph = new WeightedGraph<>();
+        IntWeightedGraph intGraph = new IntWeightedGraph();
+        for (IWeightedGraph<Integer, WeightedEdge<Integer>> g : Arrays.asList(graph, intGraph)) {
+            g.addEdge(1, 2, 10f);
+            g.addEdge(2, 3, -5f);
+            g.addEdge(1, 4, 11f);
+            g.addEdge(4, 3, 3f);
+            assertEquals("1 4 3 2", g.shortestPath(1, 2));
+            assertEquals(9f, g.shortestPathResult(1, 2).getTotalWeight());
+            assertEquals("1 2 3", g.shortestPath(1, 3));
+            assertEquals(5f, g.shortestPathResult(1, 3).getTotalWeight());
+        }
+    }
+
+    /**
+     * Tests if the indexed views of the weighted graphs take the negative
+     * weights tracked by the graphs.
+     */
+    @Test
+    public void negativeWeightedIndexedGraphTest() {
+        WeightedGraph<Integer> graph = new WeightedGraph<>();
+        ConcurrentWeightedGraph<Integer> concurrentGraph = new ConcurrentWeightedGraph<>();
+        graph.addEdge(1, 2, 4f);
+        concurrentGraph.addEdge(1, 2, 4f);
+        assertFalse(graph.getIndexedGraph().containsNegativeWeightedEdge());
+        assertFalse(concurrentGraph.getIndexedGraph().containsNegativeWeightedEdge());
+        graph.addEdges(new Integer[] {2}, new Integer[] {3}, new float[] {-1f}, 1);
+        concurrentGraph.addEdge(2, 3, -1f);
+        assertTrue(graph.getIndexedGraph().containsNegativeWeightedEdge());
+        assertTrue(concurrentGraph.getIndexedGraph().containsNegativeWeightedEdge());
+        assertTrue(new WeightedCSRGraph<>(graph).containsNegativeWeightedEdge());
+        assertFalse(new CSRGraph<>(graph).containsNegativeWeightedEdge());
+    }
+
     /**
      * Tests MST in integer's {@link WeightedGraph}.
      */
@@ -0,0 +1,96 @@
+package com.ufcg.atg.io;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the class {@link EdgeListParser}.
+ */
+public class EdgeListParserTest {
+
+    private Path path;
+
+    /**
+     * Tests' set up.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        path = Files.createTempFile("edge_list", ".txt");
+    }
+
+    /**
+     * Deletes the file created for the tests.
+     */
+    @AfterEach
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Tests if a file split in many small chunks is parsed as its lines,
+     * up to the number of edges of its first line.
+     */
+    @Test
+    public void chunkedParseTest() throws IOException {
+        Random random = new Random(11);
+        int lineNumber = 5000, edgeNumber = 4000;
+        int[] origins = new int[lineNumber], targets = new int[lineNumber];
+        String[] weights = new String[lineNumber];
+        StringBuilder content = new StringBuilder().append(edgeNumber).append('\n');
+        for (int i = 0; i < lineNumber; i++) {
+            origins[i] = random.nextInt();
+            targets[i] = random.nextInt(1000) - 500;
+            weights[i] = i % 3 == 0 ? Float.toString(random.nextFloat() * 100 - 50) :
+                    i % 3 == 1 ? String.valueOf(random.nextInt(100)) : "0.0" + random.nextInt(100000);
+            content.append(origins[i]).append(' ').append(targets[i]).append(' ').append(weights[i])
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        content.append("not an edge");
+        Files.write(path, content.toString().getBytes(StandardCharsets.US_ASCII));
+
+        EdgeList weighted = EdgeListParser.parse(path, true, new ForkJoinPool(4), 97);
+        EdgeList unweighted = EdgeListParser.parse(path, false, new ForkJoinPool(4), 1 << 20);
+        assertEquals(edgeNumber, weighted.size());
+        assertEquals(edgeNumber, unweighted.size());
+        assertNull(unweighted.getWeights());
+        for (int i = 0; i < edgeNumber; i++) {
+            assertEquals(origins[i], weighted.getOrigins()[i]);
+            assertEquals(targets[i], weighted.getTargets()[i]);
+            assertEquals(Float.parseFloat(weights[i]), weighted.getWeights()[i]);
+            assertEquals(origins[i], unweighted.getOrigins()[i]);
+            assertEquals(targets[i], unweighted.getTargets()[i]);
+        }
+    }
+
+    /**
+     * Tests if malformed edges are only reported when they are among the
+     * edges to be read.
+     */
+    @Test
+    public void malformedEdgeTest() throws IOException {
+        Files.write(path, "2\n1 2\n3 4\n5\n".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(2, EdgeListParser.parse(path.toString(), false).size());
+
+        Files.write(path, "3\n1 2\n3 4\n5\n".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(NumberFormatException.class, () -> EdgeListParser.parse(path.toString(), false));
+
+        Files.write(path, "2\n1 2\n3 x\n".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(NumberFormatException.class, () -> EdgeListParser.parse(path.toString(), false));
+
+        Files.write(path, "3\n1 2\n3 4\n".getBytes(StandardCharsets.US_ASCII));
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> EdgeListParser.parse(path.toString(), false));
+        assertEquals("The file has less edges than specified.", e.getMessage());
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.ufcg.atg.io;
+
+import com.ufcg.atg.graph.CSRGraph;
+import com.ufcg.atg.graph.Edge;
+import com.ufcg.atg.graph.Graph;
+import com.ufcg.atg.graph.IGraph;
+import com.ufcg.atg.graph.IWeightedGraph;
+import com.ufcg.atg.graph.IntWeightedGraph;
+import com.ufcg.atg.graph.RepresentationType;
+import com.ufcg.atg.graph.WeightedEdge;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the class {@link GraphSnapshot} and the graphs backed by it.
+ */
+public class GraphSnapshotTest {
+
+    private Path path;
+
+    /**
+     * Tests' set up.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        path = Files.createTempFile("graph", ".snapshot");
+    }
+
+    /**
+     * Deletes the file created for the tests.
+     */
+    @AfterEach
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Tests if a weighted graph read from its snapshot has the same vertexes,
+     * edges and results of the written one.
+     */
+    @Test
+    public void weightedSnapshotTest() throws IOException {
+        IntWeightedGraph graph = new IntWeightedGraph();
+        Random random = new Random(5);
+        for (int i = 0; i < 3000; i++) {
+            graph.addEdge(random.nextInt(1000) - 500, random.nextInt(1000) - 500, random.nextInt(100) / 4f);
+        }
+        GraphSnapshot.write(graph, path);
+
+        WeightedSnapshotGraph<Integer> snapshot = GraphSnapshot.readWeightedGraph(path, Integer.class);
+        assertEquals(graph.getAllVertexes(), snapshot.getAllVertexes());
+        assertEquals(graph.getAllEdges(), snapshot.getAllEdges());
+        assertEquals(graph.getMeanEdge(), snapshot.getMeanEdge());
+        assertEquals(graph.MST(), snapshot.MST());
+        int v1 = graph.getVertex(0), v2 = graph.getVertex(graph.getVertexNumber() - 1);
+        assertEquals(graph.shortestPath(v1, v2), snapshot.shortestPath(v1, v2));
+        assertFalse(snapshot.containsVertex(1000));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addEdge(1, 2, 1f));
+
+        SnapshotGraph<Integer> unweighted = GraphSnapshot.readGraph(path, Integer.class);
+        assertEquals(new CSRGraph<>(graph).BFS(v1), unweighted.BFS(v1));
+        assertTrue(unweighted.containsEdge(new Edge<>(v1, graph.getVertex(graph.getAdjacentIndex(0, 0)))));
+    }
+
+    /**
+     * Tests if a graph of strings read from its snapshot has the same
+     * representations of the written one.
+     */
+    @Test
+    public void stringSnapshotTest() throws IOException {
+        IGraph<String, Edge<String>> graph = new Graph<>();
+        graph.addEdge("xablau", "caxalau");
+        graph.addEdge("caxalau", "nibiru");
+        graph.addEdge("nibiru", "ção");
+        graph.addEdge("ção", "ção");
+        graph.addVertex("sozinho");
+        GraphSnapshot.write(graph, path);
+
+        SnapshotGraph<String> snapshot = GraphSnapshot.readGraph(path, String.class);
+        for (RepresentationType type : RepresentationType.values()) {
+            assertEquals(graph.graphRepresentation(type), snapshot.graphRepresentation(type));
+        }
+        assertEquals(graph.DFS("nibiru"), snapshot.DFS("nibiru"));
+        assertEquals(graph.connected(), snapshot.connected());
+
+        IWeightedGraph<String, WeightedEdge<String>> weighted = GraphSnapshot.readWeightedGraph(path, String.class);
+        assertTrue(weighted.containsEdge(new WeightedEdge<>("ção", "nibiru", 1f)));
+        assertThrows(IllegalArgumentException.class, () -> GraphSnapshot.readGraph(path, Integer.class));
+    }
+
+    /**
+     * Tests if a file that isn't a snapshot is rejected.
+     */
+    @Test
+    public void invalidSnapshotTest() throws IOException {
+        Files.write(path, "5\n1 2\n2 5\n5 3\n4 5\n1 5\n".getBytes());
+        assertThrows(IOException.class, () -> GraphSnapshot.readGraph(path, Integer.class));
+    }
+
+}
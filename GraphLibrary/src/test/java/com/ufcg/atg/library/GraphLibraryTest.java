@@ -1,10 +1,29 @@
 package com.ufcg.atg.library;
 
+import com.ufcg.atg.algorithm.AStar;
+import com.ufcg.atg.graph.AllPairsStrategy;
 import com.ufcg.atg.graph.BaseGraph;
+import com.ufcg.atg.graph.ConcurrentWeightedGraph;
+import com.ufcg.atg.graph.ContractionHierarchy;
+import com.ufcg.atg.graph.DistanceMatrix;
 import com.ufcg.atg.graph.Edge;
 import com.ufcg.atg.graph.Graph;
+import com.ufcg.atg.graph.Heuristic;
 import com.ufcg.atg.graph.IGraph;
+import com.ufcg.atg.graph.IntGraph;
+import com.ufcg.atg.graph.IntWeightedGraph;
 import com.ufcg.atg.graph.IWeightedGraph;
+import com.ufcg.atg.graph.LandmarkSelection;
+import com.ufcg.atg.graph.Landmarks;
+import com.ufcg.atg.graph.MSTResult;
+import com.ufcg.atg.graph.MSTStrategy;
+import com.ufcg.atg.graph.NegativeCycleException;
+import com.ufcg.atg.graph.PathResult;
+import com.ufcg.atg.graph.PathStrategy;
+import com.ufcg.atg.graph.RepresentationType;
+import com.ufcg.atg.graph.ShortestPathTree;
+import com.ufcg.atg.graph.VertexCoordinates;
+import com.ufcg.atg.graph.WalkResult;
 import com.ufcg.atg.graph.WeightedEdge;
 import com.ufcg.atg.graph.WeightedGraph;
 import org.junit.jupiter.api.AfterAll;
@@ -15,8 +34,12 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -183,6 +206,29 @@ class GraphLibraryTest {
         assertTrue(allEdges.contains(e6));
     }
 
+    /**
+     * Tests the GraphLibrary's readIntGraph and readIntWeightedGraph methods,
+     * verifying if they read the same graphs of readGraph and
+     * readWeightedGraph.
+     */
+    @Test
+    public void readIntGraph() {
+        String path = "graph.txt";
+        insertFile(path, "6, 1 2, 1 3, 2 3, 5 6, 6 3, 6 1");
+        IntGraph intGraph = graphLibrary.readIntGraph(path);
+        IGraph<Integer, Edge<Integer>> graph = graphLibrary.readGraph(path);
+        assertEquals(graph.getAllVertexes(), intGraph.getAllVertexes());
+        assertEquals(graph.getAllEdges(), intGraph.getAllEdges());
+
+        String weightedPath = "weighted_graph.txt";
+        insertFile(weightedPath, "6, 1 2 1.2, 1 3 0.5, 2 3 0.7, 5 6 1.3, 6 3 2.1, 6 1 5.2");
+        IntWeightedGraph intWeightedGraph = graphLibrary.readIntWeightedGraph(weightedPath);
+        IWeightedGraph<Integer, WeightedEdge<Integer>> weightedGraph =
+                graphLibrary.readWeightedGraph(weightedPath);
+        assertEquals(weightedGraph.getAllEdges(), intWeightedGraph.getAllEdges());
+        assertEquals("2 3 6 5", intWeightedGraph.shortestPath(2, 5));
+    }
+
     /**
      * Tests the addition of edges.
      */
@@ -216,6 +262,53 @@ class GraphLibraryTest {
         }
     }
 
+    /**
+     * Tests the addition of edges in batches, which must skip the same
+     * edges rejected one by one.
+     */
+    @Test
+    public void addEdgesTest() {
+        int edgeNumber = graphLibrary.getEdgeNumber(unweightedGraph);
+        graphLibrary.addEdges(unweightedGraph, Arrays.asList(new Edge<>(1, 3), new Edge<>(4, 1)));
+        assertEquals(edgeNumber + 2 * UNDIRECTED_GRAPH_FACTOR, graphLibrary.getEdgeNumber(unweightedGraph));
+        assertTrue(unweightedGraph.containsEdge(new Edge<>(3, 1)));
+
+        edgeNumber = graphLibrary.getEdgeNumber(unweightedGraph);
+        assertEquals(2, graphLibrary.addEdges(unweightedGraph,
+                Stream.of(new Edge<>(6, 7), new Edge<>(5, 1), new Edge<>(7, 8), new Edge<>(8, 7))));
+        assertEquals(edgeNumber + 2 * UNDIRECTED_GRAPH_FACTOR, graphLibrary.getEdgeNumber(unweightedGraph));
+        assertTrue(unweightedGraph.containsEdge(new Edge<>(7, 6)));
+        assertTrue(unweightedGraph.containsEdge(new Edge<>(8, 7)));
+
+        graphLibrary.addEdges(weightedGraph, Stream.of(new WeightedEdge<>(1, 2, 0.5f), new Edge<>(2, 1)));
+        assertTrue(weightedGraph.containsEdge(new WeightedEdge<>(2, 1, 0.5f)));
+        assertTrue(weightedGraph.containsEdge(new WeightedEdge<>(1, 2, 1f)));
+
+        IntWeightedGraph intGraph = new IntWeightedGraph();
+        IWeightedGraph<Integer, WeightedEdge<Integer>> graph = new WeightedGraph<>();
+        IWeightedGraph<Integer, WeightedEdge<Integer>> concurrentGraph = new ConcurrentWeightedGraph<>();
+        EdgeBuffer<Integer> intBuffer = new EdgeBuffer<>(intGraph, 7), buffer = new EdgeBuffer<>(graph, 7),
+                concurrentBuffer = new EdgeBuffer<>(concurrentGraph, 7);
+        Random random = new Random(3);
+        for (int i = 0; i < 1000; i++) {
+            int v1 = random.nextInt(40), v2 = random.nextInt(40);
+            float weight = random.nextInt(3);
+            intBuffer.add(v1, v2, weight);
+            buffer.add(v1, v2, weight);
+            concurrentBuffer.add(v1, v2, weight);
+        }
+        assertEquals(1000 % 7, intBuffer.size());
+        intBuffer.flush();
+        buffer.flush();
+        concurrentBuffer.flush();
+        assertEquals(graph.getAllEdges(), intGraph.getAllEdges());
+        assertEquals(graph.getAllEdges(), concurrentGraph.getAllEdges());
+        assertEquals(buffer.getDuplicateNumber(), intBuffer.getDuplicateNumber());
+        assertEquals(buffer.getDuplicateNumber(), concurrentBuffer.getDuplicateNumber());
+        assertEquals(1000 - ((WeightedGraph<Integer>) graph).getUndirectedEdges().size(),
+                buffer.getDuplicateNumber());
+    }
+
     /**
      * Tests the addition of vertexes.
      */
@@ -294,7 +387,32 @@ class GraphLibraryTest {
         assertEquals(2.0f, graphLibrary.getMeanEdge(unweightedGraph));
         graphLibrary.addVertex(unweightedGraph, 6);
         graphLibrary.addVertex(unweightedGraph, 7);
-        assertEquals(1.0f, graphLibrary.getMeanEdge(unweightedGraph));
+        assertEquals(10f / 7, graphLibrary.getMeanEdge(unweightedGraph));
+    }
+
+    /**
+     * Tests the degree statistics of a graph, as vertexes and edges are added.
+     */
+    @Test
+    void degreeStatisticsTest() {
+        assertEquals(1, graphLibrary.getMinDegree(unweightedGraph));
+        assertEquals(4, graphLibrary.getMaxDegree(unweightedGraph));
+        assertArrayEquals(new int[]{0, 2, 2, 0, 1}, graphLibrary.getDegreeHistogram(unweightedGraph));
+
+        graphLibrary.addVertex(unweightedGraph, 6);
+        assertEquals(0, graphLibrary.getMinDegree(unweightedGraph));
+        unweightedGraph.addEdge(6, 1);
+        unweightedGraph.addEdge(1, 6);
+        unweightedGraph.addEdge(6, 5);
+        assertEquals(1, graphLibrary.getMinDegree(unweightedGraph));
+        assertEquals(5, graphLibrary.getMaxDegree(unweightedGraph));
+        assertArrayEquals(new int[]{0, 2, 2, 1, 0, 1}, graphLibrary.getDegreeHistogram(unweightedGraph));
+        assertEquals(14, graphLibrary.getEdgeNumber(unweightedGraph));
+        assertEquals(unweightedGraph.getAllEdges().size(), graphLibrary.getEdgeNumber(unweightedGraph));
+
+        IGraph<Integer, Edge<Integer>> emptyGraph = new Graph<>();
+        assertEquals(0, graphLibrary.getMaxDegree(emptyGraph));
+        assertArrayEquals(new int[0], graphLibrary.getDegreeHistogram(emptyGraph));
     }
 
     /**
@@ -358,4 +476,393 @@ class GraphLibraryTest {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Tests if all the MST strategies return the same tree, including when
+     * there are edges with equal weights.
+     */
+    @Test
+    public void MSTStrategiesTest() {
+        assertEquals(graphLibrary.MST(weightedGraph),
+                graphLibrary.MST(weightedGraph, MSTStrategy.BORUVKA));
+        assertEquals(graphLibrary.MST(unweightedGraph),
+                graphLibrary.MST(unweightedGraph, MSTStrategy.BORUVKA));
+
+        IWeightedGraph<Integer, WeightedEdge<Integer>> randomGraph = new WeightedGraph<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20000; i++) {
+            randomGraph.addEdge(random.nextInt(5000), random.nextInt(5000),
+                    random.nextInt(50) - 10);
+        }
+        String kruskal = graphLibrary.MST(randomGraph, MSTStrategy.KRUSKAL);
+        assertEquals(graphLibrary.MST(randomGraph), kruskal);
+        assertEquals(kruskal, graphLibrary.MST(randomGraph, MSTStrategy.BORUVKA));
+    }
+
+    /**
+     * Tests if the bidirectional searches find paths as short as the ones of
+     * the unidirectional search, with the same semantics.
+     */
+    @Test
+    public void pathStrategiesTest() {
+        IWeightedGraph<Integer, WeightedEdge<Integer>> randomWeightedGraph = new WeightedGraph<>();
+        IGraph<Integer, Edge<Integer>> randomGraph = new Graph<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 6000; i++) {
+            int v1 = random.nextInt(3000), v2 = random.nextInt(3000);
+            randomWeightedGraph.addEdge(v1, v2, random.nextInt(100) / 4f);
+            randomGraph.addEdge(v1, v2);
+        }
+        for (IGraph<Integer, ? extends Edge<Integer>> graph : Arrays.asList(randomWeightedGraph, randomGraph)) {
+            for (int i = 0; i < 50; i++) {
+                int v1 = random.nextInt(3000), v2 = random.nextInt(3000);
+                if (!graph.containsVertex(v1) || !graph.containsVertex(v2)) continue;
+                PathResult<Integer> unidirectional = graphLibrary.shortestPathResult(graph, v1, v2);
+                PathResult<Integer> bidirectional = graphLibrary.shortestPathResult(graph, v1, v2,
+                        PathStrategy.BIDIRECTIONAL);
+                assertEquals(unidirectional.isEmpty(), bidirectional.isEmpty());
+                if (bidirectional.isEmpty()) continue;
+                assertEquals(unidirectional.getTotalWeight(), bidirectional.getTotalWeight(), 1e-3);
+                assertEquals(v1, (int) bidirectional.getVertex(0));
+                assertEquals(v2, (int) bidirectional.getVertex(bidirectional.size() - 1));
+                for (int j = 1; j < bidirectional.size(); j++) {
+                    assertTrue(graph.getAdjacentVertexes(bidirectional.getVertex(j - 1))
+                            .contains(bidirectional.getVertex(j)));
+                }
+            }
+        }
+
+        assertEquals(graphLibrary.shortestPath(unweightedGraph, 1, 5),
+                graphLibrary.shortestPath(unweightedGraph, 1, 5, PathStrategy.BIDIRECTIONAL));
+        assertEquals("3", graphLibrary.shortestPath(unweightedGraph, 3, 3, PathStrategy.BIDIRECTIONAL));
+        unweightedGraph.addVertex(10);
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> graphLibrary.shortestPath(unweightedGraph, 1, 10, PathStrategy.BIDIRECTIONAL));
+        assertEquals("There isn't a path between 1 and 10", exception.getMessage());
+    }
+
+    /**
+     * Tests if the A* search finds paths as short as Dijkstra's algorithm,
+     * settling fewer vertexes when guided by the coordinates.
+     */
+    @Test
+    public void aStarTest() {
+        int side = 60;
+        IntWeightedGraph grid = new IntWeightedGraph();
+        VertexCoordinates<Integer> coordinates = new VertexCoordinates<>();
+        Random random = new Random(13);
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                int v = row * side + column;
+                coordinates.set(v, column, row);
+                if (column + 1 < side) grid.addEdge(v, v + 1, 1 + random.nextInt(3));
+                if (row + 1 < side) grid.addEdge(v, v + side, 1 + random.nextInt(3));
+            }
+        }
+        Heuristic<Integer> euclidean = Heuristic.euclidean(coordinates);
+        for (int i = 0; i < 20; i++) {
+            int v1 = random.nextInt(side * side), v2 = random.nextInt(side * side);
+            PathResult<Integer> dijkstra = graphLibrary.shortestPathResult(grid, v1, v2);
+            PathResult<Integer> aStar = graphLibrary.shortestPathResult(grid, v1, v2, euclidean);
+            assertEquals(dijkstra.getTotalWeight(), aStar.getTotalWeight(), 1e-3);
+            assertEquals(v2, (int) aStar.getVertex(aStar.size() - 1));
+        }
+        assertEquals("5", graphLibrary.shortestPath(grid, 5, 5, euclidean));
+        assertEquals(graphLibrary.shortestPathResult(grid, 0, 59).getTotalWeight(),
+                graphLibrary.shortestPathResult(grid, 0, 59, Heuristic.none()).getTotalWeight());
+
+        int source = grid.indexOf(0), target = grid.indexOf(side * side - 1);
+        float[] distances = new float[grid.getVertexNumber()];
+        int[] predecessors = new int[grid.getVertexNumber()];
+        int guided = AStar.search(grid, source, target,
+                index -> euclidean.estimate(grid.getVertex(index), side * side - 1), distances, predecessors);
+        float guidedDistance = distances[target];
+        int unguided = AStar.search(grid, source, target, index -> 0, distances, predecessors);
+        assertEquals(distances[target], guidedDistance, 1e-3);
+        assertTrue(guided < unguided);
+
+        VertexCoordinates<String> cities = new VertexCoordinates<>();
+        cities.set("São Paulo", -46.6333, -23.5505);
+        cities.set("Rio de Janeiro", -43.1729, -22.9068);
+        assertEquals(357, Heuristic.haversine(cities).estimate("São Paulo", "Rio de Janeiro"), 5);
+        assertEquals(0, Heuristic.haversine(cities).estimate("São Paulo", "Recife"));
+    }
+
+    /**
+     * Tests if the ALT algorithm finds paths as short as Dijkstra's
+     * algorithm, with landmarks computed by both selections or read back
+     * from a file.
+     */
+    @Test
+    public void landmarksTest() throws IOException {
+        IWeightedGraph<Integer, WeightedEdge<Integer>> graph = new WeightedGraph<>();
+        IntWeightedGraph copy = new IntWeightedGraph();
+        Random random = new Random(17);
+        for (int i = 0; i < 8000; i++) {
+            int v1 = random.nextInt(3000), v2 = random.nextInt(3000);
+            float weight = 1 + random.nextInt(40) / 4f;
+            graph.addEdge(v1, v2, weight);
+            copy.addEdge(v1, v2, weight);
+        }
+        Landmarks<Integer> farthest = graphLibrary.computeLandmarks(graph, 8, LandmarkSelection.FARTHEST);
+        Landmarks<Integer> avoid = graphLibrary.computeLandmarks(graph, 8, LandmarkSelection.AVOID);
+        assertEquals(8, avoid.getLandmarkNumber());
+        assertEquals(0f, avoid.getDistance(3, avoid.getLandmark(3)));
+
+        File file = File.createTempFile("graph", ".landmarks");
+        file.deleteOnExit();
+        graphLibrary.writeLandmarks(avoid, file.getPath());
+        Landmarks<Integer> read = graphLibrary.readLandmarks(copy, file.getPath());
+        assertEquals(avoid.getLandmark(5), read.getLandmark(5));
+
+        for (int i = 0; i < 30; i++) {
+            int v1 = random.nextInt(3000), v2 = random.nextInt(3000);
+            if (!graph.containsVertex(v1) || !graph.containsVertex(v2)) continue;
+            float weight = graphLibrary.shortestPathResult(graph, v1, v2).getTotalWeight();
+            assertEquals(weight, graphLibrary.shortestPathResult(graph, v1, v2, farthest).getTotalWeight(), 1e-3);
+            assertEquals(weight, graphLibrary.shortestPathResult(graph, v1, v2, avoid).getTotalWeight(), 1e-3);
+            assertEquals(weight, graphLibrary.shortestPathResult(copy, v1, v2, read).getTotalWeight(), 1e-3);
+        }
+
+        graph.addEdge(1, 3001, 1f);
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> graphLibrary.shortestPath(graph, 1, 2, avoid));
+        assertEquals("The landmarks weren't computed for the current graph.", exception.getMessage());
+        assertThrows(RuntimeException.class, () -> graphLibrary.readLandmarks(graph, file.getPath()));
+        copy.addEdge(1, 3001, 2f);
+        graphLibrary.writeLandmarks(graphLibrary.computeLandmarks(graph, 2, LandmarkSelection.FARTHEST),
+                file.getPath());
+        exception = assertThrows(RuntimeException.class, () -> graphLibrary.readLandmarks(copy, file.getPath()));
+        assertEquals("The landmarks weren't computed for the specified graph.", exception.getCause().getMessage());
+
+        IntWeightedGraph line = new IntWeightedGraph();
+        for (int v = 1; v < 20; v++) {
+            line.addEdge(v, v + 1, 1f);
+        }
+        Landmarks<Integer> lineLandmarks = graphLibrary.computeLandmarks(line, 2, LandmarkSelection.FARTHEST);
+        assertEquals(10f, graphLibrary.shortestPathResult(line, 4, 14, lineLandmarks).getTotalWeight());
+        line.addEdge(3, 17, 1f);
+        exception = assertThrows(RuntimeException.class,
+                () -> graphLibrary.shortestPath(line, 4, 14, lineLandmarks));
+        assertEquals("The landmarks weren't computed for the current graph.", exception.getMessage());
+        assertEquals(5f, graphLibrary.shortestPathResult(line, 4, 14,
+                graphLibrary.computeLandmarks(line, 2, LandmarkSelection.FARTHEST)).getTotalWeight());
+        assertThrows(RuntimeException.class,
+                () -> graphLibrary.computeLandmarks(weightedGraph, 2, LandmarkSelection.FARTHEST));
+    }
+
+    /**
+     * Tests if the contraction hierarchy finds paths of the same weight of
+     * Dijkstra's algorithm, unpacked into edges of the graph.
+     */
+    @Test
+    public void contractionHierarchyTest() {
+        IWeightedGraph<Integer, WeightedEdge<Integer>> graph = new WeightedGraph<>();
+        Random random = new Random(23);
+        for (int x = 0; x < 50; x++) {
+            for (int y = 0; y < 60; y++) {
+                if (x < 49) graph.addEdge(x * 60 + y, (x + 1) * 60 + y, 1 + random.nextInt(40) / 4f);
+                if (y < 59) graph.addEdge(x * 60 + y, x * 60 + y + 1, 1 + random.nextInt(40) / 4f);
+            }
+        }
+        graph.addEdge(3001, 3002, 2f);
+        ContractionHierarchy<Integer> hierarchy = graphLibrary.computeContractionHierarchy(graph);
+        assertTrue(hierarchy.getShortcutNumber() > 0);
+
+        for (int i = 0; i < 50; i++) {
+            int v1 = random.nextInt(3000), v2 = random.nextInt(3000);
+            PathResult<Integer> expected = graphLibrary.shortestPathResult(graph, v1, v2);
+            PathResult<Integer> path = graphLibrary.shortestPathResult(graph, v1, v2, hierarchy);
+            assertEquals(expected.getTotalWeight(), path.getTotalWeight(), 1e-3);
+            assertEquals(Integer.valueOf(v1), path.getVertex(0));
+            assertEquals(Integer.valueOf(v2), path.getVertex(path.size() - 1));
+            for (int j = 1; j < path.size(); j++) {
+                assertTrue(graph.getAdjacentVertexes(path.getVertex(j - 1)).contains(path.getVertex(j)));
+            }
+        }
+        assertEquals("3001 3002", graphLibrary.shortestPath(graph, 3001, 3002, hierarchy));
+        assertTrue(graphLibrary.shortestPathResult(graph, 3001, 1, hierarchy).isEmpty());
+
+        graph.addEdge(1, 3003, 1f);
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> graphLibrary.shortestPath(graph, 1, 2, hierarchy));
+        assertEquals("The contraction hierarchy wasn't computed for the current graph.", exception.getMessage());
+
+        IntWeightedGraph line = new IntWeightedGraph();
+        for (int v = 1; v < 10; v++) {
+            line.addEdge(v, v + 1, 1f);
+        }
+        ContractionHierarchy<Integer> lineHierarchy = graphLibrary.computeContractionHierarchy(line);
+        assertEquals(9f, graphLibrary.shortestPathResult(line, 1, 10, lineHierarchy).getTotalWeight());
+        line.addEdge(1, 10, 1f);
+        exception = assertThrows(RuntimeException.class,
+                () -> graphLibrary.shortestPathResult(line, 1, 10, lineHierarchy));
+        assertEquals("The contraction hierarchy wasn't computed for the current graph.", exception.getMessage());
+        assertEquals(1f, graphLibrary.shortestPathResult(line, 1, 10,
+                graphLibrary.computeContractionHierarchy(line)).getTotalWeight());
+    }
+
+    /**
+     * Tests if both all-pairs algorithms find the distances of the shortest
+     * paths, in memory and written to a file.
+     */
+    @Test
+    public void allPairsShortestPathsTest() throws IOException {
+        IWeightedGraph<Integer, WeightedEdge<Integer>> graph = new WeightedGraph<>();
+        IWeightedGraph<Integer, WeightedEdge<Integer>> reweighted = new WeightedGraph<>();
+        Random random = new Random(29);
+        for (int i = 0; i < 600; i++) {
+            int v1 = random.nextInt(150), v2 = random.nextInt(150);
+            float weight = 1 + random.nextInt(40) / 4f;
+            graph.addEdge(v1, v2, weight);
+            reweighted.addEdge(v1, v2, weight);
+        }
+        graph.addEdge(151, 152, 2f);
+        reweighted.addEdge(151, 152, 3f);
+        DistanceMatrix<Integer> floydWarshall = graphLibrary.allPairsShortestPaths(graph,
+                AllPairsStrategy.FLOYD_WARSHALL);
+        DistanceMatrix<Integer> perSource = graphLibrary.allPairsShortestPaths(graph, AllPairsStrategy.PER_SOURCE);
+        File file = File.createTempFile("graph", ".distances");
+        file.deleteOnExit();
+        graphLibrary.writeAllPairsShortestPaths(graph, AllPairsStrategy.FLOYD_WARSHALL, file.getPath());
+        DistanceMatrix<Integer> mapped = graphLibrary.readAllPairsShortestPaths(graph, file.getPath());
+        graphLibrary.writeAllPairsShortestPaths(graph, AllPairsStrategy.PER_SOURCE, file.getPath());
+        DistanceMatrix<Integer> streamed = graphLibrary.readAllPairsShortestPaths(graph, file.getPath());
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> graphLibrary.readAllPairsShortestPaths(reweighted, file.getPath()));
+        assertEquals("The distance matrix wasn't computed for the specified graph.",
+                exception.getCause().getMessage());
+
+        for (int i = 0; i < 40; i++) {
+            int v1 = floydWarshall.getVertex(random.nextInt(floydWarshall.getVertexNumber()));
+            int v2 = floydWarshall.getVertex(random.nextInt(floydWarshall.getVertexNumber()));
+            float weight = v1 == v2 ? 0f : graphLibrary.shortestPathResult(graph, v1, v2).getTotalWeight();
+            assertEquals(weight, floydWarshall.getDistance(v1, v2), 1e-3);
+            assertEquals(weight, perSource.getDistance(v1, v2), 1e-3);
+            assertEquals(weight, mapped.getDistance(v1, v2), 1e-3);
+            assertEquals(weight, streamed.getDistance(v1, v2), 1e-3);
+        }
+        assertEquals(Float.POSITIVE_INFINITY, floydWarshall.getDistance(151, 1));
+        assertArrayEquals(floydWarshall.getDistances(152), streamed.getDistances(152));
+
+        IWeightedGraph<Integer, WeightedEdge<Integer>> negative = new WeightedGraph<>();
+        negative.addEdge(1, 2, 3f);
+        negative.addEdge(2, 3, -1f);
+        negative.addEdge(3, 4, 2f);
+        assertEquals(4f, graphLibrary.allPairsShortestPaths(negative, AllPairsStrategy.PER_SOURCE)
+                .getDistance(1, 4));
+        assertThrows(RuntimeException.class,
+                () -> graphLibrary.allPairsShortestPaths(negative, AllPairsStrategy.FLOYD_WARSHALL));
+        IWeightedGraph<Integer, WeightedEdge<Integer>> detour = new WeightedGraph<>();
+        detour.addEdge(1, 2, 10f);
+        detour.addEdge(2, 3, -5f);
+        detour.addEdge(1, 4, 11f);
+        detour.addEdge(4, 3, 3f);
+        assertEquals(9f, graphLibrary.allPairsShortestPaths(detour, AllPairsStrategy.PER_SOURCE)
+                .getDistance(1, 2));
+        assertThrows(NegativeCycleException.class,
+                () -> graphLibrary.allPairsShortestPaths(weightedGraph, AllPairsStrategy.PER_SOURCE));
+    }
+
+    /**
+     * Tests if the shortest path tree of a vertex gives the same paths
+     * returned by the searches of each target.
+     */
+    @Test
+    public void shortestPathTreeTest() {
+        IWeightedGraph<Integer, WeightedEdge<Integer>> graph = new WeightedGraph<>();
+        Random random = new Random(31);
+        for (int i = 0; i < 800; i++) {
+            graph.addEdge(random.nextInt(200), random.nextInt(200), 1 + random.nextInt(40) / 4f);
+        }
+        graph.addEdge(201, 202, 2f);
+        ShortestPathTree<Integer> tree = graphLibrary.shortestPathTree(graph, 0);
+        assertEquals(Integer.valueOf(0), tree.getSource());
+        assertNull(tree.getPredecessor(0));
+        assertEquals(0f, tree.getDistance(0));
+
+        for (int v = 1; v < 200; v++) {
+            if (!graph.getAllVertexes().contains(v)) {
+                continue;
+            }
+            PathResult<Integer> path = graphLibrary.shortestPathResult(graph, 0, v);
+            assertEquals(path.getTotalWeight(), tree.getDistance(v), 1e-3);
+            assertEquals(path.getTotalWeight(), tree.pathTo(v).getTotalWeight(), 1e-3);
+            assertEquals(path.isEmpty(), tree.pathTo(v).isEmpty());
+        }
+        assertFalse(tree.isReachable(202));
+        assertTrue(tree.pathTo(202).isEmpty());
+        assertThrows(RuntimeException.class, () -> tree.getDistance(300));
+
+        ShortestPathTree<Integer> smallTree = graphLibrary.shortestPathTree(graph, 201);
+        assertEquals(2f, smallTree.getDistance(202));
+        assertEquals(Integer.valueOf(201), smallTree.getPredecessor(202));
+        assertEquals(2, smallTree.pathTo(202).size());
+        assertFalse(smallTree.isReachable(0));
+        assertNull(smallTree.getPredecessor(0));
+        assertTrue(smallTree.pathTo(0).isEmpty());
+        assertThrows(RuntimeException.class, () -> graphLibrary.shortestPathTree(graph, 300));
+
+        IWeightedGraph<Integer, WeightedEdge<Integer>> negative = new WeightedGraph<>();
+        negative.addEdge(1, 2, 10f);
+        negative.addEdge(2, 3, -5f);
+        negative.addEdge(1, 4, 11f);
+        negative.addEdge(4, 3, 3f);
+        ShortestPathTree<Integer> negativeTree = graphLibrary.shortestPathTree(negative, 1);
+        assertEquals(9f, negativeTree.getDistance(2));
+        assertEquals(Integer.valueOf(3), negativeTree.getPredecessor(2));
+        assertEquals(Arrays.asList(1, 4, 3, 2), negativeTree.pathTo(2).getVertexes());
+        assertEquals(5f, negativeTree.getDistance(3));
+        assertEquals(Arrays.asList(1, 2, 3), negativeTree.pathTo(3).getVertexes());
+        assertThrows(NegativeCycleException.class, () -> graphLibrary.shortestPathTree(weightedGraph, 1));
+    }
+
+    /**
+     * Tests if the representations appended to an {@link Appendable} are the
+     * same returned as strings.
+     */
+    @Test
+    public void graphRepresentationStreamTest() {
+        for (RepresentationType type : RepresentationType.values()) {
+            StringWriter unweightedOut = new StringWriter(), weightedOut = new StringWriter();
+            graphLibrary.graphRepresentation(unweightedGraph, type, unweightedOut);
+            graphLibrary.graphRepresentation(weightedGraph, type, weightedOut);
+            assertEquals(graphLibrary.graphRepresentation(unweightedGraph, type), unweightedOut.toString());
+            assertEquals(graphLibrary.graphRepresentation(weightedGraph, type), weightedOut.toString());
+        }
+    }
+
+    /**
+     * Tests if the structured results hold the same walk, path and tree of
+     * their string representations.
+     */
+    @Test
+    public void resultsTest() {
+        WalkResult<Integer> bfs = graphLibrary.BFSResult(unweightedGraph, 1);
+        assertEquals(graphLibrary.BFS(unweightedGraph, 1), bfs.toString());
+        assertEquals(5, bfs.getVisitedNumber());
+        assertEquals(2, bfs.getLevel(Integer.valueOf(3)));
+        assertEquals(Integer.valueOf(5), bfs.getPredecessor(3));
+        assertNull(bfs.getPredecessor(1));
+        assertFalse(bfs.isVisited(6));
+        assertEquals(graphLibrary.DFS(unweightedGraph, 1),
+                graphLibrary.DFSResult(unweightedGraph, 1).toString());
+
+        PathResult<Integer> path = graphLibrary.shortestPathResult(unweightedGraph, 1, 3);
+        assertEquals(graphLibrary.shortestPath(unweightedGraph, 1, 3), path.toString());
+        assertEquals(Arrays.asList(1, 5, 3), path.getVertexes());
+        assertEquals(2f, path.getTotalWeight());
+
+        MSTResult<Integer, ? extends Edge<Integer>> mst = graphLibrary.MSTResult(unweightedGraph);
+        assertEquals(graphLibrary.MST(unweightedGraph), mst.toString());
+        assertEquals(4, mst.getEdgeNumber());
+        assertEquals(4f, mst.getTotalWeight());
+
+        IGraph<Integer, Edge<Integer>> disconnected = new Graph<>();
+        disconnected.addEdge(1, 2);
+        disconnected.addVertex(3);
+        assertTrue(graphLibrary.shortestPathResult(disconnected, 1, 3).isEmpty());
+        assertEquals(Float.POSITIVE_INFINITY,
+                graphLibrary.shortestPathResult(disconnected, 1, 3).getTotalWeight());
+    }
+
+}